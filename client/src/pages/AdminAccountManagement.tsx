@@ -2,6 +2,7 @@ import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import axios from 'axios';
 import TopLogo from '../components/TopLogo';
+import { fetchAllPages } from '../utils/fetchAllPages';
 
 const API_URL = process.env.REACT_APP_API_URL || (window.location.protocol === 'https:' ? '/api' : 'http://localhost:5000/api');
 
@@ -52,8 +53,7 @@ const AdminAccountManagement: React.FC = () => {
     try {
       setLoading(true);
       const headers = getAuthHeaders();
-      const response = await axios.get(`${API_URL}/admin/users`, { headers });
-      setUsers(response.data);
+      setUsers(await fetchAllPages<User>(`${API_URL}/admin/users`, headers));
       setUserError('');
     } catch (err: any) {
       setUserError(err.message || '회원 정보를 불러오는데 실패했습니다.');
@@ -88,8 +88,7 @@ const AdminAccountManagement: React.FC = () => {
       setPendingLoading(true);
       setPendingError('');
       const headers = getAuthHeaders();
-      const response = await axios.get(`${API_URL}/admin/pending-approvals`, { headers });
-      setPendingApprovals(response.data);
+      setPendingApprovals(await fetchAllPages<any>(`${API_URL}/admin/pending-approvals`, headers));
     } catch (err: any) {
       setPendingError(err.response?.data?.error || err.message || '승인 대기 목록을 불러오는데 실패했습니다.');
       setPendingApprovals([]);
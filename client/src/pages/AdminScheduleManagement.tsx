@@ -2,6 +2,7 @@ import React, { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import axios from 'axios';
 import TopLogo from '../components/TopLogo';
+import { fetchAllPages } from '../utils/fetchAllPages';
 
 const API_URL = process.env.REACT_APP_API_URL || (window.location.protocol === 'https:' ? '/api' : 'http://localhost:5000/api');
 
@@ -78,15 +79,14 @@ const AdminScheduleManagement: React.FC = () => {
   const fetchEmployees = async () => {
     try {
       const headers = getAuthHeaders();
-      const response = await axios.get(`${API_URL}/admin/employees`, { headers });
-      setEmployees(response.data || []);
+      setEmployees(await fetchAllPages<Employee>(`${API_URL}/admin/employees`, headers));
     } catch (err: any) {
       console.error('Failed to fetch employees:', err);
       // Fallback to users endpoint
       try {
         const headers = getAuthHeaders();
-        const response = await axios.get(`${API_URL}/admin/users`, { headers });
-        const employeeList = response.data.filter((u: any) => (u.role === 'employee' || u.role === 'admin') && u.approvalStatus === 'approved');
+        const users = await fetchAllPages<any>(`${API_URL}/admin/users`, headers);
+        const employeeList = users.filter((u: any) => (u.role === 'employee' || u.role === 'admin') && u.approvalStatus === 'approved');
         setEmployees(employeeList);
       } catch (err2: any) {
         setError('직원 목록을 불러오는데 실패했습니다.');
@@ -3,6 +3,7 @@ import { useNavigate } from 'react-router-dom';
 import axios from 'axios';
 import { useAuth } from '../contexts/AuthContext';
 import TopLogo from '../components/TopLogo';
+import { fetchAllPages } from '../utils/fetchAllPages';
 import './ScheduleCalendar.css';
 
 const API_URL = process.env.REACT_APP_API_URL || (window.location.protocol === 'https:' ? '/api' : 'http://localhost:5000/api');
@@ -114,13 +115,8 @@ const ScheduleCalendar: React.FC<ScheduleCalendarProps> = ({ type: propType }) =
   const fetchEmployees = async () => {
     try {
       const headers = getAuthHeaders();
-      const response = await axios.get(`${API_URL}/admin/users`, { headers });
-      if (response.data && Array.isArray(response.data)) {
-        const employeeList = response.data.filter((u: User) => u && u.role === 'employee');
-        setEmployees(employeeList);
-      } else {
-        setEmployees([]);
-      }
+      const users = await fetchAllPages<User>(`${API_URL}/admin/users`, headers);
+      setEmployees(users.filter((u: User) => u && u.role === 'employee'));
     } catch (err: any) {
       console.error('직원 목록 조회 실패:', err);
       // Don't show error to user for employee list fetch failure
@@ -0,0 +1,27 @@
+import axios from 'axios';
+
+/**
+ * after/limit 키셋 페이지로 나뉜 목록을 끝까지 이어 읽어 하나로 합칩니다.
+ * 서버는 limit이 없으면 한 페이지만 주므로, 마지막 항목의 id를 after로 넘겨 페이지가 limit보다 짧아질 때까지 요청합니다.
+ */
+export const fetchAllPages = async <T extends { id: number }>(
+  url: string,
+  headers: Record<string, string>,
+  limit = 200,
+  params: Record<string, string | number> = {}
+): Promise<T[]> => {
+  const items: T[] = [];
+  let after: number | undefined;
+  for (;;) {
+    const response = await axios.get(url, {
+      headers,
+      params: after === undefined ? { ...params, limit } : { ...params, limit, after }
+    });
+    const page: T[] = Array.isArray(response.data) ? response.data : [];
+    items.push(...page);
+    if (page.length < limit) {
+      return items;
+    }
+    after = page[page.length - 1].id;
+  }
+};
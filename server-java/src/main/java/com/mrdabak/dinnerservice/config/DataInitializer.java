@@ -2,6 +2,7 @@ package com.mrdabak.dinnerservice.config;
 
 import com.mrdabak.dinnerservice.model.*;
 import com.mrdabak.dinnerservice.repository.*;
+import com.mrdabak.dinnerservice.service.MenuCatalog;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,17 +24,20 @@ public class DataInitializer implements CommandLineRunner {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final DataSource dataSource;
+    private final MenuCatalog menuCatalog;
 
     public DataInitializer(DinnerTypeRepository dinnerTypeRepository, MenuItemRepository menuItemRepository,
                           DinnerMenuItemRepository dinnerMenuItemRepository, UserRepository userRepository,
                           PasswordEncoder passwordEncoder,
-                          @Qualifier("dataSource") DataSource dataSource) {
+                          @Qualifier("dataSource") DataSource dataSource,
+                          MenuCatalog menuCatalog) {
         this.dinnerTypeRepository = dinnerTypeRepository;
         this.menuItemRepository = menuItemRepository;
         this.dinnerMenuItemRepository = dinnerMenuItemRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.dataSource = dataSource;
+        this.menuCatalog = menuCatalog;
     }
 
     @Override
@@ -247,6 +251,8 @@ public class DataInitializer implements CommandLineRunner {
         dinnerMenuItemRepository.save(new DinnerMenuItem(null, champagneDinner.getId(), wine.getId(), 1));
         dinnerMenuItemRepository.save(new DinnerMenuItem(null, champagneDinner.getId(), steak.getId(), 1));
 
+        // 서버 기동 직후 요청으로 빈 카탈로그가 적재되었을 수 있으므로 시드 데이터 저장 후 다시 적재
+        menuCatalog.invalidate();
         System.out.println("[DataInitializer] Initial data seeded successfully");
         System.out.println("[DataInitializer] Data initialization complete");
     }
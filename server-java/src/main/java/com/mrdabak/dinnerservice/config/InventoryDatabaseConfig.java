@@ -16,8 +16,6 @@ import jakarta.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 import java.util.HashMap;
 import java.util.Map;
-import org.sqlite.SQLiteConfig;
-import org.sqlite.SQLiteDataSource;
 
 @Configuration
 @EnableTransactionManagement
@@ -29,17 +27,12 @@ import org.sqlite.SQLiteDataSource;
 public class InventoryDatabaseConfig {
 
     @Bean(name = "inventoryDataSource")
-    public DataSource inventoryDataSource() {
+    public DataSource inventoryDataSource(SqliteDataSourceFactory sqliteDataSourceFactory) {
         // Ensure data directory exists
         ensureDataDirectory();
         
-        SQLiteConfig config = new SQLiteConfig();
-        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
-        config.setBusyTimeout(60_000);
-        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
-        SQLiteDataSource dataSource = new SQLiteDataSource(config);
-        dataSource.setUrl("jdbc:sqlite:data/inventory.db?journal_mode=WAL&busy_timeout=60000");
-        return dataSource;
+        // 읽기 풀 + 단일 writer 커넥션 (PRAGMA는 sqlite.* 설정 참고)
+        return sqliteDataSourceFactory.create("inventory", "jdbc:sqlite:data/inventory.db?journal_mode=WAL&busy_timeout=60000", 60_000);
     }
     
     private void ensureDataDirectory() {
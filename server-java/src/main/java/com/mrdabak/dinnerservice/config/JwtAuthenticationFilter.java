@@ -1,10 +1,13 @@
 package com.mrdabak.dinnerservice.config;
 
 import com.mrdabak.dinnerservice.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -20,11 +23,13 @@ import java.util.Collections;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
     private final JwtService jwtService;
 
     public JwtAuthenticationFilter(JwtService jwtService) {
         this.jwtService = jwtService;
-        System.out.println("[JWT Filter] JwtAuthenticationFilter initialized");
+        logger.info("[JWT Filter] JwtAuthenticationFilter initialized");
     }
 
     @Override
@@ -35,77 +40,40 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String requestPath = request.getRequestURI();
-        
-        System.out.println("========== [JWT Filter] Request Processing Start ==========");
-        System.out.println("[JWT Filter] Request Path: " + requestPath);
-        System.out.println("[JWT Filter] Request Method: " + request.getMethod());
-        System.out.println("[JWT Filter] Authorization Header: " + (authHeader != null ? "EXISTS (length: " + authHeader.length() + ")" : "MISSING"));
-        if (authHeader != null) {
-            System.out.println("[JWT Filter] Authorization Header Prefix: " + (authHeader.length() > 30 ? authHeader.substring(0, 30) + "..." : authHeader));
-        }
-        
+
+        logger.debug("[JWT Filter] {} {} - Authorization header {}", request.getMethod(), requestPath,
+                authHeader != null ? "present" : "missing");
+
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            System.out.println("[JWT Filter] WARNING: Authorization header is missing or not in Bearer format");
-            System.out.println("[JWT Filter] Request Path: " + requestPath);
-            
             // Check if this is a protected path
-            if (requestPath.startsWith("/api/") && 
-                !requestPath.startsWith("/api/auth/") && 
-                !requestPath.startsWith("/api/health") && 
-                !requestPath.startsWith("/api/menu/")) {
-                System.out.println("[JWT Filter] WARNING: Protected path but no token provided");
+            if (isProtectedPath(requestPath)) {
+                logger.debug("[JWT Filter] Protected path but no Bearer token provided: {}", requestPath);
             }
-            
+
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
             final String jwt = authHeader.substring(7);
-            System.out.println("[JWT Filter] Token extracted (length: " + jwt.length() + ")");
-            System.out.println("[JWT Filter] Token prefix: " + (jwt.length() > 20 ? jwt.substring(0, 20) + "..." : jwt));
-            
-            // Extract user info first (before validation to see what's in the token)
+
+            // 토큰은 요청당 한 번만 파싱 (서명/만료 검증 포함, 검증된 claims는 JwtService에서 캐시)
             String userId = null;
             String role = null;
             try {
-                userId = jwtService.extractUserId(jwt);
-                role = jwtService.extractRole(jwt);
-                System.out.println("[JWT Filter] Extracted user ID: " + userId);
-                System.out.println("[JWT Filter] Extracted role: " + role);
+                Claims claims = jwtService.parseClaims(jwt);
+                userId = claims.get("userId", String.class);
+                role = claims.get("role", String.class);
+                logger.debug("[JWT Filter] Extracted user ID: {}, role: {}", userId, role);
             } catch (Exception e) {
-                System.out.println("[JWT Filter] ERROR: Failed to extract user info from token");
-                System.out.println("[JWT Filter] Exception type: " + e.getClass().getName());
-                System.out.println("[JWT Filter] Exception message: " + e.getMessage());
-                e.printStackTrace();
+                logger.info("[JWT Filter] Token is invalid (expired or signature invalid) - {}: {}",
+                        e.getClass().getSimpleName(), e.getMessage());
                 filterChain.doFilter(request, response);
                 return;
             }
 
             if (userId == null || userId.isEmpty()) {
-                System.out.println("[JWT Filter] ERROR: User ID is null or empty");
-                filterChain.doFilter(request, response);
-                return;
-            }
-            
-            // Validate token after extraction
-            boolean isValid = false;
-            try {
-                isValid = jwtService.isTokenValid(jwt);
-                System.out.println("[JWT Filter] Token validation result: " + isValid);
-            } catch (Exception e) {
-                System.out.println("[JWT Filter] ERROR: Token validation failed");
-                System.out.println("[JWT Filter] Exception type: " + e.getClass().getName());
-                System.out.println("[JWT Filter] Exception message: " + e.getMessage());
-                e.printStackTrace();
-                filterChain.doFilter(request, response);
-                return;
-            }
-            
-            if (!isValid) {
-                System.out.println("[JWT Filter] WARNING: Token is invalid (expired or signature invalid)");
-                System.out.println("[JWT Filter] User ID from token: " + userId);
-                System.out.println("[JWT Filter] Role from token: " + role);
+                logger.warn("[JWT Filter] User ID is null or empty");
                 filterChain.doFilter(request, response);
                 return;
             }
@@ -115,9 +83,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // Set default role if null or empty
                 String userRole = (role != null && !role.isEmpty()) ? role.toUpperCase() : "CUSTOMER";
                 String authority = "ROLE_" + userRole;
-                
-                System.out.println("[JWT Filter] Setting authority: " + authority);
-                
+
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userId,
                         null,
@@ -125,48 +91,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
-                System.out.println("[JWT Filter] SUCCESS: Authentication set in SecurityContext");
-                System.out.println("[JWT Filter] Authenticated User ID: " + userId);
-                System.out.println("[JWT Filter] Authenticated Authority: " + authority);
-            } else {
-                System.out.println("[JWT Filter] INFO: Already authenticated");
+                logger.debug("[JWT Filter] Authenticated user {} with authority {}", userId, authority);
+            } else if (logger.isDebugEnabled()) {
                 Authentication existingAuth = SecurityContextHolder.getContext().getAuthentication();
-                System.out.println("[JWT Filter] Existing Auth User: " + existingAuth.getName());
-                System.out.println("[JWT Filter] Existing Auth Authorities: " + existingAuth.getAuthorities());
+                logger.debug("[JWT Filter] Already authenticated: {} {}", existingAuth.getName(), existingAuth.getAuthorities());
             }
         } catch (Exception e) {
-            System.out.println("[JWT Filter] ERROR: Exception during token processing");
-            System.out.println("[JWT Filter] Request Path: " + request.getRequestURI());
-            System.out.println("[JWT Filter] Exception Type: " + e.getClass().getName());
-            System.out.println("[JWT Filter] Exception Message: " + e.getMessage());
-            System.out.println("[JWT Filter] Exception Stack Trace:");
-            e.printStackTrace();
-            
-            // Check if this is a protected path
-            String path = request.getRequestURI();
-            if (path.startsWith("/api/") && 
-                !path.startsWith("/api/auth/") && 
-                !path.startsWith("/api/health") && 
-                !path.startsWith("/api/menu/")) {
-                System.out.println("[JWT Filter] WARNING: Protected path but token processing failed");
-                System.out.println("[JWT Filter] WARNING: This request may return 401 Unauthorized");
-            }
             // Token is invalid, continue without authentication
+            if (isProtectedPath(requestPath)) {
+                logger.warn("[JWT Filter] Token processing failed on protected path {} - request may return 401", requestPath, e);
+            } else {
+                logger.warn("[JWT Filter] Token processing failed on {}", requestPath, e);
+            }
         }
 
-        System.out.println("[JWT Filter] Before FilterChain.doFilter");
-        System.out.println("[JWT Filter] SecurityContext Auth Status: " + 
-            (SecurityContextHolder.getContext().getAuthentication() != null ? "AUTHENTICATED" : "NOT AUTHENTICATED"));
-        if (SecurityContextHolder.getContext().getAuthentication() != null) {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            System.out.println("[JWT Filter] SecurityContext User: " + auth.getName());
-            System.out.println("[JWT Filter] SecurityContext Authorities: " + auth.getAuthorities());
-        }
-        
         filterChain.doFilter(request, response);
-        
-        System.out.println("[JWT Filter] After FilterChain.doFilter");
-        System.out.println("========== [JWT Filter] Request Processing Complete ==========");
     }
-}
 
+    private boolean isProtectedPath(String path) {
+        return path.startsWith("/api/") &&
+                !path.startsWith("/api/auth/") &&
+                !path.startsWith("/api/health") &&
+                !path.startsWith("/api/menu/");
+    }
+}
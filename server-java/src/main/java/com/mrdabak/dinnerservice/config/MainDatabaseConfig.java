@@ -15,8 +15,6 @@ import jakarta.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 import java.util.HashMap;
 import java.util.Map;
-import org.sqlite.SQLiteConfig;
-import org.sqlite.SQLiteDataSource;
 
 @Configuration
 @EnableTransactionManagement
@@ -43,17 +41,12 @@ public class MainDatabaseConfig {
 
     @Bean(name = "dataSource")
     @Primary
-    public DataSource dataSource() {
+    public DataSource dataSource(SqliteDataSourceFactory sqliteDataSourceFactory) {
         // Ensure data directory exists
         ensureDataDirectory();
         
-        SQLiteConfig config = new SQLiteConfig();
-        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
-        config.setBusyTimeout(30_000);
-        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
-        SQLiteDataSource dataSource = new SQLiteDataSource(config);
-        dataSource.setUrl("jdbc:sqlite:data/mrdabak.db");
-        return dataSource;
+        // 읽기 풀 + 단일 writer 커넥션 (PRAGMA는 sqlite.* 설정 참고)
+        return sqliteDataSourceFactory.create("main", "jdbc:sqlite:data/mrdabak.db", 30_000);
     }
     
     private void ensureDataDirectory() {
@@ -4,6 +4,7 @@ import com.mrdabak.dinnerservice.model.Order;
 import com.mrdabak.dinnerservice.model.OrderChangeRequest;
 import com.mrdabak.dinnerservice.model.OrderChangeRequestItem;
 import com.mrdabak.dinnerservice.model.OrderItem;
+import com.mrdabak.dinnerservice.model.UserOrderStats;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
@@ -18,8 +19,6 @@ import jakarta.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 import java.util.HashMap;
 import java.util.Map;
-import org.sqlite.SQLiteConfig;
-import org.sqlite.SQLiteDataSource;
 
 @Configuration
 @EnableTransactionManagement
@@ -31,18 +30,12 @@ import org.sqlite.SQLiteDataSource;
 public class OrderDatabaseConfig {
 
     @Bean(name = "orderDataSource")
-    public DataSource orderDataSource() {
+    public DataSource orderDataSource(SqliteDataSourceFactory sqliteDataSourceFactory) {
         // Ensure data directory exists
         ensureDataDirectory();
         
-        SQLiteConfig config = new SQLiteConfig();
-        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
-        config.setBusyTimeout(60_000); // Increase to 60 seconds
-        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
-        SQLiteDataSource dataSource = new SQLiteDataSource(config);
-        // Add WAL mode and busy timeout to URL as well for compatibility
-        dataSource.setUrl("jdbc:sqlite:data/orders.db?journal_mode=WAL&busy_timeout=60000");
-        return dataSource;
+        // 읽기 풀 + 단일 writer 커넥션 (PRAGMA는 sqlite.* 설정 참고)
+        return sqliteDataSourceFactory.create("order", "jdbc:sqlite:data/orders.db?journal_mode=WAL&busy_timeout=60000", 60_000);
     }
     
     private void ensureDataDirectory() {
@@ -71,7 +64,7 @@ public class OrderDatabaseConfig {
 
         return builder
             .dataSource(dataSource)
-            .packages(Order.class, OrderItem.class, OrderChangeRequest.class, OrderChangeRequestItem.class)
+            .packages(Order.class, OrderItem.class, OrderChangeRequest.class, OrderChangeRequestItem.class, UserOrderStats.class)
             .persistenceUnit("order")
             .properties(properties)
             .build();
@@ -0,0 +1,118 @@
+package com.mrdabak.dinnerservice.config;
+
+import com.mrdabak.dinnerservice.model.IsoLocalDateTimeConverter;
+import com.mrdabak.dinnerservice.util.DeliveryTimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * orders.delivery_at이 비어 있는 기존 주문에 delivery_time을 파싱한 값을 채웁니다.
+ *
+ * <p>서버가 뜬 뒤 백그라운드 스레드에서 id 순으로 {@link #BATCH_SIZE}건씩 처리하고, 배치마다 짧은 트랜잭션으로
+ * 커밋해 주문 쓰기가 writer 커넥션을 오래 기다리지 않게 합니다. 새 주문은 {@code Order}가 저장할 때 직접 채우므로
+ * 이 작업은 업그레이드 후 한 번만 실질적인 일을 합니다. 형식이 맞지 않는 delivery_time은 그대로 둡니다.</p>
+ */
+@Component
+public class OrderDeliveryTimeBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderDeliveryTimeBackfill.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final DataSource orderDataSource;
+
+    public OrderDeliveryTimeBackfill(@Qualifier("orderDataSource") DataSource orderDataSource) {
+        this.orderDataSource = orderDataSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        Thread worker = new Thread(this::backfill, "order-delivery-at-backfill");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void backfill() {
+        long lastId = 0;
+        int filled = 0;
+        int unparseable = 0;
+        try {
+            while (true) {
+                List<PendingRow> batch = readBatch(lastId);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                int written = writeBatch(batch);
+                filled += written;
+                unparseable += batch.size() - written;
+                lastId = batch.get(batch.size() - 1).id();
+            }
+            if (filled > 0 || unparseable > 0) {
+                logger.info("[OrderDeliveryTimeBackfill] 주문 {}건의 delivery_at을 채웠습니다. (형식 오류로 건너뜀 {}건)",
+                        filled, unparseable);
+            }
+        } catch (SQLException e) {
+            logger.warn("[OrderDeliveryTimeBackfill] delivery_at 채우기 중단, 다음 시작 때 이어서 진행합니다: {}", e.getMessage());
+        }
+    }
+
+    private List<PendingRow> readBatch(long afterId) throws SQLException {
+        List<PendingRow> rows = new ArrayList<>(BATCH_SIZE);
+        try (Connection connection = orderDataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement(
+                     "SELECT id, delivery_time FROM orders WHERE delivery_at IS NULL AND id > ? ORDER BY id LIMIT ?")) {
+            select.setLong(1, afterId);
+            select.setInt(2, BATCH_SIZE);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    rows.add(new PendingRow(resultSet.getLong(1), resultSet.getString(2)));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private int writeBatch(List<PendingRow> batch) throws SQLException {
+        int written = 0;
+        try (Connection connection = orderDataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE orders SET delivery_at = ? WHERE id = ? AND delivery_at IS NULL")) {
+                for (PendingRow row : batch) {
+                    LocalDateTime parsed = DeliveryTimeUtils.tryParseDeliveryTime(row.deliveryTime());
+                    if (parsed == null) {
+                        continue;
+                    }
+                    update.setString(1, parsed.format(IsoLocalDateTimeConverter.FORMAT));
+                    update.setLong(2, row.id());
+                    update.addBatch();
+                    written++;
+                }
+                if (written > 0) {
+                    update.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+        return written;
+    }
+
+    private record PendingRow(long id, String deliveryTime) { }
+}
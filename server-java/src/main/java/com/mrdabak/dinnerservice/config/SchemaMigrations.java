@@ -0,0 +1,201 @@
+package com.mrdabak.dinnerservice.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * orders.db, inventory.db, schedule.db에 버전별 SQL 스크립트를 적용합니다.
+ *
+ * <p>스크립트는 {@code classpath:db/migration/<db>/V<번호>__<설명>.sql}이고 번호 순으로 한 번씩만 실행되며,
+ * 적용한 번호는 각 DB의 {@code schema_version} 테이블에 남습니다. 테이블은 Hibernate(hbm2ddl=update)가
+ * 만들고, 이 클래스는 그 뒤에 인덱스처럼 Hibernate가 챙기지 않는 스키마를 맡습니다.</p>
+ *
+ * <p>적용 후에는 스크립트에 선언된 인덱스가 실제로 있는지 확인해 빠진 것을 경고로 남깁니다.
+ * 마이그레이션이 실패해도 서버는 뜨고, 해당 DB는 다음 시작 때 실패한 번호부터 다시 시도합니다.</p>
+ */
+@Component
+@DependsOn({"orderEntityManagerFactory", "inventoryEntityManagerFactory", "scheduleEntityManagerFactory"})
+public class SchemaMigrations {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrations.class);
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final Pattern INDEX_NAME = Pattern.compile(
+            "CREATE\\s+(?:UNIQUE\\s+)?INDEX\\s+IF\\s+NOT\\s+EXISTS\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private final Map<String, DataSource> dataSources = new LinkedHashMap<>();
+
+    public SchemaMigrations(@Qualifier("orderDataSource") DataSource orderDataSource,
+                            @Qualifier("inventoryDataSource") DataSource inventoryDataSource,
+                            @Qualifier("scheduleDataSource") DataSource scheduleDataSource) {
+        dataSources.put("order", orderDataSource);
+        dataSources.put("inventory", inventoryDataSource);
+        dataSources.put("schedule", scheduleDataSource);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        dataSources.forEach((database, dataSource) -> {
+            try (Connection connection = dataSource.getConnection()) {
+                List<Migration> migrations = load(database);
+                int applied = apply(connection, migrations);
+                if (applied > 0) {
+                    logger.info("[SchemaMigrations] {} DB에 마이그레이션 {}개 적용", database, applied);
+                }
+                List<String> missing = missingIndexes(connection, migrations);
+                if (!missing.isEmpty()) {
+                    logger.warn("[SchemaMigrations] {} DB에 없는 인덱스: {}", database, missing);
+                }
+            } catch (IOException | SQLException | RuntimeException e) {
+                logger.error("[SchemaMigrations] {} DB 마이그레이션 실패: {}", database, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 해당 DB의 마이그레이션 스크립트를 번호 순으로 읽습니다.
+     */
+    static List<Migration> load(String database) throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:db/migration/" + database + "/V*__*.sql");
+        List<Migration> migrations = new ArrayList<>(resources.length);
+        Set<Integer> versions = new HashSet<>();
+        for (Resource resource : resources) {
+            Matcher matcher = SCRIPT_NAME.matcher(resource.getFilename() != null ? resource.getFilename() : "");
+            if (!matcher.matches()) {
+                throw new IllegalStateException("마이그레이션 파일 이름 형식이 올바르지 않습니다: " + resource.getFilename());
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            if (!versions.add(version)) {
+                throw new IllegalStateException(database + " DB 마이그레이션 번호가 중복됩니다: V" + version);
+            }
+            try (InputStream in = resource.getInputStream()) {
+                migrations.add(new Migration(version, matcher.group(2), new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+            }
+        }
+        migrations.sort(Comparator.comparingInt(Migration::version));
+        return migrations;
+    }
+
+    /**
+     * 아직 적용하지 않은 마이그레이션을 하나씩 트랜잭션으로 적용하고 적용한 개수를 돌려줍니다.
+     */
+    static int apply(Connection connection, List<Migration> migrations) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS schema_version ("
+                    + "version INTEGER PRIMARY KEY, description TEXT NOT NULL, applied_at TEXT NOT NULL)");
+        }
+        Set<Integer> appliedVersions = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT version FROM schema_version")) {
+            while (resultSet.next()) {
+                appliedVersions.add(resultSet.getInt(1));
+            }
+        }
+
+        int applied = 0;
+        boolean autoCommit = connection.getAutoCommit();
+        try {
+            for (Migration migration : migrations) {
+                if (appliedVersions.contains(migration.version())) {
+                    continue;
+                }
+                connection.setAutoCommit(false);
+                try (Statement statement = connection.createStatement();
+                     PreparedStatement record = connection.prepareStatement(
+                             "INSERT INTO schema_version (version, description, applied_at) VALUES (?, ?, ?)")) {
+                    for (String sql : migration.statements()) {
+                        statement.execute(sql);
+                    }
+                    record.setInt(1, migration.version());
+                    record.setString(2, migration.description());
+                    record.setString(3, LocalDateTime.now().toString());
+                    record.executeUpdate();
+                    connection.commit();
+                    applied++;
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw new SQLException("V" + migration.version() + "__" + migration.description()
+                            + " 적용 실패: " + e.getMessage(), e);
+                }
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        return applied;
+    }
+
+    /**
+     * 스크립트에 선언된 인덱스 중 DB에 없는 것의 이름.
+     */
+    static List<String> missingIndexes(Connection connection, List<Migration> migrations) throws SQLException {
+        Set<String> expected = new LinkedHashSet<>();
+        for (Migration migration : migrations) {
+            expected.addAll(migration.indexNames());
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM sqlite_master WHERE type = 'index'")) {
+            while (resultSet.next()) {
+                expected.remove(resultSet.getString(1));
+            }
+        }
+        return List.copyOf(expected);
+    }
+
+    record Migration(int version, String description, String script) {
+
+        /**
+         * 주석 줄을 빼고 세미콜론으로 나눈 SQL 문장들.
+         */
+        List<String> statements() {
+            StringBuilder body = new StringBuilder();
+            for (String line : script.split("\\R")) {
+                if (!line.strip().startsWith("--")) {
+                    body.append(line).append('\n');
+                }
+            }
+            List<String> statements = new ArrayList<>();
+            for (String sql : body.toString().split(";")) {
+                if (!sql.isBlank()) {
+                    statements.add(sql.strip());
+                }
+            }
+            return statements;
+        }
+
+        List<String> indexNames() {
+            List<String> names = new ArrayList<>();
+            Matcher matcher = INDEX_NAME.matcher(script);
+            while (matcher.find()) {
+                names.add(matcher.group(1));
+            }
+            return names;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mrdabak.dinnerservice.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * 네 개의 SQLite DB(main, order, inventory, schedule)에 공통으로 쓰는 커넥션 풀을 생성합니다.
+ * 풀 크기와 PRAGMA는 application.properties의 sqlite.* 설정으로 조정합니다.
+ */
+@Component
+public class SqliteDataSourceFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqliteDataSourceFactory.class);
+
+    private final int readPoolSize;
+    private final long connectionTimeoutMs;
+    private final int cacheSize;
+    private final long mmapSize;
+    private final SQLiteConfig.TempStore tempStore;
+    private final int walAutocheckpointPages;
+    private final int journalSizeLimit;
+
+    public SqliteDataSourceFactory(@Value("${sqlite.pool.read-size:4}") int readPoolSize,
+                                   @Value("${sqlite.pool.connection-timeout-ms:60000}") long connectionTimeoutMs,
+                                   @Value("${sqlite.pragma.cache-size:-16000}") int cacheSize,
+                                   @Value("${sqlite.pragma.mmap-size:134217728}") long mmapSize,
+                                   @Value("${sqlite.pragma.temp-store:MEMORY}") String tempStore,
+                                   @Value("${sqlite.wal.autocheckpoint-pages:1000}") int walAutocheckpointPages,
+                                   @Value("${sqlite.wal.journal-size-limit:67108864}") int journalSizeLimit) {
+        if (readPoolSize < 1) {
+            throw new IllegalArgumentException("sqlite.pool.read-size는 1 이상이어야 합니다: " + readPoolSize);
+        }
+        this.readPoolSize = readPoolSize;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.cacheSize = cacheSize;
+        this.mmapSize = mmapSize;
+        this.tempStore = SQLiteConfig.TempStore.valueOf(tempStore.trim().toUpperCase(Locale.ROOT));
+        this.walAutocheckpointPages = walAutocheckpointPages;
+        this.journalSizeLimit = journalSizeLimit;
+    }
+
+    /**
+     * @param name        풀 이름에 쓰일 DB 이름 (예: "inventory")
+     * @param url         JDBC URL
+     * @param busyTimeout SQLite busy_timeout (밀리초)
+     */
+    public DataSource create(String name, String url, int busyTimeout) {
+        SQLiteDataSource sqliteDataSource = new SQLiteDataSource(sqliteConfig(busyTimeout));
+        sqliteDataSource.setUrl(url);
+
+        // writer: DB 파일당 커넥션 1개, WAL 체크포인트 주기는 writer 커넥션에서 설정
+        HikariConfig writerConfig = poolConfig("sqlite-" + name + "-writer", sqliteDataSource, 1);
+        writerConfig.setConnectionInitSql("PRAGMA wal_autocheckpoint=" + walAutocheckpointPages);
+        HikariDataSource writerPool = new HikariDataSource(writerConfig);
+
+        HikariDataSource readerPool = new HikariDataSource(
+                poolConfig("sqlite-" + name + "-reader", sqliteDataSource, readPoolSize));
+
+        logger.info("[SqliteDataSourceFactory] {} DB 커넥션 풀 생성 (writer 1, reader {})", name, readPoolSize);
+        convertIdColumns(name, writerPool);
+        return new SqliteReadWriteDataSource(writerPool, readerPool);
+    }
+
+    // 엔티티 id는 rowid(IDENTITY)이므로, 예전에 id bigint로 만든 테이블은 Hibernate가 쓰기 전에 바꿔 둠
+    private void convertIdColumns(String name, DataSource writerPool) {
+        try (Connection connection = writerPool.getConnection()) {
+            SqliteIdentityColumns.convert(connection);
+        } catch (SQLException | RuntimeException e) {
+            // 실패하면 해당 테이블의 INSERT가 실패하므로 원인을 남기고, 다음 시작 때 다시 시도
+            logger.error("[SqliteDataSourceFactory] {} DB id 컬럼 변환 실패: {}", name, e.getMessage(), e);
+        }
+    }
+
+    private SQLiteConfig sqliteConfig(int busyTimeout) {
+        SQLiteConfig config = new SQLiteConfig();
+        config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        config.setBusyTimeout(busyTimeout);
+        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        config.setCacheSize(cacheSize);
+        config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(mmapSize));
+        config.setTempStore(tempStore);
+        config.setJournalSizeLimit(journalSizeLimit);
+        return config;
+    }
+
+    private HikariConfig poolConfig(String poolName, DataSource dataSource, int maximumPoolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setDataSource(dataSource);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(1);
+        config.setConnectionTimeout(connectionTimeoutMs);
+        return config;
+    }
+}
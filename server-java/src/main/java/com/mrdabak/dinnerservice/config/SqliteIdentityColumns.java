@@ -0,0 +1,145 @@
+package com.mrdabak.dinnerservice.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기존 테이블의 {@code id} 컬럼을 SQLite rowid 별칭({@code INTEGER PRIMARY KEY})으로 바꿉니다.
+ *
+ * <p>엔티티 id는 DB가 발급하는 IDENTITY(rowid)입니다. Hibernate가 새로 만드는 테이블은 {@code id integer}라
+ * 그대로 rowid 별칭이 되지만, AUTO(시퀀스 테이블) 시절에 만든 테이블은 {@code id bigint}라서 id 없이 INSERT하면
+ * NOT NULL 위반이 납니다. SQLite에는 컬럼 타입을 바꾸는 ALTER가 없으므로, id 타입만 바꾼 같은 정의로 테이블을
+ * 새로 만들어 행을 옮기고 이름을 바꾼 뒤 인덱스를 다시 만듭니다. 기존 id 값은 그대로이고 다음 id는 DB가
+ * {@code MAX(id) + 1}부터 발급합니다.</p>
+ *
+ * <p>Hibernate가 DB를 쓰기 전, DataSource를 만들 때 writer 커넥션에서 한 번 실행합니다. 이미 바뀐 테이블은 건너뜁니다.</p>
+ */
+final class SqliteIdentityColumns {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqliteIdentityColumns.class);
+    private static final String ID_COLUMN = "id";
+
+    private SqliteIdentityColumns() {
+    }
+
+    /**
+     * 바꿔야 하는 테이블을 한 트랜잭션으로 모두 바꾸고, 바꾼 테이블 이름을 돌려줍니다.
+     */
+    static List<String> convert(Connection connection) throws SQLException {
+        Map<String, String> idTypes = nonRowidIdTables(connection);
+        if (idTypes.isEmpty()) {
+            return List.of();
+        }
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            for (Map.Entry<String, String> table : idTypes.entrySet()) {
+                rebuild(connection, table.getKey(), table.getValue());
+                logger.info("[SqliteIdentityColumns] {} 테이블 id를 {} -> INTEGER PRIMARY KEY로 변경", table.getKey(), table.getValue());
+            }
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        return List.copyOf(idTypes.keySet());
+    }
+
+    /**
+     * 기본 키가 {@code id} 한 컬럼인데 선언 타입이 INTEGER가 아닌 테이블과 그 타입.
+     */
+    private static Map<String, String> nonRowidIdTables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT name FROM sqlite_master WHERE type = 'table' AND name NOT LIKE 'sqlite_%'")) {
+            while (resultSet.next()) {
+                tables.add(resultSet.getString(1));
+            }
+        }
+        Map<String, String> idTypes = new LinkedHashMap<>();
+        for (String table : tables) {
+            List<String[]> primaryKey = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("PRAGMA table_info(" + quote(table) + ")")) {
+                while (resultSet.next()) {
+                    if (resultSet.getInt("pk") > 0) {
+                        primaryKey.add(new String[]{resultSet.getString("name"), resultSet.getString("type")});
+                    }
+                }
+            }
+            if (primaryKey.size() == 1 && ID_COLUMN.equalsIgnoreCase(primaryKey.get(0)[0])
+                    && !"INTEGER".equalsIgnoreCase(primaryKey.get(0)[1])) {
+                idTypes.put(table, primaryKey.get(0)[1]);
+            }
+        }
+        return idTypes;
+    }
+
+    private static void rebuild(Connection connection, String table, String idType) throws SQLException {
+        String createSql;
+        List<String> indexSql = new ArrayList<>();
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT type, sql FROM sqlite_master WHERE tbl_name = ? AND sql IS NOT NULL")) {
+            query.setString(1, table);
+            try (ResultSet resultSet = query.executeQuery()) {
+                createSql = null;
+                while (resultSet.next()) {
+                    if ("table".equals(resultSet.getString(1))) {
+                        createSql = resultSet.getString(2);
+                    } else if ("index".equals(resultSet.getString(1))) {
+                        indexSql.add(resultSet.getString(2));
+                    }
+                }
+            }
+        }
+        if (createSql == null) {
+            throw new SQLException(table + " 테이블 정의를 찾지 못했습니다.");
+        }
+
+        String rebuiltTable = table + "_rowid_rebuild";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(rowidDefinition(createSql, rebuiltTable, idType));
+            statement.execute("INSERT INTO " + quote(rebuiltTable) + " SELECT * FROM " + quote(table));
+            statement.execute("DROP TABLE " + quote(table));
+            statement.execute("ALTER TABLE " + quote(rebuiltTable) + " RENAME TO " + quote(table));
+            for (String sql : indexSql) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * 테이블 정의에서 이름을 {@code tableName}으로, id 컬럼 타입을 INTEGER로 바꾼 CREATE TABLE 문.
+     */
+    static String rowidDefinition(String createSql, String tableName, String idType) {
+        int columnsStart = createSql.indexOf('(');
+        if (columnsStart < 0) {
+            throw new IllegalStateException("테이블 정의를 해석할 수 없습니다: " + createSql);
+        }
+        Matcher idColumn = Pattern.compile("([(,]\\s*[\"`\\[]?" + ID_COLUMN + "[\"`\\]]?\\s+)" + Pattern.quote(idType) + "\\b",
+                Pattern.CASE_INSENSITIVE).matcher(createSql.substring(columnsStart));
+        if (!idColumn.find()) {
+            throw new IllegalStateException("id 컬럼 정의를 찾지 못했습니다: " + createSql);
+        }
+        return "CREATE TABLE " + quote(tableName) + " " + idColumn.replaceFirst("$1INTEGER");
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,87 @@
+package com.mrdabak.dinnerservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * SQLite DB 파일 하나에 대한 읽기/쓰기 분리 DataSource.
+ *
+ * <p>읽기 전용 트랜잭션(@Transactional(readOnly = true), Spring Data 조회 메서드)은 읽기 풀로,
+ * 그 외 트랜잭션과 스키마 갱신은 커넥션 1개짜리 writer 풀로 보냅니다. SQLite는 파일당 writer가
+ * 하나뿐이므로 쓰기 요청은 SQLITE_BUSY 재시도 대신 writer 풀의 대기열에서 순서를 기다립니다.
+ * 실제 커넥션은 첫 SQL 실행 시점에 가져오므로, 트랜잭션의 읽기 전용 여부가 확정된 뒤에 라우팅됩니다.</p>
+ *
+ * <p>writer를 잡고 있는 스레드가 같은 DB의 커넥션을 한 번 더 요청하면(REQUIRES_NEW, Hibernate 격리 작업 등)
+ * 두 번째 커넥션은 첫 번째가 놓을 때까지 쓸 수 없어 교착되므로, busy_timeout까지 기다리지 않고 바로 실패시킵니다.
+ * 엔티티 id는 그래서 별도 커넥션으로 갱신하는 시퀀스 테이블 대신 같은 트랜잭션의 INSERT에서 DB가 발급하는
+ * IDENTITY(rowid)를 씁니다.</p>
+ */
+class SqliteReadWriteDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource writerPool;
+    private final HikariDataSource readerPool;
+
+    SqliteReadWriteDataSource(HikariDataSource writerPool, HikariDataSource readerPool) {
+        this.writerPool = writerPool;
+        this.readerPool = readerPool;
+
+        // SQLite 기본값 - 초기화 시 기본값 확인용 커넥션을 열지 않도록 명시
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        setTargetDataSource(new Router());
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void close() {
+        readerPool.close();
+        writerPool.close();
+    }
+
+    private final class Router extends AbstractDataSource {
+
+        private final ThreadLocal<Boolean> holdingWriter = ThreadLocal.withInitial(() -> false);
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                return readerPool.getConnection();
+            }
+            if (holdingWriter.get()) {
+                throw new SQLException("이 스레드가 이미 writer 커넥션을 잡고 있어 두 번째 쓰기 커넥션을 열 수 없습니다.");
+            }
+            Connection connection = writerPool.getConnection();
+            holdingWriter.set(true);
+            return releaseWriterOnClose(connection);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new UnsupportedOperationException("SQLite 데이터소스는 사용자 인증을 지원하지 않습니다.");
+        }
+
+        private Connection releaseWriterOnClose(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName()) && !connection.isClosed()) {
+                            holdingWriter.set(false);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.mrdabak.dinnerservice.controller;
 import com.mrdabak.dinnerservice.dto.AuthRequest;
 import com.mrdabak.dinnerservice.dto.AuthResponse;
 import com.mrdabak.dinnerservice.dto.UserDto;
+import com.mrdabak.dinnerservice.dto.UserSummary;
 import com.mrdabak.dinnerservice.model.User;
 import com.mrdabak.dinnerservice.model.Order;
 import com.mrdabak.dinnerservice.model.OrderItem;
@@ -11,19 +12,25 @@ import com.mrdabak.dinnerservice.model.MenuItem;
 import com.mrdabak.dinnerservice.repository.UserRepository;
 import com.mrdabak.dinnerservice.repository.order.OrderRepository;
 import com.mrdabak.dinnerservice.repository.order.OrderItemRepository;
-import com.mrdabak.dinnerservice.repository.DinnerTypeRepository;
-import com.mrdabak.dinnerservice.repository.DinnerMenuItemRepository;
-import com.mrdabak.dinnerservice.repository.MenuItemRepository;
 import com.mrdabak.dinnerservice.service.JwtService;
+import com.mrdabak.dinnerservice.service.DeliveredOrderCounter;
+import com.mrdabak.dinnerservice.service.DeliveryBatchPlanner;
 import com.mrdabak.dinnerservice.service.DeliverySchedulingService;
+import com.mrdabak.dinnerservice.service.OrderApprovalQueue;
 import com.mrdabak.dinnerservice.service.OrderService;
+import com.mrdabak.dinnerservice.service.InventoryReservationLedger;
+import com.mrdabak.dinnerservice.service.MenuCatalog;
 import com.mrdabak.dinnerservice.repository.schedule.DeliveryScheduleRepository;
 import com.mrdabak.dinnerservice.repository.schedule.EmployeeWorkAssignmentRepository;
 import com.mrdabak.dinnerservice.model.EmployeeWorkAssignment;
 import com.mrdabak.dinnerservice.repository.inventory.InventoryReservationRepository;
 import com.mrdabak.dinnerservice.util.DeliveryTimeUtils;
 import com.mrdabak.dinnerservice.util.PrivacyMaskingUtil;
+import com.mrdabak.dinnerservice.voice.service.VoiceLocalIntentEngine;
+import com.mrdabak.dinnerservice.voice.service.VoicePromptMetrics;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -40,6 +47,9 @@ import java.util.Map;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
+    private static final int DEFAULT_USER_PAGE_SIZE = 50;
+    private static final int MAX_USER_PAGE_SIZE = 200;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
@@ -49,10 +59,14 @@ public class AdminController {
     private final EmployeeWorkAssignmentRepository employeeWorkAssignmentRepository;
     private final OrderService orderService;
     private final OrderItemRepository orderItemRepository;
-    private final DinnerTypeRepository dinnerTypeRepository;
-    private final DinnerMenuItemRepository dinnerMenuItemRepository;
-    private final MenuItemRepository menuItemRepository;
+    private final MenuCatalog menuCatalog;
     private final InventoryReservationRepository inventoryReservationRepository;
+    private final InventoryReservationLedger inventoryReservationLedger;
+    private final VoicePromptMetrics voicePromptMetrics;
+    private final VoiceLocalIntentEngine voiceLocalIntentEngine;
+    private final DeliveryBatchPlanner deliveryBatchPlanner;
+    private final DeliveredOrderCounter deliveredOrderCounter;
+    private final OrderApprovalQueue orderApprovalQueue;
 
     public AdminController(UserRepository userRepository, PasswordEncoder passwordEncoder, 
                           JwtService jwtService, OrderRepository orderRepository,
@@ -61,10 +75,14 @@ public class AdminController {
                           EmployeeWorkAssignmentRepository employeeWorkAssignmentRepository,
                           OrderService orderService,
                           OrderItemRepository orderItemRepository,
-                          DinnerTypeRepository dinnerTypeRepository,
-                          DinnerMenuItemRepository dinnerMenuItemRepository,
-                          MenuItemRepository menuItemRepository,
-                          InventoryReservationRepository inventoryReservationRepository) {
+                          MenuCatalog menuCatalog,
+                          InventoryReservationRepository inventoryReservationRepository,
+                          InventoryReservationLedger inventoryReservationLedger,
+                          VoicePromptMetrics voicePromptMetrics,
+                          VoiceLocalIntentEngine voiceLocalIntentEngine,
+                          DeliveryBatchPlanner deliveryBatchPlanner,
+                          DeliveredOrderCounter deliveredOrderCounter,
+                          OrderApprovalQueue orderApprovalQueue) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
@@ -74,10 +92,14 @@ public class AdminController {
         this.employeeWorkAssignmentRepository = employeeWorkAssignmentRepository;
         this.orderService = orderService;
         this.orderItemRepository = orderItemRepository;
-        this.dinnerTypeRepository = dinnerTypeRepository;
-        this.dinnerMenuItemRepository = dinnerMenuItemRepository;
-        this.menuItemRepository = menuItemRepository;
+        this.menuCatalog = menuCatalog;
         this.inventoryReservationRepository = inventoryReservationRepository;
+        this.inventoryReservationLedger = inventoryReservationLedger;
+        this.voicePromptMetrics = voicePromptMetrics;
+        this.voiceLocalIntentEngine = voiceLocalIntentEngine;
+        this.deliveryBatchPlanner = deliveryBatchPlanner;
+        this.deliveredOrderCounter = deliveredOrderCounter;
+        this.orderApprovalQueue = orderApprovalQueue;
     }
 
     @PostMapping("/create-employee")
@@ -114,44 +136,32 @@ public class AdminController {
         }
     }
 
+    /**
+     * 사용자 목록. after(마지막으로 받은 id)/limit로 id 순 페이지를, q로 이메일·이름 앞부분 검색을 합니다.
+     * limit이 없으면 한 페이지 기본 크기만큼만 반환하므로, 전체가 필요하면 마지막 id를 after로 넘겨 이어 읽습니다.
+     */
     @GetMapping("/users")
-    public ResponseEntity<?> getAllUsers() {
-        return ResponseEntity.ok(userRepository.findAll().stream()
-                .map(user -> {
-                    // 개인정보 공유 비동의 시 마스킹 처리
-                    String maskedName = PrivacyMaskingUtil.maskName(user);
-                    String maskedAddress = PrivacyMaskingUtil.maskAddress(user);
-                    String maskedPhone = PrivacyMaskingUtil.maskPhone(user);
-                    String email = PrivacyMaskingUtil.maskEmail(user);
-                    
-                    UserDto dto = new UserDto(user.getId(), email, maskedName,
-                            maskedAddress, maskedPhone, user.getRole(), user.getApprovalStatus());
-                    if (user.getEmployeeType() != null) {
-                        dto.setEmployeeType(user.getEmployeeType());
-                    }
-                    return dto;
-                })
+    public ResponseEntity<?> getAllUsers(@RequestParam(required = false) Long after,
+                                         @RequestParam(required = false) Integer limit,
+                                         @RequestParam(required = false) String q) {
+        String prefix = searchPrefix(q);
+        // 개인정보 공유 비동의 항목은 마스킹 처리
+        return ResponseEntity.ok(userRepository.findSummaries(
+                        after != null ? after : 0L, prefix, prefixEnd(prefix), userPage(limit))
+                .stream()
+                .map(UserSummary::toMaskedDto)
                 .toList());
     }
 
     @GetMapping("/employees")
-    public ResponseEntity<?> getEmployees() {
-        return ResponseEntity.ok(userRepository.findAll().stream()
-                .filter(user -> "employee".equals(user.getRole()))
-                .map(user -> {
-                    // 개인정보 공유 비동의 시 마스킹 처리
-                    String maskedName = PrivacyMaskingUtil.maskName(user);
-                    String maskedAddress = PrivacyMaskingUtil.maskAddress(user);
-                    String maskedPhone = PrivacyMaskingUtil.maskPhone(user);
-                    String email = PrivacyMaskingUtil.maskEmail(user);
-                    
-                    UserDto dto = new UserDto(user.getId(), email, maskedName,
-                            maskedAddress, maskedPhone, user.getRole(), user.getApprovalStatus());
-                    if (user.getEmployeeType() != null) {
-                        dto.setEmployeeType(user.getEmployeeType());
-                    }
-                    return dto;
-                })
+    public ResponseEntity<?> getEmployees(@RequestParam(required = false) Long after,
+                                          @RequestParam(required = false) Integer limit,
+                                          @RequestParam(required = false) String q) {
+        String prefix = searchPrefix(q);
+        return ResponseEntity.ok(userRepository.findSummariesByRole("employee",
+                        after != null ? after : 0L, prefix, prefixEnd(prefix), userPage(limit))
+                .stream()
+                .map(UserSummary::toMaskedDto)
                 .toList());
     }
     
@@ -197,47 +207,71 @@ public class AdminController {
     }
 
     @GetMapping("/customers")
-    public ResponseEntity<?> getCustomers() {
-        return ResponseEntity.ok(userRepository.findAll().stream()
-                .filter(user -> "customer".equals(user.getRole()))
-                .map(user -> {
-                    // 개인정보 공유 비동의 시 마스킹 처리
-                    String maskedName = PrivacyMaskingUtil.maskName(user);
-                    String maskedAddress = PrivacyMaskingUtil.maskAddress(user);
-                    String maskedPhone = PrivacyMaskingUtil.maskPhone(user);
-                    String email = PrivacyMaskingUtil.maskEmail(user);
-                    
-                    return new UserDto(user.getId(), email, maskedName,
-                            maskedAddress, maskedPhone, user.getRole(), user.getApprovalStatus());
-                })
+    public ResponseEntity<?> getCustomers(@RequestParam(required = false) Long after,
+                                          @RequestParam(required = false) Integer limit,
+                                          @RequestParam(required = false) String q) {
+        String prefix = searchPrefix(q);
+        return ResponseEntity.ok(userRepository.findSummariesByRole("customer",
+                        after != null ? after : 0L, prefix, prefixEnd(prefix), userPage(limit))
+                .stream()
+                .map(UserSummary::toMaskedDto)
                 .toList());
     }
 
+    @GetMapping("/voice-prompt-metrics")
+    public ResponseEntity<?> getVoicePromptMetrics() {
+        // 음성 주문 LLM 호출의 턴별 프롬프트 토큰 추정치와 프롬프트 앞부분 캐시 적중 수
+        return ResponseEntity.ok(voicePromptMetrics.snapshot());
+    }
+
+    @GetMapping("/voice-intent-metrics")
+    public ResponseEntity<?> getVoiceIntentMetrics() {
+        // LLM 없이 로컬 규칙으로 처리한 음성 발화 비율과 의도별 처리 건수
+        return ResponseEntity.ok(voiceLocalIntentEngine.metrics());
+    }
+
     @GetMapping("/pending-approvals")
-    public ResponseEntity<?> getPendingApprovals() {
-        return ResponseEntity.ok(userRepository.findAll().stream()
-                .filter(user -> "pending".equals(user.getApprovalStatus()))
+    public ResponseEntity<?> getPendingApprovals(@RequestParam(required = false) Long after,
+                                                 @RequestParam(required = false) Integer limit,
+                                                 @RequestParam(required = false) String q) {
+        String prefix = searchPrefix(q);
+        return ResponseEntity.ok(userRepository.findSummariesByApprovalStatus("pending",
+                        after != null ? after : 0L, prefix, prefixEnd(prefix), userPage(limit))
+                .stream()
                 .map(user -> {
                     // 개인정보 공유 비동의 시 마스킹 처리
-                    String maskedName = PrivacyMaskingUtil.maskName(user);
-                    String maskedAddress = PrivacyMaskingUtil.maskAddress(user);
-                    String maskedPhone = PrivacyMaskingUtil.maskPhone(user);
-                    String email = PrivacyMaskingUtil.maskEmail(user);
-                    
+                    UserDto dto = user.toMaskedDto();
                     return Map.of(
-                            "id", user.getId(),
-                            "email", email,
-                            "name", maskedName,
-                            "phone", maskedPhone,
-                            "address", maskedAddress,
-                            "role", user.getRole(),
-                            "approvalStatus", user.getApprovalStatus(),
-                            "createdAt", user.getCreatedAt() != null ? user.getCreatedAt().toString() : ""
+                            "id", dto.getId(),
+                            "email", dto.getEmail(),
+                            "name", dto.getName(),
+                            "phone", dto.getPhone(),
+                            "address", dto.getAddress(),
+                            "role", dto.getRole(),
+                            "approvalStatus", dto.getApprovalStatus(),
+                            "createdAt", user.createdAt() != null ? user.createdAt().toString() : ""
                     );
                 })
                 .toList());
     }
 
+    /**
+     * 사용자 목록 페이지 크기. limit이 없으면 기본 50건, 최대 200건입니다.
+     */
+    private static Pageable userPage(Integer limit) {
+        int pageSize = limit != null ? Math.max(1, Math.min(limit, MAX_USER_PAGE_SIZE)) : DEFAULT_USER_PAGE_SIZE;
+        return PageRequest.of(0, pageSize);
+    }
+
+    private static String searchPrefix(String q) {
+        return q == null || q.isBlank() ? null : q.strip();
+    }
+
+    // prefix로 시작하는 문자열의 상한 (인덱스 범위 조회용)
+    private static String prefixEnd(String prefix) {
+        return prefix == null ? null : prefix + Character.MAX_VALUE;
+    }
+
     @PostMapping("/approve-user/{userId}")
     public ResponseEntity<?> approveUser(@PathVariable Long userId) {
         try {
@@ -344,7 +378,7 @@ public class AdminController {
             orderRepository.saveAndFlush(order);
 
             if (deliveryEmployeeId != null && order.getDeliveryTime() != null && order.getDeliveryAddress() != null) {
-                java.time.LocalDateTime deliveryDateTime = DeliveryTimeUtils.parseDeliveryTime(order.getDeliveryTime());
+                java.time.LocalDateTime deliveryDateTime = order.getDeliveryDateTime();
                 deliverySchedulingService.commitAssignmentForOrder(orderId, deliveryEmployeeId, deliveryDateTime, order.getDeliveryAddress());
                 System.out.println("[AdminController] Delivery schedule committed - orderId " + orderId + ", employeeId " + deliveryEmployeeId);
             } else if (deliveryEmployeeId == null) {
@@ -414,7 +448,7 @@ public class AdminController {
             // 주문 승인 시 배달 직원이 이미 할당되어 있으면 배달 스케줄 생성
             if (order.getDeliveryEmployeeId() != null && order.getDeliveryTime() != null && order.getDeliveryAddress() != null) {
                 try {
-                    java.time.LocalDateTime deliveryDateTime = DeliveryTimeUtils.parseDeliveryTime(order.getDeliveryTime());
+                    java.time.LocalDateTime deliveryDateTime = order.getDeliveryDateTime();
                     deliverySchedulingService.commitAssignmentForOrder(orderId, order.getDeliveryEmployeeId(), deliveryDateTime, order.getDeliveryAddress());
                     System.out.println("[AdminController] 주문 승인 시 배달 스케줄 생성 완료 - 주문 ID: " + orderId + ", 직원 ID: " + order.getDeliveryEmployeeId());
                 } catch (Exception e) {
@@ -461,6 +495,48 @@ public class AdminController {
         }
     }
 
+    @GetMapping("/delivery-plan/preview")
+    public ResponseEntity<?> previewDeliveryPlan(@RequestParam String date,
+                                                 @RequestParam(required = false) Boolean multiStop) {
+        // 저장하지 않고 그날 미배정 승인 주문의 배달 직원 배정 결과만 계산 (multiStop 생략 시 설정값 사용)
+        try {
+            java.time.LocalDate day = java.time.LocalDate.parse(date);
+            return ResponseEntity.ok(multiStop != null
+                    ? deliveryBatchPlanner.preview(day, multiStop)
+                    : deliveryBatchPlanner.preview(day));
+        } catch (java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "날짜 형식이 올바르지 않습니다. (예: 2025-11-19)"));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/delivery-couriers/available")
+    public ResponseEntity<?> getAvailableCouriers(@RequestParam String deliveryTime, @RequestParam String address) {
+        // 해당 시간/주소 배달을 맡을 수 있는 직원 목록 (그날 배달 수가 적은 순)
+        try {
+            java.time.LocalDateTime arrival = DeliveryTimeUtils.parseDeliveryTime(deliveryTime);
+            return ResponseEntity.ok(deliverySchedulingService.findAvailableCouriers(address, arrival));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/delivery-plan")
+    public ResponseEntity<?> applyDeliveryPlan(@RequestParam String date,
+                                               @RequestParam(required = false) Boolean multiStop) {
+        try {
+            java.time.LocalDate day = java.time.LocalDate.parse(date);
+            return ResponseEntity.ok(multiStop != null
+                    ? deliveryBatchPlanner.assign(day, multiStop)
+                    : deliveryBatchPlanner.assign(day));
+        } catch (java.time.format.DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "날짜 형식이 올바르지 않습니다. (예: 2025-11-19)"));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @GetMapping("/schedule/assignments")
     public ResponseEntity<?> getScheduleAssignments(@RequestParam String date) {
         try {
@@ -565,6 +641,7 @@ public class AdminController {
             
             // Get orders for this user
             List<Order> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(userId);
+            long customerDeliveredOrders = deliveredOrderCounter.deliveredCount(userId);
             
             // Convert to DTOs with order items (주문 내역에서는 정보 표시)
             List<Map<String, Object>> orderDtos = orders.stream().map(order -> {
@@ -581,7 +658,7 @@ public class AdminController {
                 orderMap.put("created_at", order.getCreatedAt());
                 
                 // Add dinner type information
-                DinnerType dinner = dinnerTypeRepository.findById(order.getDinnerTypeId()).orElse(null);
+                DinnerType dinner = menuCatalog.findDinnerType(order.getDinnerTypeId()).orElse(null);
                 if (dinner != null) {
                     orderMap.put("dinner_name", dinner.getName());
                     orderMap.put("dinner_name_en", dinner.getNameEn());
@@ -590,10 +667,7 @@ public class AdminController {
                 // 할인 정보 계산 및 추가
                 User user = userRepository.findById(order.getUserId()).orElse(null);
                 if (user != null) {
-                    List<Order> previousOrders = orderRepository.findByUserIdOrderByCreatedAtDesc(order.getUserId());
-                    long deliveredOrders = previousOrders.stream()
-                            .filter(o -> "delivered".equalsIgnoreCase(o.getStatus()))
-                            .count();
+                    long deliveredOrders = customerDeliveredOrders;
                     // 모든 개인정보 동의(consentName, consentAddress, consentPhone)가 true여야 할인 적용
                     boolean allConsentsGiven = Boolean.TRUE.equals(user.getConsentName()) 
                             && Boolean.TRUE.equals(user.getConsentAddress()) 
@@ -611,21 +685,14 @@ public class AdminController {
                         );
                         double basePrice = dinner.getBasePrice() * styleMultipliers.getOrDefault(order.getServingStyle(), 1.0);
                         
-                        // 기본 제공 메뉴 항목 정보 가져오기
-                        List<com.mrdabak.dinnerservice.model.DinnerMenuItem> defaultMenuItems = 
-                                dinnerMenuItemRepository.findByDinnerTypeId(dinner.getId());
-                        
-                        // 기본 제공 항목의 기본 수량을 Map으로 저장
-                        Map<Long, Integer> defaultQuantities = new java.util.HashMap<>();
-                        for (com.mrdabak.dinnerservice.model.DinnerMenuItem dmi : defaultMenuItems) {
-                            defaultQuantities.put(dmi.getMenuItemId(), dmi.getQuantity());
-                        }
+                        // 기본 제공 항목의 기본 수량
+                        Map<Long, Integer> defaultQuantities = menuCatalog.defaultQuantities(dinner.getId());
                         
                         // 추가 수량만 계산 (기본 제공 항목의 기본 수량은 제외)
                         double additionalItemsPrice = 0;
                         List<OrderItem> items = orderItemRepository.findByOrderId(order.getId());
                         for (OrderItem item : items) {
-                            MenuItem menuItem = menuItemRepository.findById(item.getMenuItemId()).orElse(null);
+                            MenuItem menuItem = menuCatalog.findMenuItem(item.getMenuItemId()).orElse(null);
                             if (menuItem != null) {
                                 // 기본 제공 수량 확인
                                 int defaultQuantity = defaultQuantities.getOrDefault(item.getMenuItemId(), 0);
@@ -653,7 +720,7 @@ public class AdminController {
                 // Add order items
                 List<OrderItem> items = orderItemRepository.findByOrderId(order.getId());
                 List<Map<String, Object>> itemDtos = items.stream().map(item -> {
-                    MenuItem menuItem = menuItemRepository.findById(item.getMenuItemId()).orElse(null);
+                    MenuItem menuItem = menuCatalog.findMenuItem(item.getMenuItemId()).orElse(null);
                     Map<String, Object> itemMap = new HashMap<>();
                     itemMap.put("id", item.getId());
                     itemMap.put("menu_item_id", item.getMenuItemId());
@@ -680,14 +747,19 @@ public class AdminController {
     // 이 엔드포인트는 제거되었습니다. 주문 상태 변경은 /api/employee/orders/{id}/status를 사용하세요.
 
 
+    /**
+     * 관리자 승인 대기 주문. 배달 시각이 빠른 순이며 after(마지막으로 받은 주문 id)/limit로 나눠 받습니다.
+     * limit이 없으면 한 페이지(20건)만 반환하고, after의 주문이 삭제됐으면 400입니다.
+     */
     @GetMapping("/orders/pending")
-    public ResponseEntity<?> getPendingOrders() {
+    public ResponseEntity<?> getPendingOrders(@RequestParam(required = false) Long after,
+                                              @RequestParam(required = false) Integer limit) {
         try {
-            List<Order> pendingOrders = orderRepository.findAll().stream()
-                    .filter(order -> "PENDING".equalsIgnoreCase(order.getAdminApprovalStatus()))
-                    .collect(java.util.stream.Collectors.toList());
+            List<OrderApprovalQueue.Entry> pendingOrders = orderApprovalQueue.page(after, limit);
+            MenuCatalog.Snapshot catalog = menuCatalog.snapshot();
             
-            List<Map<String, Object>> orderDtos = pendingOrders.stream().map(order -> {
+            List<Map<String, Object>> orderDtos = pendingOrders.stream().map(entry -> {
+                Order order = entry.order();
                 Map<String, Object> orderMap = new HashMap<>();
                 orderMap.put("id", order.getId());
                 orderMap.put("user_id", order.getUserId());
@@ -701,68 +773,50 @@ public class AdminController {
                 orderMap.put("created_at", order.getCreatedAt());
                 
                 // Add user info (주문 내역에서는 정보 표시)
-                User user = userRepository.findById(order.getUserId()).orElse(null);
+                UserSummary user = entry.customer();
                 if (user != null) {
-                    orderMap.put("user_name", user.getName());
-                    orderMap.put("user_email", user.getEmail());
-                    orderMap.put("user_phone", user.getPhone());
+                    orderMap.put("user_name", user.name());
+                    orderMap.put("user_email", user.email());
+                    orderMap.put("user_phone", user.phone());
                 }
                 orderMap.put("delivery_address", order.getDeliveryAddress());
                 
-                // 할인 정보 계산 및 추가
-                if (user != null) {
-                    List<Order> previousOrders = orderRepository.findByUserIdOrderByCreatedAtDesc(order.getUserId());
-                    long deliveredOrders = previousOrders.stream()
-                            .filter(o -> "delivered".equalsIgnoreCase(o.getStatus()))
-                            .count();
-                    // 모든 개인정보 동의(consentName, consentAddress, consentPhone)가 true여야 할인 적용
-                    boolean allConsentsGiven = Boolean.TRUE.equals(user.getConsentName()) 
-                            && Boolean.TRUE.equals(user.getConsentAddress()) 
-                            && Boolean.TRUE.equals(user.getConsentPhone());
-                    boolean loyaltyEligible = Boolean.TRUE.equals(user.getLoyaltyConsent()) 
-                            && allConsentsGiven 
-                            && deliveredOrders >= 4;
-                    
-                    if (loyaltyEligible) {
-                        // 할인이 적용된 경우: 주문 항목을 기반으로 원래 가격 재계산
-                        DinnerType dinner = dinnerTypeRepository.findById(order.getDinnerTypeId()).orElse(null);
-                        double originalPrice = 0;
-                        if (dinner != null) {
-                            Map<String, Double> styleMultipliers = Map.of(
-                                    "simple", 1.0,
-                                    "grand", 1.3,
-                                    "deluxe", 1.6
-                            );
-                            double basePrice = dinner.getBasePrice() * styleMultipliers.getOrDefault(order.getServingStyle(), 1.0);
-                            double itemsPrice = 0;
-                            List<OrderItem> items = orderItemRepository.findByOrderId(order.getId());
-                            for (OrderItem item : items) {
-                                MenuItem menuItem = menuItemRepository.findById(item.getMenuItemId()).orElse(null);
-                                if (menuItem != null) {
-                                    itemsPrice += menuItem.getPrice() * item.getQuantity();
-                                }
+                // 할인 정보 계산 및 추가 (모든 개인정보 동의 + 할인 동의 + 배달 완료 4회 이상)
+                if (entry.loyaltyEligible()) {
+                    // 할인이 적용된 경우: 주문 항목을 기반으로 원래 가격 재계산
+                    DinnerType dinner = catalog.dinnerType(order.getDinnerTypeId());
+                    double originalPrice = 0;
+                    if (dinner != null) {
+                        Map<String, Double> styleMultipliers = Map.of(
+                                "simple", 1.0,
+                                "grand", 1.3,
+                                "deluxe", 1.6
+                        );
+                        double basePrice = dinner.getBasePrice() * styleMultipliers.getOrDefault(order.getServingStyle(), 1.0);
+                        double itemsPrice = 0;
+                        for (OrderItem item : entry.items()) {
+                            MenuItem menuItem = catalog.menuItem(item.getMenuItemId());
+                            if (menuItem != null) {
+                                itemsPrice += menuItem.getPrice() * item.getQuantity();
                             }
-                            originalPrice = basePrice + itemsPrice;
                         }
-                        
-                        double discountedPrice = order.getTotalPrice();
-                        int discountAmount = (int) Math.round(originalPrice - discountedPrice);
-                        
-                        orderMap.put("loyalty_discount_applied", true);
-                        orderMap.put("original_price", (int) Math.round(originalPrice));
-                        orderMap.put("discount_amount", discountAmount);
-                        orderMap.put("discount_percentage", 10);
-                    } else {
-                        orderMap.put("loyalty_discount_applied", false);
+                        originalPrice = basePrice + itemsPrice;
                     }
+                    
+                    double discountedPrice = order.getTotalPrice();
+                    int discountAmount = (int) Math.round(originalPrice - discountedPrice);
+                    
+                    orderMap.put("loyalty_discount_applied", true);
+                    orderMap.put("original_price", (int) Math.round(originalPrice));
+                    orderMap.put("discount_amount", discountAmount);
+                    orderMap.put("discount_percentage", 10);
                 } else {
                     orderMap.put("loyalty_discount_applied", false);
                 }
                 
                 // Add order items
-                List<OrderItem> items = orderItemRepository.findByOrderId(order.getId());
-                List<Map<String, Object>> itemDtos = items.stream().map(item -> {
-                    MenuItem menuItem = menuItemRepository.findById(item.getMenuItemId()).orElse(null);
+                List<Map<String, Object>> itemDtos = entry.items().stream().map(item -> {
+                    MenuItem menuItem = catalog.menuItem(item.getMenuItemId());
                     Map<String, Object> itemMap = new HashMap<>();
                     itemMap.put("id", item.getId());
                     itemMap.put("menu_item_id", item.getMenuItemId());
@@ -780,6 +834,9 @@ public class AdminController {
             }).toList();
             
             return ResponseEntity.ok(orderDtos);
+        } catch (IllegalArgumentException e) {
+            // 커서 주문이 삭제됨: 클라이언트가 처음부터 다시 읽어야 함
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(500).body(Map.of("error", "Failed to fetch pending orders: " + e.getMessage()));
         }
@@ -793,6 +850,7 @@ public class AdminController {
             // 1. 모든 재고 예약 삭제 (inventory DB)
             long reservationCount = inventoryReservationRepository.count();
             inventoryReservationRepository.deleteAll();
+            inventoryReservationLedger.clear();
             System.out.println("[AdminController] 재고 예약 " + reservationCount + "개 삭제 완료");
             
             // 2. 모든 배달 스케줄 삭제 (schedule DB)
@@ -6,17 +6,17 @@ import com.mrdabak.dinnerservice.repository.order.OrderRepository;
 import com.mrdabak.dinnerservice.repository.order.OrderItemRepository;
 import com.mrdabak.dinnerservice.repository.schedule.EmployeeWorkAssignmentRepository;
 import com.mrdabak.dinnerservice.model.EmployeeWorkAssignment;
+import com.mrdabak.dinnerservice.service.DeliveredOrderCounter;
 import com.mrdabak.dinnerservice.service.DeliverySchedulingService;
 import com.mrdabak.dinnerservice.service.OrderService;
 import com.mrdabak.dinnerservice.service.InventoryService;
+import com.mrdabak.dinnerservice.service.MenuCatalog;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import jakarta.annotation.PostConstruct;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,36 +29,33 @@ public class EmployeeController {
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final UserRepository userRepository;
-    private final DinnerTypeRepository dinnerTypeRepository;
-    private final MenuItemRepository menuItemRepository;
-    private final DinnerMenuItemRepository dinnerMenuItemRepository;
+    private final MenuCatalog menuCatalog;
     private final DeliverySchedulingService deliverySchedulingService;
     private final OrderService orderService;
     private final InventoryService inventoryService;
     private final com.mrdabak.dinnerservice.repository.schedule.DeliveryScheduleRepository deliveryScheduleRepository;
     private final EmployeeWorkAssignmentRepository employeeWorkAssignmentRepository;
+    private final DeliveredOrderCounter deliveredOrderCounter;
 
     public EmployeeController(OrderRepository orderRepository, OrderItemRepository orderItemRepository,
-                             UserRepository userRepository, DinnerTypeRepository dinnerTypeRepository,
-                             MenuItemRepository menuItemRepository,
-                             DinnerMenuItemRepository dinnerMenuItemRepository,
+                             UserRepository userRepository, MenuCatalog menuCatalog,
                              DeliverySchedulingService deliverySchedulingService,
                              OrderService orderService,
                              InventoryService inventoryService,
                              com.mrdabak.dinnerservice.repository.schedule.DeliveryScheduleRepository deliveryScheduleRepository,
-                             EmployeeWorkAssignmentRepository employeeWorkAssignmentRepository) {
+                             EmployeeWorkAssignmentRepository employeeWorkAssignmentRepository,
+                             DeliveredOrderCounter deliveredOrderCounter) {
         System.out.println("[EmployeeController] 생성자 호출 - 컨트롤러 초기화");
         this.orderRepository = orderRepository;
         this.orderItemRepository = orderItemRepository;
         this.userRepository = userRepository;
-        this.dinnerTypeRepository = dinnerTypeRepository;
-        this.menuItemRepository = menuItemRepository;
-        this.dinnerMenuItemRepository = dinnerMenuItemRepository;
+        this.menuCatalog = menuCatalog;
         this.deliverySchedulingService = deliverySchedulingService;
         this.orderService = orderService;
         this.inventoryService = inventoryService;
         this.deliveryScheduleRepository = deliveryScheduleRepository;
         this.employeeWorkAssignmentRepository = employeeWorkAssignmentRepository;
+        this.deliveredOrderCounter = deliveredOrderCounter;
         System.out.println("[EmployeeController] 생성자 완료");
     }
 
@@ -101,8 +98,8 @@ public class EmployeeController {
         orders = orders.stream().sorted((a, b) -> {
             // 먼저 배달 시간 빠른 순
             try {
-                java.time.LocalDateTime aTime = java.time.LocalDateTime.parse(a.getDeliveryTime(), java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                java.time.LocalDateTime bTime = java.time.LocalDateTime.parse(b.getDeliveryTime(), java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+                java.time.LocalDateTime aTime = a.getDeliveryDateTime();
+                java.time.LocalDateTime bTime = b.getDeliveryDateTime();
                 int timeCompare = aTime.compareTo(bTime);
                 if (timeCompare != 0) {
                     return timeCompare;
@@ -125,6 +122,10 @@ public class EmployeeController {
             return Integer.compare(aStatusOrder, bStatusOrder);
         }).toList();
 
+        // 할인 표시용 배달 완료 횟수는 목록의 고객들 것을 한 번에 조회
+        Map<Long, Long> deliveredCounts = deliveredOrderCounter.deliveredCounts(
+                orders.stream().map(Order::getUserId).toList());
+
         List<Map<String, Object>> orderDtos = orders.stream().map(order -> {
             Map<String, Object> orderMap = new HashMap<>();
             orderMap.put("id", order.getId());
@@ -169,7 +170,7 @@ public class EmployeeController {
             orderMap.put("delivery_address", order.getDeliveryAddress());
 
             // Add dinner type information
-            DinnerType dinner = dinnerTypeRepository.findById(order.getDinnerTypeId()).orElse(null);
+            DinnerType dinner = menuCatalog.findDinnerType(order.getDinnerTypeId()).orElse(null);
             if (dinner != null) {
                 orderMap.put("dinner_name", dinner.getName());
                 orderMap.put("dinner_name_en", dinner.getNameEn());
@@ -177,10 +178,7 @@ public class EmployeeController {
             
             // 할인 정보 계산 및 추가
             if (customer != null) {
-                List<Order> previousOrders = orderRepository.findByUserIdOrderByCreatedAtDesc(order.getUserId());
-                long deliveredOrders = previousOrders.stream()
-                        .filter(o -> "delivered".equalsIgnoreCase(o.getStatus()))
-                        .count();
+                long deliveredOrders = deliveredCounts.getOrDefault(order.getUserId(), 0L);
                 // 모든 개인정보 동의(consentName, consentAddress, consentPhone)가 true여야 할인 적용
                 boolean allConsentsGiven = Boolean.TRUE.equals(customer.getConsentName()) 
                         && Boolean.TRUE.equals(customer.getConsentAddress()) 
@@ -198,21 +196,14 @@ public class EmployeeController {
                     );
                     double basePrice = dinner.getBasePrice() * styleMultipliers.getOrDefault(order.getServingStyle(), 1.0);
                     
-                    // 기본 제공 메뉴 항목 정보 가져오기
-                    List<com.mrdabak.dinnerservice.model.DinnerMenuItem> defaultMenuItems = 
-                            dinnerMenuItemRepository.findByDinnerTypeId(dinner.getId());
-                    
-                    // 기본 제공 항목의 기본 수량을 Map으로 저장
-                    Map<Long, Integer> defaultQuantities = new java.util.HashMap<>();
-                    for (com.mrdabak.dinnerservice.model.DinnerMenuItem dmi : defaultMenuItems) {
-                        defaultQuantities.put(dmi.getMenuItemId(), dmi.getQuantity());
-                    }
+                    // 기본 제공 항목의 기본 수량
+                    Map<Long, Integer> defaultQuantities = menuCatalog.defaultQuantities(dinner.getId());
                     
                     // 추가 수량만 계산 (기본 제공 항목의 기본 수량은 제외)
                     double additionalItemsPrice = 0;
                     List<OrderItem> items = orderItemRepository.findByOrderId(order.getId());
                     for (OrderItem item : items) {
-                        MenuItem menuItem = menuItemRepository.findById(item.getMenuItemId()).orElse(null);
+                        MenuItem menuItem = menuCatalog.findMenuItem(item.getMenuItemId()).orElse(null);
                         if (menuItem != null) {
                             // 기본 제공 수량 확인
                             int defaultQuantity = defaultQuantities.getOrDefault(item.getMenuItemId(), 0);
@@ -239,7 +230,7 @@ public class EmployeeController {
 
             List<OrderItem> items = orderItemRepository.findByOrderId(order.getId());
             List<Map<String, Object>> itemDtos = items.stream().map(item -> {
-                MenuItem menuItem = menuItemRepository.findById(item.getMenuItemId()).orElse(null);
+                MenuItem menuItem = menuCatalog.findMenuItem(item.getMenuItemId()).orElse(null);
                 Map<String, Object> itemMap = new HashMap<>();
                 itemMap.put("id", item.getId());
                 itemMap.put("menu_item_id", item.getMenuItemId());
@@ -308,6 +299,8 @@ public class EmployeeController {
                         map.put("arrival_time", schedule.getArrivalTime());
                         map.put("return_time", schedule.getReturnTime());
                         map.put("one_way_minutes", schedule.getOneWayMinutes());
+                        map.put("route_id", schedule.getRouteId());
+                        map.put("stop_sequence", schedule.getStopSequence());
                         map.put("status", schedule.getStatus());
                         userRepository.findById(schedule.getEmployeeId())
                                 .ifPresent(user -> {
@@ -327,6 +320,48 @@ public class EmployeeController {
         }
     }
 
+    @GetMapping("/delivery-routes/{routeId}")
+    public ResponseEntity<?> getDeliveryRoute(@PathVariable Long routeId, Authentication authentication) {
+        if (authentication == null || authentication.getName() == null) {
+            return ResponseEntity.status(401).body(Map.of("error", "인증이 필요합니다."));
+        }
+
+        try {
+            Long requesterId = Long.parseLong(authentication.getName());
+            boolean isAdmin = authentication.getAuthorities().stream()
+                    .anyMatch(auth -> "ROLE_ADMIN".equals(auth.getAuthority()));
+
+            // 여러 곳 배달 경로의 경유지를 배달 순서대로
+            List<DeliverySchedule> schedules = deliverySchedulingService.getRouteStops(routeId, requesterId, isAdmin);
+            if (schedules.isEmpty()) {
+                return ResponseEntity.status(404).body(Map.of("error", "배달 경로를 찾을 수 없습니다."));
+            }
+            List<Map<String, Object>> stops = schedules.stream()
+                    .map(stop -> {
+                        Map<String, Object> map = new HashMap<>();
+                        map.put("id", stop.getId());
+                        map.put("order_id", stop.getOrderId());
+                        map.put("stop_sequence", stop.getStopSequence());
+                        map.put("delivery_address", stop.getDeliveryAddress());
+                        map.put("arrival_time", stop.getArrivalTime());
+                        map.put("leg_minutes", stop.getOneWayMinutes());
+                        map.put("status", stop.getStatus());
+                        return map;
+                    }).toList();
+            return ResponseEntity.ok(Map.of(
+                    "route_id", routeId,
+                    "employee_id", schedules.get(0).getEmployeeId(),
+                    "stops", stops
+            ));
+        } catch (NumberFormatException e) {
+            return ResponseEntity.status(401).body(Map.of("error", "유효하지 않은 사용자 ID입니다."));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("error", "배달 경로 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
     @PatchMapping("/delivery-schedule/{id}/status")
     public ResponseEntity<?> updateDeliveryStatus(@PathVariable Long id,
                                                   @RequestBody Map<String, String> request,
@@ -397,8 +432,7 @@ public class EmployeeController {
             // 주문의 배달 시간에서 날짜 추출
             LocalDate orderDate = null;
             try {
-                LocalDateTime deliveryDateTime = LocalDateTime.parse(order.getDeliveryTime(), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                orderDate = deliveryDateTime.toLocalDate();
+                orderDate = order.getReservationDate();
             } catch (Exception e) {
                 try {
                     // 다른 형식 시도
@@ -628,8 +662,7 @@ public class EmployeeController {
             // 주문의 배달 시간에서 날짜 추출
             LocalDate orderDate = null;
             try {
-                LocalDateTime deliveryDateTime = LocalDateTime.parse(order.getDeliveryTime(), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                orderDate = deliveryDateTime.toLocalDate();
+                orderDate = order.getReservationDate();
             } catch (Exception e) {
                 try {
                     orderDate = LocalDate.parse(order.getDeliveryTime().split("T")[0]);
@@ -709,8 +742,7 @@ public class EmployeeController {
             // 주문의 배달 시간에서 날짜 추출
             LocalDate orderDate = null;
             try {
-                LocalDateTime deliveryDateTime = LocalDateTime.parse(order.getDeliveryTime(), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                orderDate = deliveryDateTime.toLocalDate();
+                orderDate = order.getReservationDate();
             } catch (Exception e) {
                 try {
                     orderDate = LocalDate.parse(order.getDeliveryTime().split("T")[0]);
@@ -778,8 +810,7 @@ public class EmployeeController {
             // 주문의 배달 시간에서 날짜 추출
             LocalDate orderDate = null;
             try {
-                LocalDateTime deliveryDateTime = LocalDateTime.parse(order.getDeliveryTime(), DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-                orderDate = deliveryDateTime.toLocalDate();
+                orderDate = order.getReservationDate();
             } catch (Exception e) {
                 try {
                     orderDate = LocalDate.parse(order.getDeliveryTime().split("T")[0]);
@@ -2,8 +2,8 @@ package com.mrdabak.dinnerservice.controller;
 
 import com.mrdabak.dinnerservice.dto.InventoryRestockRequest;
 import com.mrdabak.dinnerservice.model.MenuItem;
-import com.mrdabak.dinnerservice.repository.MenuItemRepository;
 import com.mrdabak.dinnerservice.service.InventoryService;
+import com.mrdabak.dinnerservice.service.MenuCatalog;
 import com.mrdabak.dinnerservice.service.InventoryService.InventorySnapshot;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -18,13 +18,16 @@ import java.util.Map;
 @RequestMapping("/api/inventory")
 public class InventoryController {
 
+    private static final java.time.format.DateTimeFormatter RESERVED_BY_DATE_KEY_FORMAT =
+            java.time.format.DateTimeFormatter.ofPattern("M/d");
+
     private final InventoryService inventoryService;
-    private final MenuItemRepository menuItemRepository;
+    private final MenuCatalog menuCatalog;
 
     public InventoryController(InventoryService inventoryService,
-                               MenuItemRepository menuItemRepository) {
+                               MenuCatalog menuCatalog) {
         this.inventoryService = inventoryService;
-        this.menuItemRepository = menuItemRepository;
+        this.menuCatalog = menuCatalog;
     }
 
     @GetMapping
@@ -55,9 +58,10 @@ public class InventoryController {
         List<InventorySnapshot> snapshots = inventoryService.getInventorySnapshots(weekStartDate);
         // 디버깅: 선택된 주 정보 출력
         System.out.println("[InventoryController] 선택된 주 시작일: " + weekStartDate + ", 총 " + snapshots.size() + "개 아이템");
+        MenuCatalog.Snapshot catalog = menuCatalog.snapshot();
         List<Map<String, Object>> response = snapshots.stream().map(snapshot -> {
             Map<String, Object> map = new HashMap<>();
-            MenuItem menuItem = menuItemRepository.findById(snapshot.inventory().getMenuItemId()).orElse(null);
+            MenuItem menuItem = catalog.menuItem(snapshot.inventory().getMenuItemId());
             map.put("menu_item_id", snapshot.inventory().getMenuItemId());
             map.put("capacity_per_window", snapshot.inventory().getCapacityPerWindow());
             map.put("reserved", snapshot.reserved());
@@ -76,14 +80,9 @@ public class InventoryController {
             
             // 날짜별 예약 수량 계산 (선택된 주만 - 월요일 ~ 일요일)
             Map<String, Integer> reservedByDate = new HashMap<>();
-            // 선택된 주의 7일 (월요일 ~ 일요일)
-            for (int i = 0; i < 7; i++) {
-                java.time.LocalDate targetDate = finalWeekStartDate.plusDays(i);
-                java.time.LocalDateTime targetDateTime = java.time.LocalDateTime.of(targetDate, java.time.LocalTime.MIN);
-                Integer dateReserved = inventoryService.getReservedByDate(snapshot.inventory().getMenuItemId(), targetDateTime);
-                String dateKey = targetDate.format(java.time.format.DateTimeFormatter.ofPattern("M/d"));
-                reservedByDate.put(dateKey, dateReserved != null ? dateReserved : 0);
-            }
+            // 선택된 주의 7일 (월요일 ~ 일요일) - 스냅샷 집계 결과 사용
+            snapshot.reservedByDate().forEach((targetDate, dateReserved) ->
+                    reservedByDate.put(targetDate.format(RESERVED_BY_DATE_KEY_FORMAT), dateReserved));
             map.put("reserved_by_date", reservedByDate);
             map.put("week_start", finalWeekStartDate.toString()); // 선택된 주의 시작일 전달
             
@@ -102,7 +101,7 @@ public class InventoryController {
             }
             
             // Verify menu item exists
-            if (!menuItemRepository.existsById(menuItemId)) {
+            if (!menuCatalog.containsMenuItem(menuItemId)) {
                 return ResponseEntity.badRequest()
                         .body(Map.of("error", "메뉴 아이템을 찾을 수 없습니다: " + menuItemId));
             }
@@ -167,7 +166,7 @@ public class InventoryController {
             }
             
             // Verify menu item exists
-            if (!menuItemRepository.existsById(menuItemId)) {
+            if (!menuCatalog.containsMenuItem(menuItemId)) {
                 return ResponseEntity.badRequest()
                         .body(Map.of("error", "메뉴 아이템을 찾을 수 없습니다: " + menuItemId));
             }
@@ -194,7 +193,7 @@ public class InventoryController {
             }
             
             // Verify menu item exists
-            if (!menuItemRepository.existsById(menuItemId)) {
+            if (!menuCatalog.containsMenuItem(menuItemId)) {
                 return ResponseEntity.badRequest()
                         .body(Map.of("error", "메뉴 아이템을 찾을 수 없습니다: " + menuItemId));
             }
@@ -1,36 +1,101 @@
 package com.mrdabak.dinnerservice.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mrdabak.dinnerservice.model.DinnerMenuItem;
 import com.mrdabak.dinnerservice.model.DinnerType;
 import com.mrdabak.dinnerservice.model.MenuItem;
-import com.mrdabak.dinnerservice.repository.DinnerMenuItemRepository;
-import com.mrdabak.dinnerservice.repository.DinnerTypeRepository;
-import com.mrdabak.dinnerservice.repository.MenuItemRepository;
+import com.mrdabak.dinnerservice.service.MenuCatalog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 메뉴 조회 API. 응답 JSON은 카탈로그 버전마다 한 번만 직렬화해 바이트로 보관하고,
+ * 내용 해시로 만든 strong ETag로 If-None-Match 요청에 304를 돌려줍니다.
+ */
 @RestController
 @RequestMapping("/api/menu")
 public class MenuController {
 
-    private final DinnerTypeRepository dinnerTypeRepository;
-    private final MenuItemRepository menuItemRepository;
-    private final DinnerMenuItemRepository dinnerMenuItemRepository;
+    private final MenuCatalog menuCatalog;
+    private final ObjectMapper objectMapper;
+    private final CacheControl cacheControl;
+    private final JsonBody servingStylesBody;
+    private volatile CatalogBodies catalogBodies;
 
-    public MenuController(DinnerTypeRepository dinnerTypeRepository, MenuItemRepository menuItemRepository,
-                          DinnerMenuItemRepository dinnerMenuItemRepository) {
-        this.dinnerTypeRepository = dinnerTypeRepository;
-        this.menuItemRepository = menuItemRepository;
-        this.dinnerMenuItemRepository = dinnerMenuItemRepository;
+    public MenuController(MenuCatalog menuCatalog, ObjectMapper objectMapper,
+                          @Value("${menu.http.max-age-seconds:60}") long maxAgeSeconds) {
+        this.menuCatalog = menuCatalog;
+        this.objectMapper = objectMapper;
+        // max-age 동안은 브라우저 캐시를 그대로 쓰고, 이후에는 ETag로 재검증
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic().mustRevalidate();
+        this.servingStylesBody = serialize(buildServingStyles());
     }
 
     @GetMapping("/dinners")
-    public List<Map<String, Object>> getDinners() {
-        List<DinnerType> dinners = dinnerTypeRepository.findAll();
+    public ResponseEntity<byte[]> getDinners(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return respond(currentBodies().dinners(), ifNoneMatch);
+    }
+
+    @GetMapping("/items")
+    public ResponseEntity<byte[]> getMenuItems(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return respond(currentBodies().items(), ifNoneMatch);
+    }
+
+    @GetMapping("/serving-styles")
+    public ResponseEntity<byte[]> getServingStyles(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return respond(servingStylesBody, ifNoneMatch);
+    }
+
+    private ResponseEntity<byte[]> respond(JsonBody body, String ifNoneMatch) {
+        if (matchesEtag(ifNoneMatch, body.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(body.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(body.etag())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.bytes());
+    }
+
+    /**
+     * 카탈로그 버전이 바뀐 경우에만 디너/메뉴 응답을 다시 직렬화합니다.
+     */
+    private CatalogBodies currentBodies() {
+        MenuCatalog.Snapshot catalog = menuCatalog.snapshot();
+        CatalogBodies bodies = catalogBodies;
+        if (bodies == null || bodies.version() != catalog.version()) {
+            bodies = new CatalogBodies(catalog.version(),
+                    serialize(buildDinners(catalog)), serialize(catalog.menuItems()));
+            catalogBodies = bodies;
+        }
+        return bodies;
+    }
+
+    private List<Map<String, Object>> buildDinners(MenuCatalog.Snapshot catalog) {
+        List<DinnerType> dinners = catalog.dinnerTypes();
         return dinners.stream().map(dinner -> {
             Map<String, Object> dinnerMap = new HashMap<>();
             dinnerMap.put("id", dinner.getId());
@@ -39,9 +104,9 @@ public class MenuController {
             dinnerMap.put("base_price", dinner.getBasePrice());
             dinnerMap.put("description", dinner.getDescription());
 
-            List<DinnerMenuItem> dinnerMenuItems = dinnerMenuItemRepository.findByDinnerTypeId(dinner.getId());
+            List<DinnerMenuItem> dinnerMenuItems = catalog.defaultPortions(dinner.getId());
             List<Map<String, Object>> menuItems = dinnerMenuItems.stream().map(dmi -> {
-                MenuItem menuItem = menuItemRepository.findById(dmi.getMenuItemId()).orElse(null);
+                MenuItem menuItem = catalog.menuItem(dmi.getMenuItemId());
                 if (menuItem == null) return null;
                 Map<String, Object> itemMap = new HashMap<>();
                 itemMap.put("id", menuItem.getId());
@@ -57,24 +122,61 @@ public class MenuController {
         }).collect(Collectors.toList());
     }
 
-    @GetMapping("/items")
-    public List<MenuItem> getMenuItems() {
-        return menuItemRepository.findAll();
-    }
-
-    @GetMapping("/serving-styles")
-    public List<Map<String, Object>> getServingStyles() {
+    private static List<Map<String, Object>> buildServingStyles() {
         return List.of(
-                Map.of("name", "simple", "name_ko", "심플", "price_multiplier", 1.0,
-                        "description", "플라스틱 접시와 플라스틱 컵, 종이 냅킨이 플라스틱 쟁반에 제공됩니다. 와인이 포함되면 플라스틱 잔이 제공됩니다."),
-                Map.of("name", "grand", "name_ko", "그랜드", "price_multiplier", 1.3,
-                        "description", "도자기 접시와 도자기 컵, 흰색 면 냅킨이 나무 쟁반에 제공됩니다. 와인이 포함되면 플라스틱 잔이 제공됩니다."),
-                Map.of("name", "deluxe", "name_ko", "디럭스", "price_multiplier", 1.6,
-                        "description", "꽃들이 있는 작은 꽃병, 도자기 접시와 도자기 컵, 린넨 냅킨이 나무 쟁반에 제공됩니다. 와인이 포함되면 유리 잔이 제공됩니다.")
+                servingStyle("simple", "심플", 1.0,
+                        "플라스틱 접시와 플라스틱 컵, 종이 냅킨이 플라스틱 쟁반에 제공됩니다. 와인이 포함되면 플라스틱 잔이 제공됩니다."),
+                servingStyle("grand", "그랜드", 1.3,
+                        "도자기 접시와 도자기 컵, 흰색 면 냅킨이 나무 쟁반에 제공됩니다. 와인이 포함되면 플라스틱 잔이 제공됩니다."),
+                servingStyle("deluxe", "디럭스", 1.6,
+                        "꽃들이 있는 작은 꽃병, 도자기 접시와 도자기 컵, 린넨 냅킨이 나무 쟁반에 제공됩니다. 와인이 포함되면 유리 잔이 제공됩니다.")
         );
     }
-}
 
+    private static Map<String, Object> servingStyle(String name, String nameKo, double priceMultiplier, String description) {
+        // 필드 순서를 고정해 서버 재시작 후에도 같은 ETag가 나오도록 LinkedHashMap 사용
+        Map<String, Object> style = new LinkedHashMap<>();
+        style.put("name", name);
+        style.put("name_ko", nameKo);
+        style.put("price_multiplier", priceMultiplier);
+        style.put("description", description);
+        return style;
+    }
 
+    private JsonBody serialize(Object value) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(value);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            String etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            return new JsonBody(bytes, etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴 응답 직렬화에 실패했습니다.", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
 
+    static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // If-None-Match는 weak 비교 (W/ 접두어 무시)
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    private record JsonBody(byte[] bytes, String etag) { }
+
+    private record CatalogBodies(long version, JsonBody dinners, JsonBody items) { }
+}
@@ -1,9 +1,8 @@
 package com.mrdabak.dinnerservice.controller;
 
 import com.mrdabak.dinnerservice.model.User;
-import com.mrdabak.dinnerservice.model.Order;
 import com.mrdabak.dinnerservice.repository.UserRepository;
-import com.mrdabak.dinnerservice.repository.order.OrderRepository;
+import com.mrdabak.dinnerservice.service.DeliveredOrderCounter;
 import com.mrdabak.dinnerservice.voice.VoiceOrderException;
 import com.mrdabak.dinnerservice.voice.dto.VoiceMessageDto;
 import com.mrdabak.dinnerservice.voice.dto.VoiceOrderConfirmRequest;
@@ -19,7 +18,10 @@ import com.mrdabak.dinnerservice.voice.service.VoiceConversationService;
 import com.mrdabak.dinnerservice.voice.service.VoiceOrderCheckoutService;
 import com.mrdabak.dinnerservice.voice.service.VoiceOrderSessionService;
 import com.mrdabak.dinnerservice.voice.service.VoiceOrderSummaryMapper;
+import com.mrdabak.dinnerservice.voice.service.VoiceResponseStreamer;
+import com.mrdabak.dinnerservice.voice.service.VoiceWorkExecutor;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -27,68 +29,92 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/voice-orders")
 public class VoiceOrderController {
 
     private final UserRepository userRepository;
-    private final OrderRepository orderRepository;
+    private final DeliveredOrderCounter deliveredOrderCounter;
     private final VoiceConversationService conversationService;
     private final VoiceOrderSummaryMapper summaryMapper;
     private final VoiceOrderSessionService sessionService;
     private final VoiceOrderCheckoutService checkoutService;
     private final PasswordEncoder passwordEncoder;
+    private final VoiceResponseStreamer responseStreamer;
+    private final VoiceWorkExecutor workExecutor;
 
     public VoiceOrderController(UserRepository userRepository,
-                                OrderRepository orderRepository,
+                                DeliveredOrderCounter deliveredOrderCounter,
                                 VoiceConversationService conversationService,
                                 VoiceOrderSummaryMapper summaryMapper,
                                 VoiceOrderSessionService sessionService,
                                 VoiceOrderCheckoutService checkoutService,
-                                PasswordEncoder passwordEncoder) {
+                                PasswordEncoder passwordEncoder,
+                                VoiceResponseStreamer responseStreamer,
+                                VoiceWorkExecutor workExecutor) {
         this.userRepository = userRepository;
-        this.orderRepository = orderRepository;
+        this.deliveredOrderCounter = deliveredOrderCounter;
         this.conversationService = conversationService;
         this.summaryMapper = summaryMapper;
         this.sessionService = sessionService;
         this.checkoutService = checkoutService;
         this.passwordEncoder = passwordEncoder;
+        this.responseStreamer = responseStreamer;
+        this.workExecutor = workExecutor;
     }
 
+    /**
+     * LLM 호출은 {@link VoiceWorkExecutor}에서 실행하고 톰캣 스레드는 바로 반환합니다. (/utterance도 동일)
+     */
     @PostMapping("/start")
-    public ResponseEntity<VoiceOrderStartResponse> start(Authentication authentication) {
+    public CompletableFuture<ResponseEntity<VoiceOrderStartResponse>> start(Authentication authentication) {
         User user = resolveUser(authentication);
-        VoiceConversationResult result = conversationService.startSession(user);
-        VoiceOrderSummaryDto summary = summaryMapper.toSummary(result.session());
-        return ResponseEntity.ok(new VoiceOrderStartResponse(
-                result.session().getSessionId(),
-                toMessageDtos(result.session().getVisibleMessages()),
-                summary));
+        return workExecutor.supply(() -> {
+            VoiceConversationResult result = conversationService.startSession(user);
+            VoiceOrderSummaryDto summary = summaryMapper.toSummary(result.session());
+            return ResponseEntity.ok(new VoiceOrderStartResponse(
+                    result.session().getSessionId(),
+                    toMessageDtos(result.session().getVisibleMessages()),
+                    summary));
+        });
     }
 
     @PostMapping("/utterance")
-    public ResponseEntity<VoiceUtteranceResponse> utterance(
+    public CompletableFuture<ResponseEntity<VoiceUtteranceResponse>> utterance(
             Authentication authentication,
             @Valid @RequestBody VoiceUtteranceRequest request) {
         User user = resolveUser(authentication);
         VoiceOrderSession session = sessionService.requireSession(request.getSessionId());
         ensureOwner(session, user.getId());
 
-        VoiceConversationResult result = conversationService.handleUtterance(
+        return workExecutor.supply(() -> ResponseEntity.ok(toUtteranceResponse(conversationService.handleUtterance(
                 request.getSessionId(),
                 request.getUserText(),
-                true);
-        VoiceOrderSummaryDto summary = summaryMapper.toSummary(result.session());
+                true))));
+    }
 
-        return ResponseEntity.ok(new VoiceUtteranceResponse(
-                result.session().getSessionId(),
-                toDto(result.userMessage()),
-                toDto(result.agentMessage()),
-                summary,
-                summary.isReadyForConfirmation()));
+    /**
+     * /utterance의 스트리밍 버전. 상담원 답변을 생성되는 대로 SSE delta 이벤트로 보내고,
+     * 끝나면 /utterance와 같은 응답 본문을 done 이벤트로 보냅니다.
+     */
+    @PostMapping(value = "/utterance/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter utteranceStream(
+            Authentication authentication,
+            @Valid @RequestBody VoiceUtteranceRequest request) {
+        User user = resolveUser(authentication);
+        VoiceOrderSession session = sessionService.requireSession(request.getSessionId());
+        ensureOwner(session, user.getId());
+
+        return responseStreamer.stream(onDelta -> toUtteranceResponse(conversationService.handleUtteranceStreaming(
+                request.getSessionId(),
+                request.getUserText(),
+                true,
+                onDelta)));
     }
 
     @PostMapping("/confirm")
@@ -111,16 +137,13 @@ public class VoiceOrderController {
         
         // 비밀번호 검증 후 일반 주문과 동일하게 처리
         var order = checkoutService.finalizeVoiceOrder(session);
+        sessionService.touch(session);
         
         // 주문 완료 후 주문 정보를 포함한 요약 생성 (즉시 반영)
         VoiceOrderSummaryDto summary = summaryMapper.toSummaryWithOrder(session, order.getId(), order.getTotalPrice());
 
         // 할인 정보 확인
-        List<Order> previousOrders = 
-                orderRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
-        long deliveredOrders = previousOrders.stream()
-                .filter(o -> "delivered".equalsIgnoreCase(o.getStatus()))
-                .count();
+        long deliveredOrders = deliveredOrderCounter.deliveredCount(user.getId());
         boolean allConsentsGiven = Boolean.TRUE.equals(user.getConsentName()) 
                 && Boolean.TRUE.equals(user.getConsentAddress()) 
                 && Boolean.TRUE.equals(user.getConsentPhone());
@@ -154,6 +177,16 @@ public class VoiceOrderController {
                 loyaltyEligible ? 10 : null));
     }
 
+    private VoiceUtteranceResponse toUtteranceResponse(VoiceConversationResult result) {
+        VoiceOrderSummaryDto summary = summaryMapper.toSummary(result.session());
+        return new VoiceUtteranceResponse(
+                result.session().getSessionId(),
+                toDto(result.userMessage()),
+                toDto(result.agentMessage()),
+                summary,
+                summary.isReadyForConfirmation());
+    }
+
     private User resolveUser(Authentication authentication) {
         if (authentication == null || authentication.getName() == null) {
             throw new VoiceOrderException("로그인이 필요합니다.");
@@ -0,0 +1,34 @@
+package com.mrdabak.dinnerservice.dto;
+
+import com.mrdabak.dinnerservice.util.PrivacyMaskingUtil;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 사용자 목록·승인 대기 주문용 조회 결과. 비밀번호, 보안 질문/답, 카드 정보 컬럼은 아예 읽지 않습니다.
+ */
+public record UserSummary(Long id,
+                          String email,
+                          String name,
+                          String address,
+                          String phone,
+                          String role,
+                          String approvalStatus,
+                          String employeeType,
+                          Boolean consentName,
+                          Boolean consentAddress,
+                          Boolean consentPhone,
+                          Boolean loyaltyConsent,
+                          LocalDateTime createdAt) {
+
+    /**
+     * 개인정보 공유 비동의 항목을 마스킹한 응답 DTO.
+     */
+    public UserDto toMaskedDto() {
+        return new UserDto(id, email,
+                PrivacyMaskingUtil.mask(name, consentName),
+                PrivacyMaskingUtil.mask(address, consentAddress),
+                PrivacyMaskingUtil.mask(phone, consentPhone),
+                role, approvalStatus, employeeType);
+    }
+}
@@ -0,0 +1,62 @@
+package com.mrdabak.dinnerservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배달 직원 한 명이 한 번 출발해 여러 주문을 차례로 배달하고 돌아오는 경로.
+ * 경유지는 route_id와 stop_sequence가 채워진 {@link DeliverySchedule}입니다.
+ */
+@Entity
+@Table(
+        name = "delivery_routes",
+        indexes = {
+                @Index(name = "idx_route_employee_departure", columnList = "employee_id, departure_time")
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeliveryRoute {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false)
+    private String region;
+
+    @Column(name = "departure_time", nullable = false)
+    private LocalDateTime departureTime;
+
+    @Column(name = "return_time", nullable = false)
+    private LocalDateTime returnTime;
+
+    @Column(name = "stop_count", nullable = false)
+    private Integer stopCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -5,13 +5,18 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(
         name = "delivery_schedules",
         indexes = {
-                @Index(name = "idx_delivery_employee", columnList = "employee_id, departure_time"),
+                // 직원별 겹침 검사(return_time > ? AND departure_time < ?)와 직원별 하루 배달 조회를 함께 처리
+                @Index(name = "idx_delivery_employee_window", columnList = "employee_id, departure_time, return_time"),
+                @Index(name = "idx_delivery_status_return", columnList = "status, return_time"),
+                // 재시작 후 최근 완료 배달로 이동 시간 평균을 다시 쌓을 때 사용
+                @Index(name = "idx_delivery_status_completed", columnList = "status, completed_at"),
                 @Index(name = "idx_delivery_order", columnList = "order_id", unique = true)
         }
 )
@@ -21,7 +26,7 @@ import java.time.LocalDateTime;
 public class DeliverySchedule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(name = "order_id", nullable = false, unique = true)
@@ -42,18 +47,59 @@ public class DeliverySchedule {
     @Column(name = "return_time", nullable = false)
     private LocalDateTime returnTime;
 
+    // 여러 곳을 들르는 경로의 경유지면 그 경로에서 이 배달지까지의 구간 시간
     @Column(name = "one_way_minutes", nullable = false)
     private Integer oneWayMinutes;
 
+    // 여러 곳을 들르는 경로에 속한 경우에만 채워짐. 경유지는 경로 전체의 출발/복귀 시간을 함께 씀
+    @Column(name = "route_id")
+    private Long routeId;
+
+    @Column(name = "stop_sequence")
+    private Integer stopSequence;
+
     @Column(nullable = false)
     private String status = "SCHEDULED";
 
+    // 배달을 시작(IN_PROGRESS)/완료(COMPLETED)한 실제 시각. 둘의 차이가 실제 편도 이동 시간
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 상태를 바꾸면서 배달 시작/완료 시각을 남깁니다. 다시 SCHEDULED로 돌리면 기록도 지웁니다.
+     */
+    public void transitionTo(String newStatus, LocalDateTime at) {
+        if ("IN_PROGRESS".equals(newStatus) && !"IN_PROGRESS".equals(status)) {
+            startedAt = at;
+            completedAt = null;
+        } else if ("COMPLETED".equals(newStatus) && !"COMPLETED".equals(status)) {
+            completedAt = at;
+        } else if ("SCHEDULED".equals(newStatus)) {
+            startedAt = null;
+            completedAt = null;
+        }
+        status = newStatus;
+    }
+
+    /**
+     * 매장에서 바로 간 배달의 실제 편도 이동 시간(분). 시작/완료 기록이 없거나 여러 곳 배달 경로의 경유지면 null.
+     */
+    public Long actualOneWayMinutes() {
+        if (routeId != null || startedAt == null || completedAt == null) {
+            return null;
+        }
+        return Duration.between(startedAt, completedAt).toMinutes();
+    }
+
     @PrePersist
     public void onCreate() {
         LocalDateTime now = LocalDateTime.now();
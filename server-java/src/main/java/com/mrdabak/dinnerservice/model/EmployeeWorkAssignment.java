@@ -22,7 +22,7 @@ import java.time.LocalDateTime;
 public class EmployeeWorkAssignment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(name = "employee_id", nullable = false)
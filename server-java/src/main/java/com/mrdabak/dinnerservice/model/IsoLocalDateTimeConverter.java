@@ -0,0 +1,27 @@
+package com.mrdabak.dinnerservice.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * LocalDateTime을 고정 길이 ISO 문자열(yyyy-MM-dd'T'HH:mm:ss)로 저장합니다.
+ * 길이가 같아 문자열 비교가 시간 순서와 같으므로 SQLite 인덱스 범위 조회에 그대로 쓸 수 있습니다.
+ */
+@Converter
+public class IsoLocalDateTimeConverter implements AttributeConverter<LocalDateTime, String> {
+
+    public static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    @Override
+    public String convertToDatabaseColumn(LocalDateTime attribute) {
+        return attribute != null ? attribute.format(FORMAT) : null;
+    }
+
+    @Override
+    public LocalDateTime convertToEntityAttribute(String dbData) {
+        return dbData != null && !dbData.isBlank() ? LocalDateTime.parse(dbData, FORMAT) : null;
+    }
+}
@@ -17,7 +17,7 @@ import java.time.LocalDateTime;
 public class MenuInventory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(name = "menu_item_id", nullable = false, unique = true)
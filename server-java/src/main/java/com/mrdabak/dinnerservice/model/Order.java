@@ -11,7 +11,15 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = {
+                // 날짜 범위 조회(delivery_at >= ? AND delivery_at < ?)와 그 날의 상태별 필터를 함께 처리
+                @Index(name = "idx_orders_delivery_at_status", columnList = "delivery_at, status"),
+                // 관리자 승인 대기열 (admin_approval_status = ? ORDER BY delivery_at, id)
+                @Index(name = "idx_orders_approval_delivery", columnList = "admin_approval_status, delivery_at, id")
+        }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,7 +28,7 @@ public class Order {
     private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -35,6 +43,11 @@ public class Order {
     @Column(name = "delivery_time", nullable = false)
     private String deliveryTime;
 
+    // delivery_time을 파싱해 정규화한 값. 날짜 범위 조회는 이 컬럼으로 하고, 기존 행은 OrderDeliveryTimeBackfill이 채움
+    @Convert(converter = IsoLocalDateTimeConverter.class)
+    @Column(name = "delivery_at", length = 19)
+    private LocalDateTime deliveryAt;
+
     @Column(name = "delivery_address", nullable = false)
     private String deliveryAddress;
 
@@ -65,12 +78,33 @@ public class Order {
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        syncDeliveryAt();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        syncDeliveryAt();
+    }
+
+    public void setDeliveryTime(String deliveryTime) {
+        this.deliveryTime = deliveryTime;
+        this.deliveryAt = null;
+        syncDeliveryAt();
     }
 
     public LocalDateTime getDeliveryDateTime() {
+        if (deliveryAt != null) {
+            return deliveryAt;
+        }
         return DeliveryTimeUtils.parseDeliveryTime(this.deliveryTime);
     }
 
+    private void syncDeliveryAt() {
+        if (deliveryAt == null) {
+            deliveryAt = DeliveryTimeUtils.tryParseDeliveryTime(deliveryTime);
+        }
+    }
+
     public LocalDate getReservationDate() {
         return getDeliveryDateTime().toLocalDate();
     }
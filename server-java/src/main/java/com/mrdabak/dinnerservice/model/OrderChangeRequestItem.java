@@ -13,7 +13,7 @@ import lombok.NoArgsConstructor;
 public class OrderChangeRequestItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
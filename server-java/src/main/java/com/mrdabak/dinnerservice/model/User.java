@@ -8,13 +8,18 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 관리자 목록의 역할/승인 상태 필터 + id 순 키셋 페이지 (SQLite 인덱스에는 rowid가 붙음)
+        @Index(name = "idx_users_role", columnList = "role"),
+        @Index(name = "idx_users_approval_status", columnList = "approval_status"),
+        @Index(name = "idx_users_name", columnList = "name")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -0,0 +1,30 @@
+package com.mrdabak.dinnerservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 주문 집계(orders.db). 단골 할인 판단에 쓰는 배달 완료 건수를 주문 내역을 훑지 않고 키 조회 한 번으로 얻습니다.
+ */
+@Entity
+@Table(name = "user_order_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserOrderStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "delivered_count", nullable = false)
+    private Integer deliveredCount = 0;
+
+    @Convert(converter = IsoLocalDateTimeConverter.class)
+    @Column(name = "updated_at", length = 19)
+    private LocalDateTime updatedAt;
+}
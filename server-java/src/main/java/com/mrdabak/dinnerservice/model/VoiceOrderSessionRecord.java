@@ -0,0 +1,34 @@
+package com.mrdabak.dinnerservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 진행 중인 음성 주문 세션의 스냅샷 (서버 재시작 후 세션 복원용).
+ * payload는 세션 상태와 대화 기록을 담은 JSON입니다.
+ */
+@Entity
+@Table(name = "voice_order_sessions", indexes = {
+        @Index(name = "idx_voice_session_updated_at", columnList = "updated_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoiceOrderSessionRecord {
+
+    @Id
+    @Column(name = "session_id", length = 64)
+    private String sessionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    // epoch millis
+    @Column(name = "updated_at", nullable = false)
+    private Long updatedAt;
+}
@@ -1,9 +1,14 @@
 package com.mrdabak.dinnerservice.repository;
 
+import com.mrdabak.dinnerservice.dto.UserSummary;
 import com.mrdabak.dinnerservice.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,8 +17,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     List<User> findByRole(String role);
-}
 
+    // 관리자 사용자 목록: 민감 컬럼 없이 id 오름차순 키셋 페이지 (afterId 다음부터)
+    String SUMMARY_SELECT = "SELECT new com.mrdabak.dinnerservice.dto.UserSummary("
+            + "u.id, u.email, u.name, u.address, u.phone, u.role, u.approvalStatus, u.employeeType, "
+            + "u.consentName, u.consentAddress, u.consentPhone, u.loyaltyConsent, u.createdAt) FROM User u ";
+    // 이메일 또는 (이름 공개에 동의한 사용자의) 이름이 [prefix, prefixEnd) 범위. prefix가 없으면 조건 없음
+    String PREFIX_FILTER = " AND (:prefix IS NULL"
+            + " OR (u.email >= :prefix AND u.email < :prefixEnd)"
+            + " OR (u.consentName = true AND u.name >= :prefix AND u.name < :prefixEnd))";
+
+    @Query(SUMMARY_SELECT + "WHERE u.id > :afterId" + PREFIX_FILTER + " ORDER BY u.id")
+    List<UserSummary> findSummaries(@Param("afterId") Long afterId,
+                                    @Param("prefix") String prefix,
+                                    @Param("prefixEnd") String prefixEnd,
+                                    Pageable pageable);
 
+    @Query(SUMMARY_SELECT + "WHERE u.role = :role AND u.id > :afterId" + PREFIX_FILTER + " ORDER BY u.id")
+    List<UserSummary> findSummariesByRole(@Param("role") String role,
+                                          @Param("afterId") Long afterId,
+                                          @Param("prefix") String prefix,
+                                          @Param("prefixEnd") String prefixEnd,
+                                          Pageable pageable);
 
+    @Query(SUMMARY_SELECT + "WHERE u.approvalStatus = :approvalStatus AND u.id > :afterId" + PREFIX_FILTER + " ORDER BY u.id")
+    List<UserSummary> findSummariesByApprovalStatus(@Param("approvalStatus") String approvalStatus,
+                                                    @Param("afterId") Long afterId,
+                                                    @Param("prefix") String prefix,
+                                                    @Param("prefixEnd") String prefixEnd,
+                                                    Pageable pageable);
 
+    @Query(SUMMARY_SELECT + "WHERE u.id IN :ids")
+    List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,22 @@
+package com.mrdabak.dinnerservice.repository;
+
+import com.mrdabak.dinnerservice.model.VoiceOrderSessionRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface VoiceOrderSessionRecordRepository extends JpaRepository<VoiceOrderSessionRecord, String> {
+
+    List<VoiceOrderSessionRecord> findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(Long updatedAt);
+
+    @Modifying
+    @Transactional("transactionManager")
+    @Query("DELETE FROM VoiceOrderSessionRecord r WHERE r.updatedAt < :updatedAt")
+    int deleteByUpdatedAtBefore(@Param("updatedAt") Long updatedAt);
+}
@@ -18,6 +18,13 @@ public interface InventoryReservationRepository extends JpaRepository<InventoryR
     Integer sumQuantityByMenuItemIdAndWindowStart(@Param("menuItemId") Long menuItemId,
                                                   @Param("windowStart") LocalDateTime windowStart);
 
+    // 메뉴 아이템 x 윈도우별 예약 수량 합계 (재고 예약 원장 초기 적재용)
+    @Query("SELECT r.menuItemId AS menuItemId, r.windowStart AS windowStart, COALESCE(SUM(r.quantity), 0) AS quantity " +
+            "FROM InventoryReservation r " +
+            "WHERE r.windowStart >= :from " +
+            "GROUP BY r.menuItemId, r.windowStart")
+    List<WindowReservationTotal> sumQuantityByMenuItemAndWindowFrom(@Param("from") LocalDateTime from);
+
     List<InventoryReservation> findByOrderId(Long orderId);
 
     void deleteByOrderId(Long orderId);
@@ -52,13 +59,77 @@ public interface InventoryReservationRepository extends JpaRepository<InventoryR
                                          @Param("weekStart") LocalDateTime weekStart,
                                          @Param("weekEnd") LocalDateTime weekEnd);
 
-    // 특정 날짜의 예약 수량 계산 (해당 날짜의 미소진 예약만)
-    @Query(value = "SELECT COALESCE(SUM(r.quantity), 0) FROM inventory_reservations r " +
-            "WHERE r.menu_item_id = :menuItemId " +
-            "AND DATE(r.delivery_time) = DATE(:targetDate) " +
-            "AND (r.consumed IS NULL OR r.consumed = 0)", 
+    interface WindowReservationTotal {
+        Long getMenuItemId();
+
+        LocalDateTime getWindowStart();
+
+        Long getQuantity();
+    }
+
+    // 미소진 예약 조건 (consumed = 1이면 조리 시작되어 소진된 예약)
+    String UNCONSUMED = "(r.consumed IS NULL OR r.consumed = 0)";
+
+    // 재고 대시보드용 집계 (메뉴 아이템별로 현재 윈도우 / 주간 / 요일별 예약 수량을 한 번에 합산)
+    // delivery_time은 SQLite에 epoch millis(INTEGER)로 저장되므로 DATE() 대신 바인딩된 날짜 경계로 구간을 나눔
+    // - currentWindowQuantity: 현재 윈도우(window_start = :currentWindowStart)의 전체 예약 수량
+    // - weeklyQuantity, day0Quantity ~ day6Quantity: 선택된 주(월요일 ~ 일요일)의 미소진 예약 수량
+    @Query(value = "SELECT r.menu_item_id AS menuItemId, " +
+            "COALESCE(SUM(CASE WHEN r.window_start = :currentWindowStart THEN r.quantity ELSE 0 END), 0) AS currentWindowQuantity, " +
+            "COALESCE(SUM(CASE WHEN " + UNCONSUMED + " AND r.delivery_time >= :weekStart AND r.delivery_time < :weekEnd THEN r.quantity ELSE 0 END), 0) AS weeklyQuantity, " +
+            "COALESCE(SUM(CASE WHEN " + UNCONSUMED + " AND r.delivery_time >= :weekStart AND r.delivery_time < :day1 THEN r.quantity ELSE 0 END), 0) AS day0Quantity, " +
+            "COALESCE(SUM(CASE WHEN " + UNCONSUMED + " AND r.delivery_time >= :day1 AND r.delivery_time < :day2 THEN r.quantity ELSE 0 END), 0) AS day1Quantity, " +
+            "COALESCE(SUM(CASE WHEN " + UNCONSUMED + " AND r.delivery_time >= :day2 AND r.delivery_time < :day3 THEN r.quantity ELSE 0 END), 0) AS day2Quantity, " +
+            "COALESCE(SUM(CASE WHEN " + UNCONSUMED + " AND r.delivery_time >= :day3 AND r.delivery_time < :day4 THEN r.quantity ELSE 0 END), 0) AS day3Quantity, " +
+            "COALESCE(SUM(CASE WHEN " + UNCONSUMED + " AND r.delivery_time >= :day4 AND r.delivery_time < :day5 THEN r.quantity ELSE 0 END), 0) AS day4Quantity, " +
+            "COALESCE(SUM(CASE WHEN " + UNCONSUMED + " AND r.delivery_time >= :day5 AND r.delivery_time < :day6 THEN r.quantity ELSE 0 END), 0) AS day5Quantity, " +
+            "COALESCE(SUM(CASE WHEN " + UNCONSUMED + " AND r.delivery_time >= :day6 AND r.delivery_time < :weekEnd THEN r.quantity ELSE 0 END), 0) AS day6Quantity " +
+            "FROM inventory_reservations r " +
+            "WHERE r.window_start = :currentWindowStart " +
+            "OR (r.delivery_time >= :weekStart AND r.delivery_time < :weekEnd) " +
+            "GROUP BY r.menu_item_id",
             nativeQuery = true)
-    Integer sumReservedByMenuItemIdAndDate(@Param("menuItemId") Long menuItemId,
-                                          @Param("targetDate") LocalDateTime targetDate);
-}
+    List<WeeklyReservationTotals> aggregateWeeklyReservationTotals(@Param("currentWindowStart") LocalDateTime currentWindowStart,
+                                                                   @Param("weekStart") LocalDateTime weekStart,
+                                                                   @Param("day1") LocalDateTime day1,
+                                                                   @Param("day2") LocalDateTime day2,
+                                                                   @Param("day3") LocalDateTime day3,
+                                                                   @Param("day4") LocalDateTime day4,
+                                                                   @Param("day5") LocalDateTime day5,
+                                                                   @Param("day6") LocalDateTime day6,
+                                                                   @Param("weekEnd") LocalDateTime weekEnd);
+
+    interface WeeklyReservationTotals {
+        Long getMenuItemId();
+
+        Long getCurrentWindowQuantity();
 
+        Long getWeeklyQuantity();
+
+        Long getDay0Quantity();
+
+        Long getDay1Quantity();
+
+        Long getDay2Quantity();
+
+        Long getDay3Quantity();
+
+        Long getDay4Quantity();
+
+        Long getDay5Quantity();
+
+        Long getDay6Quantity();
+
+        default long[] dailyQuantities() {
+            return new long[] {
+                    valueOf(getDay0Quantity()), valueOf(getDay1Quantity()), valueOf(getDay2Quantity()),
+                    valueOf(getDay3Quantity()), valueOf(getDay4Quantity()), valueOf(getDay5Quantity()),
+                    valueOf(getDay6Quantity())
+            };
+        }
+
+        private static long valueOf(Long value) {
+            return value != null ? value : 0L;
+        }
+    }
+}
@@ -1,25 +1,44 @@
 package com.mrdabak.dinnerservice.repository.order;
 
 import com.mrdabak.dinnerservice.model.Order;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByUserIdOrderByCreatedAtDesc(Long userId);
+    
+    // 주문 내역 키셋 페이지네이션 (id 내림차순, before 커서 이전 주문만)
+    List<Order> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+    List<Order> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long beforeId, Pageable pageable);
     Optional<Order> findByIdAndUserId(Long id, Long userId);
     List<Order> findByStatus(String status);
     
-    @Query("SELECT o FROM Order o WHERE o.deliveryTime LIKE :datePattern%")
-    List<Order> findByDeliveryTimeStartingWith(@Param("datePattern") String datePattern);
+    // 배달 시각이 [start, end)인 주문. idx_orders_delivery_at_status 인덱스 범위 조회
+    @Query("SELECT o FROM Order o WHERE o.deliveryAt >= :start AND o.deliveryAt < :end")
+    List<Order> findByDeliveryAtRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    // 관리자 승인 대기열: idx_orders_approval_delivery 순서(배달 시각, id)대로 키셋 페이지. delivery_at이 없는 주문이 맨 앞
+    @Query("SELECT o FROM Order o WHERE o.adminApprovalStatus = :status ORDER BY o.deliveryAt, o.id")
+    List<Order> findApprovalQueue(@Param("status") String status, Pageable pageable);
+    
+    @Query("SELECT o FROM Order o WHERE o.adminApprovalStatus = :status "
+            + "AND (o.deliveryAt > :afterAt OR (o.deliveryAt = :afterAt AND o.id > :afterId)) ORDER BY o.deliveryAt, o.id")
+    List<Order> findApprovalQueueAfter(@Param("status") String status, @Param("afterAt") LocalDateTime afterAt,
+                                       @Param("afterId") Long afterId, Pageable pageable);
     
-    @Query(value = "SELECT * FROM orders WHERE delivery_time >= :start AND delivery_time < :end", nativeQuery = true)
-    List<Order> findByDeliveryTimeBetweenNative(@Param("start") String start, @Param("end") String end);
+    // 커서 주문의 delivery_at이 없을 때: 나머지 delivery_at 없는 주문(id 순) 뒤에 배달 시각이 있는 주문 전체
+    @Query("SELECT o FROM Order o WHERE o.adminApprovalStatus = :status "
+            + "AND (o.deliveryAt IS NOT NULL OR o.id > :afterId) ORDER BY o.deliveryAt, o.id")
+    List<Order> findApprovalQueueAfterUnscheduled(@Param("status") String status, @Param("afterId") Long afterId,
+                                                  Pageable pageable);
     
     @Query("SELECT o FROM Order o WHERE o.userId = :userId AND o.deliveryTime = :deliveryTime AND o.deliveryAddress = :deliveryAddress")
     List<Order> findByUserIdAndDeliveryTimeAndDeliveryAddress(@Param("userId") Long userId, @Param("deliveryTime") String deliveryTime, @Param("deliveryAddress") String deliveryAddress);
@@ -0,0 +1,35 @@
+package com.mrdabak.dinnerservice.repository.order;
+
+import com.mrdabak.dinnerservice.model.UserOrderStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserOrderStatsRepository extends JpaRepository<UserOrderStats, Long> {
+
+    // 행이 없으면 1로 만들고 있으면 1 올림. 읽고 쓰는 사이에 다른 갱신이 끼지 않도록 한 문장으로 처리
+    @Modifying
+    @Query(value = "INSERT INTO user_order_stats (user_id, delivered_count, updated_at) VALUES (:userId, 1, :now) "
+            + "ON CONFLICT(user_id) DO UPDATE SET delivered_count = delivered_count + 1, updated_at = excluded.updated_at",
+            nativeQuery = true)
+    int incrementDeliveredCount(@Param("userId") Long userId, @Param("now") String now);
+
+    // orders 테이블에서 배달 완료 건수를 다시 세어 덮어씀
+    @Modifying
+    @Query(value = "INSERT INTO user_order_stats (user_id, delivered_count, updated_at) "
+            + "SELECT user_id, COUNT(*), :now FROM orders WHERE LOWER(status) = 'delivered' AND user_id IS NOT NULL "
+            + "GROUP BY user_id "
+            + "ON CONFLICT(user_id) DO UPDATE SET delivered_count = excluded.delivered_count, updated_at = excluded.updated_at",
+            nativeQuery = true)
+    int rebuildDeliveredCounts(@Param("now") String now);
+
+    // 배달 완료 주문이 하나도 남지 않은 사용자의 집계 삭제
+    @Modifying
+    @Query(value = "DELETE FROM user_order_stats WHERE NOT EXISTS ("
+            + "SELECT 1 FROM orders o WHERE o.user_id = user_order_stats.user_id AND LOWER(o.status) = 'delivered')",
+            nativeQuery = true)
+    int deleteStaleDeliveredCounts();
+}
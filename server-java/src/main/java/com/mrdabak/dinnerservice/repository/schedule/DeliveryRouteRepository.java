@@ -0,0 +1,9 @@
+package com.mrdabak.dinnerservice.repository.schedule;
+
+import com.mrdabak.dinnerservice.model.DeliveryRoute;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeliveryRouteRepository extends JpaRepository<DeliveryRoute, Long> {
+}
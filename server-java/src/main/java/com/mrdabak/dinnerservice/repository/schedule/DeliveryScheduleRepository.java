@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,8 +24,16 @@ public interface DeliveryScheduleRepository extends JpaRepository<DeliverySchedu
 
     List<DeliverySchedule> findByDepartureTimeBetween(LocalDateTime start, LocalDateTime end);
 
+    List<DeliverySchedule> findByStatusNotAndReturnTimeAfter(String status, LocalDateTime after);
+
+    List<DeliverySchedule> findByStatusAndCompletedAtAfterOrderByCompletedAtAsc(String status, LocalDateTime after);
+
     Optional<DeliverySchedule> findByOrderId(Long orderId);
 
+    List<DeliverySchedule> findByOrderIdIn(Collection<Long> orderIds);
+
+    List<DeliverySchedule> findByRouteIdOrderByStopSequenceAsc(Long routeId);
+
     void deleteByOrderId(Long orderId);
 
     @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM DeliverySchedule s " +
@@ -2,11 +2,12 @@ package com.mrdabak.dinnerservice.scheduler;
 
 import com.mrdabak.dinnerservice.model.MenuItem;
 import com.mrdabak.dinnerservice.repository.inventory.InventoryReservationRepository;
-import com.mrdabak.dinnerservice.repository.MenuItemRepository;
 import com.mrdabak.dinnerservice.repository.inventory.MenuInventoryRepository;
 import com.mrdabak.dinnerservice.repository.order.OrderItemRepository;
 import com.mrdabak.dinnerservice.repository.order.OrderRepository;
+import com.mrdabak.dinnerservice.service.InventoryReservationLedger;
 import com.mrdabak.dinnerservice.service.InventoryService;
+import com.mrdabak.dinnerservice.service.MenuCatalog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -29,22 +30,25 @@ public class InventoryResetScheduler {
     private final InventoryReservationRepository inventoryReservationRepository;
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final MenuItemRepository menuItemRepository;
+    private final MenuCatalog menuCatalog;
     private final MenuInventoryRepository menuInventoryRepository;
     private final InventoryService inventoryService;
+    private final InventoryReservationLedger reservationLedger;
 
     public InventoryResetScheduler(InventoryReservationRepository inventoryReservationRepository,
                                    OrderRepository orderRepository,
                                    OrderItemRepository orderItemRepository,
-                                   MenuItemRepository menuItemRepository,
+                                   MenuCatalog menuCatalog,
                                    MenuInventoryRepository menuInventoryRepository,
-                                   InventoryService inventoryService) {
+                                   InventoryService inventoryService,
+                                   InventoryReservationLedger reservationLedger) {
         this.inventoryReservationRepository = inventoryReservationRepository;
         this.orderRepository = orderRepository;
         this.orderItemRepository = orderItemRepository;
-        this.menuItemRepository = menuItemRepository;
+        this.menuCatalog = menuCatalog;
         this.menuInventoryRepository = menuInventoryRepository;
         this.inventoryService = inventoryService;
+        this.reservationLedger = reservationLedger;
     }
 
     /**
@@ -81,11 +85,11 @@ public class InventoryResetScheduler {
             } else {
                 logger.info("[InventoryResetScheduler] 삭제할 전날 예약이 없습니다.");
             }
+            reservationLedger.evictWindowsBefore(todayStart);
             
             // 2. 당일 예약된 주문 확인하여 110% 재고 준비
-            String todayStr = today.toString(); // "2025-11-22"
             List<com.mrdabak.dinnerservice.model.Order> todayOrders = 
-                orderRepository.findByDeliveryTimeStartingWith(todayStr);
+                orderRepository.findByDeliveryAtRange(todayStart, tomorrowStart);
             
             if (!todayOrders.isEmpty()) {
                 // 메뉴 아이템별로 수량 집계
@@ -120,10 +124,13 @@ public class InventoryResetScheduler {
             
             int expiredCount = 0;
             for (com.mrdabak.dinnerservice.model.InventoryReservation reservation : expiredReservations) {
-                MenuItem menuItem = menuItemRepository.findById(reservation.getMenuItemId()).orElse(null);
+                MenuItem menuItem = menuCatalog.findMenuItem(reservation.getMenuItemId()).orElse(null);
                 if (menuItem != null && !isAlcoholCategory(menuItem.getCategory())) {
                     if (reservation.getExpiresAt() != null && reservation.getExpiresAt().isBefore(LocalDateTime.now())) {
                         inventoryReservationRepository.delete(reservation);
+                        if (reservation.getQuantity() != null) {
+                            reservationLedger.release(reservation.getMenuItemId(), reservation.getWindowStart(), reservation.getQuantity());
+                        }
                         expiredCount++;
                     }
                 }
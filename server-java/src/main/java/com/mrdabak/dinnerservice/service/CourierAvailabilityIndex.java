@@ -0,0 +1,147 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.model.DeliverySchedule;
+import com.mrdabak.dinnerservice.repository.schedule.DeliveryScheduleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 배달 직원별 배달 구간을 메모리에 들고 있는 인덱스. 가용성 확인을 DB 조회 없이 O(log n)으로 처리합니다.
+ *
+ * <p>처음 사용할 때 취소되지 않은 최근 스케줄을 한 번 읽고, 이후에는 {@link DeliverySchedulingService}와
+ * {@link DeliveryBatchPlanner}가 스케줄 트랜잭션 커밋 후에 변경을 반영합니다. 배정 저장 시의 최종 겹침 검사는
+ * 여전히 DB(existsActiveOverlap)가 담당하므로, 이 인덱스는 후보 직원을 고르는 읽기 용도입니다.</p>
+ */
+@Component
+public class CourierAvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourierAvailabilityIndex.class);
+    // 이보다 오래전에 복귀한 배달은 가용성 판단에 필요 없음
+    private static final int RETENTION_DAYS = 1;
+
+    private final DeliveryScheduleRepository deliveryScheduleRepository;
+    private final Map<Long, CourierTimeline> timelines = new HashMap<>();
+    private final Map<Long, Entry> entriesByOrder = new HashMap<>();
+    private boolean loaded;
+
+    public CourierAvailabilityIndex(DeliveryScheduleRepository deliveryScheduleRepository) {
+        this.deliveryScheduleRepository = deliveryScheduleRepository;
+    }
+
+    /**
+     * 직원이 [start, end) 동안 비어 있는지 확인합니다. {@code ignoredOrderId}의 배달은 제외합니다.
+     */
+    public synchronized boolean isFree(Long employeeId, LocalDateTime start, LocalDateTime end, Long ignoredOrderId) {
+        ensureLoaded();
+        CourierTimeline timeline = timelines.get(employeeId);
+        return timeline == null || !timeline.overlaps(start, end, ignoredOrderId);
+    }
+
+    /**
+     * 직원이 [start, end) 사이에 출발하는 배달 수.
+     */
+    public synchronized int countDepartures(Long employeeId, LocalDateTime start, LocalDateTime end) {
+        ensureLoaded();
+        CourierTimeline timeline = timelines.get(employeeId);
+        return timeline == null ? 0 : timeline.countDepartures(start, end);
+    }
+
+    /**
+     * 스케줄 저장/상태 변경을 반영합니다. 트랜잭션 안이면 커밋된 뒤에, 아니면 바로 반영합니다.
+     */
+    public void recordAfterCommit(DeliverySchedule schedule) {
+        if (schedule == null || schedule.getOrderId() == null) {
+            return;
+        }
+        Entry entry = new Entry(schedule.getOrderId(), schedule.getEmployeeId(),
+                schedule.getDepartureTime(), schedule.getReturnTime(), !"CANCELLED".equals(schedule.getStatus()));
+        afterCommit(() -> apply(entry));
+    }
+
+    public void removeAfterCommit(Long orderId) {
+        if (orderId != null) {
+            afterCommit(() -> remove(orderId));
+        }
+    }
+
+    /**
+     * 이미 커밋된 스케줄을 바로 반영합니다.
+     */
+    public void record(DeliverySchedule schedule) {
+        if (schedule != null && schedule.getOrderId() != null) {
+            apply(new Entry(schedule.getOrderId(), schedule.getEmployeeId(),
+                    schedule.getDepartureTime(), schedule.getReturnTime(), !"CANCELLED".equals(schedule.getStatus())));
+        }
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public synchronized void pruneFinishedDeliveries() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(RETENTION_DAYS).atStartOfDay();
+        entriesByOrder.values().removeIf(entry -> {
+            if (entry.returnTime().isAfter(cutoff)) {
+                return false;
+            }
+            timelines.get(entry.employeeId()).remove(entry.orderId());
+            return true;
+        });
+        timelines.values().removeIf(timeline -> timeline.size() == 0);
+    }
+
+    private synchronized void apply(Entry entry) {
+        if (!loaded) {
+            // 아직 읽지 않았으면 첫 사용 시 DB에서 함께 읽힘
+            return;
+        }
+        remove(entry.orderId());
+        if (entry.active() && entry.employeeId() != null && entry.departure() != null && entry.returnTime() != null) {
+            timelines.computeIfAbsent(entry.employeeId(), id -> new CourierTimeline())
+                    .add(entry.orderId(), entry.departure(), entry.returnTime());
+            entriesByOrder.put(entry.orderId(), entry);
+        }
+    }
+
+    private synchronized void remove(Long orderId) {
+        Entry previous = entriesByOrder.remove(orderId);
+        if (previous != null) {
+            timelines.get(previous.employeeId()).remove(orderId);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        LocalDateTime since = LocalDate.now().minusDays(RETENTION_DAYS).atStartOfDay();
+        var schedules = deliveryScheduleRepository.findByStatusNotAndReturnTimeAfter("CANCELLED", since);
+        loaded = true;
+        for (DeliverySchedule schedule : schedules) {
+            record(schedule);
+        }
+        logger.info("[CourierAvailabilityIndex] 배달 스케줄 {}건으로 직원 {}명의 가용성 인덱스를 만들었습니다.",
+                entriesByOrder.size(), timelines.size());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Entry(Long orderId, Long employeeId, LocalDateTime departure, LocalDateTime returnTime, boolean active) { }
+}
@@ -0,0 +1,83 @@
+package com.mrdabak.dinnerservice.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 배달 직원 한 명의 배달 구간(출발 ~ 복귀)을 출발 시각 순으로 담는 인덱스.
+ *
+ * <p>구간 [start, end)와 겹치는 배달은 출발 시각이 (start - 가장 긴 구간 길이, end) 안에 있어야 하므로
+ * 그 범위만 훑습니다. 하루 배달 수가 많아도 겹침 검사는 O(log n + 후보 수)입니다.
+ * 기존 데이터에 서로 겹치는 구간이 있어도 결과는 정확합니다. 스레드 안전하지 않습니다.</p>
+ */
+final class CourierTimeline {
+
+    private final NavigableMap<LocalDateTime, List<Slot>> byDeparture = new TreeMap<>();
+    private final Map<Long, Slot> byOrderId = new HashMap<>();
+    private Duration longest = Duration.ZERO;
+
+    /**
+     * 주문의 배달 구간을 추가합니다. 같은 주문이 이미 있으면 교체합니다.
+     */
+    void add(Long orderId, LocalDateTime departure, LocalDateTime returnTime) {
+        remove(orderId);
+        Slot slot = new Slot(orderId, departure, returnTime);
+        byDeparture.computeIfAbsent(departure, key -> new ArrayList<>(1)).add(slot);
+        if (orderId != null) {
+            byOrderId.put(orderId, slot);
+        }
+        Duration length = Duration.between(departure, returnTime);
+        if (length.compareTo(longest) > 0) {
+            longest = length;
+        }
+    }
+
+    void remove(Long orderId) {
+        Slot slot = orderId != null ? byOrderId.remove(orderId) : null;
+        if (slot == null) {
+            return;
+        }
+        List<Slot> slots = byDeparture.get(slot.departure());
+        slots.remove(slot);
+        if (slots.isEmpty()) {
+            byDeparture.remove(slot.departure());
+        }
+    }
+
+    /**
+     * [start, end)와 겹치는 배달이 있는지 확인합니다. {@code ignoredOrderId}의 배달은 제외합니다.
+     */
+    boolean overlaps(LocalDateTime start, LocalDateTime end, Long ignoredOrderId) {
+        for (List<Slot> slots : byDeparture.subMap(start.minus(longest), false, end, false).values()) {
+            for (Slot slot : slots) {
+                if (slot.returnTime().isAfter(start) && (ignoredOrderId == null || !ignoredOrderId.equals(slot.orderId()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 출발 시각이 [from, to] 안에 있는 배달 수.
+     */
+    int countDepartures(LocalDateTime from, LocalDateTime to) {
+        int count = 0;
+        for (List<Slot> slots : byDeparture.subMap(from, true, to, true).values()) {
+            count += slots.size();
+        }
+        return count;
+    }
+
+    int size() {
+        return byOrderId.size();
+    }
+
+    private record Slot(Long orderId, LocalDateTime departure, LocalDateTime returnTime) { }
+}
@@ -0,0 +1,108 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.model.IsoLocalDateTimeConverter;
+import com.mrdabak.dinnerservice.model.UserOrderStats;
+import com.mrdabak.dinnerservice.repository.order.UserOrderStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 사용자별 배달 완료 주문 수. 단골 할인(배달 완료 4~5회 이상) 판단에 쓰입니다.
+ *
+ * <p>값은 {@code user_order_stats} 테이블에 들고 있고, {@link OrderService#markOrderAsDelivered}가 주문 상태를
+ * 바꾸는 같은 트랜잭션 안에서 1씩 올립니다. 배달 완료는 되돌릴 수 없는 상태라 감소 경로는 없습니다.
+ * 도입 전 주문이나 DB를 직접 고친 경우를 위해 서버 시작 시와 매일 새벽에 orders 테이블에서 다시 셉니다.</p>
+ */
+@Service
+public class DeliveredOrderCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeliveredOrderCounter.class);
+
+    private final UserOrderStatsRepository userOrderStatsRepository;
+    private final TransactionTemplate orderTxTemplate;
+
+    public DeliveredOrderCounter(UserOrderStatsRepository userOrderStatsRepository,
+                                 @Qualifier("orderTransactionManager") PlatformTransactionManager orderTransactionManager) {
+        this.userOrderStatsRepository = userOrderStatsRepository;
+        this.orderTxTemplate = new TransactionTemplate(orderTransactionManager);
+    }
+
+    /**
+     * 사용자의 배달 완료 주문 수. 기록이 없으면 0.
+     */
+    public long deliveredCount(Long userId) {
+        if (userId == null) {
+            return 0;
+        }
+        return userOrderStatsRepository.findById(userId)
+                .map(UserOrderStats::getDeliveredCount)
+                .orElse(0);
+    }
+
+    /**
+     * 여러 사용자의 배달 완료 주문 수를 한 번에 읽습니다. 기록이 없는 사용자는 결과에 없으므로 0으로 보면 됩니다.
+     */
+    public Map<Long, Long> deliveredCounts(Collection<Long> userIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return counts;
+        }
+        for (UserOrderStats stats : userOrderStatsRepository.findAllById(
+                userIds.stream().filter(Objects::nonNull).distinct().toList())) {
+            counts.put(stats.getUserId(), stats.getDeliveredCount().longValue());
+        }
+        return counts;
+    }
+
+    /**
+     * 주문 하나가 배달 완료됐음을 반영합니다. 주문 상태 변경과 함께 커밋/롤백되도록 orders.db 트랜잭션 안에서만 호출합니다.
+     */
+    @Transactional(transactionManager = "orderTransactionManager", propagation = Propagation.MANDATORY)
+    public void recordDelivered(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        userOrderStatsRepository.incrementDeliveredCount(userId, now());
+    }
+
+    /**
+     * orders 테이블에서 사용자별 배달 완료 주문 수를 다시 세어 집계를 맞춥니다. 갱신한 사용자 수를 돌려줍니다.
+     */
+    public int rebuild() {
+        int[] result = orderTxTemplate.execute(status -> new int[]{
+                userOrderStatsRepository.rebuildDeliveredCounts(now()),
+                userOrderStatsRepository.deleteStaleDeliveredCounts()});
+        logger.info("[DeliveredOrderCounter] 배달 완료 주문 수 재집계: 사용자 {}명 (삭제 {}명)", result[0], result[1]);
+        return result[0];
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 45 4 * * *")
+    public void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 재집계에 실패해도 증분 값은 그대로 쓸 수 있음
+            logger.warn("[DeliveredOrderCounter] 배달 완료 주문 수 재집계 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String now() {
+        return LocalDateTime.now().format(IsoLocalDateTimeConverter.FORMAT);
+    }
+}
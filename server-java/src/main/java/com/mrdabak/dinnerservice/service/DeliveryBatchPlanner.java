@@ -0,0 +1,418 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.model.DeliveryRoute;
+import com.mrdabak.dinnerservice.model.DeliverySchedule;
+import com.mrdabak.dinnerservice.model.EmployeeWorkAssignment;
+import com.mrdabak.dinnerservice.model.Order;
+import com.mrdabak.dinnerservice.model.User;
+import com.mrdabak.dinnerservice.repository.UserRepository;
+import com.mrdabak.dinnerservice.repository.order.OrderRepository;
+import com.mrdabak.dinnerservice.repository.schedule.DeliveryRouteRepository;
+import com.mrdabak.dinnerservice.repository.schedule.DeliveryScheduleRepository;
+import com.mrdabak.dinnerservice.repository.schedule.EmployeeWorkAssignmentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 하루치 미배정 주문을 한 번에 배달 직원에게 배정합니다.
+ *
+ * <p>{@link DeliverySchedulingService#prepareAssignment}가 주문마다 직원별 조회를 반복하는 것과 달리,
+ * 그날의 배달 스케줄을 한 번 읽어 직원별 {@link CourierTimeline}을 만들고 도착 시간 순으로 주문을 돌며
+ * 배정합니다. 직원 선택 기준은 단건 배정과 같습니다(그날 배달 수가 적은 순, 같으면 ID 순, 시간 겹침 불가).</p>
+ *
+ * <p>여러 곳 배달 모드에서는 같은 권역에 도착 시간이 가까운 주문을 한 경로로 묶어 직원이 매장에 돌아오지 않고
+ * 차례로 배달하게 합니다. 구간 시간은 {@link TravelTimeEstimator#estimateLegMinutes}로 계산하고, 경로는
+ * {@link DeliveryRoute} 한 건과 순서가 매겨진 경유지 스케줄로 저장합니다. 경로를 맡을 직원이 없으면 주문별
+ * 단건 배달로 다시 시도합니다.</p>
+ */
+@Service
+public class DeliveryBatchPlanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeliveryBatchPlanner.class);
+    private static final Set<String> CLOSED_ORDER_STATUSES = Set.of("cancelled", "delivered");
+    // 한 경로에 묶는 최대 주문 수와, 첫 주문 도착 시간 기준으로 묶을 수 있는 시간 폭
+    private static final int MAX_ROUTE_STOPS = 3;
+    private static final Duration ROUTE_WINDOW = Duration.ofMinutes(45);
+    // 앞 배달지를 들르느라 요청 시간보다 늦게 도착해도 되는 최대 시간
+    private static final Duration MAX_STOP_LATENESS = Duration.ofMinutes(10);
+
+    private final OrderRepository orderRepository;
+    private final DeliveryScheduleRepository deliveryScheduleRepository;
+    private final DeliveryRouteRepository deliveryRouteRepository;
+    private final EmployeeWorkAssignmentRepository employeeWorkAssignmentRepository;
+    private final UserRepository userRepository;
+    private final TravelTimeEstimator travelTimeEstimator;
+    private final CourierAvailabilityIndex availabilityIndex;
+    private final TransactionTemplate scheduleTxTemplate;
+    private final TransactionTemplate orderTxTemplate;
+    private final LocalTime shiftStart;
+    private final LocalTime shiftEnd;
+    private final boolean multiStopEnabled;
+
+    public DeliveryBatchPlanner(OrderRepository orderRepository,
+                                DeliveryScheduleRepository deliveryScheduleRepository,
+                                DeliveryRouteRepository deliveryRouteRepository,
+                                EmployeeWorkAssignmentRepository employeeWorkAssignmentRepository,
+                                UserRepository userRepository,
+                                TravelTimeEstimator travelTimeEstimator,
+                                CourierAvailabilityIndex availabilityIndex,
+                                @Qualifier("scheduleTransactionManager") PlatformTransactionManager scheduleTransactionManager,
+                                @Qualifier("orderTransactionManager") PlatformTransactionManager orderTransactionManager,
+                                @Value("${delivery.shift.start:15:00}") String shiftStartProperty,
+                                @Value("${delivery.shift.end:22:00}") String shiftEndProperty,
+                                @Value("${delivery.route.multi-stop.enabled:false}") boolean multiStopEnabled) {
+        this.orderRepository = orderRepository;
+        this.deliveryScheduleRepository = deliveryScheduleRepository;
+        this.deliveryRouteRepository = deliveryRouteRepository;
+        this.employeeWorkAssignmentRepository = employeeWorkAssignmentRepository;
+        this.userRepository = userRepository;
+        this.travelTimeEstimator = travelTimeEstimator;
+        this.availabilityIndex = availabilityIndex;
+        this.scheduleTxTemplate = new TransactionTemplate(scheduleTransactionManager);
+        this.orderTxTemplate = new TransactionTemplate(orderTransactionManager);
+        this.shiftStart = LocalTime.parse(shiftStartProperty);
+        this.shiftEnd = LocalTime.parse(shiftEndProperty);
+        this.multiStopEnabled = multiStopEnabled;
+    }
+
+    /**
+     * 저장하지 않고 배정 결과만 계산합니다.
+     */
+    public DayPlan preview(LocalDate date) {
+        return preview(date, multiStopEnabled);
+    }
+
+    public DayPlan preview(LocalDate date, boolean multiStop) {
+        return plan(date, false, multiStop);
+    }
+
+    /**
+     * 배정 결과를 배달 스케줄과 주문에 반영합니다. 계산과 스케줄 저장은 하나의 스케줄 트랜잭션 안에서 수행하고,
+     * 주문의 배달 직원 저장이 실패하면 스케줄도 롤백합니다.
+     */
+    public DayPlan assign(LocalDate date) {
+        return assign(date, multiStopEnabled);
+    }
+
+    public DayPlan assign(LocalDate date, boolean multiStop) {
+        DayPlan plan = scheduleTxTemplate.execute(status -> {
+            DayPlan computed = plan(date, true, multiStop);
+            if (computed.assignments().isEmpty()) {
+                return computed;
+            }
+            saveSchedules(computed).forEach(availabilityIndex::recordAfterCommit);
+            orderTxTemplate.executeWithoutResult(orderStatus -> saveOrders(computed.assignments()));
+            return computed;
+        });
+        logger.info("[DeliveryBatchPlanner] {} 배달 {}건 배정(경로 {}개), {}건 미배정", date,
+                plan.assignments().size(), plan.routes().size(), plan.unassigned().size());
+        return plan;
+    }
+
+    private DayPlan plan(LocalDate date, boolean applied, boolean multiStop) {
+        if (date == null) {
+            throw new IllegalArgumentException("배정 날짜는 필수입니다.");
+        }
+        List<Order> orders = orderRepository.findByDeliveryAtRange(
+                        date.atStartOfDay(), date.plusDays(1).atStartOfDay()).stream()
+                .filter(DeliveryBatchPlanner::needsCourier)
+                .sorted(Comparator.comparing(Order::getDeliveryDateTime).thenComparing(Order::getId))
+                .toList();
+        List<User> couriers = loadCouriers(date);
+        if (couriers.isEmpty() && !orders.isEmpty()) {
+            throw new RuntimeException("등록된 배달 직원이 없습니다.");
+        }
+
+        // 그날 스케줄을 한 번만 읽어 직원별 타임라인과 배달 수를 만듦
+        Map<Long, CourierTimeline> timelines = new HashMap<>();
+        for (User courier : couriers) {
+            timelines.put(courier.getId(), new CourierTimeline());
+        }
+        for (DeliverySchedule schedule : deliveryScheduleRepository.findByDepartureTimeBetween(
+                LocalDateTime.of(date, shiftStart), LocalDateTime.of(date, shiftEnd))) {
+            CourierTimeline timeline = timelines.get(schedule.getEmployeeId());
+            if (timeline != null && !"CANCELLED".equals(schedule.getStatus())) {
+                timeline.add(schedule.getOrderId(), schedule.getDepartureTime(), schedule.getReturnTime());
+            }
+        }
+
+        List<PlannedDelivery> assignments = new ArrayList<>();
+        List<PlannedRoute> routes = new ArrayList<>();
+        List<UnassignedOrder> unassigned = new ArrayList<>();
+        List<Trip> trips = multiStop ? groupIntoRoutes(orders) : orders.stream().map(this::soloTrip).toList();
+        for (Trip trip : trips) {
+            if (trip.stops().size() > 1 && (!withinShift(trip) || chooseCourier(couriers, timelines, trip) == null)) {
+                // 경로 전체를 맡을 직원이 없으면 주문별 단건 배달로 다시 시도
+                for (Stop stop : trip.stops()) {
+                    assignTrip(soloTrip(stop.order()), couriers, timelines, assignments, routes, unassigned);
+                }
+                continue;
+            }
+            assignTrip(trip, couriers, timelines, assignments, routes, unassigned);
+        }
+
+        Map<Long, Integer> workloads = new LinkedHashMap<>();
+        for (User courier : couriers) {
+            workloads.put(courier.getId(), timelines.get(courier.getId()).size());
+        }
+        return new DayPlan(date, applied, assignments, routes, unassigned, workloads);
+    }
+
+    private void assignTrip(Trip trip, List<User> couriers, Map<Long, CourierTimeline> timelines,
+                            List<PlannedDelivery> assignments, List<PlannedRoute> routes,
+                            List<UnassignedOrder> unassigned) {
+        if (!withinShift(trip)) {
+            for (Stop stop : trip.stops()) {
+                unassigned.add(new UnassignedOrder(stop.order().getId(), stop.order().getDeliveryDateTime(),
+                        "배달 가능 시간(%s ~ %s)을 벗어납니다.".formatted(shiftStart, shiftEnd)));
+            }
+            return;
+        }
+        User chosen = chooseCourier(couriers, timelines, trip);
+        if (chosen == null) {
+            for (Stop stop : trip.stops()) {
+                unassigned.add(new UnassignedOrder(stop.order().getId(), stop.order().getDeliveryDateTime(),
+                        "요청하신 시간에 배달 가능한 직원이 없습니다."));
+            }
+            return;
+        }
+
+        boolean multiStop = trip.stops().size() > 1;
+        Integer routeNumber = multiStop ? routes.size() + 1 : null;
+        CourierTimeline timeline = timelines.get(chosen.getId());
+        for (int i = 0; i < trip.stops().size(); i++) {
+            Stop stop = trip.stops().get(i);
+            timeline.add(stop.order().getId(), trip.departure(), trip.returnTime());
+            assignments.add(new PlannedDelivery(stop.order().getId(), chosen.getId(), chosen.getName(),
+                    trip.departure(), stop.arrival(), trip.returnTime(), stop.legMinutes(),
+                    stop.order().getDeliveryAddress(), routeNumber, multiStop ? i + 1 : null));
+        }
+        if (multiStop) {
+            routes.add(new PlannedRoute(routeNumber, chosen.getId(), trip.region(), trip.departure(), trip.returnTime(),
+                    trip.stops().stream().map(stop -> stop.order().getId()).toList(), trip.savedMinutes()));
+        }
+    }
+
+    private User chooseCourier(List<User> couriers, Map<Long, CourierTimeline> timelines, Trip trip) {
+        Long ignoredOrderId = trip.stops().size() == 1 ? trip.stops().get(0).order().getId() : null;
+        return couriers.stream()
+                .filter(courier -> !timelines.get(courier.getId()).overlaps(trip.departure(), trip.returnTime(), ignoredOrderId))
+                .min(Comparator.comparingInt((User courier) -> timelines.get(courier.getId()).size())
+                        .thenComparing(User::getId))
+                .orElse(null);
+    }
+
+    private boolean withinShift(Trip trip) {
+        return !trip.departure().toLocalTime().isBefore(shiftStart)
+                && !trip.returnTime().toLocalTime().isAfter(shiftEnd)
+                && trip.departure().toLocalDate().equals(trip.returnTime().toLocalDate());
+    }
+
+    private Trip soloTrip(Order order) {
+        LocalDateTime arrival = order.getDeliveryDateTime();
+        int oneWayMinutes = travelTimeEstimator.estimateOneWayMinutes(order.getDeliveryAddress(), arrival);
+        return new Trip(List.of(new Stop(order, arrival, oneWayMinutes)), null,
+                arrival.minusMinutes(oneWayMinutes), arrival.plusMinutes(oneWayMinutes), 0);
+    }
+
+    /**
+     * 도착 시간 순 주문을 같은 권역, {@link #ROUTE_WINDOW} 안, 최대 {@link #MAX_ROUTE_STOPS}곳 단위로 묶습니다.
+     * 앞 배달지에서 이동하느라 요청 시간보다 {@link #MAX_STOP_LATENESS} 넘게 늦어지는 주문은 새 경로로 보냅니다.
+     * 권역을 알 수 없는 주소는 항상 단건 배달입니다.
+     */
+    private List<Trip> groupIntoRoutes(List<Order> orders) {
+        List<List<Stop>> open = new ArrayList<>();
+        List<Stop> solo = new ArrayList<>();
+        for (Order order : orders) {
+            LocalDateTime requested = order.getDeliveryDateTime();
+            String region = travelTimeEstimator.regionOf(order.getDeliveryAddress());
+            if (region == null) {
+                solo.add(new Stop(order, requested, 0));
+                continue;
+            }
+            List<Stop> target = null;
+            Stop appended = null;
+            for (List<Stop> route : open) {
+                Stop first = route.get(0);
+                Stop last = route.get(route.size() - 1);
+                if (route.size() >= MAX_ROUTE_STOPS
+                        || !region.equals(travelTimeEstimator.regionOf(first.order().getDeliveryAddress()))
+                        || Duration.between(first.order().getDeliveryDateTime(), requested).compareTo(ROUTE_WINDOW) > 0) {
+                    continue;
+                }
+                int leg = travelTimeEstimator.estimateLegMinutes(
+                        last.order().getDeliveryAddress(), order.getDeliveryAddress(), last.arrival());
+                LocalDateTime reachable = last.arrival().plusMinutes(leg);
+                LocalDateTime arrival = reachable.isAfter(requested) ? reachable : requested;
+                if (Duration.between(requested, arrival).compareTo(MAX_STOP_LATENESS) > 0) {
+                    continue;
+                }
+                if (appended == null || arrival.isBefore(appended.arrival())) {
+                    target = route;
+                    appended = new Stop(order, arrival, leg);
+                }
+            }
+            if (target != null) {
+                target.add(appended);
+            } else {
+                List<Stop> route = new ArrayList<>(MAX_ROUTE_STOPS);
+                route.add(new Stop(order, requested, 0));
+                open.add(route);
+            }
+        }
+
+        List<Trip> trips = new ArrayList<>();
+        for (List<Stop> route : open) {
+            trips.add(route.size() == 1 ? soloTrip(route.get(0).order()) : routeTrip(route));
+        }
+        for (Stop stop : solo) {
+            trips.add(soloTrip(stop.order()));
+        }
+        trips.sort(Comparator.comparing(Trip::departure).thenComparing(trip -> trip.stops().get(0).order().getId()));
+        return trips;
+    }
+
+    private Trip routeTrip(List<Stop> route) {
+        Stop first = route.get(0);
+        Stop last = route.get(route.size() - 1);
+        int outbound = travelTimeEstimator.estimateOneWayMinutes(first.order().getDeliveryAddress(), first.arrival());
+        int inbound = travelTimeEstimator.estimateOneWayMinutes(last.order().getDeliveryAddress(), last.arrival());
+        List<Stop> stops = new ArrayList<>(route.size());
+        stops.add(new Stop(first.order(), first.arrival(), outbound));
+        stops.addAll(route.subList(1, route.size()));
+        LocalDateTime departure = first.arrival().minusMinutes(outbound);
+        LocalDateTime returnTime = last.arrival().plusMinutes(inbound);
+
+        // 주문마다 따로 왕복했을 때와 비교해 줄어든 직원 이동 시간
+        int soloMinutes = 0;
+        for (Stop stop : route) {
+            soloMinutes += 2 * travelTimeEstimator.estimateOneWayMinutes(
+                    stop.order().getDeliveryAddress(), stop.order().getDeliveryDateTime());
+        }
+        int routeMinutes = (int) Duration.between(departure, returnTime).toMinutes();
+        return new Trip(stops, travelTimeEstimator.regionOf(first.order().getDeliveryAddress()),
+                departure, returnTime, Math.max(0, soloMinutes - routeMinutes));
+    }
+
+    /**
+     * 그날 배달 담당으로 지정된 직원이 있으면 그 직원들만, 없으면 승인된 배달 직원 전체를 후보로 씁니다.
+     */
+    private List<User> loadCouriers(LocalDate date) {
+        Set<Long> scheduledForDelivery = employeeWorkAssignmentRepository.findByWorkDateAndTaskType(date, "DELIVERY").stream()
+                .map(EmployeeWorkAssignment::getEmployeeId)
+                .collect(Collectors.toSet());
+        return userRepository.findByRole("employee").stream()
+                .filter(user -> "approved".equals(user.getApprovalStatus()))
+                .filter(user -> user.getEmployeeType() == null || "delivery".equalsIgnoreCase(user.getEmployeeType()))
+                .filter(user -> scheduledForDelivery.isEmpty() || scheduledForDelivery.contains(user.getId()))
+                .sorted(Comparator.comparing(User::getId))
+                .toList();
+    }
+
+    private List<DeliverySchedule> saveSchedules(DayPlan plan) {
+        Map<Integer, Long> routeIds = new HashMap<>();
+        for (PlannedRoute planned : plan.routes()) {
+            DeliveryRoute route = new DeliveryRoute();
+            route.setEmployeeId(planned.employeeId());
+            route.setRegion(planned.region());
+            route.setDepartureTime(planned.departureTime());
+            route.setReturnTime(planned.returnTime());
+            route.setStopCount(planned.orderIds().size());
+            routeIds.put(planned.routeNumber(), deliveryRouteRepository.save(route).getId());
+        }
+
+        // 주문당 스케줄은 하나(order_id unique)이므로 취소된 기존 행이 있으면 재사용
+        List<PlannedDelivery> assignments = plan.assignments();
+        Map<Long, DeliverySchedule> existing = deliveryScheduleRepository.findByOrderIdIn(
+                        assignments.stream().map(PlannedDelivery::orderId).toList()).stream()
+                .collect(Collectors.toMap(DeliverySchedule::getOrderId, Function.identity()));
+        List<DeliverySchedule> schedules = new ArrayList<>(assignments.size());
+        for (PlannedDelivery assignment : assignments) {
+            DeliverySchedule schedule = existing.getOrDefault(assignment.orderId(), new DeliverySchedule());
+            schedule.setOrderId(assignment.orderId());
+            schedule.setEmployeeId(assignment.employeeId());
+            schedule.setDeliveryAddress(assignment.deliveryAddress());
+            schedule.setDepartureTime(assignment.departureTime());
+            schedule.setArrivalTime(assignment.arrivalTime());
+            schedule.setReturnTime(assignment.returnTime());
+            schedule.setOneWayMinutes(assignment.oneWayMinutes());
+            schedule.setRouteId(assignment.routeNumber() != null ? routeIds.get(assignment.routeNumber()) : null);
+            schedule.setStopSequence(assignment.stopSequence());
+            schedule.transitionTo("SCHEDULED", LocalDateTime.now());
+            schedules.add(schedule);
+        }
+        return deliveryScheduleRepository.saveAllAndFlush(schedules);
+    }
+
+    private void saveOrders(List<PlannedDelivery> assignments) {
+        Map<Long, Long> courierByOrder = assignments.stream()
+                .collect(Collectors.toMap(PlannedDelivery::orderId, PlannedDelivery::employeeId));
+        List<Order> orders = orderRepository.findAllById(courierByOrder.keySet());
+        for (Order order : orders) {
+            if (order.getDeliveryEmployeeId() != null) {
+                throw new RuntimeException("주문 " + order.getId() + "에 이미 배달 직원이 배정되었습니다. 다시 시도해주세요.");
+            }
+            order.setDeliveryEmployeeId(courierByOrder.get(order.getId()));
+        }
+        orderRepository.saveAllAndFlush(orders);
+    }
+
+    private static boolean needsCourier(Order order) {
+        return "APPROVED".equalsIgnoreCase(order.getAdminApprovalStatus())
+                && order.getDeliveryEmployeeId() == null
+                && order.getDeliveryAddress() != null
+                && (order.getStatus() == null || !CLOSED_ORDER_STATUSES.contains(order.getStatus().toLowerCase()));
+    }
+
+    public record PlannedDelivery(Long orderId,
+                                  Long employeeId,
+                                  String employeeName,
+                                  LocalDateTime departureTime,
+                                  LocalDateTime arrivalTime,
+                                  LocalDateTime returnTime,
+                                  Integer oneWayMinutes,
+                                  String deliveryAddress,
+                                  Integer routeNumber,
+                                  Integer stopSequence) { }
+
+    public record PlannedRoute(Integer routeNumber,
+                               Long employeeId,
+                               String region,
+                               LocalDateTime departureTime,
+                               LocalDateTime returnTime,
+                               List<Long> orderIds,
+                               int savedMinutes) { }
+
+    public record UnassignedOrder(Long orderId, LocalDateTime arrivalTime, String reason) { }
+
+    private record Stop(Order order, LocalDateTime arrival, int legMinutes) { }
+
+    private record Trip(List<Stop> stops, String region, LocalDateTime departure, LocalDateTime returnTime,
+                        int savedMinutes) { }
+
+    public record DayPlan(LocalDate date,
+                          boolean applied,
+                          List<PlannedDelivery> assignments,
+                          List<PlannedRoute> routes,
+                          List<UnassignedOrder> unassigned,
+                          Map<Long, Integer> workloads) { }
+}
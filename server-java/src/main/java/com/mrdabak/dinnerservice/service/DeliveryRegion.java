@@ -0,0 +1,61 @@
+package com.mrdabak.dinnerservice.service;
+
+/**
+ * 배달 권역. 주소에 들어 있는 구 이름으로 판별하며, 이동 시간표는 {@link #ordinal()}을 배열 인덱스로 씁니다.
+ */
+public enum DeliveryRegion {
+    GANGNAM("강남"),
+    GANGBUK("강북"),
+    SEOCHO("서초"),
+    SONGPA("송파"),
+    GWANAK("관악"),
+    MAPO("마포"),
+    YONGSAN("용산");
+
+    private static final DeliveryRegion[] VALUES = values();
+
+    private final String keyword;
+
+    DeliveryRegion(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public String keyword() {
+        return keyword;
+    }
+
+    /**
+     * 주소가 속한 권역. 알 수 없는 주소면 null.
+     */
+    public static DeliveryRegion of(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        for (DeliveryRegion region : VALUES) {
+            if (address.contains(region.keyword)) {
+                return region;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 권역 이름(예: "강남")에 해당하는 권역. 없으면 null.
+     */
+    public static DeliveryRegion fromKeyword(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String trimmed = keyword.trim();
+        for (DeliveryRegion region : VALUES) {
+            if (region.keyword.equals(trimmed)) {
+                return region;
+            }
+        }
+        return null;
+    }
+
+    public static int count() {
+        return VALUES.length;
+    }
+}
@@ -7,6 +7,8 @@ import com.mrdabak.dinnerservice.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -25,22 +27,35 @@ public class DeliverySchedulingService {
     private final DeliveryScheduleRepository deliveryScheduleRepository;
     private final UserRepository userRepository;
     private final TravelTimeEstimator travelTimeEstimator;
+    private final CourierAvailabilityIndex availabilityIndex;
     private final LocalTime shiftStart;
     private final LocalTime shiftEnd;
 
     public DeliverySchedulingService(DeliveryScheduleRepository deliveryScheduleRepository,
                                      UserRepository userRepository,
                                      TravelTimeEstimator travelTimeEstimator,
+                                     CourierAvailabilityIndex availabilityIndex,
                                      @Value("${delivery.shift.start:15:00}") String shiftStartProperty,
                                      @Value("${delivery.shift.end:22:00}") String shiftEndProperty) {
         this.deliveryScheduleRepository = deliveryScheduleRepository;
         this.userRepository = userRepository;
         this.travelTimeEstimator = travelTimeEstimator;
+        this.availabilityIndex = availabilityIndex;
         this.shiftStart = LocalTime.parse(shiftStartProperty);
         this.shiftEnd = LocalTime.parse(shiftEndProperty);
     }
 
     public DeliveryAssignmentPlan prepareAssignment(String address, LocalDateTime arrivalTime) {
+        return findAvailableCouriers(address, arrivalTime).stream()
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("요청하신 시간에 배달 가능한 직원이 없습니다."));
+    }
+
+    /**
+     * 해당 주소/도착 시간의 배달을 맡을 수 있는 직원 전체를 그날 배달 수가 적은 순(같으면 ID 순)으로 돌려줍니다.
+     * 가용성은 {@link CourierAvailabilityIndex}에서 확인하므로 직원 수만큼 DB를 조회하지 않습니다.
+     */
+    public List<DeliveryAssignmentPlan> findAvailableCouriers(String address, LocalDateTime arrivalTime) {
         if (arrivalTime == null) {
             throw new IllegalArgumentException("배달 도착 시간은 필수입니다.");
         }
@@ -63,22 +78,17 @@ public class DeliverySchedulingService {
         LocalDateTime dayStart = LocalDateTime.of(date, shiftStart);
         LocalDateTime dayEnd = LocalDateTime.of(date, shiftEnd);
 
-        Map<Long, Long> workloads = couriers.stream()
+        Map<Long, Integer> workloads = couriers.stream()
                 .collect(Collectors.toMap(
                         User::getId,
-                        courier -> (long) deliveryScheduleRepository
-                                .findByEmployeeIdAndDepartureTimeBetween(courier.getId(), dayStart, dayEnd)
-                                .size()
-                ));
+                        courier -> availabilityIndex.countDepartures(courier.getId(), dayStart, dayEnd),
+                        (first, second) -> first));
 
         return couriers.stream()
+                .filter(courier -> availabilityIndex.isFree(courier.getId(), departure, returnTime, null))
                 .sorted(Comparator
-                        .comparing((User courier) -> workloads.getOrDefault(courier.getId(), 0L))
+                        .comparing((User courier) -> workloads.getOrDefault(courier.getId(), 0))
                         .thenComparing(User::getId))
-                .filter(courier -> !deliveryScheduleRepository
-                        .existsByEmployeeIdAndReturnTimeAfterAndDepartureTimeBefore(
-                                courier.getId(), departure, returnTime))
-                .findFirst()
                 .map(courier -> new DeliveryAssignmentPlan(
                         courier.getId(),
                         courier.getName(),
@@ -88,7 +98,7 @@ public class DeliverySchedulingService {
                         oneWayMinutes,
                         address
                 ))
-                .orElseThrow(() -> new RuntimeException("요청하신 시간에 배달 가능한 직원이 없습니다."));
+                .toList();
     }
 
     @Transactional("scheduleTransactionManager")
@@ -123,11 +133,16 @@ public class DeliverySchedulingService {
         schedule.setArrivalTime(deliveryTime);
         schedule.setReturnTime(returnTime);
         schedule.setOneWayMinutes(oneWayMinutes);
+        // 단건 배정으로 다시 잡으면 기존 여러 곳 배달 경로에서 빠짐
+        schedule.setRouteId(null);
+        schedule.setStopSequence(null);
         if (!"CANCELLED".equals(schedule.getStatus())) {
-            schedule.setStatus("SCHEDULED");
+            schedule.transitionTo("SCHEDULED", LocalDateTime.now());
         }
 
-        return deliveryScheduleRepository.saveAndFlush(schedule);
+        DeliverySchedule saved = deliveryScheduleRepository.saveAndFlush(schedule);
+        availabilityIndex.recordAfterCommit(saved);
+        return saved;
     }
 
     @Transactional("scheduleTransactionManager")
@@ -166,17 +181,22 @@ public class DeliverySchedulingService {
         schedule.setArrivalTime(plan.arrivalTime());
         schedule.setReturnTime(plan.returnTime());
         schedule.setOneWayMinutes(plan.oneWayMinutes());
+        schedule.setRouteId(null);
+        schedule.setStopSequence(null);
         if (!"CANCELLED".equals(schedule.getStatus())) {
-            schedule.setStatus("SCHEDULED");
+            schedule.transitionTo("SCHEDULED", LocalDateTime.now());
         }
         
         System.out.println("[DeliverySchedulingService] 주문 ID " + orderId + "에 대한 배달 스케줄 저장/업데이트");
-        return deliveryScheduleRepository.saveAndFlush(schedule);
+        DeliverySchedule saved = deliveryScheduleRepository.saveAndFlush(schedule);
+        availabilityIndex.recordAfterCommit(saved);
+        return saved;
     }
 
     @Transactional("scheduleTransactionManager")
     public void releaseAssignmentForOrder(Long orderId) {
         deliveryScheduleRepository.deleteByOrderId(orderId);
+        availabilityIndex.removeAfterCommit(orderId);
     }
 
     @Transactional("scheduleTransactionManager")
@@ -200,8 +220,9 @@ public class DeliverySchedulingService {
                 return;
             }
 
-            schedule.setStatus("CANCELLED");
+            schedule.transitionTo("CANCELLED", LocalDateTime.now());
             deliveryScheduleRepository.saveAndFlush(schedule);
+            availabilityIndex.recordAfterCommit(schedule);
             System.out.println("[DeliverySchedulingService] 주문 " + orderId + "의 배달 스케줄이 취소되었습니다. (이전 상태: " + previousStatus + ")");
         } catch (Exception e) {
             System.err.println("[DeliverySchedulingService] 배달 스케줄 취소 중 오류 발생: " + e.getMessage());
@@ -224,6 +245,21 @@ public class DeliverySchedulingService {
         return deliveryScheduleRepository.findByEmployeeIdAndDepartureTimeBetween(requesterId, start, end);
     }
 
+    /**
+     * 여러 곳 배달 경로의 경유지를 배달 순서대로 돌려줍니다.
+     */
+    @Transactional(value = "scheduleTransactionManager", readOnly = true)
+    public List<DeliverySchedule> getRouteStops(Long routeId, Long requesterId, boolean isAdmin) {
+        if (routeId == null) {
+            throw new IllegalArgumentException("경로 ID는 필수입니다.");
+        }
+        List<DeliverySchedule> stops = deliveryScheduleRepository.findByRouteIdOrderByStopSequenceAsc(routeId);
+        if (!isAdmin && stops.stream().anyMatch(stop -> !stop.getEmployeeId().equals(requesterId))) {
+            throw new RuntimeException("이 경로를 조회할 권한이 없습니다.");
+        }
+        return stops;
+    }
+
     @Transactional("scheduleTransactionManager")
     public DeliverySchedule updateStatus(Long scheduleId, String status, Long requesterId, boolean isAdmin) {
         if (scheduleId == null) {
@@ -245,8 +281,36 @@ public class DeliverySchedulingService {
             throw new RuntimeException("이 스케줄을 수정할 권한이 없습니다.");
         }
 
-        schedule.setStatus(targetStatus);
-        return deliveryScheduleRepository.saveAndFlush(schedule);
+        String previousStatus = schedule.getStatus();
+        schedule.transitionTo(targetStatus, LocalDateTime.now());
+        DeliverySchedule saved = deliveryScheduleRepository.saveAndFlush(schedule);
+        availabilityIndex.recordAfterCommit(saved);
+        if ("IN_PROGRESS".equals(previousStatus) && "COMPLETED".equals(targetStatus)) {
+            recordActualTravel(saved);
+        }
+        return saved;
+    }
+
+    /**
+     * 배달 시작부터 완료까지 실제로 걸린 시간을 커밋 후 이동 시간 모델에 알려 줍니다.
+     */
+    private void recordActualTravel(DeliverySchedule schedule) {
+        Long minutes = schedule.actualOneWayMinutes();
+        if (minutes == null) {
+            return;
+        }
+        Runnable record = () -> travelTimeEstimator.recordObservedOneWay(
+                schedule.getDeliveryAddress(), schedule.getCompletedAt(), minutes.intValue());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record.run();
+                }
+            });
+        } else {
+            record.run();
+        }
     }
 
     private void validateWithinShift(LocalDateTime departure, LocalDateTime returnTime) {
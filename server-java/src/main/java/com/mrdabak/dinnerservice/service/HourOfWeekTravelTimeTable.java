@@ -0,0 +1,143 @@
+package com.mrdabak.dinnerservice.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.OptionalInt;
+
+/**
+ * (권역, 요일·시각) 별 편도 이동 시간표. 권역마다 한 주 168시간 칸을 두고 조회는 배열 인덱스 한 번으로 끝납니다.
+ *
+ * <p>초기값은 CSV 리소스({@code delivery.travel-time.table})에서 읽습니다. 한 줄은
+ * {@code 권역,요일,시각,분}이고 요일은 {@code *}, {@code SAT}, {@code MON-FRI}, 시각은 {@code *}, {@code 18},
+ * {@code 16-20} 형식입니다. 같은 칸을 여러 줄이 덮으면 뒤의 줄이 이깁니다.</p>
+ *
+ * <p>실제 배달 시간으로 배운 값은 {@link TravelTimeAggregator}가 따로 들고 있고, 관측이 충분한 칸은 그쪽이 먼저 쓰입니다.
+ * 이 표는 관측이 모자란 칸의 초기값입니다.</p>
+ */
+@Component
+@Order(1)
+public class HourOfWeekTravelTimeTable implements TravelTimeModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(HourOfWeekTravelTimeTable.class);
+    private static final int HOURS_PER_WEEK = 7 * 24;
+
+    // 0이면 값 없음. 시작할 때 한 번 채운 뒤로는 읽기만 함
+    private final int[] minutes = new int[DeliveryRegion.count() * HOURS_PER_WEEK];
+
+    @Autowired
+    public HourOfWeekTravelTimeTable(
+            @Value("${delivery.travel-time.table:classpath:delivery/travel-times.csv}") Resource table) {
+        if (table == null || !table.exists()) {
+            logger.warn("[HourOfWeekTravelTimeTable] 이동 시간표 {}를 찾을 수 없어 권역 기준 시간을 사용합니다.", table);
+            return;
+        }
+        try (InputStream in = table.getInputStream()) {
+            int cells = load(in);
+            logger.info("[HourOfWeekTravelTimeTable] 이동 시간표 {} 로드 ({}칸)", table.getFilename(), cells);
+        } catch (IOException e) {
+            logger.warn("[HourOfWeekTravelTimeTable] 이동 시간표 {}를 읽지 못했습니다: {}", table, e.getMessage());
+        }
+    }
+
+    HourOfWeekTravelTimeTable(InputStream in) throws IOException {
+        load(in);
+    }
+
+    @Override
+    public OptionalInt oneWayMinutes(DeliveryRegion region, LocalDateTime arrivalTime) {
+        if (region == null || arrivalTime == null) {
+            return OptionalInt.empty();
+        }
+        int value = minutes[index(region, arrivalTime)];
+        return value > 0 ? OptionalInt.of(value) : OptionalInt.empty();
+    }
+
+    private int load(InputStream in) throws IOException {
+        int cells = 0;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] fields = trimmed.split(",");
+            if (fields.length != 4) {
+                logger.warn("[HourOfWeekTravelTimeTable] {}번째 줄 건너뜀: 항목이 4개가 아닙니다.", lineNumber);
+                continue;
+            }
+            DeliveryRegion region = DeliveryRegion.fromKeyword(fields[0]);
+            if (region == null) {
+                logger.warn("[HourOfWeekTravelTimeTable] {}번째 줄 건너뜀: 알 수 없는 권역 '{}'", lineNumber, fields[0].strip());
+                continue;
+            }
+            try {
+                int[] days = range(fields[1], 1, 7, true);
+                int[] hours = range(fields[2], 0, 23, false);
+                int value = Integer.parseInt(fields[3].strip());
+                if (value <= 0) {
+                    throw new IllegalArgumentException("minutes must be positive");
+                }
+                for (int day = days[0]; day <= days[1]; day++) {
+                    for (int hour = hours[0]; hour <= hours[1]; hour++) {
+                        int index = region.ordinal() * HOURS_PER_WEEK + (day - 1) * 24 + hour;
+                        minutes[index] = value;
+                        cells++;
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                logger.warn("[HourOfWeekTravelTimeTable] {}번째 줄 건너뜀: {}", lineNumber, e.getMessage());
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * {@code *}, {@code 값}, {@code 시작-끝}을 [시작, 끝] 범위로 바꿉니다. 요일은 MON..SUN을 1..7로 씁니다.
+     */
+    private static int[] range(String field, int min, int max, boolean dayOfWeek) {
+        String value = field.strip();
+        if ("*".equals(value)) {
+            return new int[]{min, max};
+        }
+        int dash = value.indexOf('-');
+        int start = parseBound(dash < 0 ? value : value.substring(0, dash), dayOfWeek);
+        int end = dash < 0 ? start : parseBound(value.substring(dash + 1), dayOfWeek);
+        if (start < min || end > max || start > end) {
+            throw new IllegalArgumentException("range out of bounds: " + value);
+        }
+        return new int[]{start, end};
+    }
+
+    private static int parseBound(String value, boolean dayOfWeek) {
+        String trimmed = value.strip();
+        if (!dayOfWeek) {
+            return Integer.parseInt(trimmed);
+        }
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(trimmed.toUpperCase()) && trimmed.length() >= 3) {
+                return day.getValue();
+            }
+        }
+        throw new IllegalArgumentException("unknown day: " + trimmed);
+    }
+
+    private static int index(DeliveryRegion region, LocalDateTime time) {
+        return region.ordinal() * HOURS_PER_WEEK + (time.getDayOfWeek().getValue() - 1) * 24 + time.getHour();
+    }
+}
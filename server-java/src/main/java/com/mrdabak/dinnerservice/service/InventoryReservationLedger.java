@@ -0,0 +1,144 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.repository.inventory.InventoryReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴 아이템 x 재고 윈도우(window_start)별 예약 수량을 메모리에 보관하는 재고 예약 원장.
+ *
+ * <p>재고 확인/예약 시 매번 inventory_reservations를 SUM 하지 않고, 메뉴 아이템 단위로 분할된 락 안에서
+ * 원장 수치로 즉시 승인/거절합니다. 예약 행의 저장(write-through)은 {@link InventoryService}가 담당하며,
+ * 원장은 단일 서버 인스턴스가 inventory.db의 유일한 writer라는 전제에서 기준값으로 사용됩니다.
+ * 원장에 없는 키는 최초 접근 시 DB에서 적재합니다.</p>
+ */
+@Component
+public class InventoryReservationLedger {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryReservationLedger.class);
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final InventoryReservationRepository inventoryReservationRepository;
+    private final Object[] stripes = new Object[STRIPE_COUNT];
+    // 각 스트라이프의 락 안에서만 접근
+    private final Map<LedgerKey, Integer>[] reservedByStripe;
+
+    @SuppressWarnings("unchecked")
+    public InventoryReservationLedger(InventoryReservationRepository inventoryReservationRepository) {
+        this.inventoryReservationRepository = inventoryReservationRepository;
+        this.reservedByStripe = new Map[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Object();
+            reservedByStripe[i] = new HashMap<>();
+        }
+    }
+
+    /**
+     * 서버 시작 시 오늘 이후 윈도우의 예약 수량을 한 번의 집계 쿼리로 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDateTime from = LocalDate.now().atStartOfDay();
+        List<InventoryReservationRepository.WindowReservationTotal> totals =
+                inventoryReservationRepository.sumQuantityByMenuItemAndWindowFrom(from);
+        for (InventoryReservationRepository.WindowReservationTotal total : totals) {
+            LedgerKey key = new LedgerKey(total.getMenuItemId(), total.getWindowStart());
+            int stripe = stripeOf(key.menuItemId());
+            synchronized (stripes[stripe]) {
+                // 적재 전에 이미 접근된 키는 DB에서 직접 읽은 최신 값이므로 유지
+                reservedByStripe[stripe].putIfAbsent(key, total.getQuantity() != null ? total.getQuantity().intValue() : 0);
+            }
+        }
+        logger.info("[InventoryReservationLedger] 재고 예약 원장 적재 완료 - {}개 윈도우 ({} 이후)", totals.size(), from);
+    }
+
+    public int reservedQuantity(Long menuItemId, LocalDateTime windowStart) {
+        LedgerKey key = new LedgerKey(menuItemId, windowStart);
+        int stripe = stripeOf(menuItemId);
+        synchronized (stripes[stripe]) {
+            return load(stripe, key);
+        }
+    }
+
+    /**
+     * 예약 수량을 원자적으로 확인 후 반영합니다.
+     *
+     * @param credit 용량 확인 시에만 차감할 수량 (주문 변경 시 같은 윈도우에 있는 기존 예약분)
+     */
+    public Admission tryReserve(Long menuItemId, LocalDateTime windowStart, int quantity, int maxCapacity, int credit) {
+        LedgerKey key = new LedgerKey(menuItemId, windowStart);
+        int stripe = stripeOf(menuItemId);
+        synchronized (stripes[stripe]) {
+            int alreadyReserved = load(stripe, key);
+            int effectiveReserved = Math.max(0, alreadyReserved - credit);
+            long projected = (long) effectiveReserved + quantity;
+            if (projected > maxCapacity) {
+                return new Admission(false, effectiveReserved);
+            }
+            reservedByStripe[stripe].put(key, alreadyReserved + quantity);
+            return new Admission(true, effectiveReserved);
+        }
+    }
+
+    public void release(Long menuItemId, LocalDateTime windowStart, int quantity) {
+        LedgerKey key = new LedgerKey(menuItemId, windowStart);
+        int stripe = stripeOf(menuItemId);
+        synchronized (stripes[stripe]) {
+            Integer current = reservedByStripe[stripe].get(key);
+            if (current != null) {
+                reservedByStripe[stripe].put(key, Math.max(0, current - quantity));
+            }
+        }
+    }
+
+    /**
+     * 지난 윈도우를 원장에서 제거합니다. (매일 자정 재고 초기화 후 호출)
+     */
+    public void evictWindowsBefore(LocalDateTime windowStart) {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            synchronized (stripes[i]) {
+                reservedByStripe[i].keySet().removeIf(key -> key.windowStart().isBefore(windowStart));
+            }
+        }
+    }
+
+    /**
+     * 원장을 비웁니다. 이후 접근하는 키는 DB에서 다시 적재됩니다.
+     */
+    public void clear() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            synchronized (stripes[i]) {
+                reservedByStripe[i].clear();
+            }
+        }
+    }
+
+    private int load(int stripe, LedgerKey key) {
+        Integer reserved = reservedByStripe[stripe].get(key);
+        if (reserved == null) {
+            Integer persisted = inventoryReservationRepository
+                    .sumQuantityByMenuItemIdAndWindowStart(key.menuItemId(), key.windowStart());
+            reserved = persisted != null ? persisted : 0;
+            reservedByStripe[stripe].put(key, reserved);
+        }
+        return reserved;
+    }
+
+    private static int stripeOf(Long menuItemId) {
+        return Math.floorMod(Long.hashCode(menuItemId), STRIPE_COUNT);
+    }
+
+    public record Admission(boolean admitted, int alreadyReserved) { }
+
+    private record LedgerKey(Long menuItemId, LocalDateTime windowStart) { }
+}
@@ -6,11 +6,14 @@ import com.mrdabak.dinnerservice.model.MenuInventory;
 import com.mrdabak.dinnerservice.model.MenuItem;
 import com.mrdabak.dinnerservice.repository.inventory.InventoryReservationRepository;
 import com.mrdabak.dinnerservice.repository.inventory.MenuInventoryRepository;
-import com.mrdabak.dinnerservice.repository.MenuItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -22,9 +25,12 @@ import java.util.stream.Collectors;
 @Service
 public class InventoryService {
 
+    private static final Logger logger = LoggerFactory.getLogger(InventoryService.class);
+
     private final MenuInventoryRepository menuInventoryRepository;
     private final InventoryReservationRepository inventoryReservationRepository;
-    private final MenuItemRepository menuItemRepository;
+    private final MenuCatalog menuCatalog;
+    private final InventoryReservationLedger reservationLedger;
 
     private final List<DayOfWeek> restockDays;
     private final LocalTime restockTime;
@@ -32,13 +38,15 @@ public class InventoryService {
 
     public InventoryService(MenuInventoryRepository menuInventoryRepository,
                             InventoryReservationRepository inventoryReservationRepository,
-                            MenuItemRepository menuItemRepository,
+                            MenuCatalog menuCatalog,
+                            InventoryReservationLedger reservationLedger,
                             @Value("${inventory.restock.days:MONDAY,FRIDAY}") String restockDaysProperty,
                             @Value("${inventory.restock.time:06:00}") String restockTimeProperty,
                             @Value("${inventory.default.capacity:20}") int defaultCapacity) {
         this.menuInventoryRepository = menuInventoryRepository;
         this.inventoryReservationRepository = inventoryReservationRepository;
-        this.menuItemRepository = menuItemRepository;
+        this.menuCatalog = menuCatalog;
+        this.reservationLedger = reservationLedger;
         this.restockDays = parseRestockDays(restockDaysProperty);
         this.restockTime = LocalTime.parse(restockTimeProperty);
         this.defaultCapacity = defaultCapacity;
@@ -90,32 +98,49 @@ public class InventoryService {
         Map<Long, Integer> aggregated = aggregateQuantities(newItems);
         RestockWindow window = resolveWindow(deliveryTime);
         List<InventoryReservation> existingReservations = inventoryReservationRepository.findByOrderId(orderId);
-        validateChangeCapacity(orderId, aggregated, window, deliveryTime, existingReservations);
+        Map<Long, Integer> existingByItem = contributionInWindow(existingReservations, window);
 
-        inventoryReservationRepository.deleteByOrderId(orderId);
+        // 원장에서 새 예약 수량을 확보 (같은 윈도우의 기존 예약분은 용량 확인 시 제외)
+        List<InventoryReservation> newReservations = new ArrayList<>();
+        try {
+            for (Map.Entry<Long, Integer> entry : aggregated.entrySet()) {
+                Long menuItemId = entry.getKey();
+                Integer quantity = entry.getValue();
 
-        for (Map.Entry<Long, Integer> entry : aggregated.entrySet()) {
-            Long menuItemId = entry.getKey();
-            Integer quantity = entry.getValue();
-
-            // Verify menu item exists
-            MenuItem menuItem = menuItemRepository.findById(menuItemId)
-                    .orElseThrow(() -> new RuntimeException("메뉴 아이템을 찾을 수 없습니다: " + menuItemId));
-
-            InventoryReservation reservation = new InventoryReservation();
-            reservation.setOrderId(orderId);
-            reservation.setMenuItemId(menuItemId);
-            reservation.setQuantity(quantity);
-            reservation.setWindowStart(window.start());
-            reservation.setWindowEnd(window.end());
-            reservation.setDeliveryTime(deliveryTime);
-            reservation.setConsumed(false);
-
-            if (!isAlcoholCategory(menuItem.getCategory())) {
-                reservation.setExpiresAt(deliveryTime.plusDays(3));
+                // Verify menu item exists
+                MenuItem menuItem = menuCatalog.findMenuItem(menuItemId)
+                        .orElseThrow(() -> new RuntimeException("메뉴 아이템을 찾을 수 없습니다: " + menuItemId));
+
+                MenuInventory inventory = getInventory(menuItemId);
+                int maxCapacity = resolveMaxCapacity(inventory, deliveryTime);
+                InventoryReservationLedger.Admission admission = reservationLedger.tryReserve(
+                        menuItemId, window.start(), quantity, maxCapacity, existingByItem.getOrDefault(menuItemId, 0));
+                if (!admission.admitted()) {
+                    throw new RuntimeException(changeCapacityExceededMessage(
+                            orderId, menuItemId, quantity, admission.alreadyReserved(), maxCapacity));
+                }
+                newReservations.add(buildReservation(orderId, menuItemId, quantity, window, deliveryTime, menuItem));
             }
+        } catch (RuntimeException e) {
+            releaseFromLedger(newReservations);
+            throw e;
+        }
 
-            inventoryReservationRepository.save(reservation);
+        // 커밋되면 기존 예약분을, 롤백되면 새 예약분을 원장에서 되돌림
+        boolean synchronizedWithTransaction = onTransactionOutcome(
+                () -> releaseFromLedger(existingReservations),
+                () -> releaseFromLedger(newReservations));
+        try {
+            inventoryReservationRepository.deleteByOrderId(orderId);
+            inventoryReservationRepository.saveAll(newReservations);
+        } catch (RuntimeException e) {
+            if (!synchronizedWithTransaction) {
+                releaseFromLedger(newReservations);
+            }
+            throw e;
+        }
+        if (!synchronizedWithTransaction) {
+            releaseFromLedger(existingReservations);
         }
     }
 
@@ -128,42 +153,96 @@ public class InventoryService {
             throw new IllegalArgumentException("재고 예약 계획은 필수입니다.");
         }
 
-        for (Map.Entry<Long, Integer> entry : plan.quantities().entrySet()) {
-            Long menuItemId = entry.getKey();
-            Integer quantity = entry.getValue();
-            
-            // Verify menu item exists
-            if (!menuItemRepository.existsById(menuItemId)) {
-                throw new RuntimeException("메뉴 아이템을 찾을 수 없습니다: " + menuItemId);
+        // 원장에서 재고를 원자적으로 확보 (race condition prevention, 실패 시 확보한 수량은 되돌림)
+        List<InventoryReservation> reservations = new ArrayList<>();
+        try {
+            for (Map.Entry<Long, Integer> entry : plan.quantities().entrySet()) {
+                Long menuItemId = entry.getKey();
+                Integer quantity = entry.getValue();
+
+                // Verify menu item exists
+                MenuItem menuItem = menuCatalog.findMenuItem(menuItemId)
+                        .orElseThrow(() -> new RuntimeException("메뉴 아이템을 찾을 수 없습니다: " + menuItemId));
+
+                MenuInventory inventory = getInventory(menuItemId);
+                int maxCapacity = resolveMaxCapacity(inventory, plan.deliveryTime());
+                InventoryReservationLedger.Admission admission = reservationLedger.tryReserve(
+                        menuItemId, plan.window().start(), quantity, maxCapacity, 0);
+                if (!admission.admitted()) {
+                    throw new RuntimeException(capacityExceededMessage(
+                            menuItemId, quantity, admission.alreadyReserved(), maxCapacity));
+                }
+
+                // 주문 시 재고 예약 저장 (조리 시작 시 소진)
+                reservations.add(buildReservation(orderId, menuItemId, quantity, plan.window(), plan.deliveryTime(), menuItem));
             }
-            
-            // Re-validate capacity (race condition prevention)
-            MenuInventory inventory = getInventory(menuItemId);
-            validateCapacity(menuItemId, inventory, quantity, plan.window(), plan.deliveryTime());
-
-            // 주문 시 재고 예약 저장 (조리 시작 시 소진)
-            InventoryReservation reservation = new InventoryReservation();
-            reservation.setOrderId(orderId);
-            reservation.setMenuItemId(menuItemId);
-            reservation.setQuantity(quantity);
-            reservation.setWindowStart(plan.window().start());
-            reservation.setWindowEnd(plan.window().end());
-            reservation.setDeliveryTime(plan.deliveryTime());
-            reservation.setConsumed(false);
-            
-            // 주류가 아닌 경우 3일 후 만료 설정
-            com.mrdabak.dinnerservice.model.MenuItem menuItem = menuItemRepository.findById(menuItemId).orElse(null);
-            if (menuItem != null && !isAlcoholCategory(menuItem.getCategory())) {
-                reservation.setExpiresAt(plan.deliveryTime().plusDays(3));
+        } catch (RuntimeException e) {
+            releaseFromLedger(reservations);
+            throw e;
+        }
+
+        // 예약 행 저장 (write-through) - 트랜잭션이 롤백되면 원장에서 확보한 수량도 되돌림
+        boolean synchronizedWithTransaction = onTransactionOutcome(null, () -> releaseFromLedger(reservations));
+        try {
+            for (InventoryReservation reservation : reservations) {
+                InventoryReservation savedReservation = inventoryReservationRepository.save(reservation);
+                logger.debug("[InventoryService] 주문 {} - 메뉴 아이템 {} 재고 {}개 예약 완료 (예약 ID: {})",
+                        orderId, reservation.getMenuItemId(), reservation.getQuantity(), savedReservation.getId());
+            }
+        } catch (RuntimeException e) {
+            if (!synchronizedWithTransaction) {
+                releaseFromLedger(reservations);
+            }
+            throw e;
+        }
+        logger.info("[InventoryService] 주문 {}의 모든 재고 예약이 완료되었습니다.", orderId);
+    }
+
+    private InventoryReservation buildReservation(Long orderId, Long menuItemId, Integer quantity,
+                                                  RestockWindow window, LocalDateTime deliveryTime, MenuItem menuItem) {
+        InventoryReservation reservation = new InventoryReservation();
+        reservation.setOrderId(orderId);
+        reservation.setMenuItemId(menuItemId);
+        reservation.setQuantity(quantity);
+        reservation.setWindowStart(window.start());
+        reservation.setWindowEnd(window.end());
+        reservation.setDeliveryTime(deliveryTime);
+        reservation.setConsumed(false);
+
+        // 주류가 아닌 경우 3일 후 만료 설정
+        if (!isAlcoholCategory(menuItem.getCategory())) {
+            reservation.setExpiresAt(deliveryTime.plusDays(3));
+        }
+        return reservation;
+    }
+
+    private void releaseFromLedger(List<InventoryReservation> reservations) {
+        for (InventoryReservation reservation : reservations) {
+            if (reservation.getWindowStart() != null && reservation.getQuantity() != null) {
+                reservationLedger.release(reservation.getMenuItemId(), reservation.getWindowStart(), reservation.getQuantity());
             }
-            
-            InventoryReservation savedReservation = inventoryReservationRepository.save(reservation);
-            System.out.println("[InventoryService] 주문 " + orderId + " - 메뉴 아이템 " + menuItemId + " 재고 " + quantity + "개 예약 완료 (예약 ID: " + savedReservation.getId() + ")");
-            
-            // 이번주 예약 수량에 즉시 반영 확인
-            System.out.println("[InventoryService] 예약 저장 확인 - Order ID: " + orderId + ", Menu Item ID: " + menuItemId + ", Quantity: " + quantity);
         }
-        System.out.println("[InventoryService] 주문 " + orderId + "의 모든 재고 예약이 완료되었습니다.");
+    }
+
+    /**
+     * 현재 재고 트랜잭션의 커밋/롤백 시점에 원장 보정 작업을 등록합니다.
+     * 트랜잭션 동기화가 없으면 false를 반환하며, 호출자가 직접 보정해야 합니다.
+     */
+    private boolean onTransactionOutcome(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED && onCommit != null) {
+                    onCommit.run();
+                } else if (status == STATUS_ROLLED_BACK && onRollback != null) {
+                    onRollback.run();
+                }
+            }
+        });
+        return true;
     }
     
     private boolean isAlcoholCategory(String category) {
@@ -183,16 +262,18 @@ public class InventoryService {
         try {
             List<InventoryReservation> reservations = inventoryReservationRepository.findByOrderId(orderId);
             if (reservations.isEmpty()) {
-                System.out.println("[InventoryService] 주문 " + orderId + "에 대한 재고 예약이 없습니다.");
+                logger.info("[InventoryService] 주문 {}에 대한 재고 예약이 없습니다.", orderId);
                 return;
             }
             
             int count = reservations.size();
             inventoryReservationRepository.deleteByOrderId(orderId);
-            System.out.println("[InventoryService] 주문 " + orderId + "의 재고 예약 " + count + "개가 취소되었습니다.");
+            if (!onTransactionOutcome(() -> releaseFromLedger(reservations), null)) {
+                releaseFromLedger(reservations);
+            }
+            logger.info("[InventoryService] 주문 {}의 재고 예약 {}개가 취소되었습니다.", orderId, count);
         } catch (Exception e) {
-            System.err.println("[InventoryService] 재고 예약 취소 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("[InventoryService] 재고 예약 취소 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("재고 예약 취소 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
@@ -206,14 +287,13 @@ public class InventoryService {
         try {
             List<InventoryReservation> reservations = inventoryReservationRepository.findUnconsumedByOrderId(orderId);
             if (reservations.isEmpty()) {
-                System.out.println("[InventoryService] 주문 " + orderId + "에 대한 미소진 재고 예약이 없습니다.");
+                logger.info("[InventoryService] 주문 {}에 대한 미소진 재고 예약이 없습니다.", orderId);
                 return;
             }
 
             // Mark reservations as consumed and deduct from current stock (조리 시작 시 재고 소진)
             // consumed=1로 설정하여 이번주 예약 수량에서 자동으로 제외됨
-            // Entity를 직접 업데이트하여 확실하게 저장
-            System.out.println("[InventoryService] 주문 " + orderId + "의 재고 예약 " + reservations.size() + "개를 consumed=1로 업데이트 시작");
+            logger.debug("[InventoryService] 주문 {}의 재고 예약 {}개를 consumed=1로 업데이트 시작", orderId, reservations.size());
             
             // 예약 정보를 저장 (수량 차감용)
             Map<Long, Integer> menuItemQuantities = reservations.stream()
@@ -224,17 +304,15 @@ public class InventoryService {
             
             // Native Query로 consumed=1로 직접 업데이트 (SQLite Boolean 저장 문제 방지)
             int updatedCount = inventoryReservationRepository.markAsConsumedByOrderId(orderId);
-            System.out.println("[InventoryService] 주문 " + orderId + "의 재고 예약 " + updatedCount + "개를 consumed=1로 업데이트 완료 (Native Query)");
+            logger.debug("[InventoryService] 주문 {}의 재고 예약 {}개를 consumed=1로 업데이트 완료 (Native Query)", orderId, updatedCount);
             
-            // 업데이트 확인: 각 예약이 제대로 업데이트되었는지 확인
-            for (InventoryReservation reservation : reservations) {
-                InventoryReservation verified = inventoryReservationRepository.findById(reservation.getId()).orElse(null);
-                if (verified != null) {
+            // 업데이트 확인 (DEBUG 로그가 켜져 있을 때만 예약을 다시 조회)
+            if (logger.isDebugEnabled()) {
+                for (InventoryReservation reservation : reservations) {
+                    InventoryReservation verified = inventoryReservationRepository.findById(reservation.getId()).orElse(null);
                     // SQLite에서는 Boolean이 INTEGER로 저장되므로 1이면 true
-                    boolean isConsumed = verified.getConsumed() != null && verified.getConsumed();
-                    System.out.println("[InventoryService] 예약 ID " + reservation.getId() + " - consumed 확인: " + verified.getConsumed() + " (Boolean: " + isConsumed + ")");
-                    if (!isConsumed) {
-                        System.err.println("[InventoryService] 경고: 예약 ID " + reservation.getId() + "의 consumed가 제대로 저장되지 않았습니다!");
+                    if (verified != null && !Boolean.TRUE.equals(verified.getConsumed())) {
+                        logger.warn("[InventoryService] 예약 ID {}의 consumed가 제대로 저장되지 않았습니다!", reservation.getId());
                     }
                 }
             }
@@ -246,68 +324,31 @@ public class InventoryService {
                 Long menuItemId = entry.getKey();
                 Integer quantityToDeduct = entry.getValue();
                 
-            // 조리 시작 전 상태 확인 (이번 주 - 월요일 ~ 일요일)
-            LocalDateTime now = LocalDateTime.now();
-            LocalDate today = now.toLocalDate();
-            DayOfWeek dayOfWeek = today.getDayOfWeek();
-            int daysFromMonday = (dayOfWeek.getValue() - 1) % 7;
-            LocalDate weekStart = today.minusDays(daysFromMonday);
-            LocalDate weekEnd = weekStart.plusWeeks(1);
-            LocalDateTime weekStartDateTime = LocalDateTime.of(weekStart, LocalTime.MIN);
-            LocalDateTime weekEndDateTime = LocalDateTime.of(weekEnd, LocalTime.MIN);
-            Integer weeklyReservedBefore = inventoryReservationRepository
-                .sumWeeklyReservedByMenuItemId(menuItemId, weekStartDateTime, weekEndDateTime);
-                
                 MenuInventory inventory = getInventory(menuItemId);
                 int currentCapacity = inventory.getCapacityPerWindow() != null ? inventory.getCapacityPerWindow() : 0;
                 
-                System.out.println("[InventoryService] ========== 조리 시작 전 상태 ==========");
-                System.out.println("[InventoryService] 메뉴 아이템 " + menuItemId + " - 현재보유량: " + currentCapacity);
-                System.out.println("[InventoryService] 메뉴 아이템 " + menuItemId + " - 이번주 예약 수량: " + (weeklyReservedBefore != null ? weeklyReservedBefore : 0));
-                
                 // 현재 보유량 차감
                 int newCapacity = Math.max(0, currentCapacity - quantityToDeduct);
                 inventory.setCapacityPerWindow(newCapacity);
                 menuInventoryRepository.saveAndFlush(inventory);
                 
-                count++;
-            }
-            
-            // 모든 예약을 업데이트한 후 이번주 예약 수량 확인
-            if (count > 0) {
-                // 이번 주 (월요일 ~ 일요일)
-                LocalDateTime now = LocalDateTime.now();
-                LocalDate today = now.toLocalDate();
-                DayOfWeek dayOfWeek = today.getDayOfWeek();
-                int daysFromMonday = (dayOfWeek.getValue() - 1) % 7;
-                LocalDate weekStart = today.minusDays(daysFromMonday);
-                LocalDate weekEnd = weekStart.plusWeeks(1);
-                LocalDateTime weekStartDateTime = LocalDateTime.of(weekStart, LocalTime.MIN);
-                LocalDateTime weekEndDateTime = LocalDateTime.of(weekEnd, LocalTime.MIN);
-                
-                System.out.println("[InventoryService] ========== 조리 시작 후 최종 상태 ==========");
-                for (Map.Entry<Long, Integer> entry : menuItemQuantities.entrySet()) {
-                    Long menuItemId = entry.getKey();
-                    Integer deductedQuantity = entry.getValue();
-                    
-                    MenuInventory finalInventory = getInventory(menuItemId);
-                    int finalCapacity = finalInventory.getCapacityPerWindow() != null ? finalInventory.getCapacityPerWindow() : 0;
-                    
-                    // consumed=1로 설정된 예약은 이번주 예약 수량에서 제외됨
-                    Integer weeklyReservedAfter = inventoryReservationRepository
-                        .sumWeeklyReservedByMenuItemId(menuItemId, weekStartDateTime, weekEndDateTime);
-                    
-                    System.out.println("[InventoryService] 메뉴 아이템 " + menuItemId + " - 현재보유량: " + finalCapacity);
-                    System.out.println("[InventoryService] 메뉴 아이템 " + menuItemId + " - 이번주 예약 수량: " + (weeklyReservedAfter != null ? weeklyReservedAfter : 0));
-                    System.out.println("[InventoryService] 메뉴 아이템 " + menuItemId + " - 차감된 수량: " + deductedQuantity);
-                    System.out.println("[InventoryService] 메뉴 아이템 " + menuItemId + " - 예비 수량: " + (finalCapacity - (weeklyReservedAfter != null ? weeklyReservedAfter : 0)));
+                if (logger.isDebugEnabled()) {
+                    // consumed=1로 설정된 예약은 이번주 예약 수량에서 제외됨 (이번 주 - 월요일 ~ 일요일)
+                    LocalDate today = LocalDate.now();
+                    LocalDate weekStart = today.minusDays(today.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+                    Integer weeklyReservedAfter = inventoryReservationRepository.sumWeeklyReservedByMenuItemId(
+                            menuItemId, weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay());
+                    int weeklyReserved = weeklyReservedAfter != null ? weeklyReservedAfter : 0;
+                    logger.debug("[InventoryService] 메뉴 아이템 {} 조리 시작 - 현재보유량: {} -> {}, 차감된 수량: {}, 이번주 예약 수량: {}, 예비 수량: {}",
+                            menuItemId, currentCapacity, newCapacity, quantityToDeduct, weeklyReserved, newCapacity - weeklyReserved);
                 }
+                
+                count++;
             }
             
-            System.out.println("[InventoryService] 주문 " + orderId + "의 재고 예약 " + count + "개가 소진되었습니다. (이번주 예약 수량에서도 차감됨)");
+            logger.info("[InventoryService] 주문 {}의 재고 예약 {}개가 소진되었습니다. (이번주 예약 수량에서도 차감됨)", orderId, count);
         } catch (Exception e) {
-            System.err.println("[InventoryService] 재고 소진 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("[InventoryService] 재고 소진 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("재고 소진 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
@@ -327,11 +368,15 @@ public class InventoryService {
         RestockWindow currentWindow = resolveWindow(now);
 
         // Get all menu items and ensure inventory exists for each
-        List<MenuItem> allMenuItems = menuItemRepository.findAll();
+        List<MenuItem> allMenuItems = menuCatalog.menuItems();
+        List<MenuInventory> inventories = new ArrayList<>(menuInventoryRepository.findAll());
+        Set<Long> inventoriedMenuItemIds = inventories.stream()
+                .map(MenuInventory::getMenuItemId)
+                .collect(Collectors.toSet());
         
         // Create inventory for menu items that don't have one yet
         for (MenuItem menuItem : allMenuItems) {
-            if (!menuInventoryRepository.findByMenuItemId(menuItem.getId()).isPresent()) {
+            if (!inventoriedMenuItemIds.contains(menuItem.getId())) {
                 // Auto-create inventory if it doesn't exist
                 MenuInventory newInventory = new MenuInventory();
                 newInventory.setMenuItemId(menuItem.getId());
@@ -339,38 +384,49 @@ public class InventoryService {
                 newInventory.setSafetyStock(0);
                 newInventory.setNotes("auto-initialized");
                 try {
-                    menuInventoryRepository.save(newInventory);
+                    inventories.add(menuInventoryRepository.save(newInventory));
                 } catch (Exception e) {
                     // If save fails, ignore (might be created by another thread)
-                    System.err.println("[InventoryService] Failed to auto-create inventory for menu item " + menuItem.getId() + ": " + e.getMessage());
+                    logger.error("[InventoryService] Failed to auto-create inventory for menu item {}: {}", menuItem.getId(), e.getMessage());
                 }
             }
         }
 
-        // Now get all inventories (including newly created ones)
         // Calculate weekly reserved (선택된 주의 예약만 - 월요일 00:00 ~ 다음 주 월요일 00:00)
         LocalDate weekStart = weekStartDate; // 선택된 주의 월요일
         LocalDate weekEnd = weekStart.plusWeeks(1); // 다음 주 월요일
         LocalDateTime weekStartDateTime = LocalDateTime.of(weekStart, LocalTime.MIN); // 선택된 주 월요일 00:00
         LocalDateTime weekEndDateTime = LocalDateTime.of(weekEnd, LocalTime.MIN); // 다음 주 월요일 00:00
-        
-        return menuInventoryRepository.findAll().stream().map(inventory -> {
+
+        // 현재 윈도우 / 주간 / 날짜별 예약 수량을 한 번의 집계 쿼리로 계산
+        Map<Long, InventoryReservationRepository.WeeklyReservationTotals> totalsByItem = new HashMap<>();
+        for (InventoryReservationRepository.WeeklyReservationTotals totals : inventoryReservationRepository
+                .aggregateWeeklyReservationTotals(
+                        currentWindow.start(),
+                        weekStartDateTime,
+                        weekStartDateTime.plusDays(1),
+                        weekStartDateTime.plusDays(2),
+                        weekStartDateTime.plusDays(3),
+                        weekStartDateTime.plusDays(4),
+                        weekStartDateTime.plusDays(5),
+                        weekStartDateTime.plusDays(6),
+                        weekEndDateTime)) {
+            totalsByItem.put(totals.getMenuItemId(), totals);
+        }
+
+        return inventories.stream().map(inventory -> {
+            InventoryReservationRepository.WeeklyReservationTotals totals = totalsByItem.get(inventory.getMenuItemId());
             // 현재 날짜의 예약 수량
-            Integer reserved = inventoryReservationRepository
-                    .sumQuantityByMenuItemIdAndWindowStart(inventory.getMenuItemId(), currentWindow.start());
-            if (reserved == null) {
-                reserved = 0;
-            }
-            
+            int reserved = totals != null && totals.getCurrentWindowQuantity() != null ? totals.getCurrentWindowQuantity().intValue() : 0;
             // 선택된 주의 예약 수량 (선택된 주의 모든 예약 합산)
-            Integer weeklyReserved = inventoryReservationRepository
-                    .sumWeeklyReservedByMenuItemId(inventory.getMenuItemId(), weekStartDateTime, weekEndDateTime);
-            if (weeklyReserved == null) {
-                weeklyReserved = 0;
+            int weeklyReserved = totals != null && totals.getWeeklyQuantity() != null ? totals.getWeeklyQuantity().intValue() : 0;
+            
+            // 선택된 주의 7일 (월요일 ~ 일요일) 날짜별 예약 수량
+            long[] dailyQuantities = totals != null ? totals.dailyQuantities() : new long[7];
+            Map<LocalDate, Integer> reservedByDate = new LinkedHashMap<>();
+            for (int i = 0; i < 7; i++) {
+                reservedByDate.put(weekStart.plusDays(i), (int) dailyQuantities[i]);
             }
-            // 디버깅: 계산된 예약 수량 출력
-            System.out.println("[InventoryService] 메뉴 아이템 " + inventory.getMenuItemId() + 
-                    " - 선택된 주(" + weekStartDateTime + " ~ " + weekEndDateTime + ") 예약 수량: " + weeklyReserved);
             
             return new InventorySnapshot(
                     inventory,
@@ -378,7 +434,8 @@ public class InventoryService {
                     inventory.getCapacityPerWindow() - reserved,
                     currentWindow.start(),
                     currentWindow.end(),
-                    weeklyReserved
+                    weeklyReserved,
+                    reservedByDate
             );
         }).toList();
     }
@@ -393,7 +450,7 @@ public class InventoryService {
         }
         
         // Verify menu item exists
-        if (!menuItemRepository.existsById(menuItemId)) {
+        if (!menuCatalog.containsMenuItem(menuItemId)) {
             throw new RuntimeException("메뉴 아이템을 찾을 수 없습니다: " + menuItemId);
         }
         
@@ -414,7 +471,7 @@ public class InventoryService {
         }
         
         // Verify menu item exists
-        if (!menuItemRepository.existsById(menuItemId)) {
+        if (!menuCatalog.containsMenuItem(menuItemId)) {
             throw new RuntimeException("메뉴 아이템을 찾을 수 없습니다: " + menuItemId);
         }
         
@@ -430,7 +487,7 @@ public class InventoryService {
         }
         
         // Verify menu item exists
-        if (!menuItemRepository.existsById(menuItemId)) {
+        if (!menuCatalog.containsMenuItem(menuItemId)) {
             throw new RuntimeException("메뉴 아이템을 찾을 수 없습니다: " + menuItemId);
         }
         
@@ -483,31 +540,14 @@ public class InventoryService {
         return aggregated;
     }
 
-    private void validateCapacity(Long menuItemId, MenuInventory inventory, Integer requestedQuantity, RestockWindow window) {
-        validateCapacity(menuItemId, inventory, requestedQuantity, window, null);
-    }
-    
     private void validateCapacity(Long menuItemId, MenuInventory inventory, Integer requestedQuantity, RestockWindow window, LocalDateTime deliveryTime) {
-        Integer alreadyReserved = inventoryReservationRepository
-                .sumQuantityByMenuItemIdAndWindowStart(menuItemId, window.start());
-        if (alreadyReserved == null) {
-            alreadyReserved = 0;
-        }
+        int alreadyReserved = reservationLedger.reservedQuantity(menuItemId, window.start());
         int projected = alreadyReserved + requestedQuantity;
         
         int maxCapacity = resolveMaxCapacity(inventory, deliveryTime);
         
         if (projected > maxCapacity) {
-            String menuName = menuItemRepository.findById(menuItemId)
-                    .map(item -> item.getName() + "(" + item.getNameEn() + ")")
-                    .orElse("menu item " + menuItemId);
-            throw new RuntimeException(String.format(
-                    "%s 재고가 부족합니다. (요청: %d, 현재 예약: %d, 최대: %d)",
-                    menuName,
-                    requestedQuantity,
-                    alreadyReserved,
-                    maxCapacity
-            ));
+            throw new RuntimeException(capacityExceededMessage(menuItemId, requestedQuantity, alreadyReserved, maxCapacity));
         }
     }
 
@@ -516,24 +556,14 @@ public class InventoryService {
                                         RestockWindow window,
                                         LocalDateTime deliveryTime,
                                         List<InventoryReservation> existingReservations) {
-        Map<Long, Integer> existingByItem = existingReservations == null ? Collections.emptyMap()
-                : existingReservations.stream()
-                .filter(reservation -> reservation.getWindowStart() != null && reservation.getWindowStart().equals(window.start()))
-                .collect(Collectors.groupingBy(
-                        InventoryReservation::getMenuItemId,
-                        Collectors.summingInt(reservation -> reservation.getQuantity() != null ? reservation.getQuantity() : 0)
-                ));
+        Map<Long, Integer> existingByItem = contributionInWindow(existingReservations, window);
 
         for (Map.Entry<Long, Integer> entry : aggregated.entrySet()) {
             Long menuItemId = entry.getKey();
             Integer requestedQuantity = entry.getValue();
 
             MenuInventory inventory = getInventory(menuItemId);
-            Integer alreadyReserved = inventoryReservationRepository
-                    .sumQuantityByMenuItemIdAndWindowStart(menuItemId, window.start());
-            if (alreadyReserved == null) {
-                alreadyReserved = 0;
-            }
+            int alreadyReserved = reservationLedger.reservedQuantity(menuItemId, window.start());
 
             Integer currentContribution = existingByItem.getOrDefault(menuItemId, 0);
             int effectiveReserved = Math.max(0, alreadyReserved - currentContribution);
@@ -541,21 +571,52 @@ public class InventoryService {
             int maxCapacity = resolveMaxCapacity(inventory, deliveryTime);
 
             if (projected > maxCapacity) {
-                String menuName = menuItemRepository.findById(menuItemId)
-                        .map(item -> item.getName() + "(" + item.getNameEn() + ")")
-                        .orElse("menu item " + menuItemId);
-                throw new RuntimeException(String.format(
-                        "주문 %d 변경 시 %s 재고가 부족합니다. (요청: %d, 현재 예약: %d, 허용 잔여: %d)",
-                        orderId,
-                        menuName,
-                        requestedQuantity,
-                        effectiveReserved,
-                        maxCapacity
-                ));
+                throw new RuntimeException(changeCapacityExceededMessage(
+                        orderId, menuItemId, requestedQuantity, effectiveReserved, maxCapacity));
             }
         }
     }
 
+    private Map<Long, Integer> contributionInWindow(List<InventoryReservation> reservations, RestockWindow window) {
+        if (reservations == null) {
+            return Collections.emptyMap();
+        }
+        return reservations.stream()
+                .filter(reservation -> reservation.getWindowStart() != null && reservation.getWindowStart().equals(window.start()))
+                .collect(Collectors.groupingBy(
+                        InventoryReservation::getMenuItemId,
+                        Collectors.summingInt(reservation -> reservation.getQuantity() != null ? reservation.getQuantity() : 0)
+                ));
+    }
+
+    private String capacityExceededMessage(Long menuItemId, int requestedQuantity, int alreadyReserved, int maxCapacity) {
+        return String.format(
+                "%s 재고가 부족합니다. (요청: %d, 현재 예약: %d, 최대: %d)",
+                resolveMenuName(menuItemId),
+                requestedQuantity,
+                alreadyReserved,
+                maxCapacity
+        );
+    }
+
+    private String changeCapacityExceededMessage(Long orderId, Long menuItemId, int requestedQuantity,
+                                                 int effectiveReserved, int maxCapacity) {
+        return String.format(
+                "주문 %d 변경 시 %s 재고가 부족합니다. (요청: %d, 현재 예약: %d, 허용 잔여: %d)",
+                orderId,
+                resolveMenuName(menuItemId),
+                requestedQuantity,
+                effectiveReserved,
+                maxCapacity
+        );
+    }
+
+    private String resolveMenuName(Long menuItemId) {
+        return menuCatalog.findMenuItem(menuItemId)
+                .map(item -> item.getName() + "(" + item.getNameEn() + ")")
+                .orElse("menu item " + menuItemId);
+    }
+
     private int resolveMaxCapacity(MenuInventory inventory, LocalDateTime deliveryTime) {
         if (deliveryTime == null) {
             return inventory.getCapacityPerWindow();
@@ -612,15 +673,12 @@ public class InventoryService {
 
     public record RestockWindow(LocalDateTime start, LocalDateTime end) { }
 
-    public Integer getReservedByDate(Long menuItemId, LocalDateTime targetDate) {
-        return inventoryReservationRepository.sumReservedByMenuItemIdAndDate(menuItemId, targetDate);
-    }
-
     public record InventorySnapshot(MenuInventory inventory,
                                     int reserved,
                                     int remaining,
                                     LocalDateTime windowStart,
                                     LocalDateTime windowEnd,
-                                    int weeklyReserved) { }
+                                    int weeklyReserved,
+                                    Map<LocalDate, Integer> reservedByDate) { }
 }
 
@@ -1,17 +1,26 @@
 package com.mrdabak.dinnerservice.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 @Service
@@ -23,9 +32,20 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
+
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    // 토큰 SHA-256 해시 -> 검증된 claims. 조회는 락 없이 하고, 크기를 넘으면 한 스레드만 정리
+    private final Map<String, CachedClaims> claimsCache = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    @PostConstruct
+    void init() {
+        // 서명 키와 파서는 서버 시작 시 한 번만 생성 (JwtParser는 불변 객체로 스레드 간 공유 가능)
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
     }
 
     public String extractUserId(String token) {
@@ -37,16 +57,58 @@ public class JwtService {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 서명과 만료 시간을 검증한 claims를 반환합니다. 유효하지 않으면 JwtException을 던집니다.
+     * 같은 토큰은 만료 전까지 캐시된 claims를 재사용하므로 HMAC 검증을 다시 하지 않습니다.
+     */
+    public Claims parseClaims(String token) {
+        String tokenHash = hash(token);
+        long now = System.currentTimeMillis();
+        CachedClaims cached = claimsCache.get(tokenHash);
+        if (cached != null) {
+            if (now < cached.expiresAtMillis()) {
+                return cached.claims();
+            }
+            claimsCache.remove(tokenHash, cached);
+        }
+
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        Date tokenExpiration = claims.getExpiration();
+        if (tokenExpiration != null) {
+            if (tokenExpiration.getTime() <= now) {
+                throw new ExpiredJwtException(null, claims, "JWT expired at " + tokenExpiration.toInstant());
+            }
+            claimsCache.put(tokenHash, new CachedClaims(claims, tokenExpiration.getTime()));
+            if (claimsCache.size() > claimsCacheMaxSize) {
+                evict(now);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * 만료된 claims를 먼저 지우고, 그래도 최대 크기를 넘으면 임의의 항목을 지워 최대 크기의 90%까지 줄입니다.
+     * 이미 다른 스레드가 정리 중이면 건너뜁니다.
+     */
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            claimsCache.values().removeIf(cached -> cached.expiresAtMillis() <= now);
+            int target = claimsCacheMaxSize - claimsCacheMaxSize / 10;
+            Iterator<String> keys = claimsCache.keySet().iterator();
+            while (claimsCache.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            evicting.set(false);
+        }
     }
 
     public String generateToken(Long userId, String email, String role) {
@@ -62,31 +124,18 @@ public class JwtService {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public Boolean isTokenValid(String token) {
+    private static String hash(String token) {
         try {
-            // 토큰 파싱 시도 (서명 검증 포함)
-            extractAllClaims(token);
-            // 만료 여부 확인
-            boolean expired = isTokenExpired(token);
-            System.out.println("[JwtService] 토큰 만료 여부: " + expired);
-            return !expired;
-        } catch (Exception e) {
-            System.out.println("[JwtService] 토큰 유효성 검사 실패: " + e.getClass().getName() + " - " + e.getMessage());
-            e.printStackTrace();
-            return false;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
         }
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
+    private record CachedClaims(Claims claims, long expiresAtMillis) { }
 }
-
@@ -0,0 +1,186 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.model.DinnerMenuItem;
+import com.mrdabak.dinnerservice.model.DinnerType;
+import com.mrdabak.dinnerservice.model.MenuItem;
+import com.mrdabak.dinnerservice.repository.DinnerMenuItemRepository;
+import com.mrdabak.dinnerservice.repository.DinnerTypeRepository;
+import com.mrdabak.dinnerservice.repository.MenuItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메뉴 카탈로그(디너 타입, 메뉴 아이템, 디너별 기본 구성)의 읽기 전용 메모리 스냅샷.
+ *
+ * <p>메뉴는 거의 바뀌지 않으므로 요청마다 main DB를 조회하지 않고 최초 접근 시 한 번 적재한 스냅샷을 공유합니다.
+ * 메뉴 데이터를 저장하는 쪽은 커밋 후 {@link #invalidate()}를 호출해야 하며, 다음 조회 시 새 스냅샷이 적재됩니다.
+ * 스냅샷이 돌려주는 엔티티는 적재 시 복사한 공유 객체이므로 호출하는 쪽에서 수정하면 안 됩니다.</p>
+ */
+@Component
+public class MenuCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(MenuCatalog.class);
+
+    private final DinnerTypeRepository dinnerTypeRepository;
+    private final MenuItemRepository menuItemRepository;
+    private final DinnerMenuItemRepository dinnerMenuItemRepository;
+    private final AtomicLong versionSequence = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public MenuCatalog(DinnerTypeRepository dinnerTypeRepository,
+                       MenuItemRepository menuItemRepository,
+                       DinnerMenuItemRepository dinnerMenuItemRepository) {
+        this.dinnerTypeRepository = dinnerTypeRepository;
+        this.menuItemRepository = menuItemRepository;
+        this.dinnerMenuItemRepository = dinnerMenuItemRepository;
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : load();
+    }
+
+    /**
+     * 현재 스냅샷을 버립니다. 메뉴/디너/기본 구성을 변경한 트랜잭션이 커밋된 뒤 호출합니다.
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    public long version() {
+        return snapshot().version();
+    }
+
+    public List<DinnerType> dinnerTypes() {
+        return snapshot().dinnerTypes();
+    }
+
+    public List<MenuItem> menuItems() {
+        return snapshot().menuItems();
+    }
+
+    public Optional<DinnerType> findDinnerType(Long dinnerTypeId) {
+        return dinnerTypeId == null ? Optional.empty() : Optional.ofNullable(snapshot().dinnerType(dinnerTypeId));
+    }
+
+    public Optional<MenuItem> findMenuItem(Long menuItemId) {
+        return menuItemId == null ? Optional.empty() : Optional.ofNullable(snapshot().menuItem(menuItemId));
+    }
+
+    public boolean containsMenuItem(Long menuItemId) {
+        return menuItemId != null && snapshot().menuItem(menuItemId) != null;
+    }
+
+    public List<DinnerMenuItem> defaultPortions(Long dinnerTypeId) {
+        return dinnerTypeId == null ? List.of() : snapshot().defaultPortions(dinnerTypeId);
+    }
+
+    /**
+     * 디너 기본 구성에 포함된 메뉴 아이템 수량 (기본 구성에 없으면 0).
+     */
+    public Map<Long, Integer> defaultQuantities(Long dinnerTypeId) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (DinnerMenuItem portion : defaultPortions(dinnerTypeId)) {
+            quantities.put(portion.getMenuItemId(), portion.getQuantity());
+        }
+        return quantities;
+    }
+
+    private synchronized Snapshot load() {
+        if (snapshot != null) {
+            return snapshot;
+        }
+        Snapshot loaded = Snapshot.of(versionSequence.incrementAndGet(),
+                dinnerTypeRepository.findAll(), menuItemRepository.findAll(), dinnerMenuItemRepository.findAll());
+        snapshot = loaded;
+        logger.info("[MenuCatalog] 메뉴 카탈로그 적재 - 버전 {}, 디너 {}개, 메뉴 아이템 {}개",
+                loaded.version(), loaded.dinnerTypes().size(), loaded.menuItems().size());
+        return loaded;
+    }
+
+    /**
+     * 불변 카탈로그 스냅샷. id로 정렬한 long 배열을 이진 탐색하므로 조회 시 박싱/해시가 없습니다.
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final List<DinnerType> dinnerTypes;
+        private final List<MenuItem> menuItems;
+        private final long[] dinnerTypeIds;
+        private final List<List<DinnerMenuItem>> portionsByDinnerType;
+        private final long[] menuItemIds;
+
+        private Snapshot(long version, List<DinnerType> dinnerTypes, List<MenuItem> menuItems,
+                         List<List<DinnerMenuItem>> portionsByDinnerType) {
+            this.version = version;
+            this.dinnerTypes = dinnerTypes;
+            this.menuItems = menuItems;
+            this.portionsByDinnerType = portionsByDinnerType;
+            this.dinnerTypeIds = dinnerTypes.stream().mapToLong(DinnerType::getId).toArray();
+            this.menuItemIds = menuItems.stream().mapToLong(MenuItem::getId).toArray();
+        }
+
+        static Snapshot of(long version, List<DinnerType> dinnerTypes, List<MenuItem> menuItems,
+                           List<DinnerMenuItem> dinnerMenuItems) {
+            List<DinnerType> sortedDinners = dinnerTypes.stream()
+                    .map(dinner -> new DinnerType(dinner.getId(), dinner.getName(), dinner.getNameEn(),
+                            dinner.getBasePrice(), dinner.getDescription()))
+                    .sorted(Comparator.comparing(DinnerType::getId))
+                    .toList();
+            List<MenuItem> sortedItems = menuItems.stream()
+                    .map(item -> new MenuItem(item.getId(), item.getName(), item.getNameEn(),
+                            item.getPrice(), item.getCategory()))
+                    .sorted(Comparator.comparing(MenuItem::getId))
+                    .toList();
+
+            Map<Long, List<DinnerMenuItem>> grouped = new HashMap<>();
+            dinnerMenuItems.stream()
+                    .sorted(Comparator.comparing(DinnerMenuItem::getId))
+                    .forEach(portion -> grouped.computeIfAbsent(portion.getDinnerTypeId(), id -> new ArrayList<>())
+                            .add(new DinnerMenuItem(portion.getId(), portion.getDinnerTypeId(),
+                                    portion.getMenuItemId(), portion.getQuantity())));
+            List<List<DinnerMenuItem>> portions = sortedDinners.stream()
+                    .map(dinner -> List.copyOf(grouped.getOrDefault(dinner.getId(), List.of())))
+                    .toList();
+
+            return new Snapshot(version, sortedDinners, sortedItems, portions);
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public List<DinnerType> dinnerTypes() {
+            return dinnerTypes;
+        }
+
+        public List<MenuItem> menuItems() {
+            return menuItems;
+        }
+
+        public DinnerType dinnerType(long dinnerTypeId) {
+            int index = Arrays.binarySearch(dinnerTypeIds, dinnerTypeId);
+            return index >= 0 ? dinnerTypes.get(index) : null;
+        }
+
+        public MenuItem menuItem(long menuItemId) {
+            int index = Arrays.binarySearch(menuItemIds, menuItemId);
+            return index >= 0 ? menuItems.get(index) : null;
+        }
+
+        public List<DinnerMenuItem> defaultPortions(long dinnerTypeId) {
+            int index = Arrays.binarySearch(dinnerTypeIds, dinnerTypeId);
+            return index >= 0 ? portionsByDinnerType.get(index) : List.of();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.dto.UserSummary;
+import com.mrdabak.dinnerservice.model.Order;
+import com.mrdabak.dinnerservice.model.OrderItem;
+import com.mrdabak.dinnerservice.repository.UserRepository;
+import com.mrdabak.dinnerservice.repository.order.OrderItemRepository;
+import com.mrdabak.dinnerservice.repository.order.OrderRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 승인을 기다리는 주문 목록. 배달 시각이 빠른 순으로 읽습니다.
+ *
+ * <p>주문은 (admin_approval_status, delivery_at, id) 인덱스로 한 페이지만 읽고, 고객 정보·주문 항목·배달 완료 횟수는
+ * 페이지 단위로 각각 한 번씩 모아서 조회합니다. 메뉴 정보는 호출하는 쪽이 {@link MenuCatalog} 스냅샷에서 찾습니다.</p>
+ */
+@Service
+public class OrderApprovalQueue {
+
+    public static final String PENDING = "PENDING";
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final UserRepository userRepository;
+    private final DeliveredOrderCounter deliveredOrderCounter;
+
+    public OrderApprovalQueue(OrderRepository orderRepository, OrderItemRepository orderItemRepository,
+                              UserRepository userRepository, DeliveredOrderCounter deliveredOrderCounter) {
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.userRepository = userRepository;
+        this.deliveredOrderCounter = deliveredOrderCounter;
+    }
+
+    /**
+     * {@code afterOrderId}(이전 페이지의 마지막 주문) 다음부터 최대 {@code limit}건을 읽습니다. limit이 없으면 20건입니다.
+     * 커서 주문은 승인·거절돼도 위치를 알 수 있지만, 삭제됐으면 이어 읽을 위치가 없으므로 {@link IllegalArgumentException}을 던집니다.
+     */
+    public List<Entry> page(Long afterOrderId, Integer limit) {
+        Pageable page = PageRequest.of(0, limit != null ? Math.max(1, Math.min(limit, MAX_PAGE_SIZE)) : DEFAULT_PAGE_SIZE);
+        if (afterOrderId == null) {
+            return enrich(orderRepository.findApprovalQueue(PENDING, page));
+        }
+        Order cursor = orderRepository.findById(afterOrderId)
+                .orElseThrow(() -> new IllegalArgumentException("Cursor order not found: " + afterOrderId));
+
+        List<Order> orders = cursor.getDeliveryAt() == null
+                ? orderRepository.findApprovalQueueAfterUnscheduled(PENDING, cursor.getId(), page)
+                : orderRepository.findApprovalQueueAfter(PENDING, cursor.getDeliveryAt(), cursor.getId(), page);
+        return enrich(orders);
+    }
+
+    private List<Entry> enrich(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        List<Long> userIds = orders.stream().map(Order::getUserId).filter(Objects::nonNull).distinct().toList();
+        Map<Long, UserSummary> customers = userIds.isEmpty()
+                ? Collections.emptyMap()
+                : userRepository.findSummariesByIdIn(userIds).stream()
+                        .collect(Collectors.toMap(UserSummary::id, Function.identity()));
+        Map<Long, List<OrderItem>> itemsByOrderId = orderItemRepository
+                .findByOrderIdIn(orders.stream().map(Order::getId).toList()).stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderId));
+        Map<Long, Long> deliveredCounts = deliveredOrderCounter.deliveredCounts(userIds);
+
+        return orders.stream()
+                .map(order -> new Entry(order,
+                        customers.get(order.getUserId()),
+                        itemsByOrderId.getOrDefault(order.getId(), List.of()),
+                        deliveredCounts.getOrDefault(order.getUserId(), 0L)))
+                .toList();
+    }
+
+    /**
+     * 대기 주문 하나와 화면에 필요한 부가 정보. 고객이 삭제됐으면 {@code customer}는 null입니다.
+     */
+    public record Entry(Order order, UserSummary customer, List<OrderItem> items, long deliveredOrders) {
+
+        /**
+         * 단골 할인 대상 여부: 개인정보 동의 3종 + 할인 동의 + 배달 완료 4회 이상.
+         */
+        public boolean loyaltyEligible() {
+            return customer != null
+                    && Boolean.TRUE.equals(customer.consentName())
+                    && Boolean.TRUE.equals(customer.consentAddress())
+                    && Boolean.TRUE.equals(customer.consentPhone())
+                    && Boolean.TRUE.equals(customer.loyaltyConsent())
+                    && deliveredOrders >= 4;
+        }
+    }
+}
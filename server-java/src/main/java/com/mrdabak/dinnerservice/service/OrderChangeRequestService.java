@@ -13,9 +13,6 @@ import com.mrdabak.dinnerservice.model.OrderChangeRequestItem;
 import com.mrdabak.dinnerservice.model.OrderChangeRequestStatus;
 import com.mrdabak.dinnerservice.model.OrderItem;
 import com.mrdabak.dinnerservice.model.User;
-import com.mrdabak.dinnerservice.repository.DinnerTypeRepository;
-import com.mrdabak.dinnerservice.repository.DinnerMenuItemRepository;
-import com.mrdabak.dinnerservice.repository.MenuItemRepository;
 import com.mrdabak.dinnerservice.repository.UserRepository;
 import com.mrdabak.dinnerservice.repository.order.OrderChangeRequestItemRepository;
 import com.mrdabak.dinnerservice.repository.order.OrderChangeRequestRepository;
@@ -34,8 +31,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Service
 public class OrderChangeRequestService {
@@ -49,36 +44,33 @@ public class OrderChangeRequestService {
     private final OrderItemRepository orderItemRepository;
     private final OrderChangeRequestRepository changeRequestRepository;
     private final OrderChangeRequestItemRepository changeRequestItemRepository;
-    private final DinnerTypeRepository dinnerTypeRepository;
-    private final DinnerMenuItemRepository dinnerMenuItemRepository;
-    private final MenuItemRepository menuItemRepository;
+    private final MenuCatalog menuCatalog;
     private final UserRepository userRepository;
     private final InventoryService inventoryService;
     private final PaymentService paymentService;
     private final DeliverySchedulingService deliverySchedulingService;
+    private final DeliveredOrderCounter deliveredOrderCounter;
 
     public OrderChangeRequestService(OrderRepository orderRepository,
                                      OrderItemRepository orderItemRepository,
                                      OrderChangeRequestRepository changeRequestRepository,
                                      OrderChangeRequestItemRepository changeRequestItemRepository,
-                                     DinnerTypeRepository dinnerTypeRepository,
-                                     DinnerMenuItemRepository dinnerMenuItemRepository,
-                                     MenuItemRepository menuItemRepository,
+                                     MenuCatalog menuCatalog,
                                      UserRepository userRepository,
                                      InventoryService inventoryService,
                                      PaymentService paymentService,
-                                     DeliverySchedulingService deliverySchedulingService) {
+                                     DeliverySchedulingService deliverySchedulingService,
+                                     DeliveredOrderCounter deliveredOrderCounter) {
         this.orderRepository = orderRepository;
         this.orderItemRepository = orderItemRepository;
         this.changeRequestRepository = changeRequestRepository;
         this.changeRequestItemRepository = changeRequestItemRepository;
-        this.dinnerTypeRepository = dinnerTypeRepository;
-        this.dinnerMenuItemRepository = dinnerMenuItemRepository;
-        this.menuItemRepository = menuItemRepository;
+        this.menuCatalog = menuCatalog;
         this.userRepository = userRepository;
         this.inventoryService = inventoryService;
         this.paymentService = paymentService;
         this.deliverySchedulingService = deliverySchedulingService;
+        this.deliveredOrderCounter = deliveredOrderCounter;
     }
 
     /**
@@ -349,7 +341,7 @@ public class OrderChangeRequestService {
     }
 
     private int calculateNewSubtotal(Order order, ReservationChangeRequestCreateDto command) {
-        DinnerType dinner = dinnerTypeRepository.findById(command.getDinnerTypeId())
+        DinnerType dinner = menuCatalog.findDinnerType(command.getDinnerTypeId())
                 .orElseThrow(() -> new RuntimeException("유효하지 않은 디너 타입입니다."));
         if (dinner.getName().contains("샴페인") &&
                 !List.of("grand", "deluxe").contains(command.getServingStyle())) {
@@ -363,20 +355,13 @@ public class OrderChangeRequestService {
         );
         double basePrice = dinner.getBasePrice() * styleMultipliers.getOrDefault(command.getServingStyle(), 1.0);
 
-        // 기본 제공 메뉴 항목 정보 가져오기
-        List<com.mrdabak.dinnerservice.model.DinnerMenuItem> defaultMenuItems = 
-                dinnerMenuItemRepository.findByDinnerTypeId(dinner.getId());
-        
-        // 기본 제공 항목의 기본 수량을 Map으로 저장
-        Map<Long, Integer> defaultQuantities = new java.util.HashMap<>();
-        for (com.mrdabak.dinnerservice.model.DinnerMenuItem dmi : defaultMenuItems) {
-            defaultQuantities.put(dmi.getMenuItemId(), dmi.getQuantity());
-        }
+        // 기본 제공 항목의 기본 수량
+        Map<Long, Integer> defaultQuantities = menuCatalog.defaultQuantities(dinner.getId());
 
         // 추가 수량만 계산 (기본 제공 항목의 기본 수량은 제외)
         double additionalItemsPrice = 0;
         for (OrderItemDto itemDto : command.getItems()) {
-            MenuItem menuItem = menuItemRepository.findById(itemDto.getMenuItemId())
+            MenuItem menuItem = menuCatalog.findMenuItem(itemDto.getMenuItemId())
                     .orElseThrow(() -> new RuntimeException("메뉴 아이템을 찾을 수 없습니다: " + itemDto.getMenuItemId()));
             if (itemDto.getQuantity() == null || itemDto.getQuantity() <= 0) {
                 throw new RuntimeException("메뉴 수량은 1 이상이어야 합니다.");
@@ -393,10 +378,7 @@ public class OrderChangeRequestService {
         double subtotal = basePrice + additionalItemsPrice;
         User user = userRepository.findById(order.getUserId())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        List<Order> previousOrders = orderRepository.findByUserIdOrderByCreatedAtDesc(order.getUserId());
-        long deliveredOrders = previousOrders.stream()
-                .filter(o -> "delivered".equalsIgnoreCase(o.getStatus()))
-                .count();
+        long deliveredOrders = deliveredOrderCounter.deliveredCount(order.getUserId());
         // 모든 개인정보 동의(consentName, consentAddress, consentPhone)가 true여야 할인 적용
         boolean allConsentsGiven = Boolean.TRUE.equals(user.getConsentName()) 
                 && Boolean.TRUE.equals(user.getConsentAddress()) 
@@ -411,17 +393,10 @@ public class OrderChangeRequestService {
     }
 
     private List<OrderChangeRequestItem> buildRequestItems(OrderChangeRequest request, List<OrderItemDto> items) {
-        Map<Long, MenuItem> menuItems = menuItemRepository.findAllById(
-                items.stream().map(OrderItemDto::getMenuItemId).toList())
-                .stream()
-                .collect(Collectors.toMap(MenuItem::getId, Function.identity()));
-
         List<OrderChangeRequestItem> entities = new ArrayList<>();
         for (OrderItemDto dto : items) {
-            MenuItem menuItem = menuItems.get(dto.getMenuItemId());
-            if (menuItem == null) {
-                throw new RuntimeException("메뉴 아이템을 찾을 수 없습니다: " + dto.getMenuItemId());
-            }
+            MenuItem menuItem = menuCatalog.findMenuItem(dto.getMenuItemId())
+                    .orElseThrow(() -> new RuntimeException("메뉴 아이템을 찾을 수 없습니다: " + dto.getMenuItemId()));
             OrderChangeRequestItem item = new OrderChangeRequestItem();
             item.setChangeRequest(request);
             item.setMenuItemId(dto.getMenuItemId());
@@ -455,11 +430,6 @@ public class OrderChangeRequestService {
     }
 
     private ReservationChangeRequestResponseDto toResponse(OrderChangeRequest request, List<OrderChangeRequestItem> items) {
-        Map<Long, MenuItem> lookup = menuItemRepository.findAllById(
-                        items.stream().map(OrderChangeRequestItem::getMenuItemId).toList())
-                .stream()
-                .collect(Collectors.toMap(MenuItem::getId, Function.identity()));
-
         ReservationChangeQuote quote = new ReservationChangeQuote(
                 request.getAlreadyPaidAmount(),
                 request.getRecalculatedAmount(),
@@ -468,7 +438,7 @@ public class OrderChangeRequestService {
 
         List<ReservationChangeRequestItemResponseDto> itemDtos = items.stream()
                 .map(item -> {
-                    MenuItem menuItem = lookup.get(item.getMenuItemId());
+                    MenuItem menuItem = menuCatalog.findMenuItem(item.getMenuItemId()).orElse(null);
                     return ReservationChangeRequestItemResponseDto.builder()
                             .menuItemId(item.getMenuItemId())
                             .quantity(item.getQuantity())
@@ -7,7 +7,14 @@ import com.mrdabak.dinnerservice.repository.*;
 import com.mrdabak.dinnerservice.repository.order.OrderRepository;
 import com.mrdabak.dinnerservice.repository.order.OrderItemRepository;
 import com.mrdabak.dinnerservice.util.DeliveryTimeUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -15,87 +22,202 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
 
+    private static final Logger logger = LoggerFactory.getLogger(OrderService.class);
+
+    private static final int DEFAULT_ORDER_PAGE_SIZE = 20;
+    private static final int MAX_ORDER_PAGE_SIZE = 100;
+    // writer 스레드에서 SQLITE_BUSY가 나면 대기 없이 다시 시도하는 최대 횟수 (busy_timeout 동안 이미 대기함)
+    private static final int MAX_LOCKED_ATTEMPTS = 3;
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final DinnerTypeRepository dinnerTypeRepository;
-    private final MenuItemRepository menuItemRepository;
-    private final DinnerMenuItemRepository dinnerMenuItemRepository;
+    private final MenuCatalog menuCatalog;
     private final InventoryService inventoryService;
     private final DeliverySchedulingService deliverySchedulingService;
     private final UserRepository userRepository;
+    private final DeliveredOrderCounter deliveredOrderCounter;
     private final TransactionTemplate orderTxTemplate;
+    private final OrderWriteQueue orderWriteQueue;
 
     public OrderService(OrderRepository orderRepository, OrderItemRepository orderItemRepository,
-                       DinnerTypeRepository dinnerTypeRepository, MenuItemRepository menuItemRepository,
-                       DinnerMenuItemRepository dinnerMenuItemRepository,
+                       MenuCatalog menuCatalog,
                        InventoryService inventoryService, DeliverySchedulingService deliverySchedulingService,
-                       UserRepository userRepository,
-                       @Qualifier("orderTransactionManager") PlatformTransactionManager orderTransactionManager) {
+                       UserRepository userRepository, DeliveredOrderCounter deliveredOrderCounter,
+                       @Qualifier("orderTransactionManager") PlatformTransactionManager orderTransactionManager,
+                       @Value("${order.write.batch-size:16}") int orderWriteBatchSize) {
         this.orderRepository = orderRepository;
         this.orderItemRepository = orderItemRepository;
-        this.dinnerTypeRepository = dinnerTypeRepository;
-        this.menuItemRepository = menuItemRepository;
-        this.dinnerMenuItemRepository = dinnerMenuItemRepository;
+        this.menuCatalog = menuCatalog;
         this.inventoryService = inventoryService;
         this.deliverySchedulingService = deliverySchedulingService;
         this.userRepository = userRepository;
+        this.deliveredOrderCounter = deliveredOrderCounter;
         this.orderTxTemplate = new TransactionTemplate(orderTransactionManager);
+        this.orderWriteQueue = new OrderWriteQueue("order-writer", orderWriteBatchSize, this::writeOrders);
     }
 
+    @PostConstruct
+    void startOrderWriter() {
+        orderWriteQueue.start();
+    }
+
+    @PreDestroy
+    void stopOrderWriter() {
+        orderWriteQueue.shutdown();
+    }
+
+    /**
+     * 주문 생성 요청을 주문 쓰기 큐에 넣습니다. 주문 저장은 orders.db 전용 writer 스레드에서
+     * 다른 요청과 함께 하나의 트랜잭션으로 처리되며, 결과는 반환된 future로 전달됩니다.
+     */
+    public CompletableFuture<Order> submitOrder(Long userId, OrderRequest request) {
+        return orderWriteQueue.submit(userId, request);
+    }
+
+    /**
+     * {@link #submitOrder}의 결과를 기다리는 동기 버전. 요청 스레드가 아닌 곳(음성 주문 실행기 등)에서만 씁니다.
+     */
     public Order createOrder(Long userId, OrderRequest request) {
-        int maxRetries = 10;
-        int retryCount = 0;
-        long baseDelay = 100; // Start with 100ms
-        
-        while (retryCount < maxRetries) {
-            int attempt = retryCount + 1;
-            System.out.println("[OrderService] createOrder attempt " + attempt + "/" + maxRetries + " for user " + userId);
+        logger.debug("[OrderService] createOrder 요청 - 사용자 {}", userId);
+        try {
+            return submitOrder(userId, request).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("주문 생성 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * writer 스레드에서 호출됩니다. 신규 주문은 배치 전체를 하나의 주문 트랜잭션으로 저장하고,
+     * 한 건이라도 실패하면 배치를 롤백한 뒤 요청을 한 건씩 다시 처리해 실패한 요청만 실패시킵니다.
+     * 주문 수정은 롤백으로 되돌릴 수 없는 기존 주문의 재고·스케줄 취소를 포함하므로 항상 한 건씩 처리합니다.
+     */
+    void writeOrders(List<OrderWriteQueue.OrderWrite> batch) {
+        List<OrderWriteQueue.OrderWrite> creates = new ArrayList<>(batch.size());
+        List<OrderWriteQueue.OrderWrite> replacements = new ArrayList<>();
+        for (OrderWriteQueue.OrderWrite write : batch) {
+            (write.isReplacement() ? replacements : creates).add(write);
+        }
+        if (!writeBatch(creates)) {
+            for (OrderWriteQueue.OrderWrite write : creates) {
+                writeOrder(write);
+            }
+        }
+        for (OrderWriteQueue.OrderWrite write : replacements) {
+            writeOrder(write);
+        }
+    }
+
+    private boolean writeBatch(List<OrderWriteQueue.OrderWrite> batch) {
+        if (batch.size() < 2) {
+            return false;
+        }
+        try {
+            List<Order> orders = createOrdersInTransaction(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(orders.get(i));
+            }
+            logger.info("[OrderService] 주문 {}건을 한 트랜잭션으로 저장했습니다.", batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            logger.info("[OrderService] 배치 저장 실패, 한 건씩 다시 처리합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeOrder(OrderWriteQueue.OrderWrite write) {
+        for (int attempt = 1; ; attempt++) {
             try {
-                return orderTxTemplate.execute(status -> createOrderInternal(userId, request));
-            } catch (Exception e) {
-                String errorMessage = e.getMessage() != null ? e.getMessage().toLowerCase() : "";
-                String causeMessage = "";
-                if (e.getCause() != null && e.getCause().getMessage() != null) {
-                    causeMessage = e.getCause().getMessage().toLowerCase();
+                write.result().complete(createOrdersInTransaction(List.of(write)).get(0));
+                return;
+            } catch (RuntimeException e) {
+                boolean locked = isDatabaseLocked(e);
+                if (locked && attempt < MAX_LOCKED_ATTEMPTS) {
+                    logger.warn("[OrderService] Database locked, retrying... ({}/{})", attempt, MAX_LOCKED_ATTEMPTS);
+                    continue;
                 }
-                
-                // Check for various SQLite lock errors
-                boolean isLocked = errorMessage.contains("database is locked") 
-                    || errorMessage.contains("sqlite_busy")
-                    || errorMessage.contains("sqlite_busy_snapshot")
-                    || causeMessage.contains("database is locked")
-                    || causeMessage.contains("sqlite_busy")
-                    || causeMessage.contains("sqlite_busy_snapshot");
-                
-                if (isLocked && retryCount < maxRetries - 1) {
-                    retryCount++;
-                    long delay = baseDelay * (long) Math.pow(2, retryCount - 1); // Exponential backoff: 100ms, 200ms, 400ms, 800ms...
-                    System.out.println("[OrderService] Database locked (SQLITE_BUSY_SNAPSHOT), retrying... (" + retryCount + "/" + maxRetries + ") after " + delay + "ms");
+                write.result().completeExceptionally(locked
+                        ? new RuntimeException("Failed to create order after " + attempt + " attempts due to database lock", e)
+                        : e);
+                return;
+            }
+        }
+    }
+
+    private List<Order> createOrdersInTransaction(List<OrderWriteQueue.OrderWrite> writes) {
+        List<Long> reservedOrderIds = new ArrayList<>();
+        try {
+            return orderTxTemplate.execute(status -> {
+                List<Order> orders = new ArrayList<>(writes.size());
+                for (OrderWriteQueue.OrderWrite write : writes) {
+                    // 요청 스레드의 MDC(요청 ID)를 writer 스레드에서 복원
+                    MDC.setContextMap(write.mdcContext());
                     try {
-                        Thread.sleep(delay);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException("Order creation interrupted", ie);
-                    }
-                } else {
-                    // Not a lock error or max retries reached
-                    if (isLocked) {
-                        throw new RuntimeException("Failed to create order after " + maxRetries + " retries due to database lock", e);
-                    } else {
-                        throw e;
+                        Order order = write.isReplacement()
+                                ? replaceOrder(write.replacedOrderId(), write.userId(), write.request(), orders)
+                                : createOrderInternal(write.userId(), write.request(), orders);
+                        reservedOrderIds.add(order.getId());
+                        orders.add(order);
+                    } finally {
+                        MDC.clear();
                     }
                 }
-            }
+                return orders;
+            });
+        } catch (RuntimeException e) {
+            // 주문 트랜잭션이 롤백되었으므로 inventory/schedule DB에 이미 커밋된 예약을 되돌림
+            // (롤백된 rowid는 다시 발급될 수 있지만, 새 주문은 이 writer 스레드에서만 INSERT되고
+            //  다음 쓰기 전에 여기서 예약을 먼저 지우므로 재사용된 ID가 남은 예약과 섞이지 않음)
+            reservedOrderIds.forEach(this::releaseRolledBackOrder);
+            throw e;
         }
-        throw new RuntimeException("Failed to create order after " + maxRetries + " retries");
     }
-    private Order createOrderInternal(Long userId, OrderRequest request) {
+
+    private void releaseRolledBackOrder(Long orderId) {
+        try {
+            inventoryService.releaseReservationsForOrder(orderId);
+        } catch (RuntimeException e) {
+            logger.error("[OrderService] 롤백된 주문 {}의 재고 예약 취소 실패: {}", orderId, e.getMessage());
+        }
+        try {
+            deliverySchedulingService.cancelScheduleForOrder(orderId);
+        } catch (RuntimeException e) {
+            logger.error("[OrderService] 롤백된 주문 {}의 배달 스케줄 취소 실패: {}", orderId, e.getMessage());
+        }
+    }
+
+    private boolean isDatabaseLocked(Exception e) {
+        String errorMessage = e.getMessage() != null ? e.getMessage().toLowerCase() : "";
+        String causeMessage = "";
+        if (e.getCause() != null && e.getCause().getMessage() != null) {
+            causeMessage = e.getCause().getMessage().toLowerCase();
+        }
+        // Check for various SQLite lock errors
+        return errorMessage.contains("database is locked")
+            || errorMessage.contains("sqlite_busy")
+            || causeMessage.contains("database is locked")
+            || causeMessage.contains("sqlite_busy");
+    }
+
+    /**
+     * 주문 하나를 만듭니다. {@code earlierInTransaction}은 같은 트랜잭션에서 먼저 만든 주문들로,
+     * 생성 시각(5초) 조건 없이 같은 배치 안의 중복으로 보고 따로 비교합니다.
+     */
+    private Order createOrderInternal(Long userId, OrderRequest request, List<Order> earlierInTransaction) {
         // Validate input
         if (request.getDeliveryAddress() == null || request.getDeliveryAddress().trim().isEmpty()) {
             throw new RuntimeException("배달 주소는 필수입니다.");
@@ -104,8 +226,8 @@ public class OrderService {
             throw new RuntimeException("배달 시간은 필수입니다.");
         }
 
-        // Read from main database (menu, dinner types)
-        DinnerType dinner = dinnerTypeRepository.findById(request.getDinnerTypeId())
+        // 메뉴/디너 정보는 메모리 카탈로그에서 조회
+        DinnerType dinner = menuCatalog.findDinnerType(request.getDinnerTypeId())
                 .orElseThrow(() -> new RuntimeException("유효하지 않은 디너 타입입니다."));
 
         User user = userRepository.findById(userId)
@@ -126,15 +248,8 @@ public class OrderService {
         );
         double basePrice = dinner.getBasePrice() * styleMultipliers.getOrDefault(request.getServingStyle(), 1.0);
 
-        // 기본 제공 메뉴 항목 정보 가져오기
-        List<com.mrdabak.dinnerservice.model.DinnerMenuItem> defaultMenuItems = 
-                dinnerMenuItemRepository.findByDinnerTypeId(dinner.getId());
-        
-        // 기본 제공 항목의 기본 수량을 Map으로 저장
-        Map<Long, Integer> defaultQuantities = new java.util.HashMap<>();
-        for (com.mrdabak.dinnerservice.model.DinnerMenuItem dmi : defaultMenuItems) {
-            defaultQuantities.put(dmi.getMenuItemId(), dmi.getQuantity());
-        }
+        // 기본 제공 항목의 기본 수량
+        Map<Long, Integer> defaultQuantities = menuCatalog.defaultQuantities(dinner.getId());
 
         // 추가 수량만 계산 (기본 제공 항목의 기본 수량은 제외)
         double additionalItemsPrice = 0;
@@ -145,7 +260,7 @@ public class OrderService {
             if (item.getQuantity() == null || item.getQuantity() <= 0) {
                 throw new RuntimeException("Menu item quantity must be greater than 0");
             }
-            MenuItem menuItem = menuItemRepository.findById(item.getMenuItemId())
+            MenuItem menuItem = menuCatalog.findMenuItem(item.getMenuItemId())
                     .orElseThrow(() -> new RuntimeException("Invalid menu item ID: " + item.getMenuItemId()));
             
             // 기본 제공 수량 확인
@@ -165,10 +280,7 @@ public class OrderService {
         // DeliverySchedulingService.DeliveryAssignmentPlan assignmentPlan =
         //         deliverySchedulingService.prepareAssignment(request.getDeliveryAddress(), deliveryDateTime);
 
-        List<Order> previousOrders = orderRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        long deliveredOrders = previousOrders.stream()
-                .filter(o -> "delivered".equalsIgnoreCase(o.getStatus()))
-                .count();
+        long deliveredOrders = deliveredOrderCounter.deliveredCount(userId);
         // 배달 완료 4회 이상부터 (5번째 주문부터) 할인 적용
         // 모든 개인정보 동의(consentName, consentAddress, consentPhone)가 true여야 할인 적용
         boolean allConsentsGiven = Boolean.TRUE.equals(user.getConsentName()) 
@@ -196,16 +308,19 @@ public class OrderService {
 
         // 주문 생성 시 직원 자동 할당 제거 - 관리자가 나중에 할당하도록 함
         // 주문은 하나만 생성되며, 직원 할당은 관리자가 스케줄 관리에서 할당
-        String threadId = Thread.currentThread().getName() + "-" + Thread.currentThread().getId();
-        System.out.println("[OrderService] 주문 생성 시작 - 사용자 ID: " + userId + ", 디너 타입: " + request.getDinnerTypeId());
-        System.out.println("[OrderService] 스레드: " + threadId);
-        System.out.println("[OrderService] 배달 시간: " + request.getDeliveryTime());
-        System.out.println("[OrderService] 배달 주소: " + request.getDeliveryAddress());
+        logger.debug("[OrderService] 주문 생성 시작 - 사용자 ID: {}, 디너 타입: {}, 배달 시간: {}",
+                userId, request.getDinnerTypeId(), request.getDeliveryTime());
         
         // 중복 주문 확인: 동일한 사용자가 동일한 배달 시간과 주소로 최근 5초 이내에 주문을 생성했는지 확인
         // 주의: 첫 주문인 경우에도 이 검사를 통과해야 하므로, createdAt이 null인 경우는 제외
         String deliveryTimeStr = request.getDeliveryTime();
         String deliveryAddressStr = request.getDeliveryAddress();
+        for (Order earlier : earlierInTransaction) {
+            if (userId.equals(earlier.getUserId()) && deliveryTimeStr.equals(earlier.getDeliveryTime())
+                    && deliveryAddressStr.equals(earlier.getDeliveryAddress())) {
+                throw new RuntimeException("동일한 주문이 최근에 생성되었습니다. 주문 ID: " + earlier.getId());
+            }
+        }
         List<Order> recentOrders = orderRepository.findByUserIdAndDeliveryTimeAndDeliveryAddress(userId, deliveryTimeStr, deliveryAddressStr);
         
         // 최근 5초 이내에 동일한 주문이 있는지 확인 (10초에서 5초로 단축하여 더 정확하게)
@@ -216,23 +331,20 @@ public class OrderService {
                 try {
                     long createdAtMillis = recentOrder.getCreatedAt().toInstant(java.time.ZoneOffset.UTC).toEpochMilli();
                     if (createdAtMillis > fiveSecondsAgo) {
-                        System.out.println("[OrderService] 경고: 최근 5초 이내에 동일한 주문이 이미 존재합니다 - 주문 ID: " + recentOrder.getId());
-                        System.out.println("[OrderService] 기존 주문 생성 시간: " + recentOrder.getCreatedAt());
-                        System.out.println("[OrderService] 기존 주문 배달 시간: " + recentOrder.getDeliveryTime());
-                        System.out.println("[OrderService] 기존 주문 배달 주소: " + recentOrder.getDeliveryAddress());
+                        logger.warn("[OrderService] 최근 5초 이내에 동일한 주문이 이미 존재합니다 - 주문 ID: {}, 생성 시간: {}",
+                                recentOrder.getId(), recentOrder.getCreatedAt());
                         // 중복 주문이면 예외 발생 (중복 방지)
                         throw new RuntimeException("동일한 주문이 최근에 생성되었습니다. 주문 ID: " + recentOrder.getId());
                     }
                 } catch (Exception e) {
                     // 시간 변환 실패 시 무시 (첫 주문일 수 있음)
-                    System.out.println("[OrderService] 시간 변환 실패, 중복 검사 건너뜀: " + e.getMessage());
+                    logger.debug("[OrderService] 시간 변환 실패, 중복 검사 건너뜀: {}", e.getMessage());
                 }
             }
         }
         
         Order savedOrder = orderRepository.save(order);
-        System.out.println("[OrderService] 주문 저장 완료 - 주문 ID: " + savedOrder.getId());
-        System.out.println("[OrderService] 스레드: " + threadId);
+        logger.info("[OrderService] 주문 저장 완료 - 주문 ID: {}, 사용자 ID: {}", savedOrder.getId(), userId);
 
         // Add order items - save to order database
         for (OrderItemDto item : request.getItems()) {
@@ -249,30 +361,50 @@ public class OrderService {
     }
 
     public List<Order> getUserOrders(Long userId) {
-        System.out.println("[OrderService] getUserOrders 호출 - 사용자 ID: " + userId);
-        
         try {
             List<Order> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(userId);
-            System.out.println("[OrderService] 주문 조회 완료: " + orders.size() + "개");
-            
-            if (orders.isEmpty()) {
-                System.out.println("[OrderService] 주의: 주문이 없습니다.");
-            } else {
-                System.out.println("[OrderService] 주문 ID 목록: " + orders.stream()
-                    .map(o -> o.getId().toString())
-                    .collect(java.util.stream.Collectors.joining(", ")));
-            }
-            
+            logger.debug("[OrderService] 사용자 {} 주문 조회 완료: {}개", userId, orders.size());
             return orders;
         } catch (Exception e) {
-            System.out.println("[OrderService] 주문 조회 중 오류 발생");
-            System.out.println("[OrderService] 예외 타입: " + e.getClass().getName());
-            System.out.println("[OrderService] 예외 메시지: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("[OrderService] 사용자 {} 주문 조회 중 오류 발생", userId, e);
             throw new RuntimeException("Failed to fetch user orders: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 주문 내역 키셋 페이지 조회. before(주문 ID) 이전의 주문을 id 내림차순으로 최대 limit개 반환합니다.
+     * before와 limit이 모두 없으면 기존과 동일하게 전체 주문 내역을 반환합니다.
+     */
+    public List<Order> getUserOrders(Long userId, Long beforeId, Integer limit) {
+        if (beforeId == null && limit == null) {
+            return getUserOrders(userId);
+        }
+        PageRequest page = PageRequest.of(0, orderPageSize(limit));
+        if (beforeId == null) {
+            return orderRepository.findByUserIdOrderByIdDesc(userId, page);
+        }
+        return orderRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, beforeId, page);
+    }
+
+    /**
+     * 주문 내역 한 페이지의 실제 크기. limit이 없으면 기본값, 있으면 1~최대값으로 제한합니다.
+     */
+    public static int orderPageSize(Integer limit) {
+        return limit != null ? Math.max(1, Math.min(limit, MAX_ORDER_PAGE_SIZE)) : DEFAULT_ORDER_PAGE_SIZE;
+    }
+
+    /**
+     * 여러 주문의 주문 항목을 한 번의 IN 쿼리로 조회하여 주문 ID별로 묶어 반환합니다.
+     */
+    public Map<Long, List<OrderItem>> getOrderItemsByOrderId(List<Order> orders) {
+        if (orders == null || orders.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> orderIds = orders.stream().map(Order::getId).toList();
+        return orderItemRepository.findByOrderIdIn(orderIds).stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderId));
+    }
+
     public Order getOrder(Long orderId, Long userId) {
         return orderRepository.findByIdAndUserId(orderId, userId)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
@@ -309,14 +441,13 @@ public class OrderService {
             try {
                 inventoryService.releaseReservationsForOrder(orderId);
                 inventoryCancelled = true;
-                System.out.println("[OrderService] 주문 " + orderId + "의 재고 예약이 취소되었습니다.");
+                logger.info("[OrderService] 주문 {}의 재고 예약이 취소되었습니다.", orderId);
             } catch (Exception e) {
-                System.err.println("[OrderService] 재고 예약 취소 실패: " + e.getMessage());
-                e.printStackTrace();
+                logger.error("[OrderService] 재고 예약 취소 실패: {}", e.getMessage(), e);
                 // Continue with cancellation even if inventory release fails
             }
         } else {
-            System.out.println("[OrderService] 주문 " + orderId + "는 조리 시작 이후 취소로 인해 재고는 이미 소진되었습니다.");
+            logger.info("[OrderService] 주문 {}는 조리 시작 이후 취소로 인해 재고는 이미 소진되었습니다.", orderId);
         }
 
         // Cancel delivery schedule (main database)
@@ -324,10 +455,9 @@ public class OrderService {
         try {
             deliverySchedulingService.cancelScheduleForOrder(orderId);
             scheduleCancelled = true;
-            System.out.println("[OrderService] 주문 " + orderId + "의 배달 스케줄이 취소되었습니다.");
+            logger.info("[OrderService] 주문 {}의 배달 스케줄이 취소되었습니다.", orderId);
         } catch (Exception e) {
-            System.err.println("[OrderService] 배달 스케줄 취소 실패: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("[OrderService] 배달 스케줄 취소 실패: {}", e.getMessage(), e);
             // Continue with cancellation even if schedule cancellation fails
         }
 
@@ -338,13 +468,11 @@ public class OrderService {
                 order.setAdminApprovalStatus("CANCELLED");
             }
             Order cancelledOrder = orderRepository.save(order);
-            System.out.println("[OrderService] 주문 " + orderId + "가 취소되었습니다. (재고: " + 
-                    (inventoryCancelled ? "취소됨" : "실패") + ", 스케줄: " + 
-                    (scheduleCancelled ? "취소됨" : "실패") + ")");
+            logger.info("[OrderService] 주문 {}가 취소되었습니다. (재고: {}, 스케줄: {})", orderId,
+                    inventoryCancelled ? "취소됨" : "실패", scheduleCancelled ? "취소됨" : "실패");
             return cancelledOrder;
         } catch (Exception e) {
-            System.err.println("[OrderService] 주문 상태 업데이트 실패: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("[OrderService] 주문 상태 업데이트 실패: {}", e.getMessage(), e);
             throw new RuntimeException("주문 취소 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
@@ -362,22 +490,22 @@ public class OrderService {
             throw new RuntimeException("취소된 주문은 배달 완료 처리할 수 없습니다.");
         }
         if ("delivered".equals(order.getStatus())) {
-            System.out.println("[OrderService] 주문 " + orderId + "는 이미 배달 완료 상태입니다.");
+            logger.info("[OrderService] 주문 {}는 이미 배달 완료 상태입니다.", orderId);
             return; // Already delivered, no need to process again
         }
 
         // 재고는 주문 생성 시 이미 차감되었으므로, 배달 완료 시에는 추가 처리 불필요
         // (매일 자정에 전날 예약이 자동으로 삭제됨)
-        System.out.println("[OrderService] 주문 " + orderId + " 배달 완료 - 재고는 주문 시 이미 차감되었습니다.");
+        logger.debug("[OrderService] 주문 {} 배달 완료 - 재고는 주문 시 이미 차감되었습니다.", orderId);
 
         // Update order status (order database)
         try {
             order.setStatus("delivered");
             orderRepository.save(order);
-            System.out.println("[OrderService] 주문 " + orderId + "가 배달 완료로 처리되었습니다.");
+            deliveredOrderCounter.recordDelivered(order.getUserId());
+            logger.info("[OrderService] 주문 {}가 배달 완료로 처리되었습니다.", orderId);
         } catch (Exception e) {
-            System.err.println("[OrderService] 주문 상태 업데이트 실패: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("[OrderService] 주문 상태 업데이트 실패: {}", e.getMessage(), e);
             // If order status update fails after inventory consumption, 
             // we should ideally rollback, but since we're using separate databases,
             // we'll log the error and throw exception
@@ -385,15 +513,21 @@ public class OrderService {
         }
     }
 
-    @Transactional(transactionManager = "orderTransactionManager", rollbackFor = Exception.class)
-    public Order modifyOrder(Long orderId, Long userId, OrderRequest request) {
+    /**
+     * 기존 주문을 취소하고 새 주문을 만드는 주문 수정 요청을 주문 쓰기 큐에 넣습니다.
+     * 검증과 저장은 writer 스레드의 주문 트랜잭션에서 이루어지며, 결과(새 주문)는 반환된 future로 전달됩니다.
+     */
+    public CompletableFuture<Order> modifyOrder(Long orderId, Long userId, OrderRequest request) {
         if (orderId == null) {
-            throw new IllegalArgumentException("주문 ID는 필수입니다.");
+            return CompletableFuture.failedFuture(new IllegalArgumentException("주문 ID는 필수입니다."));
         }
         if (userId == null) {
-            throw new IllegalArgumentException("사용자 ID는 필수입니다.");
+            return CompletableFuture.failedFuture(new IllegalArgumentException("사용자 ID는 필수입니다."));
         }
+        return orderWriteQueue.submitReplacement(orderId, userId, request);
+    }
 
+    private Order replaceOrder(Long orderId, Long userId, OrderRequest request, List<Order> earlierInTransaction) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
 
@@ -434,7 +568,7 @@ public class OrderService {
             throw new RuntimeException("배달 시간은 최소 3시간 전에 주문해야 합니다.");
         }
 
-        System.out.println("[OrderService] 주문 수정 시작 - 기존 주문 ID: " + orderId + ", 사용자 ID: " + userId);
+        logger.info("[OrderService] 주문 수정 시작 - 기존 주문 ID: {}, 사용자 ID: {}", orderId, userId);
 
         // 당일 예약 변경 수수료 계산 (만원)
         LocalDate today = LocalDate.now();
@@ -442,8 +576,7 @@ public class OrderService {
         boolean isSameDayModification = today.equals(deliveryDate);
         int modificationFee = isSameDayModification ? 10000 : 0; // 당일 변경 시 만원 추가
         
-        System.out.println("[OrderService] 주문 수정 수수료 계산 - 당일 변경: " + isSameDayModification + 
-                ", 수수료: " + modificationFee + "원");
+        logger.debug("[OrderService] 주문 수정 수수료 계산 - 당일 변경: {}, 수수료: {}원", isSameDayModification, modificationFee);
 
         // 기존 주문 취소 처리 (재귀 호출 방지를 위해 직접 처리)
         order.setStatus("cancelled");
@@ -452,38 +585,34 @@ public class OrderService {
         // 재고 예약 취소
         try {
             inventoryService.releaseReservationsForOrder(orderId);
-            System.out.println("[OrderService] 기존 주문 " + orderId + "의 재고 예약 취소 완료");
+            logger.debug("[OrderService] 기존 주문 {}의 재고 예약 취소 완료", orderId);
         } catch (Exception e) {
-            System.err.println("[OrderService] 재고 예약 취소 실패: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("[OrderService] 재고 예약 취소 실패: {}", e.getMessage(), e);
         }
         
         // 배달 스케줄 취소
         try {
             deliverySchedulingService.cancelScheduleForOrder(orderId);
-            System.out.println("[OrderService] 기존 주문 " + orderId + "의 배달 스케줄 취소 완료");
+            logger.debug("[OrderService] 기존 주문 {}의 배달 스케줄 취소 완료", orderId);
         } catch (Exception e) {
-            System.err.println("[OrderService] 배달 스케줄 취소 실패: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("[OrderService] 배달 스케줄 취소 실패: {}", e.getMessage(), e);
         }
         
         orderRepository.save(order);
-        System.out.println("[OrderService] 기존 주문 " + orderId + " 취소 완료");
+        logger.info("[OrderService] 기존 주문 {} 취소 완료", orderId);
         
         // 새 주문 생성 (관리자 승인 필요 - PENDING 상태로 생성)
         // 수수료가 있으면 주문 금액에 추가
-        Order newOrder = createOrderInternal(userId, request);
+        Order newOrder = createOrderInternal(userId, request, earlierInTransaction);
         if (modificationFee > 0) {
             int newTotalPrice = newOrder.getTotalPrice() + modificationFee;
             newOrder.setTotalPrice(newTotalPrice);
             newOrder = orderRepository.save(newOrder);
-            System.out.println("[OrderService] 주문 수정 수수료 적용 - 기존 금액: " + 
-                    (newOrder.getTotalPrice() - modificationFee) + "원, 수수료: " + modificationFee + 
-                    "원, 최종 금액: " + newOrder.getTotalPrice() + "원");
+            logger.debug("[OrderService] 주문 수정 수수료 적용 - 기존 금액: {}원, 수수료: {}원, 최종 금액: {}원",
+                    newOrder.getTotalPrice() - modificationFee, modificationFee, newOrder.getTotalPrice());
         }
-        System.out.println("[OrderService] 신규 주문 생성 완료 - 주문 ID: " + newOrder.getId() + 
-                ", 승인 상태: " + newOrder.getAdminApprovalStatus() + 
-                ", 총 금액: " + newOrder.getTotalPrice() + "원 (수수료 포함)");
+        logger.info("[OrderService] 신규 주문 생성 완료 - 주문 ID: {}, 승인 상태: {}, 총 금액: {}원 (수수료 포함)",
+                newOrder.getId(), newOrder.getAdminApprovalStatus(), newOrder.getTotalPrice());
         return newOrder;
     }
 
@@ -0,0 +1,104 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.dto.OrderRequest;
+import com.mrdabak.dinnerservice.model.Order;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * 주문 생성·수정 쓰기 요청을 orders.db 전용 writer 스레드 하나로 직렬화하는 큐.
+ *
+ * <p>writer 스레드는 대기 중인 요청을 최대 batchSize개까지 모아 batchWriter에 한 번에 넘기고,
+ * 요청한 쪽은 {@link CompletableFuture}로 결과를 받습니다. batchWriter가 각 요청의 future를
+ * 완료하지 못한 채 예외를 던지면 남은 future는 그 예외로 실패 처리됩니다.</p>
+ */
+class OrderWriteQueue {
+
+    private final BlockingQueue<OrderWrite> queue = new LinkedBlockingQueue<>();
+    private final int batchSize;
+    private final Consumer<List<OrderWrite>> batchWriter;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    OrderWriteQueue(String name, int batchSize, Consumer<List<OrderWrite>> batchWriter) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.batchWriter = batchWriter;
+        this.writerThread = new Thread(this::drainLoop, name);
+        this.writerThread.setDaemon(true);
+    }
+
+    void start() {
+        writerThread.start();
+    }
+
+    CompletableFuture<Order> submit(Long userId, OrderRequest request) {
+        return enqueue(null, userId, request);
+    }
+
+    /**
+     * 기존 주문 {@code replacedOrderId}를 취소하고 request로 새 주문을 만드는 수정 요청을 넣습니다.
+     */
+    CompletableFuture<Order> submitReplacement(Long replacedOrderId, Long userId, OrderRequest request) {
+        return enqueue(replacedOrderId, userId, request);
+    }
+
+    private CompletableFuture<Order> enqueue(Long replacedOrderId, Long userId, OrderRequest request) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("주문 쓰기 큐가 종료되었습니다."));
+        }
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        OrderWrite write = new OrderWrite(replacedOrderId, userId, request,
+                mdcContext != null ? mdcContext : Map.of(), new CompletableFuture<>());
+        queue.add(write);
+        return write.result();
+    }
+
+    void shutdown() {
+        running = false;
+        writerThread.interrupt();
+        List<OrderWrite> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        IllegalStateException shutdownError = new IllegalStateException("서버 종료로 주문이 처리되지 않았습니다.");
+        remaining.forEach(write -> write.result().completeExceptionally(shutdownError));
+    }
+
+    private void drainLoop() {
+        List<OrderWrite> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            try {
+                batchWriter.accept(batch);
+            } catch (Throwable t) {
+                batch.forEach(write -> write.result().completeExceptionally(t));
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 쓰기 요청 하나. {@code replacedOrderId}가 있으면 그 주문을 대체하는 수정 요청입니다.
+     */
+    record OrderWrite(Long replacedOrderId, Long userId, OrderRequest request, Map<String, String> mdcContext,
+                      CompletableFuture<Order> result) {
+
+        boolean isReplacement() {
+            return replacedOrderId != null;
+        }
+    }
+}
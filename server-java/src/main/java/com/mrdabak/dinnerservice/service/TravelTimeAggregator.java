@@ -0,0 +1,124 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.model.DeliverySchedule;
+import com.mrdabak.dinnerservice.repository.schedule.DeliveryScheduleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * 실제 배달 시간(IN_PROGRESS -> COMPLETED)을 (권역, 평일/주말, 시각) 칸마다 지수 이동 평균으로 쌓는 모델.
+ * 칸에 관측이 {@code delivery.travel-time.min-samples}건 이상 모이면 {@link HourOfWeekTravelTimeTable}보다 먼저 쓰입니다.
+ *
+ * <p>처음 사용할 때 최근 {@code delivery.travel-time.history-days}일의 완료 배달을 한 번 읽어 평균을 다시 쌓고,
+ * 이후에는 {@link DeliverySchedulingService}가 배달 완료를 커밋한 뒤 관측값을 하나씩 더합니다.</p>
+ */
+@Component
+@Order(0)
+public class TravelTimeAggregator implements TravelTimeModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(TravelTimeAggregator.class);
+    // 평일/주말 × 24시간
+    private static final int BUCKETS_PER_REGION = 2 * 24;
+    // 상태를 늦게 눌렀거나 잘못 누른 것으로 보고 버리는 관측값 범위(분)
+    private static final int MIN_OBSERVED_MINUTES = 5;
+    private static final int MAX_OBSERVED_MINUTES = 120;
+
+    private final DeliveryScheduleRepository deliveryScheduleRepository;
+    private final double alpha;
+    private final int minSamples;
+    private final int historyDays;
+    // float 칸 읽기는 원자적이라 조회는 잠그지 않음
+    private final float[] averages = new float[DeliveryRegion.count() * BUCKETS_PER_REGION];
+    private final int[] samples = new int[averages.length];
+    private volatile boolean loaded;
+
+    public TravelTimeAggregator(DeliveryScheduleRepository deliveryScheduleRepository,
+                                @Value("${delivery.travel-time.ewma-alpha:0.2}") double alpha,
+                                @Value("${delivery.travel-time.min-samples:3}") int minSamples,
+                                @Value("${delivery.travel-time.history-days:28}") int historyDays) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("delivery.travel-time.ewma-alpha는 0보다 크고 1 이하여야 합니다: " + alpha);
+        }
+        this.deliveryScheduleRepository = deliveryScheduleRepository;
+        this.alpha = alpha;
+        this.minSamples = Math.max(1, minSamples);
+        this.historyDays = Math.max(0, historyDays);
+    }
+
+    @Override
+    public OptionalInt oneWayMinutes(DeliveryRegion region, LocalDateTime arrivalTime) {
+        if (region == null || arrivalTime == null) {
+            return OptionalInt.empty();
+        }
+        ensureLoaded();
+        int index = index(region, arrivalTime);
+        if (samples[index] < minSamples) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(Math.round(averages[index]));
+    }
+
+    @Override
+    public synchronized void recordObservation(DeliveryRegion region, LocalDateTime arrivalTime, int minutes) {
+        if (!loaded) {
+            // 아직 읽지 않았으면 첫 사용 시 DB에서 함께 읽힘
+            return;
+        }
+        add(region, arrivalTime, minutes);
+    }
+
+    private void add(DeliveryRegion region, LocalDateTime arrivalTime, long minutes) {
+        if (region == null || arrivalTime == null
+                || minutes < MIN_OBSERVED_MINUTES || minutes > MAX_OBSERVED_MINUTES) {
+            return;
+        }
+        int index = index(region, arrivalTime);
+        int count = samples[index];
+        averages[index] = count == 0
+                ? minutes
+                : (float) (averages[index] + alpha * (minutes - averages[index]));
+        if (count < Integer.MAX_VALUE) {
+            samples[index] = count + 1;
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            LocalDateTime since = LocalDate.now().minusDays(historyDays).atStartOfDay();
+            List<DeliverySchedule> completed =
+                    deliveryScheduleRepository.findByStatusAndCompletedAtAfterOrderByCompletedAtAsc("COMPLETED", since);
+            int used = 0;
+            for (DeliverySchedule schedule : completed) {
+                Long minutes = schedule.actualOneWayMinutes();
+                DeliveryRegion region = DeliveryRegion.of(schedule.getDeliveryAddress());
+                if (minutes != null && region != null) {
+                    add(region, schedule.getCompletedAt(), minutes);
+                    used++;
+                }
+            }
+            loaded = true;
+            logger.info("[TravelTimeAggregator] 최근 {}일 완료 배달 {}건으로 이동 시간 평균을 만들었습니다.", historyDays, used);
+        }
+    }
+
+    private static int index(DeliveryRegion region, LocalDateTime time) {
+        DayOfWeek day = time.getDayOfWeek();
+        int weekend = day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY ? 1 : 0;
+        return region.ordinal() * BUCKETS_PER_REGION + weekend * 24 + time.getHour();
+    }
+}
@@ -1,36 +1,76 @@
 package com.mrdabak.dinnerservice.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.List;
+import java.util.OptionalInt;
 
 @Component
 public class TravelTimeEstimator {
 
-    private static final Map<String, Integer> REGION_BASELINE_MINUTES = Map.of(
-            "강남", 28,
-            "강북", 38,
-            "서초", 32,
-            "송파", 34,
-            "관악", 30,
-            "마포", 36,
-            "용산", 35
+    // 매장 -> 권역 기준 시간(분). DeliveryRegion 순서
+    private static final int[] REGION_BASELINE_MINUTES = baselines(
+            DeliveryRegion.GANGNAM, 28,
+            DeliveryRegion.GANGBUK, 38,
+            DeliveryRegion.SEOCHO, 32,
+            DeliveryRegion.SONGPA, 34,
+            DeliveryRegion.GWANAK, 30,
+            DeliveryRegion.MAPO, 36,
+            DeliveryRegion.YONGSAN, 35
     );
 
     private static final int DEFAULT_MINUTES = 40;
 
+    // 같은 권역 안에서 다음 배달지로 이동하는 시간
+    private static final int SAME_REGION_LEG_MINUTES = 10;
+
+    // 권역 간 이동 시간(분). REGION_BASELINE_MINUTES가 매장 -> 권역이라면 이 표는 권역 -> 권역입니다.
+    private static final int[][] REGION_LEG_MINUTES = legMatrix(
+            "강남", "서초", 15, "강남", "송파", 18, "강남", "용산", 22, "강남", "관악", 25,
+            "강남", "마포", 30, "강남", "강북", 35, "서초", "관악", 15, "서초", "용산", 20,
+            "서초", "송파", 25, "서초", "마포", 28, "서초", "강북", 35, "송파", "용산", 30,
+            "송파", "관악", 32, "송파", "마포", 38, "송파", "강북", 38, "관악", "용산", 22,
+            "관악", "마포", 25, "관악", "강북", 40, "마포", "용산", 15, "마포", "강북", 25,
+            "용산", "강북", 22
+    );
+
+    // 앞의 모델부터 묻고 처음 나온 값을 씀 (실측 평균 -> 초기 이동 시간표)
+    private final TravelTimeModel[] travelTimeModels;
+
+    /**
+     * 이동 시간표 없이 권역 기준 시간과 혼잡/주말 가산만으로 계산합니다.
+     */
+    public TravelTimeEstimator() {
+        this(List.of());
+    }
+
+    public TravelTimeEstimator(TravelTimeModel travelTimeModel) {
+        this(List.of(travelTimeModel));
+    }
+
+    @Autowired
+    public TravelTimeEstimator(List<TravelTimeModel> travelTimeModels) {
+        this.travelTimeModels = travelTimeModels.toArray(new TravelTimeModel[0]);
+    }
+
     public int estimateOneWayMinutes(String address, LocalDateTime deliveryTime) {
         if (address == null || address.isBlank()) {
             return DEFAULT_MINUTES;
         }
 
-        int baseline = REGION_BASELINE_MINUTES.entrySet().stream()
-                .filter(entry -> address.contains(entry.getKey()))
-                .map(Map.Entry::getValue)
-                .findFirst()
-                .orElse(DEFAULT_MINUTES);
+        DeliveryRegion region = DeliveryRegion.of(address);
+        if (region != null && deliveryTime != null) {
+            for (TravelTimeModel model : travelTimeModels) {
+                OptionalInt modeled = model.oneWayMinutes(region, deliveryTime);
+                if (modeled.isPresent()) {
+                    return Math.max(20, Math.min(modeled.getAsInt(), 75));
+                }
+            }
+        }
+        int baseline = region != null ? REGION_BASELINE_MINUTES[region.ordinal()] : DEFAULT_MINUTES;
 
         int rushHourBuffer = isRushHour(deliveryTime) ? 12 : 5;
         int weekendBuffer = isWeekend(deliveryTime) ? 8 : 0;
@@ -40,6 +80,67 @@ public class TravelTimeEstimator {
         return Math.max(20, Math.min(total, 75));
     }
 
+    /**
+     * 한 배달지에서 다음 배달지까지의 이동 시간(분). 여러 곳을 들르는 배달 경로의 구간 시간 계산에 씁니다.
+     */
+    public int estimateLegMinutes(String fromAddress, String toAddress, LocalDateTime departureTime) {
+        DeliveryRegion from = DeliveryRegion.of(fromAddress);
+        DeliveryRegion to = DeliveryRegion.of(toAddress);
+        int baseline;
+        if (from == null || to == null) {
+            baseline = DEFAULT_MINUTES;
+        } else if (from == to) {
+            baseline = SAME_REGION_LEG_MINUTES;
+        } else {
+            baseline = REGION_LEG_MINUTES[from.ordinal()][to.ordinal()];
+        }
+
+        int rushHourBuffer = isRushHour(departureTime) ? 6 : 2;
+        int weekendBuffer = isWeekend(departureTime) ? 4 : 0;
+        return Math.max(5, Math.min(baseline + rushHourBuffer + weekendBuffer, 60));
+    }
+
+    /**
+     * 주소가 속한 권역 이름. 알 수 없는 주소면 null.
+     */
+    public String regionOf(String address) {
+        DeliveryRegion region = DeliveryRegion.of(address);
+        return region != null ? region.keyword() : null;
+    }
+
+    /**
+     * 실제로 걸린 편도 이동 시간을 모든 이동 시간 모델에 알려 줍니다. 권역을 알 수 없는 주소는 무시합니다.
+     */
+    public void recordObservedOneWay(String address, LocalDateTime arrivalTime, int minutes) {
+        DeliveryRegion region = DeliveryRegion.of(address);
+        if (region == null) {
+            return;
+        }
+        for (TravelTimeModel model : travelTimeModels) {
+            model.recordObservation(region, arrivalTime, minutes);
+        }
+    }
+
+    private static int[] baselines(Object... entries) {
+        int[] baselines = new int[DeliveryRegion.count()];
+        for (int i = 0; i < entries.length; i += 2) {
+            baselines[((DeliveryRegion) entries[i]).ordinal()] = (Integer) entries[i + 1];
+        }
+        return baselines;
+    }
+
+    private static int[][] legMatrix(Object... entries) {
+        int[][] matrix = new int[DeliveryRegion.count()][DeliveryRegion.count()];
+        for (int i = 0; i < entries.length; i += 3) {
+            int from = DeliveryRegion.fromKeyword((String) entries[i]).ordinal();
+            int to = DeliveryRegion.fromKeyword((String) entries[i + 1]).ordinal();
+            int minutes = (Integer) entries[i + 2];
+            matrix[from][to] = minutes;
+            matrix[to][from] = minutes;
+        }
+        return matrix;
+    }
+
     private boolean isRushHour(LocalDateTime deliveryTime) {
         if (deliveryTime == null) {
             return false;
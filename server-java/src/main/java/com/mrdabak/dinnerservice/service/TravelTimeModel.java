@@ -0,0 +1,27 @@
+package com.mrdabak.dinnerservice.service;
+
+import java.time.LocalDateTime;
+import java.util.OptionalInt;
+
+/**
+ * 매장에서 배달 권역까지의 편도 이동 시간을 알려 주는 모델. {@link TravelTimeEstimator}가 먼저 이 모델에 묻고,
+ * 값이 없으면 권역 기준 시간 + 혼잡/주말 가산의 기본 계산을 씁니다.
+ */
+public interface TravelTimeModel {
+
+    /**
+     * 해당 권역에 {@code arrivalTime}에 도착하는 배달의 편도 이동 시간(분). 모르면 비어 있음.
+     */
+    OptionalInt oneWayMinutes(DeliveryRegion region, LocalDateTime arrivalTime);
+
+    /**
+     * {@code arrivalTime}에 도착한 배달이 실제로 걸린 편도 이동 시간을 알려 줍니다. 관측값을 쓰지 않는 모델은 무시해도 됩니다.
+     */
+    default void recordObservation(DeliveryRegion region, LocalDateTime arrivalTime, int minutes) {
+    }
+
+    /**
+     * 아무 값도 모르는 모델. 기본 계산만 쓰게 됩니다.
+     */
+    TravelTimeModel NONE = (region, arrivalTime) -> OptionalInt.empty();
+}
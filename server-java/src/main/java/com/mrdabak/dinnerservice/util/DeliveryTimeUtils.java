@@ -22,6 +22,20 @@ public final class DeliveryTimeUtils {
         if (deliveryTime == null || deliveryTime.trim().isEmpty()) {
             throw new IllegalArgumentException("배달 시간은 필수입니다.");
         }
+        LocalDateTime parsed = tryParseDeliveryTime(deliveryTime);
+        if (parsed != null) {
+            return parsed;
+        }
+        throw new RuntimeException("잘못된 배달 시간 형식입니다. (예: 2025-11-19T18:00 또는 2025-11-19T18:00:00)");
+    }
+
+    /**
+     * 형식이 맞지 않거나 비어 있으면 예외 대신 null을 돌려줍니다.
+     */
+    public static LocalDateTime tryParseDeliveryTime(String deliveryTime) {
+        if (deliveryTime == null || deliveryTime.trim().isEmpty()) {
+            return null;
+        }
         for (DateTimeFormatter formatter : SUPPORTED_FORMATS) {
             try {
                 return LocalDateTime.parse(deliveryTime, formatter);
@@ -29,7 +43,7 @@ public final class DeliveryTimeUtils {
                 // try next formatter
             }
         }
-        throw new RuntimeException("잘못된 배달 시간 형식입니다. (예: 2025-11-19T18:00 또는 2025-11-19T18:00:00)");
+        return null;
     }
 
     public static LocalDate extractReservationDate(String deliveryTime) {
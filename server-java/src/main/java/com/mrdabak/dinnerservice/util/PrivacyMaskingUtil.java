@@ -18,10 +18,7 @@ public class PrivacyMaskingUtil {
         if (user == null) {
             return MASKED_VALUE;
         }
-        if (Boolean.TRUE.equals(user.getConsentName())) {
-            return user.getName();
-        }
-        return MASKED_VALUE;
+        return mask(user.getName(), user.getConsentName());
     }
     
     /**
@@ -32,10 +29,7 @@ public class PrivacyMaskingUtil {
         if (user == null) {
             return MASKED_VALUE;
         }
-        if (Boolean.TRUE.equals(user.getConsentAddress())) {
-            return user.getAddress();
-        }
-        return MASKED_VALUE;
+        return mask(user.getAddress(), user.getConsentAddress());
     }
     
     /**
@@ -46,8 +40,15 @@ public class PrivacyMaskingUtil {
         if (user == null) {
             return MASKED_VALUE;
         }
-        if (Boolean.TRUE.equals(user.getConsentPhone())) {
-            return user.getPhone();
+        return mask(user.getPhone(), user.getConsentPhone());
+    }
+    
+    /**
+     * 동의한 경우에만 값을 그대로 반환하고, 아니면 마스킹 처리합니다.
+     */
+    public static String mask(String value, Boolean consent) {
+        if (Boolean.TRUE.equals(consent)) {
+            return value;
         }
         return MASKED_VALUE;
     }
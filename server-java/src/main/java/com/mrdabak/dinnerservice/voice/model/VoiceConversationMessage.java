@@ -27,6 +27,10 @@ public final class VoiceConversationMessage {
         return new VoiceConversationMessage(UUID.randomUUID().toString(), role, content, Instant.now(), visibleToClient);
     }
 
+    public static VoiceConversationMessage restore(String id, String role, String content, Instant timestamp, boolean visibleToClient) {
+        return new VoiceConversationMessage(id, role, content, timestamp, visibleToClient);
+    }
+
     public String getId() {
         return id;
     }
@@ -23,6 +23,9 @@ public class VoiceOrderSession {
     private Instant updatedAt = Instant.now();
     private boolean orderPlaced;
     private Long createdOrderId;
+    // 프롬프트에서 최근 대화 창 밖으로 밀려난 메시지의 요약과, 마지막으로 요약에 포함된 메시지 id
+    private String historyDigest;
+    private String historyDigestCursor;
 
     public VoiceOrderSession(String sessionId, Long userId, String customerName, String customerDefaultAddress, String customerPhone) {
         this.sessionId = sessionId;
@@ -32,6 +35,24 @@ public class VoiceOrderSession {
         this.customerPhone = customerPhone;
     }
 
+    /**
+     * Rebuilds a session from a persisted snapshot (used when restoring sessions after a restart).
+     */
+    public static VoiceOrderSession restore(String sessionId, Long userId, String customerName,
+                                            String customerDefaultAddress, String customerPhone,
+                                            VoiceOrderState currentState, List<VoiceConversationMessage> messages,
+                                            Instant createdAt, Instant updatedAt,
+                                            boolean orderPlaced, Long createdOrderId) {
+        VoiceOrderSession session = new VoiceOrderSession(sessionId, userId, customerName, customerDefaultAddress, customerPhone);
+        session.currentState = currentState != null ? currentState : new VoiceOrderState();
+        session.messages.addAll(messages);
+        session.createdAt = createdAt;
+        session.updatedAt = updatedAt;
+        session.orderPlaced = orderPlaced;
+        session.createdOrderId = createdOrderId;
+        return session;
+    }
+
     public String getSessionId() {
         return sessionId;
     }
@@ -106,6 +127,19 @@ public class VoiceOrderSession {
     public Long getCreatedOrderId() {
         return createdOrderId;
     }
+
+    public String getHistoryDigest() {
+        return historyDigest;
+    }
+
+    public String getHistoryDigestCursor() {
+        return historyDigestCursor;
+    }
+
+    public void updateHistoryDigest(String digest, String cursorMessageId) {
+        this.historyDigest = digest;
+        this.historyDigestCursor = cursorMessageId;
+    }
 }
 
 
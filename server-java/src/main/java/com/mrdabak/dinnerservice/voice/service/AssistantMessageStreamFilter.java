@@ -0,0 +1,106 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+/**
+ * 스트리밍으로 들어오는 LLM 출력에서 고객에게 들려줄 assistant_message 부분만 골라냅니다.
+ *
+ * <p>"assistant_message:" 라벨은 건너뛰고, "order_state_json" 또는 코드 블록(```)이 시작되면 그 뒤는 내보내지 않습니다.
+ * 청크 경계에서 마커가 잘릴 수 있으므로 마커의 앞부분일 수 있는 꼬리는 다음 청크가 올 때까지 보류합니다.</p>
+ */
+class AssistantMessageStreamFilter {
+
+    private static final String LABEL = "assistant_message:";
+    private static final String[] STOP_MARKERS = {"order_state_json", "```"};
+
+    private final StringBuilder raw = new StringBuilder();
+    private int emitted;
+    private boolean stopped;
+
+    /**
+     * 새 청크를 추가하고, 이번에 새로 내보낼 수 있는 텍스트를 돌려줍니다. (없으면 빈 문자열)
+     */
+    String accept(String chunk) {
+        if (chunk == null || chunk.isEmpty()) {
+            return "";
+        }
+        raw.append(chunk);
+        if (stopped) {
+            // 주문 상태 JSON 부분은 rawContent()로만 전달
+            return "";
+        }
+
+        int start = skipLeadingWhitespace(0);
+        if (startsWithIgnoreCase(start, LABEL)) {
+            start = skipLeadingWhitespace(start + LABEL.length());
+        } else if (isPrefixOfLabel(start)) {
+            // 라벨이 아직 다 들어오지 않음
+            return "";
+        }
+
+        int end = raw.length();
+        for (String marker : STOP_MARKERS) {
+            int index = indexOfIgnoreCase(marker, start);
+            if (index >= 0 && index < end) {
+                end = index;
+                stopped = true;
+            }
+        }
+        if (!stopped) {
+            end -= pendingMarkerPrefix(start);
+        }
+
+        int from = Math.max(start, emitted);
+        if (end <= from) {
+            return "";
+        }
+        emitted = end;
+        return raw.substring(from, end);
+    }
+
+    String rawContent() {
+        return raw.toString();
+    }
+
+    private int skipLeadingWhitespace(int from) {
+        int index = from;
+        while (index < raw.length() && Character.isWhitespace(raw.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private boolean startsWithIgnoreCase(int offset, String text) {
+        return raw.length() - offset >= text.length() && raw.toString().regionMatches(true, offset, text, 0, text.length());
+    }
+
+    private boolean isPrefixOfLabel(int offset) {
+        int length = raw.length() - offset;
+        return length < LABEL.length() && LABEL.regionMatches(true, 0, raw.toString(), offset, length);
+    }
+
+    private int indexOfIgnoreCase(String marker, int from) {
+        String text = raw.toString();
+        for (int i = from; i <= text.length() - marker.length(); i++) {
+            if (text.regionMatches(true, i, marker, 0, marker.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 버퍼 끝이 어떤 마커의 앞부분과 일치하면 그 길이를 돌려줍니다.
+     */
+    private int pendingMarkerPrefix(int start) {
+        String text = raw.toString();
+        int longest = 0;
+        for (String marker : STOP_MARKERS) {
+            for (int length = Math.min(marker.length() - 1, text.length() - start); length > longest; length--) {
+                if (text.regionMatches(true, text.length() - length, marker, 0, length)) {
+                    longest = length;
+                    break;
+                }
+            }
+        }
+        return longest;
+    }
+}
@@ -8,25 +8,47 @@ import com.mrdabak.dinnerservice.voice.model.VoiceOrderState;
 import com.mrdabak.dinnerservice.voice.util.DomainVocabularyNormalizer;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
 @Service
 public class VoiceConversationService {
 
+    private static final Pattern JSON_CODE_BLOCK = Pattern.compile("```json[\\s\\S]*?```");
+    private static final Pattern CODE_BLOCK = Pattern.compile("```[\\s\\S]*?```");
+    private static final Pattern ASSISTANT_AND_STATE_BLOCK =
+            Pattern.compile("(?s)assistant_message\\s*:.*?order_state_json\\s*:.*?```json[\\s\\S]*?```");
+    private static final Pattern STATE_BLOCK = Pattern.compile("(?s)order_state_json\\s*:.*?```json[\\s\\S]*?```");
+    private static final Pattern STATE_LABEL = Pattern.compile("(?i)order_state_json\\s*:?\\s*");
+    private static final Pattern ASSISTANT_LABEL = Pattern.compile("(?i)assistant_message\\s*:?\\s*");
+    // 주문 확정 의사 표현 패턴 (더 포괄적으로)
+    private static final Pattern CONFIRMATION_PATTERN = Pattern.compile(
+            "(확정|주문\\s*확정|확정할게|확정해줘|확정하자|확정해|확정하겠|확정합니다|" +
+            "좋아|네|그래|확인|주문할게|주문하자|주문해줘|주문해|주문하겠|주문합니다|" +
+            "맞아|그렇게\\s*해줘|그거로\\s*해줘|주문\\s*할게|주문\\s*하자|" +
+            "그대로|그걸로|주문\\s*확인|진행|해줘|할게|하겠)",
+            Pattern.CASE_INSENSITIVE);
+
     private final VoiceOrderSessionService sessionService;
     private final VoiceOrderAssistantClient assistantClient;
     private final VoiceOrderStateMerger stateMerger;
     private final DomainVocabularyNormalizer normalizer;
     private final VoiceMenuCatalogService menuCatalogService;
+    private final VoiceLocalIntentEngine localIntentEngine;
 
     public VoiceConversationService(VoiceOrderSessionService sessionService,
                                     VoiceOrderAssistantClient assistantClient,
                                     VoiceOrderStateMerger stateMerger,
                                     DomainVocabularyNormalizer normalizer,
-                                    VoiceMenuCatalogService menuCatalogService) {
+                                    VoiceMenuCatalogService menuCatalogService,
+                                    VoiceLocalIntentEngine localIntentEngine) {
         this.sessionService = sessionService;
         this.assistantClient = assistantClient;
         this.stateMerger = stateMerger;
         this.normalizer = normalizer;
         this.menuCatalogService = menuCatalogService;
+        this.localIntentEngine = localIntentEngine;
     }
 
     public VoiceConversationResult startSession(User user) {
@@ -36,7 +58,7 @@ public class VoiceConversationService {
                 고객 이름: %s
                 상황: 고객이 음성 주문 페이지에 접속했습니다. 정중하게 인사하고 기념일/행사 여부를 물어보며 대화를 시작하세요.
                 """.formatted(user.getName());
-        return sendToAssistant(session, greetingPrompt, false);
+        return sendToAssistant(session, greetingPrompt, false, false);
     }
 
     public VoiceConversationResult handleUtterance(String sessionId, String userText, boolean visibleToClient) {
@@ -44,7 +66,23 @@ public class VoiceConversationService {
         String cleaned = normalizer.cleanupTranscript(userText);
         // JSON 필터링
         cleaned = filterJsonFromUserInput(cleaned);
-        return sendToAssistant(session, cleaned, visibleToClient);
+        return sendToAssistant(session, cleaned, visibleToClient, true);
+    }
+
+    /**
+     * {@link #handleUtterance}와 같지만 LLM 응답을 스트리밍으로 받아 assistant_message 조각을 {@code onDelta}로 바로 넘깁니다.
+     * 주문 상태 병합은 스트림이 끝난 뒤에 한 번만 수행합니다. 로컬 규칙으로 처리된 발화는 응답 전체를 한 번에 넘깁니다.
+     */
+    public VoiceConversationResult handleUtteranceStreaming(String sessionId, String userText, boolean visibleToClient,
+                                                            Consumer<String> onDelta) {
+        VoiceOrderSession session = sessionService.requireSession(sessionId);
+        String cleaned = filterJsonFromUserInput(normalizer.cleanupTranscript(userText));
+        Turn turn = prepareTurn(session, cleaned, visibleToClient);
+        Optional<VoiceAssistantResponse> local = localIntentEngine.interpret(session, cleaned);
+        local.ifPresent(response -> onDelta.accept(response.assistantMessage()));
+        VoiceAssistantResponse response = local.orElseGet(() -> assistantClient.streamResponse(
+                session, menuCatalogService.buildPromptBlock(), onDelta));
+        return completeTurn(session, cleaned, turn, response);
     }
     
     /**
@@ -56,17 +94,19 @@ public class VoiceConversationService {
         }
         
         // 코드 블록 형태의 JSON 제거
-        input = input.replaceAll("```json[\\s\\S]*?```", "");
-        input = input.replaceAll("```[\\s\\S]*?```", "");
+        if (input.contains("```")) {
+            input = JSON_CODE_BLOCK.matcher(input).replaceAll("");
+            input = CODE_BLOCK.matcher(input).replaceAll("");
+        }
         
         // 명확한 JSON 블록 패턴만 제거 (여러 줄에 걸친 경우)
         if (input.contains("{") && input.contains("}") && input.contains("\"") && 
             (input.contains("order_state_json") || input.contains("assistant_message"))) {
             // JSON 블록 전체 제거
-            input = input.replaceAll("(?s)assistant_message\\s*:.*?order_state_json\\s*:.*?```json[\\s\\S]*?```", "");
-            input = input.replaceAll("(?s)order_state_json\\s*:.*?```json[\\s\\S]*?```", "");
-            input = input.replaceAll("(?i)order_state_json\\s*:?\\s*", "");
-            input = input.replaceAll("(?i)assistant_message\\s*:?\\s*", "");
+            input = ASSISTANT_AND_STATE_BLOCK.matcher(input).replaceAll("");
+            input = STATE_BLOCK.matcher(input).replaceAll("");
+            input = STATE_LABEL.matcher(input).replaceAll("");
+            input = ASSISTANT_LABEL.matcher(input).replaceAll("");
         }
         
         return input.trim();
@@ -80,20 +120,9 @@ public class VoiceConversationService {
             return;
         }
         
-        String lowerText = userText.toLowerCase().trim();
-        
-        // 주문 확정 의사 표현 패턴 (더 포괄적으로)
-        java.util.regex.Pattern confirmationPattern = java.util.regex.Pattern.compile(
-            "(확정|주문\\s*확정|확정할게|확정해줘|확정하자|확정해|확정하겠|확정합니다|" +
-            "좋아|네|그래|확인|주문할게|주문하자|주문해줘|주문해|주문하겠|주문합니다|" +
-            "맞아|그렇게\\s*해줘|그거로\\s*해줘|주문\\s*할게|주문\\s*하자|" +
-            "그대로|그걸로|주문\\s*확인|진행|해줘|할게|하겠)",
-            java.util.regex.Pattern.CASE_INSENSITIVE
-        );
-        
         // readyForConfirmation이 true이거나 모든 필수 정보가 준비되었으면 확정 의사를 받아들임
         boolean isReady = Boolean.TRUE.equals(state.getReadyForConfirmation()) || state.isReadyForCheckout();
-        if (confirmationPattern.matcher(lowerText).find() && isReady) {
+        if (isReady && CONFIRMATION_PATTERN.matcher(userText.toLowerCase().trim()).find()) {
             // 주문 확정 의사 표현이 감지되고 확정 준비가 된 경우
             state.setFinalConfirmation(true);
             // 확정 의사가 표현되면 readyForConfirmation도 true로 유지
@@ -101,7 +130,22 @@ public class VoiceConversationService {
         }
     }
 
-    private VoiceConversationResult sendToAssistant(VoiceOrderSession session, String userText, boolean visible) {
+    private VoiceConversationResult sendToAssistant(VoiceOrderSession session, String userText, boolean visible,
+                                                    boolean allowLocalIntent) {
+        Turn turn = prepareTurn(session, userText, visible);
+        // 확정/스타일/시간/수량처럼 규칙으로 확실히 해석되는 발화는 LLM을 부르지 않음
+        Optional<VoiceAssistantResponse> local = allowLocalIntent
+                ? localIntentEngine.interpret(session, userText)
+                : Optional.empty();
+        VoiceAssistantResponse response = local.orElseGet(
+                () -> assistantClient.generateResponse(session, menuCatalogService.buildPromptBlock()));
+        return completeTurn(session, userText, turn, response);
+    }
+
+    /**
+     * 고객 발화를 기록하고 확정 의사를 먼저 감지합니다.
+     */
+    private Turn prepareTurn(VoiceOrderSession session, String userText, boolean visible) {
         VoiceConversationMessage userMessage = VoiceConversationMessage.of("user", userText, visible);
         session.addMessage(userMessage, sessionService.historyLimit());
 
@@ -111,15 +155,18 @@ public class VoiceConversationService {
         }
         boolean hadFinalConfirmation = Boolean.TRUE.equals(session.getCurrentState().getFinalConfirmation());
         detectAndSetConfirmationIntent(session.getCurrentState(), userText);
+        return new Turn(userMessage, hadFinalConfirmation);
+    }
 
-        VoiceAssistantResponse response = assistantClient.generateResponse(session, menuCatalogService.buildPromptBlock());
+    private VoiceConversationResult completeTurn(VoiceOrderSession session, String userText,
+                                                 Turn turn, VoiceAssistantResponse response) {
         VoiceConversationMessage agentMessage = VoiceConversationMessage.of("assistant", response.assistantMessage(), true);
         session.addMessage(agentMessage, sessionService.historyLimit());
 
         stateMerger.merge(session.getCurrentState(), response.orderState());
         
         // 확정 의사 표현이 감지되었거나 이전에 이미 확정되었으면 유지
-        if (hadFinalConfirmation || Boolean.TRUE.equals(session.getCurrentState().getFinalConfirmation())) {
+        if (turn.hadFinalConfirmation() || Boolean.TRUE.equals(session.getCurrentState().getFinalConfirmation())) {
             session.getCurrentState().setFinalConfirmation(true);
             // 확정 의사가 있으면 readyForConfirmation도 true로 유지
             if (session.getCurrentState().isReadyForCheckout()) {
@@ -143,8 +190,11 @@ public class VoiceConversationService {
             }
         }
         
-        return new VoiceConversationResult(session, userMessage, agentMessage, response);
+        sessionService.touch(session);
+        return new VoiceConversationResult(session, turn.userMessage(), agentMessage, response);
     }
+
+    private record Turn(VoiceConversationMessage userMessage, boolean hadFinalConfirmation) { }
 }
 
 
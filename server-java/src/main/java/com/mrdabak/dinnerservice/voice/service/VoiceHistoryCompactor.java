@@ -0,0 +1,85 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+import com.mrdabak.dinnerservice.voice.model.VoiceConversationMessage;
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderSession;
+
+import java.util.List;
+
+/**
+ * LLM에 보낼 대화 기록을 "최근 N개 메시지 + 그 이전 대화의 짧은 요약"으로 줄입니다.
+ *
+ * <p>요약은 세션에 보관하고 창 밖으로 새로 밀려난 메시지만 덧붙이므로 턴마다 전체를 다시 만들지 않습니다.
+ * 주문 내용 자체는 [현재 주문 상태 JSON]에 이미 들어 있으므로 요약은 발화 흐름만 짧게 남기고,
+ * 최대 길이를 넘으면 가장 오래된 줄부터 버립니다.</p>
+ */
+class VoiceHistoryCompactor {
+
+    private static final int LINE_MAX_CHARS = 100;
+
+    private final int recentMessages;
+    private final int digestMaxChars;
+
+    VoiceHistoryCompactor(int recentMessages, int digestMaxChars) {
+        if (recentMessages < 1) {
+            throw new IllegalArgumentException("최근 메시지 수는 1 이상이어야 합니다: " + recentMessages);
+        }
+        this.recentMessages = recentMessages;
+        this.digestMaxChars = digestMaxChars;
+    }
+
+    CompactedHistory compact(VoiceOrderSession session) {
+        List<VoiceConversationMessage> messages = session.getMessages();
+        int boundary = Math.max(0, messages.size() - recentMessages);
+        List<VoiceConversationMessage> recent = List.copyOf(messages.subList(boundary, messages.size()));
+        if (boundary == 0) {
+            return new CompactedHistory(session.getHistoryDigest(), recent);
+        }
+
+        // 커서 이후 ~ 창 경계 전까지만 새로 요약. 커서가 기록 상한으로 잘려 나갔으면 남은 메시지는 모두 그 이후임
+        int from = 0;
+        String cursor = session.getHistoryDigestCursor();
+        if (cursor != null) {
+            for (int i = boundary - 1; i >= 0; i--) {
+                if (cursor.equals(messages.get(i).getId())) {
+                    from = i + 1;
+                    break;
+                }
+            }
+        }
+        if (from >= boundary) {
+            return new CompactedHistory(session.getHistoryDigest(), recent);
+        }
+
+        StringBuilder digest = new StringBuilder(session.getHistoryDigest() == null ? "" : session.getHistoryDigest());
+        for (int i = from; i < boundary; i++) {
+            VoiceConversationMessage message = messages.get(i);
+            if (!message.isVisibleToClient() || message.getContent() == null || message.getContent().isBlank()) {
+                continue;
+            }
+            if (!digest.isEmpty()) {
+                digest.append('\n');
+            }
+            digest.append("- ").append("assistant".equals(message.getRole()) ? "상담원: " : "고객: ")
+                    .append(abbreviate(message.getContent()));
+        }
+        while (digest.length() > digestMaxChars) {
+            int lineEnd = digest.indexOf("\n");
+            if (lineEnd < 0) {
+                digest.setLength(0);
+                break;
+            }
+            digest.delete(0, lineEnd + 1);
+        }
+
+        String text = digest.isEmpty() ? null : digest.toString();
+        session.updateHistoryDigest(text, messages.get(boundary - 1).getId());
+        return new CompactedHistory(text, recent);
+    }
+
+    private static String abbreviate(String content) {
+        String singleLine = content.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= LINE_MAX_CHARS ? singleLine : singleLine.substring(0, LINE_MAX_CHARS) + "…";
+    }
+
+    record CompactedHistory(String digest, List<VoiceConversationMessage> recentMessages) { }
+}
@@ -0,0 +1,312 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mrdabak.dinnerservice.voice.VoiceOrderException;
+import com.mrdabak.dinnerservice.voice.client.VoiceAssistantResponse;
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderItem;
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderSession;
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderState;
+import com.mrdabak.dinnerservice.voice.util.DomainVocabularyNormalizer;
+import com.mrdabak.dinnerservice.voice.util.RelativeDateParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LLM 없이 처리할 수 있는 짧고 명확한 발화(확정, 서빙 스타일 변경, 배달 시간 지정, 수량 변경)를 규칙으로 해석합니다.
+ *
+ * <p>발화 전체가 정해진 패턴과 정확히 일치하고 현재 주문 상태로 검증될 때만 응답을 만들며,
+ * 조금이라도 애매하면 비워 두어 LLM이 처리하도록 합니다. 만든 주문 상태 변경분은 호출자가
+ * {@link VoiceOrderStateMerger}로 병합합니다.</p>
+ */
+@Component
+public class VoiceLocalIntentEngine {
+
+    enum Intent { CONFIRM, SERVING_STYLE, DELIVERY_TIME, QUANTITY }
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[.!?~,。]+");
+    private static final Pattern SPACED_WEEK = Pattern.compile("(이번|다음)\\s+주");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String POLITE_PREFIX = "(?:(?:네|예|좋아요|음)\\s+)?";
+
+    private static final Pattern CONFIRM_PATTERN = Pattern.compile("^" + POLITE_PREFIX
+            + "(?:네|예|응|좋아요|좋아|그래요|맞아요|확정|주문\\s*확정|(?:주문\\s*)?확정(?:할게요|할게|해요|해\\s*주세요|합니다|하겠습니다|하자)"
+            + "|주문(?:할게요|할게|해\\s*주세요|하겠습니다)|그대로\\s*(?:해\\s*주세요|할게요|주문할게요))$");
+
+    private static final Pattern SERVING_STYLE_PATTERN = Pattern.compile("^" + POLITE_PREFIX
+            + "(?:서빙\\s*)?(?:스타일(?:은|을)?\\s*)?(심플|그랜드|디럭스)(?:\\s*스타일)?(?:로|으로)?\\s*"
+            + "(?:해\\s*주세요|해\\s*줘|할게요|바꿔\\s*주세요|바꿔\\s*줘|변경해\\s*주세요|변경할게요|부탁해요|부탁드려요|요)?$");
+
+    private static final Pattern DELIVERY_TIME_PATTERN = Pattern.compile("^" + POLITE_PREFIX
+            + "(?<spoken>(?<date>오늘|내일|모레|(?:이번주|다음주)?\\s*[월화수목금토일]요일|\\d{1,2}일\\s*후)?\\s*"
+            + "(?<period>오전|오후|저녁|밤|아침|점심)?\\s*(?<hour>\\d{1,2})\\s*시(?:\\s*(?<minute>\\d{1,2})\\s*분|\\s*(?<half>반))?)"
+            + "(?:에|으로|로|까지)?\\s*(?:배달(?:해\\s*주세요|해\\s*줘|받을게요|부탁해요|부탁드려요)?|보내\\s*주세요|와\\s*주세요|해\\s*주세요|할게요|요)?$");
+
+    private static final Pattern QUANTITY_PATTERN = Pattern.compile("^" + POLITE_PREFIX
+            + "(샴페인|와인|커피|스테이크|샐러드|에그|스크램블|베이컨|바게트|빵)(?:은|는|을|를|도)?\\s*"
+            + "(\\d{1,2}|한|하나|두|둘|세|셋|네|넷|다섯|여섯|일곱|여덟|아홉|열)\\s*(개|잔|병|인분|조각|접시)?\\s*(더)?\\s*(?:로|으로|만)?\\s*"
+            + "(?:(추가)(?:해\\s*주세요|해\\s*줘|할게요|요)?|해\\s*주세요|해\\s*줘|할게요|주세요|줘|요|바꿔\\s*주세요|변경해\\s*주세요|넣어\\s*주세요)?$");
+
+    private static final Map<String, Integer> NATIVE_NUMBERS = Map.ofEntries(
+            Map.entry("한", 1), Map.entry("하나", 1), Map.entry("두", 2), Map.entry("둘", 2),
+            Map.entry("세", 3), Map.entry("셋", 3), Map.entry("네", 4), Map.entry("넷", 4),
+            Map.entry("다섯", 5), Map.entry("여섯", 6), Map.entry("일곱", 7), Map.entry("여덟", 8),
+            Map.entry("아홉", 9), Map.entry("열", 10));
+
+    private static final int MAX_QUANTITY = 20;
+    private static final DateTimeFormatter PARSER_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final VoiceOrderStateMerger stateMerger;
+    private final VoiceMenuCatalogService menuCatalogService;
+    private final DomainVocabularyNormalizer normalizer;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    private final LongAdder attempts = new LongAdder();
+    private final Map<Intent, LongAdder> hits = new EnumMap<>(Intent.class);
+
+    public VoiceLocalIntentEngine(VoiceOrderStateMerger stateMerger,
+                                  VoiceMenuCatalogService menuCatalogService,
+                                  DomainVocabularyNormalizer normalizer,
+                                  ObjectMapper objectMapper,
+                                  @Value("${voice.local-intent.enabled:true}") boolean enabled) {
+        this.stateMerger = stateMerger;
+        this.menuCatalogService = menuCatalogService;
+        this.normalizer = normalizer;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        for (Intent intent : Intent.values()) {
+            hits.put(intent, new LongAdder());
+        }
+    }
+
+    /**
+     * 확신할 수 있는 발화면 상담원 응답과 주문 상태 변경분을 돌려주고, 아니면 비어 있는 값을 돌려줍니다.
+     */
+    public Optional<VoiceAssistantResponse> interpret(VoiceOrderSession session, String utterance) {
+        if (!enabled || utterance == null || utterance.isBlank()) {
+            return Optional.empty();
+        }
+        attempts.increment();
+        String text = normalizeUtterance(utterance);
+        VoiceOrderState state = session.getCurrentState() != null ? session.getCurrentState() : new VoiceOrderState();
+
+        Optional<LocalReply> reply = confirm(text, state)
+                .or(() -> servingStyle(text, state))
+                .or(() -> deliveryTime(text, state))
+                .or(() -> quantity(text, state));
+        reply.ifPresent(r -> hits.get(r.intent()).increment());
+        return reply.map(r -> new VoiceAssistantResponse(withNextQuestion(session, r), r.patch(), "[local:" + r.intent() + "]"));
+    }
+
+    private Optional<LocalReply> confirm(String text, VoiceOrderState state) {
+        // 요약을 보여 주고 확인을 요청한 상태(readyForConfirmation)에서만 "네"를 확정으로 받아들임
+        if (!CONFIRM_PATTERN.matcher(text).matches()
+                || !Boolean.TRUE.equals(state.getReadyForConfirmation()) || !state.isReadyForCheckout()) {
+            return Optional.empty();
+        }
+        VoiceOrderState patch = new VoiceOrderState();
+        patch.setReadyForConfirmation(true);
+        patch.setFinalConfirmation(true);
+        return Optional.of(new LocalReply(Intent.CONFIRM, patch, "알겠습니다. 주문을 확정하겠습니다."));
+    }
+
+    private Optional<LocalReply> servingStyle(String text, VoiceOrderState state) {
+        Matcher matcher = SERVING_STYLE_PATTERN.matcher(text);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        Optional<String> style = normalizer.normalizeServingStyle(matcher.group(1));
+        if (style.isEmpty()
+                || (state.hasDinnerSelection() && !menuCatalogService.allowedServingStyles(state.getDinnerType()).contains(style.get()))) {
+            // 디너가 허용하지 않는 스타일(예: 샴페인 축제 + 심플)은 LLM이 안내
+            return Optional.empty();
+        }
+        VoiceOrderState patch = new VoiceOrderState();
+        patch.setServingStyle(style.get());
+        String label = menuCatalogService.servingStyleLabel(style.get());
+        return Optional.of(new LocalReply(Intent.SERVING_STYLE, patch, "서빙 스타일을 %s%s 변경했습니다.".formatted(label, directionalParticle(label))));
+    }
+
+    private Optional<LocalReply> deliveryTime(String text, VoiceOrderState state) {
+        Matcher matcher = DELIVERY_TIME_PATTERN.matcher(text);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String dateExpression = matcher.group("date") != null ? matcher.group("date").trim() : state.getDeliveryDate();
+        if (dateExpression == null || dateExpression.isBlank()) {
+            // 날짜를 모르면 LLM이 되물음
+            return Optional.empty();
+        }
+        int minute = matcher.group("minute") != null ? Integer.parseInt(matcher.group("minute"))
+                : matcher.group("half") != null ? 30 : 0;
+        Integer hour = resolveHour(matcher.group("period"), Integer.parseInt(matcher.group("hour")));
+        if (hour == null || minute > 59) {
+            return Optional.empty();
+        }
+
+        String converted = RelativeDateParser.parseRelativeDateTime(dateExpression, "%02d:%02d".formatted(hour, minute));
+        if (converted == null) {
+            return Optional.empty();
+        }
+        LocalDateTime deliveryAt = LocalDateTime.parse(converted, PARSER_FORMAT);
+        if (!deliveryAt.isAfter(LocalDateTime.now())) {
+            // 과거 시간은 LLM 경로의 안내 흐름을 그대로 사용
+            return Optional.empty();
+        }
+        VoiceOrderState patch = new VoiceOrderState();
+        patch.setDeliveryDateTime(deliveryAt.toString());
+        // 변환한 날짜 대신 고객이 말한 표현 그대로 되돌려 줌
+        String spoken = matcher.group("spoken").trim();
+        return Optional.of(new LocalReply(Intent.DELIVERY_TIME, patch,
+                "배달 시간을 %s%s 설정했습니다.".formatted(spoken, directionalParticle(spoken))));
+    }
+
+    private Optional<LocalReply> quantity(String text, VoiceOrderState state) {
+        Matcher matcher = QUANTITY_PATTERN.matcher(text);
+        if (!matcher.matches() || !state.hasDinnerSelection()) {
+            return Optional.empty();
+        }
+        Optional<String> key = normalizer.normalizeMenuItemKey(matcher.group(1));
+        Integer quantity = parseQuantity(matcher.group(2));
+        if (key.isEmpty() || quantity == null || quantity < 1 || quantity > MAX_QUANTITY) {
+            return Optional.empty();
+        }
+        String name;
+        try {
+            name = menuCatalogService.describeMenuItem(key.get()).name();
+        } catch (VoiceOrderException e) {
+            return Optional.empty();
+        }
+        boolean add = matcher.group(4) != null || matcher.group(5) != null;
+        String unit = matcher.group(3) != null ? matcher.group(3) : "개";
+
+        VoiceOrderState patch = new VoiceOrderState();
+        patch.setMenuAdjustments(List.of(new VoiceOrderItem(key.get(), name, quantity, add ? "add" : "set")));
+        String message = add
+                ? "%s %d%s%s 추가했습니다.".formatted(name, quantity, unit, objectParticle(unit))
+                : "%s%s %d%s%s 변경했습니다.".formatted(name, objectParticle(name), quantity, unit, directionalParticle(unit));
+        return Optional.of(new LocalReply(Intent.QUANTITY, patch, message));
+    }
+
+    /**
+     * 변경분을 적용했을 때 남는 필수 정보를 보고 다음 질문을 덧붙입니다.
+     */
+    private String withNextQuestion(VoiceOrderSession session, LocalReply reply) {
+        if (reply.intent() == Intent.CONFIRM) {
+            return reply.message();
+        }
+        VoiceOrderState preview = objectMapper.convertValue(
+                session.getCurrentState() != null ? session.getCurrentState() : new VoiceOrderState(), VoiceOrderState.class);
+        stateMerger.merge(preview, reply.patch());
+        if (!preview.hasAddress()) {
+            preview.setDeliveryAddress(session.getCustomerDefaultAddress());
+        }
+        if (!preview.hasContactPhone()) {
+            preview.setContactPhone(session.getCustomerPhone());
+        }
+        reply.patch().setReadyForConfirmation(preview.isReadyForCheckout());
+
+        String next;
+        if (!preview.hasDinnerSelection()) {
+            next = "어떤 디너로 준비해 드릴까요?";
+        } else if (!preview.hasServingStyle()) {
+            next = "서빙 스타일은 심플, 그랜드, 디럭스 중 어떤 것으로 하시겠어요?";
+        } else if (!preview.hasDeliverySlot()) {
+            next = "배달 날짜와 시간을 알려주세요.";
+        } else if (!preview.hasAddress()) {
+            next = "배달 주소를 알려주세요.";
+        } else if (!preview.hasContactPhone()) {
+            next = "연락 가능한 전화번호를 알려주세요.";
+        } else {
+            next = "주문을 확정하시겠어요?";
+        }
+        return reply.message() + " " + next;
+    }
+
+    public Map<String, Object> metrics() {
+        long attemptCount = attempts.sum();
+        long hitCount = hits.values().stream().mapToLong(LongAdder::sum).sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("utterances", attemptCount);
+        metrics.put("local_hits", hitCount);
+        metrics.put("llm_fallbacks", attemptCount - hitCount);
+        metrics.put("hit_rate", attemptCount == 0 ? 0.0 : (double) hitCount / attemptCount);
+        Map<String, Long> byIntent = new LinkedHashMap<>();
+        hits.forEach((intent, count) -> byIntent.put(intent.name().toLowerCase(), count.sum()));
+        metrics.put("hits_by_intent", byIntent);
+        return metrics;
+    }
+
+    /**
+     * 오전/아침은 오전, 오후/저녁/밤은 오후로 보고, 시간대가 없으면 기존 규칙(RelativeDateParser)대로 1~11시는 오후로 봅니다.
+     */
+    private static Integer resolveHour(String period, int hour) {
+        if (hour > 23) {
+            return null;
+        }
+        if (period == null) {
+            return hour >= 1 && hour <= 11 ? hour + 12 : hour;
+        }
+        return switch (period) {
+            case "오전", "아침" -> hour == 12 ? 0 : hour > 12 ? null : hour;
+            case "점심" -> hour <= 4 ? hour + 12 : hour;
+            default -> hour < 12 ? hour + 12 : hour;
+        };
+    }
+
+    private static String normalizeUtterance(String utterance) {
+        String text = PUNCTUATION.matcher(utterance).replaceAll(" ");
+        text = SPACED_WEEK.matcher(text).replaceAll("$1주");
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+
+    private static Integer parseQuantity(String token) {
+        if (token.chars().allMatch(Character::isDigit)) {
+            return Integer.parseInt(token);
+        }
+        return NATIVE_NUMBERS.get(token);
+    }
+
+    /**
+     * 받침 유무에 따라 "로"/"으로"를 고릅니다. (ㄹ 받침은 "로")
+     */
+    static String directionalParticle(String word) {
+        int finalConsonant = finalConsonant(word);
+        return finalConsonant == 0 || finalConsonant == 8 ? "로" : "으로";
+    }
+
+    /**
+     * 받침 유무에 따라 목적격 조사 "를"/"을"을 고릅니다.
+     */
+    static String objectParticle(String word) {
+        return finalConsonant(word) == 0 ? "를" : "을";
+    }
+
+    /**
+     * 마지막 글자의 받침 번호. 받침이 없거나 한글 음절이 아니면 0.
+     */
+    private static int finalConsonant(String word) {
+        if (word == null || word.isEmpty()) {
+            return 0;
+        }
+        char last = word.charAt(word.length() - 1);
+        if (last < '가' || last > '힣') {
+            return 0;
+        }
+        return (last - '가') % 28;
+    }
+
+    private record LocalReply(Intent intent, VoiceOrderState patch, String message) { }
+}
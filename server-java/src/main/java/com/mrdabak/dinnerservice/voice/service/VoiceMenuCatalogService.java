@@ -2,15 +2,12 @@ package com.mrdabak.dinnerservice.voice.service;
 
 import com.mrdabak.dinnerservice.model.DinnerType;
 import com.mrdabak.dinnerservice.model.MenuItem;
-import com.mrdabak.dinnerservice.repository.DinnerMenuItemRepository;
-import com.mrdabak.dinnerservice.repository.DinnerTypeRepository;
-import com.mrdabak.dinnerservice.repository.MenuItemRepository;
+import com.mrdabak.dinnerservice.service.MenuCatalog;
 import com.mrdabak.dinnerservice.voice.VoiceOrderException;
 import com.mrdabak.dinnerservice.voice.util.DomainVocabularyNormalizer;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -21,22 +18,31 @@ public class VoiceMenuCatalogService {
 
     private static final List<String> ALL_STYLES = List.of("simple", "grand", "deluxe");
 
-    private final DinnerTypeRepository dinnerTypeRepository;
-    private final DinnerMenuItemRepository dinnerMenuItemRepository;
-    private final MenuItemRepository menuItemRepository;
+    private final MenuCatalog menuCatalog;
     private final DomainVocabularyNormalizer normalizer;
+    private volatile PromptBlock promptBlock;
 
-    public VoiceMenuCatalogService(DinnerTypeRepository dinnerTypeRepository,
-                                   DinnerMenuItemRepository dinnerMenuItemRepository,
-                                   MenuItemRepository menuItemRepository,
+    public VoiceMenuCatalogService(MenuCatalog menuCatalog,
                                    DomainVocabularyNormalizer normalizer) {
-        this.dinnerTypeRepository = dinnerTypeRepository;
-        this.dinnerMenuItemRepository = dinnerMenuItemRepository;
-        this.menuItemRepository = menuItemRepository;
+        this.menuCatalog = menuCatalog;
         this.normalizer = normalizer;
     }
 
+    /**
+     * 시스템 프롬프트용 메뉴 블록. 카탈로그 버전이 바뀔 때만 다시 만들고, 같은 버전이면 같은 문자열을 돌려줍니다.
+     */
     public String buildPromptBlock() {
+        long version = menuCatalog.version();
+        PromptBlock cached = promptBlock;
+        if (cached != null && cached.catalogVersion() == version) {
+            return cached.text();
+        }
+        String text = renderPromptBlock();
+        promptBlock = new PromptBlock(version, text);
+        return text;
+    }
+
+    private String renderPromptBlock() {
         List<DinnerDescriptor> dinners = listDinners();
         return dinners.stream()
                 .map(dinner -> {
@@ -52,8 +58,8 @@ public class VoiceMenuCatalogService {
     }
 
     public List<DinnerDescriptor> listDinners() {
-        return dinnerTypeRepository.findAll().stream()
-                .sorted(Comparator.comparing(DinnerType::getId))
+        // 카탈로그 스냅샷은 id 순으로 정렬되어 있음
+        return menuCatalog.dinnerTypes().stream()
                 .map(this::describeDinner)
                 .collect(Collectors.toList());
     }
@@ -64,7 +70,7 @@ public class VoiceMenuCatalogService {
         }
 
         Optional<DinnerDescriptor> byId = tryParseLong(identifier)
-                .flatMap(dinnerTypeRepository::findById)
+                .flatMap(menuCatalog::findDinnerType)
                 .map(this::describeDinner);
         if (byId.isPresent()) {
             return byId.get();
@@ -112,9 +118,9 @@ public class VoiceMenuCatalogService {
     }
 
     public List<MenuItemPortion> getDefaultItems(Long dinnerTypeId) {
-        return dinnerMenuItemRepository.findByDinnerTypeId(dinnerTypeId).stream()
+        return menuCatalog.defaultPortions(dinnerTypeId).stream()
                 .map(portion -> {
-                    MenuItem item = menuItemRepository.findById(portion.getMenuItemId())
+                    MenuItem item = menuCatalog.findMenuItem(portion.getMenuItemId())
                             .orElseThrow(() -> new VoiceOrderException("메뉴 항목을 찾을 수 없습니다: " + portion.getMenuItemId()));
                     String key = normalizer.normalizeMenuItemKey(item.getName()).orElse(item.getName());
                     return new MenuItemPortion(item.getId(), key, item.getName(), portion.getQuantity());
@@ -128,7 +134,7 @@ public class VoiceMenuCatalogService {
         }
 
         String normalized = normalizer.normalizeMenuItemKey(keyword).orElseGet(() -> sanitize(keyword));
-        return menuItemRepository.findAll().stream()
+        return menuCatalog.menuItems().stream()
                 .map(item -> {
                     String key = normalizer.normalizeMenuItemKey(item.getName()).orElse(item.getName());
                     return new MenuItemPortion(item.getId(), key, item.getName(), 1);
@@ -162,6 +168,8 @@ public class VoiceMenuCatalogService {
         return text == null ? null : text.trim().toLowerCase(Locale.ROOT);
     }
 
+    private record PromptBlock(long catalogVersion, String text) { }
+
     public record DinnerDescriptor(Long id,
                                    String canonicalCode,
                                    String name,
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mrdabak.dinnerservice.voice.VoiceOrderException;
 import com.mrdabak.dinnerservice.voice.client.VoiceAssistantResponse;
+import com.mrdabak.dinnerservice.voice.model.VoiceConversationMessage;
 import com.mrdabak.dinnerservice.voice.model.VoiceOrderSession;
 import com.mrdabak.dinnerservice.voice.model.VoiceOrderState;
 import org.slf4j.Logger;
@@ -11,15 +12,22 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -35,14 +43,23 @@ public class VoiceOrderAssistantClient {
     private final String apiUrl;
     private final String apiKey;
     private final String modelName;
+    private final VoiceHistoryCompactor historyCompactor;
+    private final VoicePromptMetrics promptMetrics;
+    // 고정 규칙 + 메뉴 카탈로그로 된 시스템 프롬프트 앞부분. 카탈로그 블록이 같으면 그대로 재사용
+    private volatile PromptPrefix promptPrefix;
 
     public VoiceOrderAssistantClient(RestTemplate restTemplate,
                                      ObjectMapper objectMapper,
+                                     VoicePromptMetrics promptMetrics,
                                      @Value("${voice.llm.api-url:https://api.groq.com/openai/v1/chat/completions}") String apiUrl,
                                      @Value("${voice.llm.api-key:}") String apiKey,
-                                     @Value("${voice.llm.model:llama-3.1-8b-instant}") String modelName) {
+                                     @Value("${voice.llm.model:llama-3.1-8b-instant}") String modelName,
+                                     @Value("${voice.prompt.recent-messages:8}") int recentMessages,
+                                     @Value("${voice.prompt.digest-max-chars:800}") int digestMaxChars) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.promptMetrics = promptMetrics;
+        this.historyCompactor = new VoiceHistoryCompactor(recentMessages, digestMaxChars);
         this.apiUrl = apiUrl;
         // API 키가 빈 문자열이거나 null인 경우 기본값 사용
         if (apiKey == null || apiKey.trim().isEmpty()) {
@@ -58,25 +75,8 @@ public class VoiceOrderAssistantClient {
         LOGGER.debug("Groq API 호출 시작 - API 키 길이: {}", apiKey != null ? apiKey.length() : 0);
         
         try {
-            List<Map<String, String>> messages = buildMessages(session, menuPromptBlock);
-            
-            Map<String, Object> payload = new HashMap<>();
-            payload.put("model", modelName);
-            payload.put("messages", messages);
-            payload.put("temperature", 0.3); // 일관된 한국어 응답
-            payload.put("max_tokens", 1000); // 응답 길이 제한
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            // Groq API 키는 "gsk-"로 시작
-            String apiKeyToUse = apiKey.trim();
-            if (!apiKeyToUse.startsWith("gsk-")) {
-                LOGGER.warn("Groq API 키가 'gsk-'로 시작하지 않습니다. 형식을 확인해주세요.");
-            }
-            headers.setBearerAuth(apiKeyToUse);
-
             ResponseEntity<String> response = restTemplate.postForEntity(
-                    apiUrl, new HttpEntity<>(payload, headers), String.class);
+                    apiUrl, buildRequest(session, menuPromptBlock, false), String.class);
 
             if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
                 LOGGER.error("LLM API 응답 오류: Status={}, Body={}", 
@@ -99,14 +99,121 @@ public class VoiceOrderAssistantClient {
 
             String content = messageNode.asText();
             return parseContent(content);
-        } catch (VoiceOrderException e) {
-            throw e;
-        } catch (org.springframework.web.client.HttpClientErrorException e) {
+        } catch (Exception e) {
+            throw translateFailure(e);
+        }
+    }
+
+    /**
+     * stream=true로 호출해 SSE 청크를 받는 대로 assistant_message 부분을 {@code onDelta}로 넘깁니다.
+     * order_state_json 블록은 스트림이 끝난 뒤 전체 내용으로 한 번만 파싱합니다.
+     */
+    public VoiceAssistantResponse streamResponse(VoiceOrderSession session, String menuPromptBlock,
+                                                 Consumer<String> onDelta) {
+        try {
+            HttpEntity<Map<String, Object>> request = buildRequest(session, menuPromptBlock, true);
+            String content = restTemplate.execute(apiUrl, HttpMethod.POST, restTemplate.httpEntityCallback(request),
+                    response -> readStream(response.getBody(), onDelta));
+            if (content == null || content.isBlank()) {
+                throw new VoiceOrderException("대화형 AI 응답을 읽을 수 없습니다.");
+            }
+            return parseContent(content);
+        } catch (DeltaConsumerFailure e) {
+            // 받는 쪽(SSE 클라이언트 연결 등)의 실패는 LLM 오류로 바꾸지 않고 그대로 전달
+            throw e.getCause();
+        } catch (Exception e) {
+            throw translateFailure(e);
+        }
+    }
+
+    private String readStream(InputStream body, Consumer<String> onDelta) throws IOException {
+        AssistantMessageStreamFilter filter = new AssistantMessageStreamFilter();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            // SSE: "data: {...}" 줄만 의미가 있고, 빈 줄/주석(:)은 건너뜀
+            if (!line.startsWith("data:")) {
+                continue;
+            }
+            String data = line.substring(5).trim();
+            if ("[DONE]".equals(data)) {
+                break;
+            }
+            JsonNode delta = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+            if (!delta.isTextual()) {
+                continue;
+            }
+            String visible = filter.accept(delta.asText());
+            if (!visible.isEmpty()) {
+                try {
+                    onDelta.accept(visible);
+                } catch (RuntimeException e) {
+                    // 더 보낼 곳이 없으므로 남은 응답을 읽지 않고 LLM 연결을 닫음
+                    closeQuietly(body);
+                    throw new DeltaConsumerFailure(e);
+                }
+            }
+        }
+        return filter.rawContent();
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            LOGGER.debug("LLM 스트림 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * {@code onDelta}가 던진 예외를 RestTemplate 밖까지 구분해서 꺼내기 위한 감싸개.
+     */
+    private static final class DeltaConsumerFailure extends RuntimeException {
+
+        DeltaConsumerFailure(RuntimeException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+
+    private HttpEntity<Map<String, Object>> buildRequest(VoiceOrderSession session, String menuPromptBlock,
+                                                         boolean stream) throws Exception {
+        List<Map<String, String>> messages = buildMessages(session, menuPromptBlock);
+        
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("model", modelName);
+        payload.put("messages", messages);
+        payload.put("temperature", 0.3); // 일관된 한국어 응답
+        payload.put("max_tokens", 1000); // 응답 길이 제한
+        if (stream) {
+            payload.put("stream", true);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        // Groq API 키는 "gsk-"로 시작
+        String apiKeyToUse = apiKey.trim();
+        if (!apiKeyToUse.startsWith("gsk-")) {
+            LOGGER.warn("Groq API 키가 'gsk-'로 시작하지 않습니다. 형식을 확인해주세요.");
+        }
+        headers.setBearerAuth(apiKeyToUse);
+        return new HttpEntity<>(payload, headers);
+    }
+
+    private VoiceOrderException translateFailure(Exception failure) {
+        if (failure instanceof VoiceOrderException e) {
+            return e;
+        }
+        if (failure instanceof org.springframework.web.client.HttpClientErrorException e) {
             LOGGER.error("LLM API HTTP 오류: Status={}, Body={}", 
                 e.getStatusCode(), e.getResponseBodyAsString(), e);
             
             if (e.getStatusCode().value() == 401) {
-                throw new VoiceOrderException("LLM API 키가 유효하지 않습니다. API 키를 확인해주세요.", e);
+                return new VoiceOrderException("LLM API 키가 유효하지 않습니다. API 키를 확인해주세요.", e);
             } else if (e.getStatusCode().value() == 429) {
                 String errorBody = e.getResponseBodyAsString();
                 String errorMessage = "LLM API 사용량 제한에 도달했습니다.";
@@ -118,42 +225,81 @@ public class VoiceOrderAssistantClient {
                     errorMessage = "Groq API 요청 속도 제한에 도달했습니다. 잠시 후 다시 시도해주세요.";
                 }
                 
-                throw new VoiceOrderException(errorMessage, e);
+                return new VoiceOrderException(errorMessage, e);
             }
-            throw new VoiceOrderException("LLM API 호출 중 오류가 발생했습니다.", e);
-        } catch (org.springframework.web.client.HttpServerErrorException e) {
+            return new VoiceOrderException("LLM API 호출 중 오류가 발생했습니다.", e);
+        }
+        if (failure instanceof org.springframework.web.client.HttpServerErrorException e) {
             LOGGER.error("LLM API 서버 오류: Status={}, Body={}", 
                 e.getStatusCode(), e.getResponseBodyAsString(), e);
-            throw new VoiceOrderException("LLM 서비스에 일시적인 문제가 있습니다. 잠시 후 다시 시도해주세요.", e);
-        } catch (Exception e) {
-            LOGGER.error("LLM 호출 실패: URL={}", apiUrl, e);
-            throw new VoiceOrderException("상담원 응답을 생성하지 못했습니다. 잠시 후 다시 시도해주세요.", e);
+            return new VoiceOrderException("LLM 서비스에 일시적인 문제가 있습니다. 잠시 후 다시 시도해주세요.", e);
         }
+        LOGGER.error("LLM 호출 실패: URL={}", apiUrl, failure);
+        return new VoiceOrderException("상담원 응답을 생성하지 못했습니다. 잠시 후 다시 시도해주세요.", failure);
     }
 
-    private List<Map<String, String>> buildMessages(VoiceOrderSession session, String menuPromptBlock) throws Exception {
+    List<Map<String, String>> buildMessages(VoiceOrderSession session, String menuPromptBlock) throws Exception {
         List<Map<String, String>> messages = new ArrayList<>();
-        String systemPrompt = buildSystemPrompt(session, menuPromptBlock);
+        PromptPrefix prefix = promptPrefix(menuPromptBlock);
+        VoiceHistoryCompactor.CompactedHistory history = historyCompactor.compact(session);
+        String systemPrompt = prefix.text() + buildSessionContext(session, history.digest());
         
-        // System prompt 추가
+        // System prompt 추가 (앞부분이 턴마다 동일해야 LLM 쪽 프롬프트 캐시가 적중)
         Map<String, String> systemMsg = new HashMap<>();
         systemMsg.put("role", "system");
         systemMsg.put("content", systemPrompt);
         messages.add(systemMsg);
+        int promptTokens = prefix.tokens() + VoicePromptMetrics.estimateTokens(systemPrompt.substring(prefix.text().length()))
+                + VoicePromptMetrics.PER_MESSAGE_OVERHEAD;
         
-        // 대화 기록 추가
-        session.getMessages().forEach(msg -> {
+        // 최근 대화만 원문으로 추가 (이전 대화는 시스템 프롬프트의 요약으로 대체)
+        for (VoiceConversationMessage msg : history.recentMessages()) {
             Map<String, String> userMsg = new HashMap<>();
             userMsg.put("role", msg.getRole());
             userMsg.put("content", msg.getContent());
             messages.add(userMsg);
-        });
+            promptTokens += VoicePromptMetrics.estimateTokens(msg.getContent()) + VoicePromptMetrics.PER_MESSAGE_OVERHEAD;
+        }
         
+        promptMetrics.recordTurn(prefix.tokens(), promptTokens);
+        LOGGER.debug("프롬프트 토큰 추정 - 세션: {}, 고정 앞부분: {}, 합계: {}, 원문 메시지: {}/{}",
+                session.getSessionId(), prefix.tokens(), promptTokens, history.recentMessages().size(), session.getMessages().size());
         return messages;
     }
 
-    private String buildSystemPrompt(VoiceOrderSession session, String menuPromptBlock) throws Exception {
+    private PromptPrefix promptPrefix(String menuPromptBlock) {
+        PromptPrefix cached = promptPrefix;
+        if (cached != null && cached.menuPromptBlock().equals(menuPromptBlock)) {
+            promptMetrics.recordPrefixLookup(true);
+            return cached;
+        }
+        promptMetrics.recordPrefixLookup(false);
+        String text = buildPromptPrefix(menuPromptBlock);
+        PromptPrefix prefix = new PromptPrefix(menuPromptBlock, text, VoicePromptMetrics.estimateTokens(text));
+        promptPrefix = prefix;
+        return prefix;
+    }
+
+    /**
+     * 고객/세션마다 달라지는 부분. 고정 앞부분 뒤에 붙입니다.
+     */
+    private String buildSessionContext(VoiceOrderSession session, String historyDigest) throws Exception {
         String stateJson = objectMapper.writeValueAsString(session.getCurrentState());
+        StringBuilder context = new StringBuilder()
+                .append("\n[고객 정보]\n")
+                .append("고객 이름: ").append(session.getCustomerName()).append("\n")
+                .append("\n[현재 주문 상태 JSON]\n")
+                .append(stateJson).append("\n");
+        if (historyDigest != null) {
+            context.append("\n[이전 대화 요약]\n").append(historyDigest).append("\n");
+        }
+        return context.toString();
+    }
+
+    /**
+     * 모든 고객에게 같은 시스템 프롬프트 앞부분 (고정 규칙 + 메뉴 카탈로그).
+     */
+    private static String buildPromptPrefix(String menuPromptBlock) {
         return """
                 당신은 미스터 대박 디너 서비스의 한국어 음성 주문 전문 상담원입니다.
                 
@@ -161,7 +307,7 @@ public class VoiceOrderAssistantClient {
                 - 반드시 한국어만 사용하세요. 영어, 중국어, 일본어 등 다른 언어는 절대 사용하지 마세요.
                 - 모든 응답은 한국어로만 작성하세요. 한국어가 아닌 언어가 포함되면 안 됩니다.
                 - 도메인 용어(발렌타인, 프렌치, 샴페인 등)도 한국어로만 표현하세요.
-                - 항상 자연스럽고 공손한 한국어만 사용하세요. 고객 이름(%s)을 존중하며 호칭하십시오.
+                - 항상 자연스럽고 공손한 한국어만 사용하세요. 고객 이름([고객 정보] 참고)을 존중하며 호칭하십시오.
                 
                 ────────────────────────────────
                 
@@ -503,12 +649,11 @@ public class VoiceOrderAssistantClient {
 
                 [메뉴 카탈로그]
                 %s
-                
-                [현재 주문 상태 JSON]
-                %s
-                """.formatted(session.getCustomerName(), menuPromptBlock, stateJson);
+                """.formatted(menuPromptBlock);
     }
 
+    private record PromptPrefix(String menuPromptBlock, String text, int tokens) { }
+
     private VoiceAssistantResponse parseContent(String content) {
         Matcher matcher = JSON_BLOCK_PATTERN.matcher(content);
         VoiceOrderState state = new VoiceOrderState();
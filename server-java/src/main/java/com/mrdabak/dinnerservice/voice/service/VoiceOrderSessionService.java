@@ -1,44 +1,81 @@
 package com.mrdabak.dinnerservice.voice.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mrdabak.dinnerservice.model.VoiceOrderSessionRecord;
+import com.mrdabak.dinnerservice.repository.VoiceOrderSessionRecordRepository;
 import com.mrdabak.dinnerservice.voice.VoiceOrderException;
+import com.mrdabak.dinnerservice.voice.model.VoiceConversationMessage;
 import com.mrdabak.dinnerservice.voice.model.VoiceOrderSession;
 import com.mrdabak.dinnerservice.voice.model.VoiceOrderState;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class VoiceOrderSessionService {
 
-    private final Map<String, VoiceOrderSession> sessions = new ConcurrentHashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(VoiceOrderSessionService.class);
+
+    private final VoiceOrderSessionStore sessions;
+    private final VoiceOrderSessionRecordRepository sessionRecordRepository;
+    private final ObjectMapper objectMapper;
     private final Duration ttl;
     private final int historyLimit;
+    private final boolean persistenceEnabled;
+    // 마지막 스냅샷 이후 접근된(변경되었을 수 있는) 세션 / 저장소에서 제거된 세션
+    private final Map<String, VoiceOrderSession> dirtySessions = new ConcurrentHashMap<>();
+    private final Set<String> removedSessionIds = ConcurrentHashMap.newKeySet();
 
     public VoiceOrderSessionService(
+            VoiceOrderSessionRecordRepository sessionRecordRepository,
+            ObjectMapper objectMapper,
             @Value("${voice.session.ttl-minutes:45}") long ttlMinutes,
-            @Value("${voice.history.max-messages:40}") int historyLimit) {
+            @Value("${voice.history.max-messages:40}") int historyLimit,
+            @Value("${voice.session.max-sessions:2000}") int maxSessions,
+            @Value("${voice.session.persistence.enabled:true}") boolean persistenceEnabled) {
+        this.sessionRecordRepository = sessionRecordRepository;
+        this.objectMapper = objectMapper;
         this.ttl = Duration.ofMinutes(ttlMinutes);
         this.historyLimit = historyLimit;
+        this.persistenceEnabled = persistenceEnabled;
+        this.sessions = new VoiceOrderSessionStore(ttl.toMillis(), maxSessions, System::currentTimeMillis, this::onSessionRemoved);
     }
 
     public VoiceOrderSession createSession(Long userId, String customerName, String address, String phone) {
-        purgeExpiredSessions();
         String sessionId = UUID.randomUUID().toString();
         VoiceOrderSession session = new VoiceOrderSession(sessionId, userId, customerName, address, phone);
         session.setCurrentState(new VoiceOrderState());
-        sessions.put(sessionId, session);
+        sessions.put(session);
+        markDirty(session);
         return session;
     }
 
     public Optional<VoiceOrderSession> findSession(String sessionId) {
-        purgeExpiredSessions();
-        return Optional.ofNullable(sessions.get(sessionId));
+        if (sessionId == null) {
+            return Optional.empty();
+        }
+        VoiceOrderSession session = sessions.get(sessionId);
+        if (session != null) {
+            // 세션을 꺼내 간 요청이 대화 기록/주문 상태를 바꾸므로 다음 스냅샷 대상에 포함
+            markDirty(session);
+        }
+        return Optional.ofNullable(session);
     }
 
     public VoiceOrderSession requireSession(String sessionId) {
@@ -46,18 +83,141 @@ public class VoiceOrderSessionService {
                 .orElseThrow(() -> new VoiceOrderException("유효하지 않은 음성 주문 세션입니다. 다시 시작해 주세요."));
     }
 
+    /**
+     * 요청 처리 중 세션을 바꾼 뒤 호출합니다. 세션을 꺼낸 뒤 LLM 응답을 기다리는 사이에 스냅샷이 돌면
+     * 바뀌기 전 상태만 저장되고 표시가 지워지므로, 변경을 마친 시점에 다시 스냅샷 대상으로 표시합니다.
+     */
+    public void touch(VoiceOrderSession session) {
+        markDirty(session);
+    }
+
     public int historyLimit() {
         return historyLimit;
     }
 
     public void removeSession(String sessionId) {
-        sessions.remove(sessionId);
+        if (sessions.remove(sessionId)) {
+            onSessionRemoved(sessionId);
+        }
     }
 
-    private void purgeExpiredSessions() {
-        Instant now = Instant.now();
-        sessions.values().removeIf(session -> now.isAfter(session.getUpdatedAt().plus(ttl)));
+    /**
+     * 서버 시작 시 TTL 안에 있던 세션 스냅샷을 복원합니다.
+     */
+    @PostConstruct
+    void restoreSessions() {
+        if (!persistenceEnabled) {
+            return;
+        }
+        try {
+            long cutoff = System.currentTimeMillis() - ttl.toMillis();
+            sessionRecordRepository.deleteByUpdatedAtBefore(cutoff);
+            int restored = 0;
+            // 오래된 순서로 넣어야 저장소의 만료 순서가 유지됨
+            for (VoiceOrderSessionRecord record : sessionRecordRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAsc(cutoff)) {
+                try {
+                    sessions.put(fromSnapshot(objectMapper.readValue(record.getPayload(), SessionSnapshot.class)),
+                            record.getUpdatedAt());
+                    restored++;
+                } catch (JsonProcessingException e) {
+                    logger.warn("[VoiceOrderSessionService] 세션 스냅샷 복원 실패 - {}: {}", record.getSessionId(), e.getMessage());
+                }
+            }
+            logger.info("[VoiceOrderSessionService] 음성 주문 세션 {}개 복원", restored);
+        } catch (RuntimeException e) {
+            logger.warn("[VoiceOrderSessionService] 세션 스냅샷을 읽지 못했습니다. 빈 상태로 시작합니다: {}", e.getMessage());
+        }
     }
-}
 
+    /**
+     * 접근된 세션을 모아 주기적으로 스냅샷 테이블에 기록합니다 (write-behind).
+     */
+    @Scheduled(fixedDelayString = "${voice.session.snapshot-interval-ms:5000}")
+    public void flushSnapshots() {
+        if (!persistenceEnabled || (dirtySessions.isEmpty() && removedSessionIds.isEmpty())) {
+            return;
+        }
+        List<String> removed = new ArrayList<>();
+        for (String sessionId : removedSessionIds) {
+            if (removedSessionIds.remove(sessionId)) {
+                removed.add(sessionId);
+            }
+        }
+        List<VoiceOrderSession> dirty = new ArrayList<>();
+        for (String sessionId : dirtySessions.keySet()) {
+            VoiceOrderSession session = dirtySessions.remove(sessionId);
+            if (session != null) {
+                dirty.add(session);
+            }
+        }
+        List<VoiceOrderSessionRecord> records = new ArrayList<>(dirty.size());
+        for (VoiceOrderSession session : dirty) {
+            String sessionId = session.getSessionId();
+            try {
+                SessionSnapshot snapshot = toSnapshot(session);
+                records.add(new VoiceOrderSessionRecord(sessionId, session.getUserId(),
+                        objectMapper.writeValueAsString(snapshot), System.currentTimeMillis()));
+            } catch (ConcurrentModificationException | JsonProcessingException e) {
+                // 요청 처리 중에 대화 기록이 바뀐 경우 다음 주기에 다시 기록
+                dirtySessions.putIfAbsent(sessionId, session);
+            }
+        }
+        try {
+            if (!removed.isEmpty()) {
+                sessionRecordRepository.deleteAllById(removed);
+            }
+            if (!records.isEmpty()) {
+                sessionRecordRepository.saveAll(records);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("[VoiceOrderSessionService] 세션 스냅샷 기록 실패, 다음 주기에 재시도: {}", e.getMessage());
+            removedSessionIds.addAll(removed);
+            dirty.forEach(session -> dirtySessions.putIfAbsent(session.getSessionId(), session));
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flushSnapshots();
+    }
+
+    private void markDirty(VoiceOrderSession session) {
+        if (persistenceEnabled) {
+            dirtySessions.put(session.getSessionId(), session);
+        }
+    }
 
+    private void onSessionRemoved(String sessionId) {
+        if (persistenceEnabled) {
+            dirtySessions.remove(sessionId);
+            removedSessionIds.add(sessionId);
+        }
+    }
+
+    private static SessionSnapshot toSnapshot(VoiceOrderSession session) {
+        List<MessageSnapshot> messages = new ArrayList<>();
+        for (VoiceConversationMessage message : new ArrayList<>(session.getMessages())) {
+            messages.add(new MessageSnapshot(message.getId(), message.getRole(), message.getContent(),
+                    message.getTimestamp(), message.isVisibleToClient()));
+        }
+        return new SessionSnapshot(session.getSessionId(), session.getUserId(), session.getCustomerName(),
+                session.getCustomerDefaultAddress(), session.getCustomerPhone(), session.getCurrentState(), messages,
+                session.getCreatedAt(), session.getUpdatedAt(), session.isOrderPlaced(), session.getCreatedOrderId());
+    }
+
+    private static VoiceOrderSession fromSnapshot(SessionSnapshot snapshot) {
+        List<VoiceConversationMessage> messages = snapshot.messages() == null ? List.of() : snapshot.messages().stream()
+                .map(message -> VoiceConversationMessage.restore(message.id(), message.role(), message.content(),
+                        message.timestamp(), message.visibleToClient()))
+                .toList();
+        return VoiceOrderSession.restore(snapshot.sessionId(), snapshot.userId(), snapshot.customerName(),
+                snapshot.customerDefaultAddress(), snapshot.customerPhone(), snapshot.currentState(), messages,
+                snapshot.createdAt(), snapshot.updatedAt(), snapshot.orderPlaced(), snapshot.createdOrderId());
+    }
+
+    record SessionSnapshot(String sessionId, Long userId, String customerName, String customerDefaultAddress,
+                           String customerPhone, VoiceOrderState currentState, List<MessageSnapshot> messages,
+                           Instant createdAt, Instant updatedAt, boolean orderPlaced, Long createdOrderId) { }
+
+    record MessageSnapshot(String id, String role, String content, Instant timestamp, boolean visibleToClient) { }
+}
@@ -0,0 +1,100 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderSession;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 마지막 접근 시각 기준 TTL과 최대 세션 수를 가진 음성 주문 세션 저장소.
+ *
+ * <p>TTL이 모든 세션에 동일하므로 접근 순서로 정렬된 {@link LinkedHashMap}의 머리 쪽이 항상 가장 먼저 만료됩니다.
+ * 따라서 만료 처리는 머리에서 만료된 항목만 떼어내면 되고(전체 스캔 없음), 조회/저장은 O(1)입니다.
+ * 최대 세션 수를 넘으면 가장 오래 접근되지 않은 세션부터 제거합니다.</p>
+ */
+class VoiceOrderSessionStore {
+
+    private final long ttlMillis;
+    private final int maxSessions;
+    private final LongSupplier clock;
+    private final Consumer<String> removalListener;
+    // 접근 순서 (가장 오래 접근되지 않은 세션이 맨 앞), this 락 안에서만 접근
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    VoiceOrderSessionStore(long ttlMillis, int maxSessions, LongSupplier clock, Consumer<String> removalListener) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("최대 세션 수는 1 이상이어야 합니다: " + maxSessions);
+        }
+        this.ttlMillis = ttlMillis;
+        this.maxSessions = maxSessions;
+        this.clock = clock;
+        this.removalListener = removalListener;
+    }
+
+    synchronized VoiceOrderSession get(String sessionId) {
+        long now = clock.getAsLong();
+        expire(now);
+        Entry entry = entries.get(sessionId);
+        if (entry == null) {
+            return null;
+        }
+        entry.lastAccessMillis = now;
+        return entry.session;
+    }
+
+    synchronized void put(VoiceOrderSession session) {
+        put(session, clock.getAsLong());
+    }
+
+    /**
+     * 마지막 접근 시각을 지정해 저장합니다. (스냅샷에서 복원할 때 사용, 오래된 순서로 넣어야 함)
+     */
+    synchronized void put(VoiceOrderSession session, long lastAccessMillis) {
+        long now = clock.getAsLong();
+        expire(now);
+        if (now - lastAccessMillis >= ttlMillis) {
+            return;
+        }
+        entries.put(session.getSessionId(), new Entry(session, lastAccessMillis));
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSessions && eldest.hasNext()) {
+            String evictedId = eldest.next().getKey();
+            eldest.remove();
+            removalListener.accept(evictedId);
+        }
+    }
+
+    synchronized boolean remove(String sessionId) {
+        return entries.remove(sessionId) != null;
+    }
+
+    synchronized int size() {
+        expire(clock.getAsLong());
+        return entries.size();
+    }
+
+    private void expire(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            if (now - eldest.getValue().lastAccessMillis < ttlMillis) {
+                return;
+            }
+            iterator.remove();
+            removalListener.accept(eldest.getKey());
+        }
+    }
+
+    private static final class Entry {
+        private final VoiceOrderSession session;
+        private long lastAccessMillis;
+
+        private Entry(VoiceOrderSession session, long lastAccessMillis) {
+            this.session = session;
+            this.lastAccessMillis = lastAccessMillis;
+        }
+    }
+}
@@ -25,6 +25,11 @@ public class VoiceOrderStateMerger {
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"),
             DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm"));
 
+    // 날짜 표현 안의 시간 부분: "오후 8시", "오전 10시", "20시", "저녁 7시", "오후8시" 등
+    private static final java.util.regex.Pattern TIME_IN_DATE_PATTERN = java.util.regex.Pattern.compile(
+            "\\s+((오전|오후|am|pm)\\s*(\\d{1,2})\\s*시|(\\d{1,2})\\s*시|(저녁|점심|낮|아침)|(\\d{2}):(\\d{2}))");
+    private static final java.util.regex.Pattern ISO_DATE_PATTERN = java.util.regex.Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+
     private final DomainVocabularyNormalizer normalizer;
 
     public VoiceOrderStateMerger(DomainVocabularyNormalizer normalizer) {
@@ -289,10 +294,7 @@ public class VoiceOrderStateMerger {
         String lower = dateTimeExpression.toLowerCase().trim();
         
         // 시간 패턴 찾기: "오후 8시", "오전 10시", "20시", "저녁 7시", "오후8시" 등
-        java.util.regex.Pattern timePattern = java.util.regex.Pattern.compile(
-            "\\s+((오전|오후|am|pm)\\s*(\\d{1,2})\\s*시|(\\d{1,2})\\s*시|(저녁|점심|낮|아침)|(\\d{2}):(\\d{2}))"
-        );
-        java.util.regex.Matcher timeMatcher = timePattern.matcher(lower);
+        java.util.regex.Matcher timeMatcher = TIME_IN_DATE_PATTERN.matcher(lower);
         
         if (timeMatcher.find()) {
             int timeStart = timeMatcher.start();
@@ -302,7 +304,7 @@ public class VoiceOrderStateMerger {
             // 날짜 부분에 "내일", "모레" 등이 있는지 확인
             if (!datePart.isEmpty() && !timePart.isEmpty() && 
                 (datePart.contains("내일") || datePart.contains("모레") || datePart.contains("오늘") ||
-                 datePart.matches(".*\\d{4}-\\d{2}-\\d{2}.*") || datePart.contains("요일"))) {
+                 ISO_DATE_PATTERN.matcher(datePart).find() || datePart.contains("요일"))) {
                 return new String[]{datePart, timePart};
             }
         }
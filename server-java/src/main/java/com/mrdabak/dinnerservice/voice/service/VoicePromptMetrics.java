@@ -0,0 +1,71 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 음성 주문 LLM 호출의 턴별 프롬프트 토큰 추정치를 집계합니다.
+ *
+ * <p>토큰 수는 토크나이저 없이 추정합니다: 한글 등 비 ASCII 문자는 1자당 1토큰,
+ * ASCII는 공백을 제외하고 4자당 1토큰, 메시지마다 4토큰의 역할/구분자 비용을 더합니다.</p>
+ */
+@Component
+public class VoicePromptMetrics {
+
+    static final int PER_MESSAGE_OVERHEAD = 4;
+
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder totalPromptTokens = new LongAdder();
+    private final LongAdder totalPrefixTokens = new LongAdder();
+    private final LongAdder prefixCacheHits = new LongAdder();
+    private final LongAdder prefixCacheMisses = new LongAdder();
+    private final AtomicLong maxPromptTokens = new AtomicLong();
+    private final AtomicLong lastPromptTokens = new AtomicLong();
+
+    static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int nonAscii = 0;
+        int ascii = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c > 0x7F) {
+                nonAscii++;
+            } else if (!Character.isWhitespace(c)) {
+                ascii++;
+            }
+        }
+        return nonAscii + (ascii + 3) / 4;
+    }
+
+    void recordPrefixLookup(boolean hit) {
+        (hit ? prefixCacheHits : prefixCacheMisses).increment();
+    }
+
+    void recordTurn(int prefixTokens, int promptTokens) {
+        turns.increment();
+        totalPrefixTokens.add(prefixTokens);
+        totalPromptTokens.add(promptTokens);
+        lastPromptTokens.set(promptTokens);
+        maxPromptTokens.accumulateAndGet(promptTokens, Math::max);
+    }
+
+    public Map<String, Object> snapshot() {
+        long turnCount = turns.sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("turns", turnCount);
+        metrics.put("prompt_tokens_total", totalPromptTokens.sum());
+        metrics.put("prompt_tokens_avg", turnCount == 0 ? 0 : totalPromptTokens.sum() / turnCount);
+        metrics.put("prompt_tokens_max", maxPromptTokens.get());
+        metrics.put("prompt_tokens_last", lastPromptTokens.get());
+        metrics.put("prefix_tokens_avg", turnCount == 0 ? 0 : totalPrefixTokens.sum() / turnCount);
+        metrics.put("prefix_cache_hits", prefixCacheHits.sum());
+        metrics.put("prefix_cache_misses", prefixCacheMisses.sum());
+        return metrics;
+    }
+}
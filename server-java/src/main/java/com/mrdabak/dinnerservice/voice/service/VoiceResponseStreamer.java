@@ -0,0 +1,75 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+import com.mrdabak.dinnerservice.voice.VoiceOrderException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 음성 주문 응답을 SSE로 흘려보냅니다.
+ *
+ * <p>LLM 스트림은 {@link VoiceWorkExecutor}에서 읽으므로 서블릿 스레드는 {@link SseEmitter}를 돌려준 즉시 반환됩니다.
+ * 이벤트 순서: {@code delta}({"text": ...}) 여러 번 → {@code done}(최종 응답) 또는 {@code error}({"error": ...}).
+ * delta는 필터링 전 초안이므로 클라이언트는 done의 agentMessage로 최종 문장을 바꿔 표시해야 합니다.</p>
+ */
+@Component
+public class VoiceResponseStreamer {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoiceResponseStreamer.class);
+
+    private final VoiceWorkExecutor workExecutor;
+    private final long timeoutMillis;
+
+    public VoiceResponseStreamer(VoiceWorkExecutor workExecutor,
+                                 @Value("${voice.stream.timeout-ms:130000}") long timeoutMillis) {
+        this.workExecutor = workExecutor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * {@code turn}에 delta 전송 함수를 넘겨 실행하고, 반환값을 done 이벤트로 보냅니다.
+     */
+    public SseEmitter stream(Function<Consumer<String>, Object> turn) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        workExecutor.execute(() -> run(emitter, turn));
+        return emitter;
+    }
+
+    private void run(SseEmitter emitter, Function<Consumer<String>, Object> turn) {
+        try {
+            Object result = turn.apply(text -> send(emitter, "delta", Map.of("text", text)));
+            send(emitter, "done", result);
+            emitter.complete();
+        } catch (VoiceOrderException e) {
+            try {
+                send(emitter, "error", Map.of("error", e.getMessage()));
+                emitter.complete();
+            } catch (UncheckedIOException closed) {
+                emitter.completeWithError(closed);
+            }
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊음
+            logger.debug("[VoiceResponseStreamer] 클라이언트 연결 종료: {}", e.getMessage());
+            emitter.completeWithError(e);
+        } catch (RuntimeException e) {
+            logger.error("[VoiceResponseStreamer] 스트리밍 응답 실패", e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private static void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
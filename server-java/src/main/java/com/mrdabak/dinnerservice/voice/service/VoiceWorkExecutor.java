@@ -0,0 +1,149 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+import com.mrdabak.dinnerservice.voice.VoiceOrderException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * LLM 호출처럼 오래 블로킹되는 음성 주문 작업을 톰캣 요청 스레드 밖에서 실행하는 실행기.
+ *
+ * <p>동시에 최대 maxConcurrent개를 실행하고 queueCapacity개까지 대기시키며, 그 이상은 즉시 거절합니다.
+ * 느린 LLM 응답이 몰려도 톰캣 스레드는 바로 반환되므로 메뉴/주문 API가 밀리지 않습니다.</p>
+ *
+ * <p>{@code spring.threads.virtual.enabled=true}이고 JDK 21 이상이면 작업마다 가상 스레드를 쓰고
+ * (톰캣 요청 처리도 Spring Boot가 가상 스레드로 전환), 그렇지 않으면 고정 크기 플랫폼 스레드 풀을 씁니다.</p>
+ */
+@Component
+public class VoiceWorkExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoiceWorkExecutor.class);
+
+    private final Executor executor;
+    private final ThreadPoolExecutor platformPool;
+    // 가상 스레드 모드에서만 사용: 실행 중 + 대기 중 작업 수, 동시 실행 수 제한
+    private final AtomicInteger admitted = new AtomicInteger();
+    private final Semaphore running;
+    private final int capacity;
+
+    public VoiceWorkExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+                             @Value("${voice.executor.max-concurrent:16}") int maxConcurrent,
+                             @Value("${voice.executor.queue-capacity:32}") int queueCapacity) {
+        this.capacity = maxConcurrent + queueCapacity;
+        SimpleAsyncTaskExecutor virtualExecutor = virtualThreadsEnabled ? createVirtualExecutor() : null;
+        if (virtualExecutor != null) {
+            this.executor = virtualExecutor;
+            this.platformPool = null;
+            this.running = new Semaphore(maxConcurrent);
+        } else {
+            AtomicInteger threadIndex = new AtomicInteger();
+            this.platformPool = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                        Thread thread = new Thread(runnable, "voice-worker-" + threadIndex.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            this.platformPool.allowCoreThreadTimeOut(true);
+            this.executor = platformPool;
+            this.running = null;
+        }
+        logger.info("[VoiceWorkExecutor] {} 스레드 사용 (동시 실행 {}, 대기 {})",
+                usesVirtualThreads() ? "가상" : "플랫폼", maxConcurrent, queueCapacity);
+    }
+
+    public boolean usesVirtualThreads() {
+        return platformPool == null;
+    }
+
+    /**
+     * 작업을 실행기에 넘깁니다. 실행기가 가득 차 있으면 {@link VoiceOrderException}을 던집니다.
+     */
+    public void execute(Runnable task) {
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        Runnable withContext = () -> {
+            if (mdcContext != null) {
+                MDC.setContextMap(mdcContext);
+            }
+            try {
+                task.run();
+            } finally {
+                MDC.clear();
+            }
+        };
+        try {
+            if (usesVirtualThreads()) {
+                executeVirtual(withContext);
+            } else {
+                executor.execute(withContext);
+            }
+        } catch (RejectedExecutionException e) {
+            throw new VoiceOrderException("음성 주문 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        execute(() -> {
+            try {
+                result.complete(task.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    private void executeVirtual(Runnable task) {
+        if (admitted.incrementAndGet() > capacity) {
+            admitted.decrementAndGet();
+            throw new RejectedExecutionException("voice executor saturated");
+        }
+        executor.execute(() -> {
+            try {
+                // 가상 스레드는 대기 비용이 작으므로 실행 슬롯을 블로킹으로 기다림
+                running.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    running.release();
+                }
+            } finally {
+                admitted.decrementAndGet();
+            }
+        });
+    }
+
+    private static SimpleAsyncTaskExecutor createVirtualExecutor() {
+        try {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("voice-worker-");
+            executor.setVirtualThreads(true);
+            return executor;
+        } catch (UnsupportedOperationException e) {
+            logger.warn("[VoiceWorkExecutor] 가상 스레드를 지원하지 않는 JDK({})입니다. 플랫폼 스레드 풀을 사용합니다.",
+                    Runtime.version());
+            return null;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (platformPool != null) {
+            platformPool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.mrdabak.dinnerservice.voice.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 키워드를 한 번의 문자열 순회로 찾는 Aho–Corasick 오토마톤.
+ *
+ * <p>키워드 수와 관계없이 입력 길이에 비례하는 시간에 모든 등장 위치를 찾습니다. 생성 후에는 불변이므로
+ * 여러 스레드가 함께 써도 됩니다. 키워드 값의 순서(생성 시 넘긴 목록 순서)가 우선순위로 쓰입니다.</p>
+ */
+final class AhoCorasickAutomaton<V> {
+
+    /**
+     * 키워드가 끝나는 위치마다 호출됩니다. {@code false}를 돌려주면 탐색을 멈춥니다.
+     */
+    @FunctionalInterface
+    interface MatchVisitor<V> {
+        boolean visit(int start, int end, int keywordIndex, V value);
+    }
+
+    private final List<String> keywords;
+    private final List<V> values;
+    // 노드별 전이: 정렬된 문자 배열과 같은 위치의 다음 노드
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    // 노드에서 끝나는 키워드 인덱스 (실패 링크로 이어지는 짧은 키워드 포함, 긴 것부터)
+    private final int[][] outputs;
+
+    private AhoCorasickAutomaton(List<String> keywords, List<V> values) {
+        this.keywords = List.copyOf(keywords);
+        this.values = values;
+
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        nodeOutputs.add(new ArrayList<>());
+        for (int index = 0; index < keywords.size(); index++) {
+            int node = 0;
+            for (char c : keywords.get(index).toCharArray()) {
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            nodeOutputs.get(node).add(index);
+        }
+
+        int size = trie.size();
+        transitionChars = new char[size][];
+        transitionTargets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            transitionChars[node] = new char[edges.size()];
+            transitionTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                transitionChars[node][i] = edge.getKey();
+                transitionTargets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // 너비 우선으로 실패 링크를 만들고, 실패 링크 쪽 출력을 이어 붙임
+        failure = new int[size];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionTargets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < transitionChars[node].length; i++) {
+                char c = transitionChars[node][i];
+                int child = transitionTargets[node][i];
+                int fallback = failure[node];
+                while (fallback != 0 && next(fallback, c) < 0) {
+                    fallback = failure[fallback];
+                }
+                int target = next(fallback, c);
+                failure[child] = target >= 0 && target != child ? target : 0;
+                nodeOutputs.get(child).addAll(nodeOutputs.get(failure[child]));
+                queue.add(child);
+            }
+        }
+
+        outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            outputs[node] = nodeOutputs.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * 키워드 → 값 목록으로 오토마톤을 만듭니다. 빈 키워드는 무시하고, 같은 키워드가 여러 번 나오면 앞의 값을 씁니다.
+     */
+    static <V> AhoCorasickAutomaton<V> of(List<Map.Entry<String, V>> entries) {
+        List<String> keywords = new ArrayList<>();
+        List<V> values = new ArrayList<>();
+        for (Map.Entry<String, V> entry : entries) {
+            String keyword = entry.getKey();
+            if (keyword == null || keyword.isEmpty() || keywords.contains(keyword)) {
+                continue;
+            }
+            keywords.add(keyword);
+            values.add(entry.getValue());
+        }
+        return new AhoCorasickAutomaton<>(keywords, values);
+    }
+
+    /**
+     * 입력을 한 번 훑으면서 키워드가 끝나는 위치마다 {@code visitor}를 호출합니다.
+     */
+    void scan(CharSequence text, MatchVisitor<V> visitor) {
+        int node = 0;
+        for (int position = 0; position < text.length(); position++) {
+            char c = text.charAt(position);
+            int target = next(node, c);
+            while (target < 0 && node != 0) {
+                node = failure[node];
+                target = next(node, c);
+            }
+            node = Math.max(target, 0);
+            for (int keywordIndex : outputs[node]) {
+                int end = position + 1;
+                if (!visitor.visit(end - keywords.get(keywordIndex).length(), end, keywordIndex, values.get(keywordIndex))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 겹치지 않게 왼쪽부터, 같은 위치면 가장 긴 키워드를 골라 값으로 치환합니다. 일치가 없으면 입력을 그대로 돌려줍니다.
+     */
+    String replaceAll(String text) {
+        List<int[]> matches = new ArrayList<>();
+        scan(text, (start, end, keywordIndex, value) -> matches.add(new int[]{start, end, keywordIndex}));
+        if (matches.isEmpty()) {
+            return text;
+        }
+        matches.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(b[1], a[1]));
+
+        StringBuilder result = new StringBuilder(text.length());
+        int cursor = 0;
+        for (int[] match : matches) {
+            if (match[0] < cursor) {
+                continue;
+            }
+            result.append(text, cursor, match[0]).append(values.get(match[2]));
+            cursor = match[1];
+        }
+        return result.append(text, cursor, text.length()).toString();
+    }
+
+    private int next(int node, char c) {
+        int i = Arrays.binarySearch(transitionChars[node], c);
+        return i >= 0 ? transitionTargets[node][i] : -1;
+    }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * Provides light-weight normalization helpers so that Whisper/LLM outputs
@@ -16,7 +17,12 @@ import java.util.Optional;
 @Component
 public class DomainVocabularyNormalizer {
 
-    private static final Map<String, String> CLEANUP_REPLACEMENTS = Map.ofEntries(
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 한 번의 순회로 왼쪽부터 가장 긴 표현을 치환하므로 "바케트빵"처럼 오타와 접미어가 겹친 형태도 직접 나열
+    private static final List<Map.Entry<String, String>> CLEANUP_REPLACEMENTS = List.of(
+            Map.entry("바케트빵", "바게트"),
+            Map.entry("바게뜨빵", "바게트"),
             Map.entry("바케트", "바게트"),
             Map.entry("바게뜨", "바게트"),
             Map.entry("바게트빵", "바게트"),
@@ -48,47 +54,51 @@ public class DomainVocabularyNormalizer {
             term("bread", "빵", "bread"),
             term("baguette", "바게트", "baguette"));
 
+    private static final AhoCorasickAutomaton<String> CLEANUP_AUTOMATON = AhoCorasickAutomaton.of(CLEANUP_REPLACEMENTS);
+    private static final AhoCorasickAutomaton<Integer> DINNER_AUTOMATON = termAutomaton(DINNER_TERMS);
+    private static final AhoCorasickAutomaton<Integer> SERVING_AUTOMATON = termAutomaton(SERVING_TERMS);
+    private static final AhoCorasickAutomaton<Integer> MENU_ITEM_AUTOMATON = termAutomaton(MENU_ITEM_TERMS);
+
     public String cleanupTranscript(String input) {
         if (input == null || input.isBlank()) {
             return input;
         }
         String normalized = Normalizer.normalize(input, Normalizer.Form.NFKC);
-        for (Map.Entry<String, String> entry : CLEANUP_REPLACEMENTS.entrySet()) {
-            normalized = normalized.replace(entry.getKey(), entry.getValue());
-        }
-        return normalized.trim();
+        return CLEANUP_AUTOMATON.replaceAll(normalized).trim();
     }
 
     public Optional<String> normalizeDinnerType(String input) {
-        return normalize(input, DINNER_TERMS);
+        return normalize(input, DINNER_TERMS, DINNER_AUTOMATON);
     }
 
     public Optional<String> normalizeServingStyle(String input) {
-        return normalize(input, SERVING_TERMS);
+        return normalize(input, SERVING_TERMS, SERVING_AUTOMATON);
     }
 
     public Optional<String> normalizeMenuItemKey(String input) {
-        return normalize(input, MENU_ITEM_TERMS);
+        return normalize(input, MENU_ITEM_TERMS, MENU_ITEM_AUTOMATON);
     }
 
-    private Optional<String> normalize(String input, List<Term> candidates) {
+    /**
+     * 입력에 포함된 표현 중 목록에서 가장 앞에 있는 용어를 고릅니다.
+     */
+    private Optional<String> normalize(String input, List<Term> candidates, AhoCorasickAutomaton<Integer> automaton) {
         if (input == null || input.isBlank()) {
             return Optional.empty();
         }
-        String lowered = sanitize(input);
-        for (Term term : candidates) {
-            if (term.matches(lowered)) {
-                return Optional.of(term.canonical());
-            }
-        }
-        return Optional.empty();
+        int[] best = {Integer.MAX_VALUE};
+        automaton.scan(sanitize(input), (start, end, keywordIndex, termIndex) -> {
+            best[0] = Math.min(best[0], termIndex);
+            return best[0] > 0;
+        });
+        return best[0] == Integer.MAX_VALUE ? Optional.empty() : Optional.of(candidates.get(best[0]).canonical());
     }
 
     private static String sanitize(String input) {
         String lowered = Normalizer.normalize(input, Normalizer.Form.NFKC)
                 .toLowerCase(Locale.ROOT)
                 .trim();
-        return lowered.replaceAll("\\s+", " ");
+        return WHITESPACE.matcher(lowered).replaceAll(" ");
     }
 
     private static Term term(String canonical, String... tokens) {
@@ -99,16 +109,17 @@ public class DomainVocabularyNormalizer {
         return new Term(canonical, normalizedTokens);
     }
 
-    private record Term(String canonical, List<String> tokens) {
-        boolean matches(String loweredInput) {
-            for (String token : tokens) {
-                if (loweredInput.contains(token)) {
-                    return true;
-                }
+    private static AhoCorasickAutomaton<Integer> termAutomaton(List<Term> terms) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            for (String token : terms.get(i).tokens()) {
+                entries.add(Map.entry(token, i));
             }
-            return false;
         }
+        return AhoCorasickAutomaton.of(entries);
     }
+
+    private record Term(String canonical, List<String> tokens) { }
 }
 
 
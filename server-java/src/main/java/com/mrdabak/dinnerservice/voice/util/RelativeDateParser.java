@@ -13,6 +13,15 @@ import java.util.regex.Pattern;
  */
 public final class RelativeDateParser {
 
+    private static final Pattern NEXT_WEEKDAY_PATTERN = Pattern.compile("다음주\\s*(월|화|수|목|금|토|일)요일");
+    private static final Pattern WEEKDAY_PATTERN = Pattern.compile("(이번주|다음주)?\\s*(월|화|수|목|금|토|일)요일");
+    private static final Pattern DAYS_AFTER_PATTERN = Pattern.compile("(\\d+)일\\s*후");
+    private static final Pattern AM_PM_PATTERN = Pattern.compile("(오전|오후|am|pm)\\s*(\\d{1,2})\\s*시(?:\\s*(\\d{1,2})\\s*분)?");
+    private static final Pattern HOUR_ONLY_PATTERN = Pattern.compile("(\\d{1,2})\\s*시(?:\\s*(\\d{1,2})\\s*분)?");
+    private static final Pattern EVENING_HOUR_PATTERN = Pattern.compile("(\\d{1,2})시");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
     private RelativeDateParser() {
     }
 
@@ -40,7 +49,7 @@ public final class RelativeDateParser {
         }
 
         LocalDateTime dateTime = LocalDateTime.of(targetDate, targetTime);
-        return dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        return dateTime.format(DATE_TIME_FORMAT);
     }
 
     /**
@@ -69,8 +78,7 @@ public final class RelativeDateParser {
         }
 
         // 다음주 월요일~일요일
-        Pattern nextWeekDayPattern = Pattern.compile("다음주\\s*(월|화|수|목|금|토|일)요일");
-        java.util.regex.Matcher matcher = nextWeekDayPattern.matcher(lower);
+        java.util.regex.Matcher matcher = NEXT_WEEKDAY_PATTERN.matcher(lower);
         if (matcher.find()) {
             String dayName = matcher.group(1);
             DayOfWeek targetDay = parseDayOfWeek(dayName);
@@ -80,8 +88,7 @@ public final class RelativeDateParser {
         }
 
         // 이번주/다음주 월요일~일요일
-        Pattern thisWeekDayPattern = Pattern.compile("(이번주|다음주)?\\s*(월|화|수|목|금|토|일)요일");
-        matcher = thisWeekDayPattern.matcher(lower);
+        matcher = WEEKDAY_PATTERN.matcher(lower);
         if (matcher.find()) {
             String weekType = matcher.group(1);
             String dayName = matcher.group(2);
@@ -97,8 +104,7 @@ public final class RelativeDateParser {
         }
 
         // N일 후
-        Pattern daysAfterPattern = Pattern.compile("(\\d+)일\\s*후");
-        matcher = daysAfterPattern.matcher(lower);
+        matcher = DAYS_AFTER_PATTERN.matcher(lower);
         if (matcher.find()) {
             int days = Integer.parseInt(matcher.group(1));
             return today.plusDays(days);
@@ -124,33 +130,17 @@ public final class RelativeDateParser {
 
         String lower = expression.toLowerCase().trim();
 
-        // 이미 HH:mm 형식인 경우
-        try {
-            return LocalTime.parse(lower, DateTimeFormatter.ofPattern("HH:mm"));
-        } catch (Exception e) {
-            // 파싱 실패, 계속 진행
-        }
-
-        // 오전/오후 시간 - 다양한 패턴 지원
-        Pattern amPmPattern1 = Pattern.compile("(오전|오후|am|pm)\\s*(\\d{1,2})\\s*시(?:\\s*(\\d{1,2})\\s*분)?");
-        java.util.regex.Matcher matcher = amPmPattern1.matcher(lower);
-        if (matcher.find()) {
-            String amPm = matcher.group(1);
-            int hour = Integer.parseInt(matcher.group(2));
-            int minute = matcher.group(3) != null ? Integer.parseInt(matcher.group(3)) : 0;
-            
-            if (amPm != null && (amPm.contains("오전") || amPm.toLowerCase().equals("am"))) {
-                if (hour == 12) hour = 0;
-                return LocalTime.of(hour, minute);
-            } else if (amPm != null && (amPm.contains("오후") || amPm.toLowerCase().equals("pm"))) {
-                if (hour != 12) hour += 12;
-                return LocalTime.of(hour, minute);
+        // 이미 HH:mm 형식인 경우 (예외 생성 비용을 피하려고 모양부터 확인)
+        if (lower.length() == 5 && lower.charAt(2) == ':') {
+            try {
+                return LocalTime.parse(lower, TIME_FORMAT);
+            } catch (Exception e) {
+                // 파싱 실패, 계속 진행
             }
         }
-        
-        // "오후8시", "오후 8시" (공백 없음)
-        Pattern amPmPattern2 = Pattern.compile("(오전|오후|am|pm)\\s*(\\d{1,2})시(?:\\s*(\\d{1,2})분)?");
-        matcher = amPmPattern2.matcher(lower);
+
+        // 오전/오후 시간 - "오후 8시", "오후8시", "오후 8시 30분"
+        java.util.regex.Matcher matcher = AM_PM_PATTERN.matcher(lower);
         if (matcher.find()) {
             String amPm = matcher.group(1);
             int hour = Integer.parseInt(matcher.group(2));
@@ -166,8 +156,7 @@ public final class RelativeDateParser {
         }
         
         // 숫자만 있는 경우 (예: "8시")
-        Pattern hourOnlyPattern = Pattern.compile("(\\d{1,2})\\s*시(?:\\s*(\\d{1,2})\\s*분)?");
-        matcher = hourOnlyPattern.matcher(lower);
+        matcher = HOUR_ONLY_PATTERN.matcher(lower);
         if (matcher.find()) {
             int hour = Integer.parseInt(matcher.group(1));
             int minute = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 0;
@@ -183,8 +172,7 @@ public final class RelativeDateParser {
 
         // 저녁, 점심, 낮 등
         if (lower.contains("저녁")) {
-            Pattern eveningPattern = Pattern.compile("(\\d{1,2})시");
-            matcher = eveningPattern.matcher(lower);
+            matcher = EVENING_HOUR_PATTERN.matcher(lower);
             if (matcher.find()) {
                 int hour = Integer.parseInt(matcher.group(1));
                 if (hour < 12) hour += 12;
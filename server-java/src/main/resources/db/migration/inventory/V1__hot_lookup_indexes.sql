@@ -0,0 +1,16 @@
+-- inventory.db 조회 경로 인덱스. 엔티티 @Index와 이름이 같은 것은 이미 있으면 건너뜀
+
+-- 메뉴 x 윈도우별 예약 수량 합계
+CREATE INDEX IF NOT EXISTS idx_reservation_menu_window ON inventory_reservations (menu_item_id, window_start);
+
+-- 주문별 예약 조회/삭제/소비 처리
+CREATE INDEX IF NOT EXISTS idx_reservation_order ON inventory_reservations (order_id);
+
+-- 윈도우 시작 시각 범위 조회 (매일 재고 초기화, 원장 초기 적재)
+CREATE INDEX IF NOT EXISTS idx_reservation_window ON inventory_reservations (window_start);
+
+-- 소비되지 않은 만료 예약 폐기
+CREATE INDEX IF NOT EXISTS idx_reservation_unconsumed_expiry ON inventory_reservations (consumed, expires_at);
+
+-- 메뉴별 재고
+CREATE UNIQUE INDEX IF NOT EXISTS idx_inventory_menu_item ON menu_inventory (menu_item_id);
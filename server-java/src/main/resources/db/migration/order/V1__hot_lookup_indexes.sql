@@ -0,0 +1,22 @@
+-- orders.db 조회 경로 인덱스. 엔티티 @Index와 이름이 같은 것은 이미 있으면 건너뜀
+
+-- 고객 주문 내역 (user_id = ? ORDER BY created_at DESC), 키셋 페이지 (user_id = ? AND id < ? ORDER BY id DESC)
+CREATE INDEX IF NOT EXISTS idx_orders_user_created ON orders (user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_orders_user_id ON orders (user_id, id);
+
+-- 상태별 주문 목록
+CREATE INDEX IF NOT EXISTS idx_orders_status ON orders (status);
+
+-- 주문 생성 시 같은 시간/주소 중복 주문 확인
+CREATE INDEX IF NOT EXISTS idx_orders_user_delivery ON orders (user_id, delivery_time, delivery_address);
+
+-- 날짜 범위 조회
+CREATE INDEX IF NOT EXISTS idx_orders_delivery_at_status ON orders (delivery_at, status);
+
+-- 주문 항목
+CREATE INDEX IF NOT EXISTS idx_order_items_order ON order_items (order_id, menu_item_id, quantity);
+
+-- 예약 변경 요청
+CREATE INDEX IF NOT EXISTS idx_change_request_order_requested ON order_change_requests (order_id, requested_at);
+CREATE INDEX IF NOT EXISTS idx_change_request_status_requested ON order_change_requests (status, requested_at);
+CREATE INDEX IF NOT EXISTS idx_change_request_items_request ON order_change_request_items (change_request_id);
@@ -0,0 +1,2 @@
+-- 관리자 승인 대기열 (admin_approval_status = ? ORDER BY delivery_at, id), 키셋 페이지
+CREATE INDEX IF NOT EXISTS idx_orders_approval_delivery ON orders (admin_approval_status, delivery_at, id);
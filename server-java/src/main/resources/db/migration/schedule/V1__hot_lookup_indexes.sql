@@ -0,0 +1,16 @@
+-- schedule.db 조회 경로 인덱스. 엔티티 @Index와 이름이 같은 것은 이미 있으면 건너뜀
+
+-- 배달 스케줄: 직원별 겹침 검사, 상태별 복귀/완료 시각, 주문별, 날짜별, 경로 경유지
+CREATE INDEX IF NOT EXISTS idx_delivery_employee_window ON delivery_schedules (employee_id, departure_time, return_time);
+CREATE INDEX IF NOT EXISTS idx_delivery_status_return ON delivery_schedules (status, return_time);
+CREATE INDEX IF NOT EXISTS idx_delivery_status_completed ON delivery_schedules (status, completed_at);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_delivery_order ON delivery_schedules (order_id);
+CREATE INDEX IF NOT EXISTS idx_delivery_departure ON delivery_schedules (departure_time);
+CREATE INDEX IF NOT EXISTS idx_delivery_route_stop ON delivery_schedules (route_id, stop_sequence);
+
+-- 여러 곳 배달 경로
+CREATE INDEX IF NOT EXISTS idx_route_employee_departure ON delivery_routes (employee_id, departure_time);
+
+-- 직원 근무 배정: 직원별 날짜, 날짜별 업무 종류
+CREATE INDEX IF NOT EXISTS idx_employee_date ON employee_work_assignments (employee_id, work_date);
+CREATE INDEX IF NOT EXISTS idx_work_date_task ON employee_work_assignments (work_date, task_type);
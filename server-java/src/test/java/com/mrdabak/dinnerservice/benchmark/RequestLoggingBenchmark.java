@@ -0,0 +1,134 @@
+package com.mrdabak.dinnerservice.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나가 인증 필터와 주문 API를 지나며 남기는 추적 로그 비용 비교.
+ *
+ * <ul>
+ *     <li>legacyPrintln: 기존 방식 - 요청마다 System.out.println 여러 줄 (PrintStream 락 + 동기 출력)</li>
+ *     <li>slf4jDebugDisabled: 운영 기본값(INFO)에서 DEBUG 추적 로그 - 레벨 검사만 하고 끝남</li>
+ *     <li>slf4jInfoAsync: 요청당 INFO 한 줄을 AsyncAppender 큐에 넣는 경우 (logback-spring.xml과 같은 설정)</li>
+ * </ul>
+ *
+ * 8개 스레드가 쉬지 않고 로그를 넣으므로 slf4jInfoAsync는 큐가 가득 찬 상태로 측정되며,
+ * neverBlock이라 큐가 가득 찼을 때 버려진 로그도 처리량에 포함됩니다.
+ *
+ * 실행: {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=RequestLoggingBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class RequestLoggingBenchmark {
+
+    private static final String REQUEST_PATH = "/api/orders";
+    private static final String USER_ID = "42";
+    private static final String ROLE = "customer";
+
+    private PrintStream legacyOut;
+    private LoggerContext loggerContext;
+    private Logger logger;
+
+    @Setup
+    public void setUp() {
+        // System.out과 같은 autoflush PrintStream이지만 출력은 버림 (콘솔 I/O 자체 비용은 제외)
+        legacyOut = new PrintStream(OutputStream.nullOutputStream(), true);
+
+        loggerContext = new LoggerContext();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d %5p [%t] [%X{requestId:--}] %logger{36} : %m%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(loggerContext);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(loggerContext);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(0);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.addAppender(sink);
+        async.start();
+
+        logger = loggerContext.getLogger("com.mrdabak.dinnerservice.benchmark");
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(async);
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void legacyPrintln() {
+        String threadId = Thread.currentThread().getName() + "-" + Thread.currentThread().getId();
+        legacyOut.println("[JWT Filter] Request path: " + REQUEST_PATH + ", Method: POST");
+        legacyOut.println("[JWT Filter] Authorization header: present");
+        legacyOut.println("[JWT Filter] Extracted user ID: " + USER_ID + ", role: " + ROLE);
+        legacyOut.println("[JWT Filter] Authentication set - user: " + USER_ID + ", authorities: " + List.of("ROLE_CUSTOMER"));
+        legacyOut.println("========== [주문 생성 API] 요청 시작 ==========");
+        legacyOut.println("[주문 생성 API] 스레드: " + threadId);
+        legacyOut.println("[주문 생성 API] 주문 서비스 호출 전 - 사용자 ID: " + USER_ID);
+        legacyOut.println("[주문 생성 API] 주문 서비스 호출 완료 - 주문 ID: " + 1001);
+    }
+
+    @Benchmark
+    public void slf4jDebugDisabled() {
+        MDC.put("requestId", "bench-request");
+        try {
+            logger.debug("[JWT Filter] {} {} - Authorization header {}", "POST", REQUEST_PATH, "present");
+            logger.debug("[JWT Filter] Extracted user ID: {}, role: {}", USER_ID, ROLE);
+            logger.debug("[JWT Filter] Authenticated user {} with authority {}", USER_ID, "ROLE_CUSTOMER");
+            logger.debug("[주문 생성 API] 요청 시작 - Authentication 객체: {}", "존재");
+            logger.debug("[주문 생성 API] 주문 서비스 호출 전 - 사용자 ID: {}", USER_ID);
+        } finally {
+            MDC.remove("requestId");
+        }
+    }
+
+    @Benchmark
+    public void slf4jInfoAsync() {
+        MDC.put("requestId", "bench-request");
+        try {
+            logger.debug("[JWT Filter] Extracted user ID: {}, role: {}", USER_ID, ROLE);
+            logger.info("[주문 생성 API] 주문 생성 완료 - 주문 ID: {}, 사용자 ID: {}", 1001, USER_ID);
+        } finally {
+            MDC.remove("requestId");
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.mrdabak.dinnerservice.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mrdabak.dinnerservice.voice.util.DomainVocabularyNormalizer;
+import com.mrdabak.dinnerservice.voice.util.RelativeDateParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 음성 발화 한 건이 서버에서 거치는 어휘 정규화 + 날짜/시간 해석 비용 비교.
+ *
+ * <ul>
+ *     <li>legacy: 기존 방식 - 치환 표현마다 String.replace, 용어마다 contains, 호출마다 Pattern.compile</li>
+ *     <li>automaton: Aho–Corasick 오토마톤 한 번 순회 + 미리 컴파일한 정규식 (현재 코드)</li>
+ * </ul>
+ *
+ * 발화는 {@code finetuning/dataset/examples/sample_conversations.json}의 고객 발화를 씁니다.
+ * 실행: {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.include=TranscriptNormalizationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranscriptNormalizationBenchmark {
+
+    private static final Path CORPUS = Path.of("..", "finetuning", "dataset", "examples", "sample_conversations.json");
+
+    private static final Map<String, String> LEGACY_REPLACEMENTS = Map.ofEntries(
+            Map.entry("바케트", "바게트"),
+            Map.entry("바게뜨", "바게트"),
+            Map.entry("바게트빵", "바게트"),
+            Map.entry("champagne feast", "샴페인 축제"),
+            Map.entry("champagne dinner", "샴페인 축제"),
+            Map.entry("심플 스타일", "심플"),
+            Map.entry("그랜드 스타일", "그랜드"),
+            Map.entry("디럭스 스타일", "디럭스"));
+
+    private static final List<List<String>> LEGACY_TERMS = List.of(
+            List.of("발렌타인", "valentine"), List.of("프렌치", "french"), List.of("잉글리시", "english"),
+            List.of("샴페인 축제", "champagne feast", "champagne"),
+            List.of("심플", "simple"), List.of("그랜드", "grand"), List.of("디럭스", "del럭스", "deluxe"),
+            List.of("샴페인", "champagne"), List.of("와인", "wine"), List.of("커피", "coffee"),
+            List.of("스테이크", "ste이크", "steak"), List.of("샐러드", "salad"), List.of("에그", "스크램블", "eggs"),
+            List.of("베이컨", "bacon"), List.of("빵", "bread"), List.of("바게트", "baguette"));
+
+    private final DomainVocabularyNormalizer normalizer = new DomainVocabularyNormalizer();
+    private List<String> utterances;
+
+    @Setup
+    public void setUp() throws IOException {
+        utterances = new ArrayList<>();
+        if (Files.exists(CORPUS)) {
+            for (JsonNode conversation : new ObjectMapper().readTree(CORPUS.toFile())) {
+                for (JsonNode message : conversation.path("messages")) {
+                    if ("user".equals(message.path("role").asText())) {
+                        utterances.add(message.path("content").asText());
+                    }
+                }
+            }
+        }
+        if (utterances.isEmpty()) {
+            utterances = List.of("발렌타인 디너 주문하고 싶어요", "디럭스로 해주세요", "내일 저녁 7시에 부탁해요",
+                    "그리고 바케트빵을 6개로, 샴페인을 2병으로 변경해요", "모레 오후 6시", "네, 디럭스 스타일 좋아요");
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (String utterance : utterances) {
+            String cleaned = Normalizer.normalize(utterance, Normalizer.Form.NFKC);
+            for (Map.Entry<String, String> entry : LEGACY_REPLACEMENTS.entrySet()) {
+                cleaned = cleaned.replace(entry.getKey(), entry.getValue());
+            }
+            String lowered = Normalizer.normalize(cleaned.trim(), Normalizer.Form.NFKC)
+                    .toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+            for (List<String> term : LEGACY_TERMS) {
+                for (String token : term) {
+                    if (lowered.contains(token)) {
+                        blackhole.consume(token);
+                        break;
+                    }
+                }
+            }
+            blackhole.consume(legacyParseTime(lowered));
+            blackhole.consume(Pattern.compile("(확정|주문\\s*확정|좋아|네|그래|주문할게|맞아|그대로|진행|해줘|할게|하겠)",
+                    Pattern.CASE_INSENSITIVE).matcher(lowered).find());
+        }
+    }
+
+    @Benchmark
+    public void automaton(Blackhole blackhole) {
+        for (String utterance : utterances) {
+            String cleaned = normalizer.cleanupTranscript(utterance);
+            blackhole.consume(normalizer.normalizeDinnerType(cleaned));
+            blackhole.consume(normalizer.normalizeServingStyle(cleaned));
+            blackhole.consume(normalizer.normalizeMenuItemKey(cleaned));
+            blackhole.consume(RelativeDateParser.parseRelativeDateTime("내일", cleaned));
+        }
+    }
+
+    /**
+     * 변경 전 RelativeDateParser.parseTimeExpression과 같은 순서로 호출마다 정규식을 컴파일합니다.
+     */
+    private static LocalTime legacyParseTime(String lower) {
+        try {
+            return LocalTime.parse(lower, DateTimeFormatter.ofPattern("HH:mm"));
+        } catch (Exception ignored) {
+            // 계속 진행
+        }
+        for (String regex : List.of("(오전|오후|am|pm)\\s*(\\d{1,2})\\s*시(?:\\s*(\\d{1,2})\\s*분)?",
+                "(오전|오후|am|pm)\\s*(\\d{1,2})시(?:\\s*(\\d{1,2})분)?")) {
+            Matcher matcher = Pattern.compile(regex).matcher(lower);
+            if (matcher.find()) {
+                int hour = Integer.parseInt(matcher.group(2)) % 12 + (matcher.group(1).equals("오후") ? 12 : 0);
+                return LocalTime.of(hour, matcher.group(3) != null ? Integer.parseInt(matcher.group(3)) : 0);
+            }
+        }
+        Matcher matcher = Pattern.compile("(\\d{1,2})\\s*시(?:\\s*(\\d{1,2})\\s*분)?").matcher(lower);
+        if (matcher.find()) {
+            int hour = Integer.parseInt(matcher.group(1));
+            return LocalTime.of(hour >= 1 && hour <= 11 ? hour + 12 : hour % 24, 0);
+        }
+        return LocalTime.of(19, 0);
+    }
+}
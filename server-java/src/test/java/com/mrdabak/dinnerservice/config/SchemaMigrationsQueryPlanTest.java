@@ -0,0 +1,179 @@
+package com.mrdabak.dinnerservice.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 마이그레이션 스크립트를 적용한 SQLite에서 자주 쓰는 조회가 의도한 인덱스를 타는지 EXPLAIN QUERY PLAN으로 확인합니다.
+ * 테이블은 Hibernate가 만드는 것과 같은 컬럼 구성으로 직접 만듭니다.
+ */
+class SchemaMigrationsQueryPlanTest {
+
+    @Test
+    void orderQueriesUseIndexes() throws Exception {
+        try (Connection connection = migrated("order",
+                "CREATE TABLE orders (id bigint NOT NULL, user_id bigint NOT NULL, dinner_type_id bigint NOT NULL, "
+                        + "serving_style varchar(255) NOT NULL, delivery_time varchar(255) NOT NULL, delivery_at varchar(19), "
+                        + "delivery_address varchar(255) NOT NULL, total_price integer NOT NULL, status varchar(255) NOT NULL, "
+                        + "payment_status varchar(255) NOT NULL, admin_approval_status varchar(255), created_at timestamp, "
+                        + "PRIMARY KEY (id))",
+                "CREATE TABLE order_items (id bigint NOT NULL, order_id bigint NOT NULL, menu_item_id bigint NOT NULL, "
+                        + "quantity integer NOT NULL, PRIMARY KEY (id))",
+                "CREATE TABLE order_change_requests (id bigint NOT NULL, order_id bigint NOT NULL, user_id bigint NOT NULL, "
+                        + "status varchar(255) NOT NULL, requested_at timestamp NOT NULL, PRIMARY KEY (id))",
+                "CREATE TABLE order_change_request_items (id bigint NOT NULL, change_request_id bigint NOT NULL, "
+                        + "menu_item_id bigint NOT NULL, quantity integer NOT NULL, PRIMARY KEY (id))")) {
+            assertUsesIndex(connection, "SELECT * FROM orders WHERE user_id = ? ORDER BY created_at DESC",
+                    "idx_orders_user_created");
+            assertUsesIndex(connection, "SELECT * FROM orders WHERE user_id = ? AND id < ? ORDER BY id DESC LIMIT ?",
+                    "idx_orders_user_id");
+            assertUsesIndex(connection, "SELECT * FROM orders WHERE status = ?", "idx_orders_status");
+            assertUsesIndex(connection,
+                    "SELECT * FROM orders WHERE user_id = ? AND delivery_time = ? AND delivery_address = ?",
+                    "idx_orders_user_delivery");
+            assertUsesIndex(connection, "SELECT * FROM orders WHERE delivery_at >= ? AND delivery_at < ?",
+                    "idx_orders_delivery_at_status");
+            assertUsesIndex(connection,
+                    "SELECT * FROM orders WHERE admin_approval_status = ? ORDER BY delivery_at, id LIMIT ?",
+                    "idx_orders_approval_delivery");
+            assertUsesIndex(connection,
+                    "SELECT * FROM orders WHERE admin_approval_status = ? "
+                            + "AND (delivery_at > ? OR (delivery_at = ? AND id > ?)) ORDER BY delivery_at, id LIMIT ?",
+                    "idx_orders_approval_delivery");
+            assertUsesIndex(connection, "SELECT * FROM order_items WHERE order_id = ?", "idx_order_items_order");
+            assertUsesIndex(connection, "SELECT * FROM order_items WHERE order_id IN (?, ?, ?)", "idx_order_items_order");
+            assertUsesIndex(connection,
+                    "SELECT * FROM order_change_requests WHERE order_id = ? ORDER BY requested_at DESC",
+                    "idx_change_request_order_requested");
+            assertUsesIndex(connection,
+                    "SELECT * FROM order_change_requests WHERE status = ? ORDER BY requested_at DESC",
+                    "idx_change_request_status_requested");
+            assertUsesIndex(connection, "SELECT * FROM order_change_request_items WHERE change_request_id = ?",
+                    "idx_change_request_items_request");
+        }
+    }
+
+    @Test
+    void inventoryQueriesUseIndexes() throws Exception {
+        try (Connection connection = migrated("inventory",
+                "CREATE TABLE inventory_reservations (id bigint NOT NULL, order_id bigint NOT NULL, "
+                        + "menu_item_id bigint NOT NULL, quantity integer NOT NULL, delivery_time timestamp NOT NULL, "
+                        + "window_start timestamp NOT NULL, window_end timestamp NOT NULL, created_at timestamp NOT NULL, "
+                        + "expires_at timestamp, consumed boolean, PRIMARY KEY (id))",
+                "CREATE TABLE menu_inventory (id bigint NOT NULL, menu_item_id bigint NOT NULL, "
+                        + "capacity_per_window integer NOT NULL, PRIMARY KEY (id))")) {
+            assertUsesIndex(connection,
+                    "SELECT COALESCE(SUM(quantity), 0) FROM inventory_reservations WHERE menu_item_id = ? AND window_start = ?",
+                    "idx_reservation_menu_window");
+            assertUsesIndex(connection, "SELECT * FROM inventory_reservations WHERE order_id = ?", "idx_reservation_order");
+            assertUsesIndex(connection,
+                    "SELECT * FROM inventory_reservations WHERE window_start >= ? AND window_start < ?",
+                    "idx_reservation_window");
+            assertUsesIndex(connection,
+                    "SELECT * FROM inventory_reservations WHERE consumed = 0 AND expires_at < ?",
+                    "idx_reservation_unconsumed_expiry");
+            assertUsesIndex(connection, "SELECT * FROM menu_inventory WHERE menu_item_id = ?", "idx_inventory_menu_item");
+        }
+    }
+
+    @Test
+    void scheduleQueriesUseIndexes() throws Exception {
+        try (Connection connection = migrated("schedule",
+                "CREATE TABLE delivery_schedules (id bigint NOT NULL, order_id bigint NOT NULL, employee_id bigint NOT NULL, "
+                        + "delivery_address varchar(1024) NOT NULL, departure_time timestamp NOT NULL, "
+                        + "arrival_time timestamp NOT NULL, return_time timestamp NOT NULL, one_way_minutes integer NOT NULL, "
+                        + "route_id bigint, stop_sequence integer, status varchar(255) NOT NULL, started_at timestamp, "
+                        + "completed_at timestamp, created_at timestamp NOT NULL, updated_at timestamp NOT NULL, "
+                        + "PRIMARY KEY (id))",
+                "CREATE TABLE delivery_routes (id bigint NOT NULL, employee_id bigint NOT NULL, "
+                        + "departure_time timestamp NOT NULL, return_time timestamp NOT NULL, stop_count integer NOT NULL, "
+                        + "PRIMARY KEY (id))",
+                "CREATE TABLE employee_work_assignments (id bigint NOT NULL, employee_id bigint NOT NULL, "
+                        + "work_date date NOT NULL, task_type varchar(255) NOT NULL, PRIMARY KEY (id))")) {
+            assertUsesIndex(connection, "SELECT * FROM delivery_schedules WHERE order_id = ?", "idx_delivery_order");
+            assertUsesIndex(connection, "SELECT * FROM delivery_schedules WHERE departure_time BETWEEN ? AND ?",
+                    "idx_delivery_departure");
+            assertUsesIndex(connection,
+                    "SELECT * FROM delivery_schedules WHERE employee_id = ? AND departure_time BETWEEN ? AND ?",
+                    "idx_delivery_employee_window");
+            assertUsesIndex(connection,
+                    "SELECT COUNT(*) FROM delivery_schedules WHERE employee_id = ? AND order_id <> ? "
+                            + "AND status <> 'CANCELLED' AND return_time > ? AND departure_time < ?",
+                    "idx_delivery_employee_window");
+            assertUsesIndex(connection,
+                    "SELECT * FROM delivery_schedules WHERE status = ? AND completed_at > ? ORDER BY completed_at",
+                    "idx_delivery_status_completed");
+            assertUsesIndex(connection, "SELECT * FROM delivery_schedules WHERE route_id = ? ORDER BY stop_sequence",
+                    "idx_delivery_route_stop");
+            assertUsesIndex(connection,
+                    "SELECT * FROM employee_work_assignments WHERE employee_id = ? AND work_date = ?",
+                    "idx_employee_date");
+            assertUsesIndex(connection,
+                    "SELECT * FROM employee_work_assignments WHERE work_date = ? AND task_type = ?",
+                    "idx_work_date_task");
+        }
+    }
+
+    @Test
+    void migrationsRunOnceAndReportMissingIndexes() throws Exception {
+        List<SchemaMigrations.Migration> migrations = SchemaMigrations.load("schedule");
+        try (Connection connection = migrated("schedule",
+                "CREATE TABLE delivery_schedules (id bigint NOT NULL, order_id bigint NOT NULL, employee_id bigint NOT NULL, "
+                        + "departure_time timestamp NOT NULL, return_time timestamp NOT NULL, route_id bigint, "
+                        + "stop_sequence integer, status varchar(255) NOT NULL, completed_at timestamp, PRIMARY KEY (id))",
+                "CREATE TABLE delivery_routes (id bigint NOT NULL, employee_id bigint NOT NULL, "
+                        + "departure_time timestamp NOT NULL, PRIMARY KEY (id))",
+                "CREATE TABLE employee_work_assignments (id bigint NOT NULL, employee_id bigint NOT NULL, "
+                        + "work_date date NOT NULL, task_type varchar(255) NOT NULL, PRIMARY KEY (id))")) {
+            assertEquals(0, SchemaMigrations.apply(connection, migrations));
+            assertTrue(SchemaMigrations.missingIndexes(connection, migrations).isEmpty());
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP INDEX idx_work_date_task");
+            }
+            assertEquals(List.of("idx_work_date_task"), SchemaMigrations.missingIndexes(connection, migrations));
+        }
+    }
+
+    private static Connection migrated(String database, String... ddl) throws Exception {
+        Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : ddl) {
+                statement.execute(sql);
+            }
+        }
+        List<SchemaMigrations.Migration> migrations = SchemaMigrations.load(database);
+        assertTrue(SchemaMigrations.apply(connection, migrations) > 0);
+        return connection;
+    }
+
+    private static void assertUsesIndex(Connection connection, String sql, String indexName) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            int parameters = explain.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                explain.setLong(i, 1L);
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString("detail"));
+                }
+            }
+        }
+        assertTrue(plan.stream().anyMatch(step -> step.contains("INDEX " + indexName + " ")),
+                () -> sql + " 실행 계획: " + plan);
+        assertTrue(plan.stream().noneMatch(step -> step.startsWith("SCAN") || step.contains("TEMP B-TREE")),
+                () -> sql + " 실행 계획: " + plan);
+    }
+}
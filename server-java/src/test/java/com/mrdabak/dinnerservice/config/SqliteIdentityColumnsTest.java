@@ -0,0 +1,99 @@
+package com.mrdabak.dinnerservice.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AUTO 시절 테이블({@code id bigint})이 rowid 별칭으로 바뀌어 id 없는 INSERT에 DB가 id를 발급하는지 확인합니다.
+ * 테이블은 Hibernate가 만드는 것과 같은 형태로 직접 만듭니다.
+ */
+class SqliteIdentityColumnsTest {
+
+    @Test
+    void convertsBigintIdTablesAndKeepsRowsAndIndexes() throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE orders (\n        id bigint not null,\n        user_id bigint not null,\n"
+                    + "        status varchar(255) not null,\n        primary key (id)\n    )");
+            statement.execute("CREATE INDEX idx_orders_user_id ON orders (user_id, id)");
+            statement.execute("INSERT INTO orders (id, user_id, status) VALUES (3, 10, 'pending'), (7, 11, 'delivered')");
+
+            assertEquals(List.of("orders"), SqliteIdentityColumns.convert(connection));
+
+            // id 없이 넣으면 MAX(id) + 1
+            statement.execute("INSERT INTO orders (user_id, status) VALUES (12, 'pending')");
+            assertEquals(List.of(3L, 7L, 8L), longs(statement, "SELECT id FROM orders ORDER BY id"));
+            assertEquals(List.of(11L), longs(statement, "SELECT user_id FROM orders WHERE status = 'delivered'"));
+            assertEquals(List.of(1L), longs(statement,
+                    "SELECT COUNT(*) FROM sqlite_master WHERE type = 'index' AND name = 'idx_orders_user_id'"));
+            assertEquals(List.of(0L), longs(statement,
+                    "SELECT COUNT(*) FROM sqlite_master WHERE name LIKE '%rowid_rebuild%'"));
+
+            // 이미 바뀐 테이블은 건너뜀
+            assertTrue(SqliteIdentityColumns.convert(connection).isEmpty());
+        }
+    }
+
+    @Test
+    void leavesRowidAndNonIdKeysAlone() throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id integer, email varchar(255) not null, primary key (id))");
+            statement.execute("CREATE TABLE user_order_stats (user_id bigint not null, delivered_count integer not null, "
+                    + "primary key (user_id))");
+            statement.execute("CREATE TABLE HTE_orders (rn_ integer not null, id bigint, hib_sess_id char(36) not null, "
+                    + "primary key (rn_, hib_sess_id))");
+
+            assertTrue(SqliteIdentityColumns.convert(connection).isEmpty());
+        }
+    }
+
+    @Test
+    void failedConversionRollsBackEveryTable() throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE menu_items (id bigint not null, name varchar(255), primary key (id))");
+            statement.execute("INSERT INTO menu_items VALUES (1, '스테이크')");
+            // 남아 있는 재구성 테이블 이름과 겹치면 두 번째 CREATE가 실패
+            statement.execute("CREATE TABLE orders (id bigint not null, primary key (id))");
+            statement.execute("CREATE TABLE orders_rowid_rebuild (x integer)");
+
+            assertThrows(SQLException.class, () -> SqliteIdentityColumns.convert(connection));
+
+            assertEquals(List.of(0L), longs(statement,
+                    "SELECT COUNT(*) FROM pragma_table_info('menu_items') WHERE name = 'id' AND type = 'INTEGER'"));
+            assertEquals(List.of(1L), longs(statement, "SELECT COUNT(*) FROM menu_items"));
+        }
+    }
+
+    @Test
+    void rowidDefinitionOnlyChangesTheIdColumnType() {
+        String sql = SqliteIdentityColumns.rowidDefinition(
+                "CREATE TABLE users (\n        id bigint not null,\n        paid_id bigint,\n        primary key (id)\n    )",
+                "users_rowid_rebuild", "bigint");
+
+        assertEquals("CREATE TABLE \"users_rowid_rebuild\" (\n        id INTEGER not null,\n        paid_id bigint,\n"
+                + "        primary key (id)\n    )", sql);
+    }
+
+    private static List<Long> longs(Statement statement, String sql) throws SQLException {
+        List<Long> values = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getLong(1));
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,48 @@
+package com.mrdabak.dinnerservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static java.time.Duration.ofSeconds;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+/**
+ * writer 커넥션을 잡은 스레드가 같은 DB의 쓰기 커넥션을 다시 요청하면 기다리지 않고 바로 실패하는지 확인합니다.
+ */
+class SqliteReadWriteDataSourceTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void nestedWriterRequestFailsFastInsteadOfDeadlocking() throws Exception {
+        SqliteDataSourceFactory factory = new SqliteDataSourceFactory(2, 60000, -2000, 0, "MEMORY", 1000, 1048576);
+        DataSource dataSource = factory.create("test", "jdbc:sqlite:" + dir.resolve("test.db"), 60000);
+        try {
+            try (Connection writer = dataSource.getConnection(); Statement statement = writer.createStatement()) {
+                statement.execute("CREATE TABLE t (id INTEGER PRIMARY KEY)");
+                // 같은 스레드에서 확인해야 하므로 assertTimeout(선점 없음)으로 60초 대기가 아님을 봄
+                assertTimeout(ofSeconds(5), () -> assertThrows(SQLException.class, () -> {
+                    try (Connection nested = dataSource.getConnection(); Statement nestedStatement = nested.createStatement()) {
+                        nestedStatement.execute("INSERT INTO t VALUES (1)");
+                    }
+                }));
+            }
+
+            // 첫 커넥션을 놓으면 다시 writer를 받을 수 있음
+            try (Connection writer = dataSource.getConnection(); Statement statement = writer.createStatement()) {
+                statement.execute("INSERT INTO t VALUES (1)");
+            }
+        } finally {
+            ((Closeable) dataSource).close();
+        }
+    }
+}
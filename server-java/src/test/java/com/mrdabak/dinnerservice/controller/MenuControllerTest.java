@@ -0,0 +1,86 @@
+package com.mrdabak.dinnerservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mrdabak.dinnerservice.model.DinnerMenuItem;
+import com.mrdabak.dinnerservice.model.DinnerType;
+import com.mrdabak.dinnerservice.model.MenuItem;
+import com.mrdabak.dinnerservice.repository.DinnerMenuItemRepository;
+import com.mrdabak.dinnerservice.repository.DinnerTypeRepository;
+import com.mrdabak.dinnerservice.repository.MenuItemRepository;
+import com.mrdabak.dinnerservice.service.MenuCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MenuControllerTest {
+
+    @Mock
+    private DinnerTypeRepository dinnerTypeRepository;
+    @Mock
+    private MenuItemRepository menuItemRepository;
+    @Mock
+    private DinnerMenuItemRepository dinnerMenuItemRepository;
+
+    private MenuCatalog menuCatalog;
+    private MenuController menuController;
+
+    @BeforeEach
+    void setUp() {
+        menuCatalog = new MenuCatalog(dinnerTypeRepository, menuItemRepository, dinnerMenuItemRepository);
+        menuController = new MenuController(menuCatalog, new ObjectMapper(), 60);
+        when(dinnerTypeRepository.findAll()).thenReturn(List.of(
+                new DinnerType(1L, "발렌타인 디너", "Valentine", 60_000, null)));
+        when(menuItemRepository.findAll()).thenReturn(List.of(
+                new MenuItem(10L, "와인", "Wine", 20_000, "alcohol")));
+        when(dinnerMenuItemRepository.findAll()).thenReturn(List.of(
+                new DinnerMenuItem(100L, 1L, 10L, 1)));
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModifiedWithoutBody() {
+        ResponseEntity<byte[]> first = menuController.getDinners(null);
+        String etag = first.getHeaders().getETag();
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertNotNull(etag);
+        assertTrue(first.getHeaders().getCacheControl().contains("max-age=60"));
+        assertTrue(new String(first.getBody(), StandardCharsets.UTF_8).contains("\"menu_items\""));
+
+        ResponseEntity<byte[]> revalidated = menuController.getDinners("W/" + etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidated.getStatusCode());
+        assertEquals(etag, revalidated.getHeaders().getETag());
+        assertNull(revalidated.getBody());
+
+        // 카탈로그가 그대로면 미리 직렬화한 바이트를 재사용
+        assertSame(first.getBody(), menuController.getDinners("\"other\"").getBody());
+    }
+
+    @Test
+    void catalogInvalidationChangesEtag() {
+        String before = menuController.getMenuItems(null).getHeaders().getETag();
+
+        when(menuItemRepository.findAll()).thenReturn(List.of(
+                new MenuItem(10L, "와인", "Wine", 25_000, "alcohol")));
+        menuCatalog.invalidate();
+
+        ResponseEntity<byte[]> after = menuController.getMenuItems(before);
+        assertEquals(HttpStatus.OK, after.getStatusCode());
+        assertNotEquals(before, after.getHeaders().getETag());
+    }
+}
@@ -0,0 +1,130 @@
+package com.mrdabak.dinnerservice.controller;
+
+import com.mrdabak.dinnerservice.model.Order;
+import com.mrdabak.dinnerservice.repository.DinnerMenuItemRepository;
+import com.mrdabak.dinnerservice.repository.DinnerTypeRepository;
+import com.mrdabak.dinnerservice.repository.MenuItemRepository;
+import com.mrdabak.dinnerservice.repository.UserRepository;
+import com.mrdabak.dinnerservice.service.DeliveredOrderCounter;
+import com.mrdabak.dinnerservice.service.MenuCatalog;
+import com.mrdabak.dinnerservice.service.OrderChangeRequestService;
+import com.mrdabak.dinnerservice.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OrderControllerPagingTest {
+
+    private static final long USER_ID = 7L;
+
+    @Mock
+    private OrderService orderService;
+    @Mock
+    private OrderChangeRequestService orderChangeRequestService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private DeliveredOrderCounter deliveredOrderCounter;
+    @Mock
+    private DinnerTypeRepository dinnerTypeRepository;
+    @Mock
+    private MenuItemRepository menuItemRepository;
+    @Mock
+    private DinnerMenuItemRepository dinnerMenuItemRepository;
+
+    private OrderController controller;
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken(String.valueOf(USER_ID), null);
+
+    @BeforeEach
+    void setUp() {
+        MenuCatalog menuCatalog = new MenuCatalog(dinnerTypeRepository, menuItemRepository, dinnerMenuItemRepository);
+        controller = new OrderController(orderService, menuCatalog, orderChangeRequestService, userRepository,
+                deliveredOrderCounter);
+        when(orderService.getOrderItemsByOrderId(any())).thenReturn(Map.of());
+        // 주문 5..1을 id 내림차순 키셋 페이지로 돌려주는 저장소 흉내
+        when(orderService.getUserOrders(eq(USER_ID), any(), any())).thenAnswer(invocation -> {
+            Long before = invocation.getArgument(1);
+            Integer limit = invocation.getArgument(2);
+            return LongStream.iterate(5, id -> id >= 1, id -> id - 1)
+                    .filter(id -> before == null || id < before)
+                    .limit(OrderService.orderPageSize(limit))
+                    .mapToObj(OrderControllerPagingTest::order)
+                    .toList();
+        });
+    }
+
+    @Test
+    void pagesThroughHistoryWithBeforeCursor() {
+        ResponseEntity<List<Map<String, Object>>> first = controller.getUserOrders(authentication, null, 2);
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(List.of(5L, 4L), ids(first));
+        assertEquals("4", first.getHeaders().getFirst("X-Next-Before"));
+
+        ResponseEntity<List<Map<String, Object>>> second = controller.getUserOrders(authentication, 4L, 2);
+        assertEquals(List.of(3L, 2L), ids(second));
+        assertEquals("2", second.getHeaders().getFirst("X-Next-Before"));
+
+        // 페이지가 모자라면 마지막 페이지이므로 커서 없음
+        ResponseEntity<List<Map<String, Object>>> last = controller.getUserOrders(authentication, 2L, 2);
+        assertEquals(List.of(1L), ids(last));
+        assertNull(last.getHeaders().getFirst("X-Next-Before"));
+    }
+
+    @Test
+    void fullHistoryWithoutPagingHasNoCursor() {
+        when(orderService.getUserOrders(eq(USER_ID), eq(null), eq(null)))
+                .thenReturn(LongStream.rangeClosed(1, 3).mapToObj(OrderControllerPagingTest::order).toList());
+
+        ResponseEntity<List<Map<String, Object>>> response = controller.getUserOrders(authentication, null, null);
+
+        assertEquals(3, response.getBody().size());
+        assertNull(response.getHeaders().getFirst("X-Next-Before"));
+    }
+
+    @Test
+    void lastPageExactlyFullStillAdvertisesCursor() {
+        // 마지막 페이지가 정확히 limit만큼 차면 다음 요청은 빈 페이지로 끝남
+        ResponseEntity<List<Map<String, Object>>> response = controller.getUserOrders(authentication, 3L, 2);
+        assertEquals(List.of(2L, 1L), ids(response));
+        assertEquals("1", response.getHeaders().getFirst("X-Next-Before"));
+
+        ResponseEntity<List<Map<String, Object>>> empty = controller.getUserOrders(authentication, 1L, 2);
+        assertEquals(List.of(), ids(empty));
+        assertNull(empty.getHeaders().getFirst("X-Next-Before"));
+    }
+
+    private static List<Long> ids(ResponseEntity<List<Map<String, Object>>> response) {
+        return response.getBody().stream().map(order -> (Long) order.get("id")).toList();
+    }
+
+    private static Order order(long id) {
+        Order order = new Order();
+        order.setId(id);
+        order.setUserId(USER_ID);
+        order.setDinnerTypeId(1L);
+        order.setServingStyle("simple");
+        order.setDeliveryTime("2025-05-13T18:00");
+        order.setStatus("pending");
+        return order;
+    }
+}
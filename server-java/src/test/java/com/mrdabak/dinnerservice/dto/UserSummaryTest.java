@@ -0,0 +1,38 @@
+package com.mrdabak.dinnerservice.dto;
+
+import com.mrdabak.dinnerservice.util.PrivacyMaskingUtil;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserSummaryTest {
+
+    @Test
+    void masksFieldsWithoutConsent() {
+        UserSummary summary = new UserSummary(3L, "kim@example.com", "김철수", "서울시 강남구", "010-1234-5678",
+                "customer", "approved", null, Boolean.TRUE, Boolean.FALSE, null, Boolean.TRUE, LocalDateTime.now());
+
+        UserDto dto = summary.toMaskedDto();
+
+        assertEquals(3L, dto.getId());
+        assertEquals("kim@example.com", dto.getEmail());
+        assertEquals("김철수", dto.getName());
+        assertEquals(PrivacyMaskingUtil.MASKED_VALUE, dto.getAddress());
+        // 동의 값이 비어 있으면 비동의로 봄
+        assertEquals(PrivacyMaskingUtil.MASKED_VALUE, dto.getPhone());
+        assertEquals("customer", dto.getRole());
+    }
+
+    @Test
+    void keepsEmployeeType() {
+        UserSummary summary = new UserSummary(4L, "lee@example.com", "이영희", "서울시", "010",
+                "employee", "approved", "delivery", Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, null);
+
+        UserDto dto = summary.toMaskedDto();
+
+        assertEquals("delivery", dto.getEmployeeType());
+        assertEquals(PrivacyMaskingUtil.MASKED_VALUE, dto.getName());
+    }
+}
@@ -0,0 +1,38 @@
+package com.mrdabak.dinnerservice.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderDeliveryTimeTest {
+
+    private final IsoLocalDateTimeConverter converter = new IsoLocalDateTimeConverter();
+
+    @Test
+    void settingDeliveryTimeNormalizesDeliveryAt() {
+        Order order = new Order();
+        order.setDeliveryTime("2025-12-17T18:00");
+        assertEquals(LocalDateTime.of(2025, 12, 17, 18, 0), order.getDeliveryAt());
+
+        order.setDeliveryTime("2025-12-18T19:30:00");
+        assertEquals(LocalDateTime.of(2025, 12, 18, 19, 30), order.getDeliveryAt());
+        assertEquals(order.getDeliveryAt(), order.getDeliveryDateTime());
+
+        order.setDeliveryTime("내일 저녁");
+        assertNull(order.getDeliveryAt());
+    }
+
+    @Test
+    void storedValuesSortInTimeOrder() {
+        String morning = converter.convertToDatabaseColumn(LocalDateTime.of(2025, 12, 17, 9, 5));
+        String evening = converter.convertToDatabaseColumn(LocalDateTime.of(2025, 12, 17, 18, 0));
+        String nextDay = converter.convertToDatabaseColumn(LocalDateTime.of(2025, 12, 18, 0, 0));
+
+        assertEquals("2025-12-17T09:05:00", morning);
+        assertTrue(morning.compareTo(evening) < 0);
+        assertTrue(evening.compareTo(nextDay) < 0);
+        assertEquals(LocalDateTime.of(2025, 12, 17, 18, 0), converter.convertToEntityAttribute(evening));
+    }
+}
@@ -0,0 +1,129 @@
+package com.mrdabak.dinnerservice.repository;
+
+import com.mrdabak.dinnerservice.dto.UserSummary;
+import com.mrdabak.dinnerservice.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관리자 사용자 목록의 findSummaries* 키셋 조회를 실제 SQLite(users 테이블)에서 실행해 봅니다.
+ * 다른 데이터와 섞이지 않도록 이 테스트가 만든 사용자 id 바로 앞을 시작 커서로 씁니다.
+ */
+@SpringBootTest(properties = "voice.llm.api-key=test-key")
+class UserSummaryQueriesIT {
+
+    private static final String EMAIL_PREFIX = "summary-query-it-";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private long start;
+    private User customerA;
+    private User employeeA;
+    private User customerB;
+    private User employeeB;
+    private User pendingEmployee;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        customerA = save("a-customer", "요약고객가", "customer", "approved", true);
+        employeeA = save("b-employee", "요약직원가", "employee", "approved", false);
+        customerB = save("c-customer", "요약고객나", "customer", "approved", false);
+        employeeB = save("d-employee", "요약직원나", "employee", "approved", true);
+        pendingEmployee = save("e-pending", "요약대기", "employee", "pending", true);
+        start = customerA.getId() - 1;
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAll(userRepository.findAll().stream()
+                .filter(user -> user.getEmail().startsWith(EMAIL_PREFIX))
+                .toList());
+    }
+
+    @Test
+    void findSummariesPagesByIdWithoutSearch() {
+        List<UserSummary> first = userRepository.findSummaries(start, null, null, PageRequest.of(0, 2));
+        assertThat(ids(first)).containsExactly(customerA.getId(), employeeA.getId());
+
+        List<UserSummary> second = userRepository.findSummaries(
+                first.get(first.size() - 1).id(), null, null, PageRequest.of(0, 2));
+        assertThat(ids(second)).containsExactly(customerB.getId(), employeeB.getId());
+
+        List<UserSummary> last = userRepository.findSummaries(
+                second.get(second.size() - 1).id(), null, null, PageRequest.of(0, 2));
+        assertThat(ids(last)).containsExactly(pendingEmployee.getId());
+    }
+
+    @Test
+    void findSummariesByRoleFiltersAndContinuesAfterCursor() {
+        assertThat(ids(userRepository.findSummariesByRole("employee", start, null, null, PageRequest.of(0, 50))))
+                .containsExactly(employeeA.getId(), employeeB.getId(), pendingEmployee.getId());
+
+        assertThat(ids(userRepository.findSummariesByRole("employee", employeeA.getId(), null, null,
+                PageRequest.of(0, 1))))
+                .containsExactly(employeeB.getId());
+
+        assertThat(ids(userRepository.findSummariesByRole("customer", customerA.getId(), null, null,
+                PageRequest.of(0, 50))))
+                .containsExactly(customerB.getId());
+    }
+
+    @Test
+    void findSummariesByApprovalStatusFiltersAndContinuesAfterCursor() {
+        assertThat(ids(userRepository.findSummariesByApprovalStatus("pending", start, null, null,
+                PageRequest.of(0, 50))))
+                .containsExactly(pendingEmployee.getId());
+
+        assertThat(ids(userRepository.findSummariesByApprovalStatus("pending", pendingEmployee.getId(), null, null,
+                PageRequest.of(0, 50))))
+                .isEmpty();
+
+        assertThat(ids(userRepository.findSummariesByApprovalStatus("approved", employeeA.getId(), null, null,
+                PageRequest.of(0, 50))))
+                .containsExactly(customerB.getId(), employeeB.getId());
+    }
+
+    @Test
+    void prefixMatchesEmailOrConsentedName() {
+        String emailPrefix = EMAIL_PREFIX + "c";
+        assertThat(ids(userRepository.findSummaries(start, emailPrefix, emailPrefix + Character.MAX_VALUE,
+                PageRequest.of(0, 50))))
+                .containsExactly(customerB.getId());
+
+        // 이름 검색은 이름 공개에 동의한 사용자만
+        assertThat(ids(userRepository.findSummariesByRole("employee", start, "요약직원", "요약직원" + Character.MAX_VALUE,
+                PageRequest.of(0, 50))))
+                .containsExactly(employeeB.getId());
+
+        assertThat(ids(userRepository.findSummariesByApprovalStatus("approved", customerA.getId(),
+                "요약고객", "요약고객" + Character.MAX_VALUE, PageRequest.of(0, 50))))
+                .isEmpty();
+    }
+
+    private User save(String emailSuffix, String name, String role, String approvalStatus, boolean consentName) {
+        User user = new User();
+        user.setEmail(EMAIL_PREFIX + emailSuffix + "@example.com");
+        user.setPassword("password");
+        user.setName(name);
+        user.setAddress("서울시 테스트구");
+        user.setPhone("010-0000-0000");
+        user.setRole(role);
+        user.setApprovalStatus(approvalStatus);
+        user.setConsentName(consentName);
+        return userRepository.save(user);
+    }
+
+    private static List<Long> ids(List<UserSummary> summaries) {
+        return summaries.stream().map(UserSummary::id).toList();
+    }
+}
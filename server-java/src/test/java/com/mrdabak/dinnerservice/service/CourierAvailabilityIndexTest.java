@@ -0,0 +1,96 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.model.DeliverySchedule;
+import com.mrdabak.dinnerservice.repository.schedule.DeliveryScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CourierAvailabilityIndexTest {
+
+    private static final LocalDate DAY = LocalDate.now().plusDays(1);
+
+    @Mock
+    private DeliveryScheduleRepository deliveryScheduleRepository;
+
+    private CourierAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CourierAvailabilityIndex(deliveryScheduleRepository);
+        when(deliveryScheduleRepository.findByStatusNotAndReturnTimeAfter(eq("CANCELLED"), any()))
+                .thenReturn(List.of(
+                        schedule(10L, 1L, DAY.atTime(17, 0), DAY.atTime(18, 0), "SCHEDULED"),
+                        schedule(11L, 1L, DAY.atTime(19, 0), DAY.atTime(20, 30), "IN_PROGRESS")));
+    }
+
+    @Test
+    void isFreeChecksOverlapsPerCourier() {
+        assertFalse(index.isFree(1L, DAY.atTime(17, 30), DAY.atTime(18, 30), null));
+        assertFalse(index.isFree(1L, DAY.atTime(20, 0), DAY.atTime(21, 0), null));
+        // 경계가 맞닿는 구간은 겹치지 않음
+        assertTrue(index.isFree(1L, DAY.atTime(18, 0), DAY.atTime(19, 0), null));
+        // 자기 주문은 제외
+        assertTrue(index.isFree(1L, DAY.atTime(17, 30), DAY.atTime(18, 30), 10L));
+        assertTrue(index.isFree(2L, DAY.atTime(17, 30), DAY.atTime(18, 30), null));
+        assertEquals(2, index.countDepartures(1L, DAY.atStartOfDay(), DAY.atTime(23, 59, 59)));
+
+        // DB는 처음 한 번만 읽음
+        verify(deliveryScheduleRepository, times(1)).findByStatusNotAndReturnTimeAfter(eq("CANCELLED"), any());
+    }
+
+    @Test
+    void recordedChangesMoveAndReleaseSlots() {
+        index.isFree(1L, DAY.atTime(12, 0), DAY.atTime(13, 0), null);
+
+        // 10번 주문을 2번 직원에게 옮기고, 11번 주문은 취소
+        index.recordAfterCommit(schedule(10L, 2L, DAY.atTime(17, 0), DAY.atTime(18, 0), "SCHEDULED"));
+        index.recordAfterCommit(schedule(11L, 1L, DAY.atTime(19, 0), DAY.atTime(20, 30), "CANCELLED"));
+
+        assertTrue(index.isFree(1L, DAY.atTime(17, 0), DAY.atTime(21, 0), null));
+        assertFalse(index.isFree(2L, DAY.atTime(17, 30), DAY.atTime(18, 30), null));
+        assertEquals(0, index.countDepartures(1L, DAY.atStartOfDay(), DAY.atTime(23, 59, 59)));
+
+        index.removeAfterCommit(10L);
+        assertTrue(index.isFree(2L, DAY.atTime(17, 30), DAY.atTime(18, 30), null));
+    }
+
+    @Test
+    void changesBeforeFirstLoadComeFromDatabase() {
+        // 로딩 전 반영 요청은 무시되고, 첫 조회 시 DB 내용으로 채워짐
+        index.record(schedule(12L, 3L, DAY.atTime(17, 0), DAY.atTime(18, 0), "SCHEDULED"));
+
+        assertTrue(index.isFree(3L, DAY.atTime(17, 0), DAY.atTime(18, 0), null));
+        assertFalse(index.isFree(1L, DAY.atTime(17, 0), DAY.atTime(18, 0), null));
+    }
+
+    private static DeliverySchedule schedule(Long orderId, Long employeeId, LocalDateTime departure,
+                                             LocalDateTime returnTime, String status) {
+        DeliverySchedule schedule = new DeliverySchedule();
+        schedule.setOrderId(orderId);
+        schedule.setEmployeeId(employeeId);
+        schedule.setDepartureTime(departure);
+        schedule.setReturnTime(returnTime);
+        schedule.setStatus(status);
+        return schedule;
+    }
+}
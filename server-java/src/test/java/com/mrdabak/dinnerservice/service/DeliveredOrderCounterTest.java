@@ -0,0 +1,84 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.model.UserOrderStats;
+import com.mrdabak.dinnerservice.repository.order.UserOrderStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DeliveredOrderCounterTest {
+
+    @Mock
+    private UserOrderStatsRepository userOrderStatsRepository;
+    @Mock
+    private PlatformTransactionManager orderTransactionManager;
+
+    private DeliveredOrderCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new DeliveredOrderCounter(userOrderStatsRepository, orderTransactionManager);
+    }
+
+    @Test
+    void deliveredCountIsZeroWithoutStats() {
+        when(userOrderStatsRepository.findById(7L)).thenReturn(Optional.empty());
+        when(userOrderStatsRepository.findById(8L))
+                .thenReturn(Optional.of(new UserOrderStats(8L, 5, LocalDateTime.now())));
+
+        assertEquals(0, counter.deliveredCount(7L));
+        assertEquals(5, counter.deliveredCount(8L));
+        assertEquals(0, counter.deliveredCount(null));
+    }
+
+    @Test
+    void deliveredCountsReadsAllUsersInOneQuery() {
+        when(userOrderStatsRepository.findAllById(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(new UserOrderStats(1L, 4, null), new UserOrderStats(3L, 1, null)));
+
+        // 같은 고객의 주문이 여러 건이어도 한 번만 조회
+        Map<Long, Long> counts = counter.deliveredCounts(Arrays.asList(1L, 2L, 1L, null, 3L));
+
+        assertEquals(Map.of(1L, 4L, 3L, 1L), counts);
+        verify(userOrderStatsRepository).findAllById(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void recordDeliveredIncrementsInPlace() {
+        counter.recordDelivered(9L);
+        counter.recordDelivered(null);
+
+        verify(userOrderStatsRepository).incrementDeliveredCount(eq(9L), anyString());
+        verify(userOrderStatsRepository, never()).incrementDeliveredCount(eq(null), any());
+    }
+
+    @Test
+    void rebuildRecountsFromOrdersAndDropsStaleRows() {
+        when(userOrderStatsRepository.rebuildDeliveredCounts(anyString())).thenReturn(3);
+        when(userOrderStatsRepository.deleteStaleDeliveredCounts()).thenReturn(1);
+
+        assertEquals(3, counter.rebuild());
+        verify(userOrderStatsRepository).deleteStaleDeliveredCounts();
+    }
+}
@@ -0,0 +1,213 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.model.DeliveryRoute;
+import com.mrdabak.dinnerservice.model.DeliverySchedule;
+import com.mrdabak.dinnerservice.model.Order;
+import com.mrdabak.dinnerservice.model.User;
+import com.mrdabak.dinnerservice.repository.UserRepository;
+import com.mrdabak.dinnerservice.repository.order.OrderRepository;
+import com.mrdabak.dinnerservice.repository.schedule.DeliveryRouteRepository;
+import com.mrdabak.dinnerservice.repository.schedule.DeliveryScheduleRepository;
+import com.mrdabak.dinnerservice.repository.schedule.EmployeeWorkAssignmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DeliveryBatchPlannerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 5, 10);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private DeliveryScheduleRepository deliveryScheduleRepository;
+
+    @Mock
+    private DeliveryRouteRepository deliveryRouteRepository;
+
+    @Mock
+    private EmployeeWorkAssignmentRepository employeeWorkAssignmentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TravelTimeEstimator travelTimeEstimator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DeliveryBatchPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        planner = new DeliveryBatchPlanner(orderRepository, deliveryScheduleRepository, deliveryRouteRepository,
+                employeeWorkAssignmentRepository, userRepository, travelTimeEstimator,
+                new CourierAvailabilityIndex(deliveryScheduleRepository), transactionManager, transactionManager,
+                "15:00", "22:00", false);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(travelTimeEstimator.estimateOneWayMinutes(anyString(), any())).thenReturn(30);
+        when(employeeWorkAssignmentRepository.findByWorkDateAndTaskType(DAY, "DELIVERY")).thenReturn(List.of());
+        when(userRepository.findByRole("employee")).thenReturn(List.of(
+                courier(1L, "delivery"), courier(2L, "delivery"), courier(3L, "cooking")));
+    }
+
+    @Test
+    void previewBalancesWorkloadAndSkipsBusyOrOutOfShiftSlots() {
+        // 1번 직원은 이미 18:00 배달이 있음
+        when(deliveryScheduleRepository.findByDepartureTimeBetween(any(), any()))
+                .thenReturn(List.of(schedule(100L, 1L, DAY.atTime(17, 30), DAY.atTime(18, 30))));
+        when(orderRepository.findByDeliveryAtRange(any(), any())).thenReturn(List.of(
+                order(10L, "2025-05-10T18:00"),
+                order(11L, "2025-05-10T18:10"),
+                order(12L, "2025-05-10T19:30"),
+                order(13L, "2025-05-10T21:50"),
+                cancelled(order(14L, "2025-05-10T19:00"))));
+
+        DeliveryBatchPlanner.DayPlan plan = planner.preview(DAY);
+
+        assertFalse(plan.applied());
+        assertEquals(Map.of(10L, 2L, 12L, 1L), courierByOrder(plan));
+        assertEquals(List.of(11L, 13L), plan.unassigned().stream().map(DeliveryBatchPlanner.UnassignedOrder::orderId).toList());
+        assertEquals(Map.of(1L, 2, 2L, 1), plan.workloads());
+        verify(deliveryScheduleRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    void assignPersistsSchedulesAndOrderCouriers() {
+        Order order = order(10L, "2025-05-10T18:00");
+        when(deliveryScheduleRepository.findByDepartureTimeBetween(any(), any())).thenReturn(List.of());
+        when(orderRepository.findByDeliveryAtRange(any(), any())).thenReturn(List.of(order));
+        when(orderRepository.findAllById(any())).thenReturn(List.of(order));
+        DeliverySchedule cancelled = schedule(10L, 2L, DAY.atTime(16, 0), DAY.atTime(17, 0));
+        cancelled.setId(7L);
+        cancelled.setStatus("CANCELLED");
+        when(deliveryScheduleRepository.findByOrderIdIn(eq(List.of(10L)))).thenReturn(List.of(cancelled));
+
+        DeliveryBatchPlanner.DayPlan plan = planner.assign(DAY);
+
+        assertTrue(plan.applied());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DeliverySchedule>> saved = ArgumentCaptor.forClass(List.class);
+        verify(deliveryScheduleRepository).saveAllAndFlush(saved.capture());
+        DeliverySchedule schedule = saved.getValue().get(0);
+        assertEquals(7L, schedule.getId());
+        assertEquals("SCHEDULED", schedule.getStatus());
+        assertEquals(DAY.atTime(17, 30), schedule.getDepartureTime());
+        assertEquals(1L, order.getDeliveryEmployeeId());
+        verify(orderRepository).saveAllAndFlush(List.of(order));
+    }
+
+    @Test
+    void multiStopAssignGroupsNearbyOrdersIntoOneRoute() {
+        // 실제 권역 이동 시간표로 계산 (2025-05-10은 토요일, 18시대는 혼잡 시간)
+        DeliveryBatchPlanner routePlanner = new DeliveryBatchPlanner(orderRepository, deliveryScheduleRepository,
+                deliveryRouteRepository, employeeWorkAssignmentRepository, userRepository, new TravelTimeEstimator(),
+                new CourierAvailabilityIndex(deliveryScheduleRepository), transactionManager, transactionManager,
+                "15:00", "22:00", true);
+        List<Order> orders = List.of(
+                order(10L, "2025-05-10T18:00"),
+                order(11L, "2025-05-10T18:20"),
+                order(12L, "2025-05-10T18:30"),
+                order(13L, "2025-05-10T18:40"));
+        orders.get(2).setDeliveryAddress("서울시 마포구 월드컵로 1");
+        when(deliveryScheduleRepository.findByDepartureTimeBetween(any(), any())).thenReturn(List.of());
+        when(orderRepository.findByDeliveryAtRange(any(), any())).thenReturn(orders);
+        when(orderRepository.findAllById(any())).thenReturn(orders);
+        when(deliveryScheduleRepository.findByOrderIdIn(any())).thenReturn(List.of());
+        when(deliveryRouteRepository.save(any(DeliveryRoute.class))).thenAnswer(invocation -> {
+            DeliveryRoute route = invocation.getArgument(0);
+            route.setId(5L);
+            return route;
+        });
+
+        DeliveryBatchPlanner.DayPlan plan = routePlanner.assign(DAY);
+
+        assertEquals(1, plan.routes().size());
+        DeliveryBatchPlanner.PlannedRoute route = plan.routes().get(0);
+        assertEquals(List.of(10L, 11L, 13L), route.orderIds());
+        assertEquals("강남", route.region());
+        // 매장 -> 강남 48분, 강남 안 이동 20분씩, 강남 -> 매장 48분
+        assertEquals(DAY.atTime(17, 12), route.departureTime());
+        assertEquals(DAY.atTime(19, 28), route.returnTime());
+        assertEquals(3 * 96 - 136, route.savedMinutes());
+        assertEquals(Map.of(10L, 1L, 11L, 1L, 12L, 2L, 13L, 1L), courierByOrder(plan));
+        assertEquals(Map.of(1L, 3, 2L, 1), plan.workloads());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DeliverySchedule>> saved = ArgumentCaptor.forClass(List.class);
+        verify(deliveryScheduleRepository).saveAllAndFlush(saved.capture());
+        Map<Long, DeliverySchedule> byOrder = saved.getValue().stream().collect(
+                java.util.stream.Collectors.toMap(DeliverySchedule::getOrderId, java.util.function.Function.identity()));
+        assertEquals(5L, byOrder.get(13L).getRouteId());
+        assertEquals(3, byOrder.get(13L).getStopSequence());
+        assertEquals(DAY.atTime(18, 40), byOrder.get(13L).getArrivalTime());
+        assertEquals(20, byOrder.get(13L).getOneWayMinutes());
+        assertEquals(DAY.atTime(17, 12), byOrder.get(13L).getDepartureTime());
+        assertNull(byOrder.get(12L).getRouteId());
+    }
+
+    private static Map<Long, Long> courierByOrder(DeliveryBatchPlanner.DayPlan plan) {
+        return plan.assignments().stream().collect(java.util.stream.Collectors.toMap(
+                DeliveryBatchPlanner.PlannedDelivery::orderId, DeliveryBatchPlanner.PlannedDelivery::employeeId));
+    }
+
+    private static User courier(Long id, String type) {
+        User user = new User();
+        user.setId(id);
+        user.setName("직원" + id);
+        user.setRole("employee");
+        user.setApprovalStatus("approved");
+        user.setEmployeeType(type);
+        return user;
+    }
+
+    private static Order order(Long id, String deliveryTime) {
+        Order order = new Order();
+        order.setId(id);
+        order.setDeliveryTime(deliveryTime);
+        order.setDeliveryAddress("서울시 강남구 테헤란로 1");
+        order.setAdminApprovalStatus("APPROVED");
+        return order;
+    }
+
+    private static Order cancelled(Order order) {
+        order.setStatus("cancelled");
+        return order;
+    }
+
+    private static DeliverySchedule schedule(Long orderId, Long employeeId, LocalDateTime departure, LocalDateTime returnTime) {
+        DeliverySchedule schedule = new DeliverySchedule();
+        schedule.setOrderId(orderId);
+        schedule.setEmployeeId(employeeId);
+        schedule.setDepartureTime(departure);
+        schedule.setReturnTime(returnTime);
+        return schedule;
+    }
+}
@@ -15,6 +15,7 @@ import org.mockito.quality.Strictness;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -44,6 +45,7 @@ class DeliverySchedulingServiceTest {
                 deliveryScheduleRepository,
                 userRepository,
                 travelTimeEstimator,
+                new CourierAvailabilityIndex(deliveryScheduleRepository),
                 "15:00",
                 "22:00"
         );
@@ -65,5 +67,23 @@ class DeliverySchedulingServiceTest {
 
         verify(deliveryScheduleRepository, never()).save(any());
     }
-}
 
+    @Test
+    void completingAnInProgressDeliveryRecordsTheActualTravelTime() {
+        DeliverySchedule schedule = new DeliverySchedule();
+        schedule.setId(5L);
+        schedule.setOrderId(1L);
+        schedule.setEmployeeId(99L);
+        schedule.setDeliveryAddress("서울시 강남구 테헤란로 1");
+        schedule.setStatus("IN_PROGRESS");
+        schedule.setStartedAt(LocalDateTime.now().minusMinutes(30));
+        when(deliveryScheduleRepository.findById(5L)).thenReturn(Optional.of(schedule));
+        when(deliveryScheduleRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        deliverySchedulingService.updateStatus(5L, "completed", 99L, false);
+
+        assertNotNull(schedule.getCompletedAt());
+        verify(travelTimeEstimator).recordObservedOneWay(
+                eq("서울시 강남구 테헤란로 1"), eq(schedule.getCompletedAt()), eq(30));
+    }
+}
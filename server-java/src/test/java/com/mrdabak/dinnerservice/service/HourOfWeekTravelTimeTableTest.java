@@ -0,0 +1,64 @@
+package com.mrdabak.dinnerservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HourOfWeekTravelTimeTableTest {
+
+    // 2025-05-13은 화요일, 2025-05-10은 토요일
+    private static final LocalDateTime TUESDAY_EVENING = LocalDateTime.of(2025, 5, 13, 18, 30);
+    private static final LocalDateTime TUESDAY_AFTERNOON = LocalDateTime.of(2025, 5, 13, 15, 0);
+    private static final LocalDateTime SATURDAY_EVENING = LocalDateTime.of(2025, 5, 10, 18, 30);
+
+    @Test
+    void laterRowsOverrideWildcards() throws IOException {
+        HourOfWeekTravelTimeTable table = table("""
+                # 주석과 빈 줄은 무시
+
+                강남,*,*,30
+                강남,MON-FRI,18-19,45
+                강남,SAT,*,50
+                없는권역,*,*,10
+                마포,MON,25,10
+                """);
+
+        assertEquals(OptionalInt.of(45), table.oneWayMinutes(DeliveryRegion.GANGNAM, TUESDAY_EVENING));
+        assertEquals(OptionalInt.of(30), table.oneWayMinutes(DeliveryRegion.GANGNAM, TUESDAY_AFTERNOON));
+        assertEquals(OptionalInt.of(50), table.oneWayMinutes(DeliveryRegion.GANGNAM, SATURDAY_EVENING));
+        // 잘못된 줄은 건너뛰고, 값이 없는 권역은 비어 있음
+        assertTrue(table.oneWayMinutes(DeliveryRegion.MAPO, TUESDAY_EVENING).isEmpty());
+    }
+
+    @Test
+    void bundledTableCoversEveryRegion() {
+        HourOfWeekTravelTimeTable table = new HourOfWeekTravelTimeTable(
+                new ClassPathResource("delivery/travel-times.csv"));
+
+        for (DeliveryRegion region : DeliveryRegion.values()) {
+            assertTrue(table.oneWayMinutes(region, TUESDAY_EVENING).isPresent(), region.name());
+        }
+        assertEquals(OptionalInt.of(43), table.oneWayMinutes(DeliveryRegion.GANGNAM, TUESDAY_EVENING));
+    }
+
+    @Test
+    void estimatorPrefersTheTableOverRegionBaselines() throws IOException {
+        TravelTimeEstimator estimator = new TravelTimeEstimator(table("강남,*,*,50\n"));
+
+        assertEquals(50, estimator.estimateOneWayMinutes("서울시 강남구 테헤란로 1", TUESDAY_EVENING));
+        // 표에 없는 권역은 기준 시간(마포 36) + 혼잡 가산(12)
+        assertEquals(48, estimator.estimateOneWayMinutes("서울시 마포구 월드컵로 1", TUESDAY_EVENING));
+    }
+
+    private static HourOfWeekTravelTimeTable table(String csv) throws IOException {
+        return new HourOfWeekTravelTimeTable(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
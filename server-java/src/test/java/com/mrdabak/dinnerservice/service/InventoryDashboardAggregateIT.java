@@ -0,0 +1,145 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.model.InventoryReservation;
+import com.mrdabak.dinnerservice.model.MenuInventory;
+import com.mrdabak.dinnerservice.repository.inventory.InventoryReservationRepository;
+import com.mrdabak.dinnerservice.repository.inventory.MenuInventoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 대시보드 집계 쿼리가 기존 메뉴별 SUM 쿼리와 동일한 수치를 반환하는지 검증합니다.
+ */
+@SpringBootTest(properties = "voice.llm.api-key=test-key")
+class InventoryDashboardAggregateIT {
+
+    private static final List<Long> MENU_ITEM_IDS = List.of(990_001L, 990_002L);
+    private static final long BASE_ORDER_ID = 990_000L;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventoryReservationRepository inventoryReservationRepository;
+
+    @Autowired
+    private MenuInventoryRepository menuInventoryRepository;
+
+    private LocalDate weekStart;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        LocalDate today = LocalDate.now();
+        weekStart = today.minusDays(today.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+
+        for (Long menuItemId : MENU_ITEM_IDS) {
+            MenuInventory inventory = new MenuInventory();
+            inventory.setMenuItemId(menuItemId);
+            inventory.setCapacityPerWindow(100);
+            inventory.setSafetyStock(0);
+            menuInventoryRepository.save(inventory);
+        }
+
+        long orderId = BASE_ORDER_ID;
+        // 선택된 주의 각 날짜, 오늘, 주 밖의 날짜에 걸친 예약
+        saveReservation(orderId++, MENU_ITEM_IDS.get(0), 3, weekStart.atTime(18, 0));
+        saveReservation(orderId++, MENU_ITEM_IDS.get(0), 2, weekStart.plusDays(2).atTime(19, 30));
+        saveReservation(orderId++, MENU_ITEM_IDS.get(0), 4, weekStart.plusDays(6).atTime(21, 0));
+        saveReservation(orderId++, MENU_ITEM_IDS.get(0), 5, today.atTime(17, 0));
+        saveReservation(orderId++, MENU_ITEM_IDS.get(0), 7, weekStart.plusWeeks(1).atTime(18, 0));
+        saveReservation(orderId++, MENU_ITEM_IDS.get(1), 1, weekStart.minusDays(1).atTime(18, 0));
+        saveReservation(orderId++, MENU_ITEM_IDS.get(1), 6, weekStart.plusDays(3).atTime(18, 0));
+        saveReservation(orderId++, MENU_ITEM_IDS.get(1), 2, today.atTime(20, 0));
+
+        // 조리 시작된(소진된) 예약은 주간/날짜별 수량에서 제외되어야 함
+        long consumedOrderId = orderId;
+        saveReservation(consumedOrderId, MENU_ITEM_IDS.get(1), 9, today.atTime(18, 0));
+        inventoryReservationRepository.markAsConsumedByOrderId(consumedOrderId);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        List<InventoryReservation> reservations = inventoryReservationRepository.findAll().stream()
+                .filter(reservation -> MENU_ITEM_IDS.contains(reservation.getMenuItemId()))
+                .toList();
+        inventoryReservationRepository.deleteAll(reservations);
+        for (Long menuItemId : MENU_ITEM_IDS) {
+            menuInventoryRepository.findByMenuItemId(menuItemId).ifPresent(menuInventoryRepository::delete);
+        }
+    }
+
+    @Test
+    void aggregatedSnapshotsMatchPerItemQueries() {
+        Map<Long, InventoryService.InventorySnapshot> snapshots = inventoryService.getInventorySnapshots(weekStart).stream()
+                .filter(snapshot -> MENU_ITEM_IDS.contains(snapshot.inventory().getMenuItemId()))
+                .collect(Collectors.toMap(snapshot -> snapshot.inventory().getMenuItemId(), Function.identity()));
+
+        assertThat(snapshots).containsOnlyKeys(MENU_ITEM_IDS);
+
+        LocalDateTime currentWindowStart = LocalDate.now().atStartOfDay();
+        LocalDateTime weekStartDateTime = LocalDateTime.of(weekStart, LocalTime.MIN);
+        LocalDateTime weekEndDateTime = LocalDateTime.of(weekStart.plusWeeks(1), LocalTime.MIN);
+
+        for (Long menuItemId : MENU_ITEM_IDS) {
+            InventoryService.InventorySnapshot snapshot = snapshots.get(menuItemId);
+
+            int expectedReserved = inventoryReservationRepository
+                    .sumQuantityByMenuItemIdAndWindowStart(menuItemId, currentWindowStart);
+            int expectedWeekly = inventoryReservationRepository
+                    .sumWeeklyReservedByMenuItemId(menuItemId, weekStartDateTime, weekEndDateTime);
+
+            assertThat(snapshot.reserved()).isEqualTo(expectedReserved);
+            assertThat(snapshot.remaining()).isEqualTo(100 - expectedReserved);
+            assertThat(snapshot.weeklyReserved()).isEqualTo(expectedWeekly);
+            assertThat(snapshot.reservedByDate()).hasSize(7);
+            assertThat(snapshot.reservedByDate().values().stream().mapToInt(Integer::intValue).sum())
+                    .isEqualTo(expectedWeekly);
+            for (int i = 0; i < 7; i++) {
+                LocalDate targetDate = weekStart.plusDays(i);
+                assertThat(snapshot.reservedByDate().get(targetDate))
+                        .as("menu item %d on %s", menuItemId, targetDate)
+                        .isEqualTo(unconsumedQuantityOn(menuItemId, targetDate));
+            }
+        }
+
+        // 집계 결과가 실제로 0이 아닌 값을 비교했는지 확인
+        assertThat(snapshots.get(MENU_ITEM_IDS.get(0)).weeklyReserved()).isGreaterThan(0);
+        assertThat(snapshots.get(MENU_ITEM_IDS.get(1)).reserved()).isGreaterThan(0);
+    }
+
+    private int unconsumedQuantityOn(Long menuItemId, LocalDate date) {
+        return inventoryReservationRepository.findAll().stream()
+                .filter(reservation -> menuItemId.equals(reservation.getMenuItemId()))
+                .filter(reservation -> !Boolean.TRUE.equals(reservation.getConsumed()))
+                .filter(reservation -> reservation.getDeliveryTime().toLocalDate().equals(date))
+                .mapToInt(InventoryReservation::getQuantity)
+                .sum();
+    }
+
+    private void saveReservation(long orderId, Long menuItemId, int quantity, LocalDateTime deliveryTime) {
+        InventoryReservation reservation = new InventoryReservation();
+        reservation.setOrderId(orderId);
+        reservation.setMenuItemId(menuItemId);
+        reservation.setQuantity(quantity);
+        reservation.setDeliveryTime(deliveryTime);
+        reservation.setWindowStart(deliveryTime.toLocalDate().atStartOfDay());
+        reservation.setWindowEnd(LocalDateTime.of(deliveryTime.toLocalDate(), LocalTime.MAX));
+        reservation.setConsumed(false);
+        inventoryReservationRepository.save(reservation);
+    }
+}
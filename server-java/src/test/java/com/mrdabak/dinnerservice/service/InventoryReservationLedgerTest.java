@@ -0,0 +1,84 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.repository.inventory.InventoryReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryReservationLedgerTest {
+
+    private static final Long MENU_ITEM_ID = 10L;
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2025, 11, 24, 0, 0);
+
+    @Mock
+    private InventoryReservationRepository inventoryReservationRepository;
+
+    private InventoryReservationLedger ledger;
+
+    @BeforeEach
+    void setup() {
+        ledger = new InventoryReservationLedger(inventoryReservationRepository);
+    }
+
+    @Test
+    void tryReserveLoadsPersistedTotalOnceAndRejectsOverCapacity() {
+        when(inventoryReservationRepository.sumQuantityByMenuItemIdAndWindowStart(MENU_ITEM_ID, WINDOW_START)).thenReturn(15);
+
+        InventoryReservationLedger.Admission admitted = ledger.tryReserve(MENU_ITEM_ID, WINDOW_START, 5, 20, 0);
+        InventoryReservationLedger.Admission rejected = ledger.tryReserve(MENU_ITEM_ID, WINDOW_START, 1, 20, 0);
+
+        assertTrue(admitted.admitted());
+        assertEquals(15, admitted.alreadyReserved());
+        assertFalse(rejected.admitted());
+        assertEquals(20, rejected.alreadyReserved());
+        assertEquals(20, ledger.reservedQuantity(MENU_ITEM_ID, WINDOW_START));
+        verify(inventoryReservationRepository, times(1)).sumQuantityByMenuItemIdAndWindowStart(MENU_ITEM_ID, WINDOW_START);
+    }
+
+    @Test
+    void creditExcludesCurrentOrderAndReleaseRestoresCapacity() {
+        when(inventoryReservationRepository.sumQuantityByMenuItemIdAndWindowStart(MENU_ITEM_ID, WINDOW_START)).thenReturn(18);
+
+        // 같은 주문의 기존 예약 5개를 제외하면 13 + 7 = 20으로 허용
+        assertTrue(ledger.tryReserve(MENU_ITEM_ID, WINDOW_START, 7, 20, 5).admitted());
+        ledger.release(MENU_ITEM_ID, WINDOW_START, 5);
+
+        assertEquals(20, ledger.reservedQuantity(MENU_ITEM_ID, WINDOW_START));
+    }
+
+    @Test
+    void concurrentReservationsNeverExceedCapacity() throws InterruptedException {
+        when(inventoryReservationRepository.sumQuantityByMenuItemIdAndWindowStart(MENU_ITEM_ID, WINDOW_START)).thenReturn(0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger admittedCount = new AtomicInteger();
+        for (int i = 0; i < 200; i++) {
+            executor.submit(() -> {
+                if (ledger.tryReserve(MENU_ITEM_ID, WINDOW_START, 1, 50, 0).admitted()) {
+                    admittedCount.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(50, admittedCount.get());
+        assertEquals(50, ledger.reservedQuantity(MENU_ITEM_ID, WINDOW_START));
+    }
+}
@@ -6,6 +6,8 @@ import com.mrdabak.dinnerservice.model.MenuInventory;
 import com.mrdabak.dinnerservice.model.MenuItem;
 import com.mrdabak.dinnerservice.repository.inventory.InventoryReservationRepository;
 import com.mrdabak.dinnerservice.repository.inventory.MenuInventoryRepository;
+import com.mrdabak.dinnerservice.repository.DinnerMenuItemRepository;
+import com.mrdabak.dinnerservice.repository.DinnerTypeRepository;
 import com.mrdabak.dinnerservice.repository.MenuItemRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,8 +42,10 @@ class InventoryServiceChangePlanTest {
 
     @BeforeEach
     void setup() {
-        inventoryService = new InventoryService(menuInventoryRepository, inventoryReservationRepository, menuItemRepository,
-                "MONDAY,FRIDAY", "06:00", 20);
+        MenuCatalog menuCatalog = new MenuCatalog(mock(DinnerTypeRepository.class), menuItemRepository,
+                mock(DinnerMenuItemRepository.class));
+        inventoryService = new InventoryService(menuInventoryRepository, inventoryReservationRepository, menuCatalog,
+                new InventoryReservationLedger(inventoryReservationRepository), "MONDAY,FRIDAY", "06:00", 20);
     }
 
     @Test
@@ -61,7 +66,7 @@ class InventoryServiceChangePlanTest {
         when(menuInventoryRepository.findByMenuItemId(menuItemId)).thenReturn(Optional.of(inventory));
         when(inventoryReservationRepository.findByOrderId(orderId)).thenReturn(List.of(reservation));
         when(inventoryReservationRepository.sumQuantityByMenuItemIdAndWindowStart(menuItemId, reservation.getWindowStart())).thenReturn(15);
-        when(menuItemRepository.findById(menuItemId)).thenReturn(Optional.of(new MenuItem()));
+        when(menuItemRepository.findAll()).thenReturn(List.of(menuItem(menuItemId)));
 
         OrderItemDto dto = new OrderItemDto(menuItemId, 10);
         inventoryService.validateChangePlan(orderId, List.of(dto), deliveryTime);
@@ -81,11 +86,16 @@ class InventoryServiceChangePlanTest {
         when(menuInventoryRepository.findByMenuItemId(menuItemId)).thenReturn(Optional.of(inventory));
         when(inventoryReservationRepository.findByOrderId(orderId)).thenReturn(List.of());
         when(inventoryReservationRepository.sumQuantityByMenuItemIdAndWindowStart(menuItemId, deliveryTime.toLocalDate().atStartOfDay())).thenReturn(8);
-        when(menuItemRepository.findById(menuItemId)).thenReturn(Optional.of(new MenuItem()));
+        when(menuItemRepository.findAll()).thenReturn(List.of(menuItem(menuItemId)));
 
         OrderItemDto dto = new OrderItemDto(menuItemId, 5);
         assertThrows(RuntimeException.class, () ->
                 inventoryService.validateChangePlan(orderId, List.of(dto), deliveryTime));
     }
-}
 
+    private static MenuItem menuItem(Long id) {
+        MenuItem menuItem = new MenuItem();
+        menuItem.setId(id);
+        return menuItem;
+    }
+}
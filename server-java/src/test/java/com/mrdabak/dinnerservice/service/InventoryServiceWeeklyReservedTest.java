@@ -2,6 +2,8 @@ package com.mrdabak.dinnerservice.service;
 
 import com.mrdabak.dinnerservice.model.MenuInventory;
 import com.mrdabak.dinnerservice.model.MenuItem;
+import com.mrdabak.dinnerservice.repository.DinnerMenuItemRepository;
+import com.mrdabak.dinnerservice.repository.DinnerTypeRepository;
 import com.mrdabak.dinnerservice.repository.MenuItemRepository;
 import com.mrdabak.dinnerservice.repository.inventory.InventoryReservationRepository;
 import com.mrdabak.dinnerservice.repository.inventory.MenuInventoryRepository;
@@ -14,11 +16,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,7 +45,8 @@ class InventoryServiceWeeklyReservedTest {
         inventoryService = new InventoryService(
                 menuInventoryRepository,
                 inventoryReservationRepository,
-                menuItemRepository,
+                new MenuCatalog(mock(DinnerTypeRepository.class), menuItemRepository, mock(DinnerMenuItemRepository.class)),
+                new InventoryReservationLedger(inventoryReservationRepository),
                 "MONDAY,FRIDAY",
                 "06:00",
                 20
@@ -60,17 +63,24 @@ class InventoryServiceWeeklyReservedTest {
     @Test
     void getInventorySnapshotsUsesWeeklyReservedQuantity() {
         when(menuItemRepository.findAll()).thenReturn(List.of(menuItem));
-        when(menuInventoryRepository.findByMenuItemId(1L)).thenReturn(Optional.of(inventory));
         when(menuInventoryRepository.findAll()).thenReturn(List.of(inventory));
-        when(inventoryReservationRepository.sumQuantityByMenuItemIdAndWindowStart(eq(1L), any(LocalDateTime.class)))
-                .thenReturn(0);
-        when(inventoryReservationRepository.sumWeeklyReservedByMenuItemId(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(12);
+        InventoryReservationRepository.WeeklyReservationTotals totals =
+                mock(InventoryReservationRepository.WeeklyReservationTotals.class, CALLS_REAL_METHODS);
+        when(totals.getMenuItemId()).thenReturn(1L);
+        when(totals.getCurrentWindowQuantity()).thenReturn(0L);
+        when(totals.getWeeklyQuantity()).thenReturn(12L);
+        when(totals.getDay2Quantity()).thenReturn(12L);
+        when(inventoryReservationRepository.aggregateWeeklyReservationTotals(any(LocalDateTime.class), any(LocalDateTime.class),
+                any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class),
+                any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(totals));
 
         List<InventoryService.InventorySnapshot> snapshots = inventoryService.getInventorySnapshots();
 
         assertThat(snapshots).hasSize(1);
         assertThat(snapshots.get(0).weeklyReserved()).isEqualTo(12);
+        assertThat(snapshots.get(0).reservedByDate()).hasSize(7);
+        assertThat(snapshots.get(0).reservedByDate().values()).containsExactly(0, 0, 12, 0, 0, 0, 0);
     }
 }
 
@@ -0,0 +1,78 @@
+package com.mrdabak.dinnerservice.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256-signing";
+
+    private JwtService createService(long expirationMillis) {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expiration", expirationMillis);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaxSize", 2);
+        jwtService.init();
+        return jwtService;
+    }
+
+    @Test
+    void parseClaimsReusesVerifiedClaimsForSameToken() {
+        JwtService jwtService = createService(60_000);
+        String token = jwtService.generateToken(7L, "user@mrdabak.com", "customer");
+
+        Claims first = jwtService.parseClaims(token);
+        Claims second = jwtService.parseClaims(token);
+
+        assertSame(first, second);
+        assertEquals("7", jwtService.extractUserId(token));
+        assertEquals("customer", jwtService.extractRole(token));
+    }
+
+    @Test
+    void parseClaimsRejectsTamperedSignature() {
+        JwtService jwtService = createService(60_000);
+        String token = jwtService.generateToken(7L, "user@mrdabak.com", "customer");
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char replacement = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, signatureStart) + replacement + token.substring(signatureStart + 1);
+
+        assertThrows(SignatureException.class, () -> jwtService.parseClaims(tampered));
+    }
+
+    @Test
+    void parseClaimsRejectsExpiredToken() {
+        JwtService jwtService = createService(-1_000);
+        String token = jwtService.generateToken(7L, "user@mrdabak.com", "customer");
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.parseClaims(token));
+    }
+
+    @Test
+    void claimsCacheStaysWithinMaxSize() {
+        JwtService jwtService = createService(60_000);
+        String first = jwtService.generateToken(1L, "a@mrdabak.com", "customer");
+        Claims firstClaims = jwtService.parseClaims(first);
+
+        for (long userId = 2; userId <= 10; userId++) {
+            jwtService.parseClaims(jwtService.generateToken(userId, "u" + userId + "@mrdabak.com", "customer"));
+            Map<?, ?> cache = (Map<?, ?>) ReflectionTestUtils.getField(jwtService, "claimsCache");
+            assertTrue(cache.size() <= 2);
+        }
+        // 캐시에서 빠진 토큰은 다시 검증해 새 claims를 만듦
+        Claims reparsed = jwtService.parseClaims(first);
+        assertEquals("1", reparsed.get("userId", String.class));
+        assertNotSame(firstClaims, reparsed);
+    }
+}
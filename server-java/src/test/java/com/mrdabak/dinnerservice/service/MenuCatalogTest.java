@@ -0,0 +1,83 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.model.DinnerMenuItem;
+import com.mrdabak.dinnerservice.model.DinnerType;
+import com.mrdabak.dinnerservice.model.MenuItem;
+import com.mrdabak.dinnerservice.repository.DinnerMenuItemRepository;
+import com.mrdabak.dinnerservice.repository.DinnerTypeRepository;
+import com.mrdabak.dinnerservice.repository.MenuItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MenuCatalogTest {
+
+    @Mock
+    private DinnerTypeRepository dinnerTypeRepository;
+    @Mock
+    private MenuItemRepository menuItemRepository;
+    @Mock
+    private DinnerMenuItemRepository dinnerMenuItemRepository;
+
+    private MenuCatalog menuCatalog;
+
+    @BeforeEach
+    void setUp() {
+        menuCatalog = new MenuCatalog(dinnerTypeRepository, menuItemRepository, dinnerMenuItemRepository);
+        when(dinnerTypeRepository.findAll()).thenReturn(List.of(
+                new DinnerType(2L, "샴페인 축제 디너", "Champagne Feast", 90_000, null),
+                new DinnerType(1L, "발렌타인 디너", "Valentine", 60_000, null)));
+        when(menuItemRepository.findAll()).thenReturn(List.of(
+                new MenuItem(11L, "스테이크", "Steak", 30_000, "food"),
+                new MenuItem(10L, "와인", "Wine", 20_000, "alcohol")));
+        when(dinnerMenuItemRepository.findAll()).thenReturn(List.of(
+                new DinnerMenuItem(101L, 2L, 10L, 1),
+                new DinnerMenuItem(100L, 2L, 11L, 2)));
+    }
+
+    @Test
+    void lookupsAreServedFromOneLoadedSnapshot() {
+        assertEquals("Steak", menuCatalog.findMenuItem(11L).orElseThrow().getNameEn());
+        assertEquals("Valentine", menuCatalog.findDinnerType(1L).orElseThrow().getNameEn());
+        assertTrue(menuCatalog.containsMenuItem(10L));
+        assertFalse(menuCatalog.containsMenuItem(99L));
+        assertTrue(menuCatalog.findDinnerType(null).isEmpty());
+        assertEquals(List.of(1L, 2L), menuCatalog.dinnerTypes().stream().map(DinnerType::getId).toList());
+        assertEquals(List.of(11L, 10L),
+                menuCatalog.defaultPortions(2L).stream().map(DinnerMenuItem::getMenuItemId).toList());
+        assertEquals(Map.of(11L, 2, 10L, 1), menuCatalog.defaultQuantities(2L));
+        assertTrue(menuCatalog.defaultPortions(1L).isEmpty());
+
+        verify(menuItemRepository, times(1)).findAll();
+        verify(dinnerTypeRepository, times(1)).findAll();
+        verify(dinnerMenuItemRepository, times(1)).findAll();
+    }
+
+    @Test
+    void invalidateReloadsCatalogWithNewVersion() {
+        long firstVersion = menuCatalog.version();
+        assertEquals(20_000, menuCatalog.findMenuItem(10L).orElseThrow().getPrice());
+
+        when(menuItemRepository.findAll()).thenReturn(List.of(
+                new MenuItem(10L, "와인", "Wine", 25_000, "alcohol")));
+        menuCatalog.invalidate();
+
+        assertNotEquals(firstVersion, menuCatalog.version());
+        assertEquals(25_000, menuCatalog.findMenuItem(10L).orElseThrow().getPrice());
+        assertFalse(menuCatalog.containsMenuItem(11L));
+    }
+}
@@ -0,0 +1,139 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.dto.UserSummary;
+import com.mrdabak.dinnerservice.model.Order;
+import com.mrdabak.dinnerservice.model.OrderItem;
+import com.mrdabak.dinnerservice.repository.UserRepository;
+import com.mrdabak.dinnerservice.repository.order.OrderItemRepository;
+import com.mrdabak.dinnerservice.repository.order.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OrderApprovalQueueTest {
+
+    private static final LocalDateTime EVENING = LocalDateTime.of(2025, 5, 13, 18, 0);
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderItemRepository orderItemRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private DeliveredOrderCounter deliveredOrderCounter;
+
+    private OrderApprovalQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new OrderApprovalQueue(orderRepository, orderItemRepository, userRepository, deliveredOrderCounter);
+    }
+
+    @Test
+    void enrichesAPageWithOneQueryPerSource() {
+        Order first = order(1L, 10L, EVENING);
+        Order second = order(2L, 10L, EVENING.plusHours(1));
+        Order third = order(3L, 20L, EVENING.plusHours(2));
+        when(orderRepository.findApprovalQueue(eq("PENDING"), any())).thenReturn(List.of(first, second, third));
+        when(userRepository.findSummariesByIdIn(List.of(10L, 20L))).thenReturn(List.of(customer(10L, true)));
+        when(orderItemRepository.findByOrderIdIn(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(item(1L, 100L), item(1L, 101L), item(3L, 100L)));
+        when(deliveredOrderCounter.deliveredCounts(List.of(10L, 20L))).thenReturn(Map.of(10L, 4L));
+
+        List<OrderApprovalQueue.Entry> entries = queue.page(null, 3);
+
+        assertEquals(3, entries.size());
+        assertEquals(2, entries.get(0).items().size());
+        assertTrue(entries.get(1).items().isEmpty());
+        assertTrue(entries.get(0).loyaltyEligible());
+        // 삭제된 고객의 주문은 고객 정보 없이 그대로 보여 줌
+        assertNull(entries.get(2).customer());
+        assertFalse(entries.get(2).loyaltyEligible());
+        verify(userRepository, times(1)).findSummariesByIdIn(anyCollection());
+        verify(orderItemRepository, times(1)).findByOrderIdIn(anyCollection());
+        verify(orderRepository).findApprovalQueue("PENDING", PageRequest.of(0, 3));
+    }
+
+    @Test
+    void continuesAfterTheCursorOrdersDeliveryTime() {
+        Order cursor = order(5L, 10L, EVENING);
+        when(orderRepository.findById(5L)).thenReturn(Optional.of(cursor));
+
+        queue.page(5L, null);
+
+        verify(orderRepository).findApprovalQueueAfter("PENDING", EVENING, 5L, PageRequest.of(0, 20));
+    }
+
+    @Test
+    void cursorWithoutDeliveryTimeUsesIdOrder() {
+        when(orderRepository.findById(6L)).thenReturn(Optional.of(order(6L, 10L, null)));
+
+        queue.page(6L, 500);
+
+        verify(orderRepository).findApprovalQueueAfterUnscheduled("PENDING", 6L, PageRequest.of(0, 100));
+    }
+
+    @Test
+    void noParametersReturnsDefaultPage() {
+        when(orderRepository.findApprovalQueue(eq("PENDING"), any())).thenReturn(List.of());
+
+        assertTrue(queue.page(null, null).isEmpty());
+        verify(orderRepository).findApprovalQueue("PENDING", PageRequest.of(0, 20));
+    }
+
+    @Test
+    void deletedCursorIsRejectedInsteadOfRestarting() {
+        when(orderRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> queue.page(9L, 10));
+        verify(orderRepository, never()).findApprovalQueue(any(), any());
+    }
+
+    private static Order order(Long id, Long userId, LocalDateTime deliveryAt) {
+        Order order = new Order();
+        order.setId(id);
+        order.setUserId(userId);
+        order.setDeliveryAt(deliveryAt);
+        order.setAdminApprovalStatus("PENDING");
+        return order;
+    }
+
+    private static OrderItem item(Long orderId, Long menuItemId) {
+        OrderItem item = new OrderItem();
+        item.setOrderId(orderId);
+        item.setMenuItemId(menuItemId);
+        item.setQuantity(1);
+        return item;
+    }
+
+    private static UserSummary customer(Long id, boolean consented) {
+        return new UserSummary(id, "user" + id + "@example.com", "고객", "서울시 강남구", "010-0000-0000",
+                "customer", "approved", null, consented, consented, consented, consented, null);
+    }
+}
@@ -3,8 +3,6 @@ package com.mrdabak.dinnerservice.service;
 import com.mrdabak.dinnerservice.dto.OrderItemDto;
 import com.mrdabak.dinnerservice.dto.ReservationChangeRequestCreateDto;
 import com.mrdabak.dinnerservice.model.*;
-import com.mrdabak.dinnerservice.repository.DinnerTypeRepository;
-import com.mrdabak.dinnerservice.repository.MenuItemRepository;
 import com.mrdabak.dinnerservice.repository.UserRepository;
 import com.mrdabak.dinnerservice.repository.order.OrderChangeRequestItemRepository;
 import com.mrdabak.dinnerservice.repository.order.OrderChangeRequestRepository;
@@ -41,9 +39,7 @@ class OrderChangeRequestServiceTest {
     @Mock
     private OrderChangeRequestItemRepository changeRequestItemRepository;
     @Mock
-    private DinnerTypeRepository dinnerTypeRepository;
-    @Mock
-    private MenuItemRepository menuItemRepository;
+    private MenuCatalog menuCatalog;
     @Mock
     private UserRepository userRepository;
     @Mock
@@ -52,6 +48,8 @@ class OrderChangeRequestServiceTest {
     private PaymentService paymentService;
     @Mock
     private DeliverySchedulingService deliverySchedulingService;
+    @Mock
+    private DeliveredOrderCounter deliveredOrderCounter;
 
     @InjectMocks
     private OrderChangeRequestService service;
@@ -100,11 +98,10 @@ class OrderChangeRequestServiceTest {
 
         when(orderRepository.findById(1L)).thenReturn(Optional.of(baseOrder));
         when(changeRequestRepository.existsByOrderIdAndStatusIn(eq(1L), any())).thenReturn(false);
-        when(dinnerTypeRepository.findById(5L)).thenReturn(Optional.of(dinnerType));
-        when(menuItemRepository.findById(100L)).thenReturn(Optional.of(menuItem));
-        when(menuItemRepository.findAllById(any())).thenReturn(List.of(menuItem));
+        when(menuCatalog.findDinnerType(5L)).thenReturn(Optional.of(dinnerType));
+        when(menuCatalog.findMenuItem(100L)).thenReturn(Optional.of(menuItem));
         when(userRepository.findById(10L)).thenReturn(Optional.of(baseUser));
-        when(orderRepository.findByUserIdOrderByCreatedAtDesc(10L)).thenReturn(List.of());
+        when(deliveredOrderCounter.deliveredCount(10L)).thenReturn(0L);
         when(changeRequestRepository.save(any())).thenAnswer(invocation -> {
             OrderChangeRequest request = invocation.getArgument(0);
             request.setId(99L);
@@ -143,7 +140,7 @@ class OrderChangeRequestServiceTest {
         when(changeRequestRepository.findById(5L)).thenReturn(Optional.of(request));
         when(orderRepository.findById(1L)).thenReturn(Optional.of(baseOrder));
         when(changeRequestItemRepository.findByChangeRequestId(5L)).thenReturn(List.of(item));
-        when(menuItemRepository.findAllById(any())).thenReturn(List.of(new MenuItem()));
+        when(menuCatalog.findMenuItem(100L)).thenReturn(Optional.of(new MenuItem()));
 
         doThrow(new PaymentException("결제 실패")).when(paymentService).chargeAdditionalAmount(baseOrder, 50_000);
 
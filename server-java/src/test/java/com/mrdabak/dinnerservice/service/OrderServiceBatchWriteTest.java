@@ -0,0 +1,215 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.dto.OrderItemDto;
+import com.mrdabak.dinnerservice.dto.OrderRequest;
+import com.mrdabak.dinnerservice.model.DinnerType;
+import com.mrdabak.dinnerservice.model.MenuItem;
+import com.mrdabak.dinnerservice.model.Order;
+import com.mrdabak.dinnerservice.model.User;
+import com.mrdabak.dinnerservice.repository.UserRepository;
+import com.mrdabak.dinnerservice.repository.order.OrderItemRepository;
+import com.mrdabak.dinnerservice.repository.order.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OrderServiceBatchWriteTest {
+
+    private static final long DINNER_ID = 1L;
+    private static final long MENU_ITEM_ID = 100L;
+
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private OrderItemRepository orderItemRepository;
+    @Mock
+    private MenuCatalog menuCatalog;
+    @Mock
+    private InventoryService inventoryService;
+    @Mock
+    private DeliverySchedulingService deliverySchedulingService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private DeliveredOrderCounter deliveredOrderCounter;
+    @Mock
+    private PlatformTransactionManager orderTransactionManager;
+
+    private OrderService orderService;
+    private final AtomicLong nextOrderId = new AtomicLong(10);
+
+    @BeforeEach
+    void setUp() {
+        orderService = new OrderService(orderRepository, orderItemRepository, menuCatalog, inventoryService,
+                deliverySchedulingService, userRepository, deliveredOrderCounter, orderTransactionManager, 16);
+
+        DinnerType dinner = new DinnerType();
+        dinner.setId(DINNER_ID);
+        dinner.setName("발렌타인 디너");
+        dinner.setBasePrice(50_000);
+        MenuItem menuItem = new MenuItem();
+        menuItem.setId(MENU_ITEM_ID);
+        menuItem.setPrice(10_000);
+        when(menuCatalog.findDinnerType(DINNER_ID)).thenReturn(Optional.of(dinner));
+        when(menuCatalog.findMenuItem(MENU_ITEM_ID)).thenReturn(Optional.of(menuItem));
+        when(menuCatalog.defaultQuantities(DINNER_ID)).thenReturn(Map.of());
+        when(userRepository.findById(anyLong())).thenAnswer(invocation -> {
+            User user = new User();
+            user.setId(invocation.getArgument(0));
+            return Optional.of(user);
+        });
+        when(inventoryService.prepareReservations(any(), any()))
+                .thenReturn(new InventoryService.InventoryReservationPlan(null, Map.of(MENU_ITEM_ID, 1), null));
+        when(orderRepository.findByUserIdAndDeliveryTimeAndDeliveryAddress(anyLong(), any(), any())).thenReturn(List.of());
+        // 롤백된 id는 다시 쓰지 않는 생성기처럼 저장할 때마다 새 id
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            if (order.getId() == null) {
+                order.setId(nextOrderId.getAndIncrement());
+            }
+            return order;
+        });
+    }
+
+    @Test
+    void batchIsWrittenInOneTransaction() {
+        OrderWriteQueue.OrderWrite first = write(1L);
+        OrderWriteQueue.OrderWrite second = write(2L);
+
+        orderService.writeOrders(List.of(first, second));
+
+        assertEquals(10L, first.result().join().getId());
+        assertEquals(11L, second.result().join().getId());
+        verify(orderTransactionManager, times(1)).getTransaction(any());
+        verify(inventoryService, never()).releaseReservationsForOrder(anyLong());
+    }
+
+    @Test
+    void failedBatchFallsBackToPerOrderWritesAndReleasesRolledBackReservations() {
+        // 두 번째 주문의 재고 예약이 배치 안에서 한 번 실패 → 배치 롤백 후 한 건씩 다시 처리
+        AtomicInteger secondOrderCommits = new AtomicInteger();
+        doAnswer(invocation -> {
+            Long orderId = invocation.getArgument(0);
+            if (orderId == 11L && secondOrderCommits.getAndIncrement() == 0) {
+                throw new IllegalStateException("재고 부족");
+            }
+            return null;
+        }).when(inventoryService).commitReservations(anyLong(), any());
+
+        OrderWriteQueue.OrderWrite first = write(1L);
+        OrderWriteQueue.OrderWrite second = write(2L);
+
+        orderService.writeOrders(List.of(first, second));
+
+        // 배치에서 재고를 확보했던 첫 주문(10)은 롤백됐으므로 재고·배달 스케줄 예약을 되돌림
+        verify(inventoryService).releaseReservationsForOrder(10L);
+        verify(deliverySchedulingService).cancelScheduleForOrder(10L);
+        verify(inventoryService, never()).releaseReservationsForOrder(11L);
+        // 한 건씩 다시 처리하면서 새 id로 모두 저장됨
+        assertEquals(12L, first.result().join().getId());
+        assertEquals(13L, second.result().join().getId());
+        verify(orderTransactionManager, times(3)).getTransaction(any());
+    }
+
+    @Test
+    void onlyTheFailingOrderFailsAfterFallback() {
+        doAnswer(invocation -> {
+            Long orderId = invocation.getArgument(0);
+            if (orderId == 11L || orderId == 13L) {
+                throw new IllegalStateException("재고 부족");
+            }
+            return null;
+        }).when(inventoryService).commitReservations(anyLong(), any());
+
+        OrderWriteQueue.OrderWrite first = write(1L);
+        OrderWriteQueue.OrderWrite second = write(2L);
+
+        orderService.writeOrders(List.of(first, second));
+
+        assertEquals(12L, first.result().join().getId());
+        CompletionException error = assertThrows(CompletionException.class, () -> second.result().join());
+        assertEquals("재고 부족", error.getCause().getMessage());
+        verify(inventoryService).releaseReservationsForOrder(10L);
+        verify(inventoryService, never()).releaseReservationsForOrder(12L);
+    }
+
+    @Test
+    void duplicateWithinBatchIsDetected() {
+        OrderWriteQueue.OrderWrite first = write(1L);
+        OrderWriteQueue.OrderWrite duplicate = write(1L);
+        orderService.writeOrders(List.of(first, duplicate));
+
+        // 같은 배치에서 먼저 만든 주문과 겹쳐 배치가 롤백되고, 첫 주문의 예약은 되돌려짐
+        verify(inventoryService).releaseReservationsForOrder(10L);
+        assertEquals(11L, first.result().join().getId());
+        // 개별 처리에서는 DB 중복 검사로 넘어감
+        verify(orderRepository, times(3)).findByUserIdAndDeliveryTimeAndDeliveryAddress(eq(1L), any(), any());
+    }
+
+    @Test
+    void modificationIsWrittenSeparatelyFromBatch() {
+        Order existing = new Order();
+        existing.setId(5L);
+        existing.setUserId(3L);
+        existing.setDeliveryTime(LocalDateTime.now().plusDays(3).withNano(0).toString());
+        existing.setAdminApprovalStatus("PENDING");
+        existing.setStatus("pending");
+        when(orderRepository.findById(5L)).thenReturn(Optional.of(existing));
+
+        OrderWriteQueue.OrderWrite first = write(1L);
+        OrderWriteQueue.OrderWrite second = write(2L);
+        OrderWriteQueue.OrderWrite modification = new OrderWriteQueue.OrderWrite(5L, 3L, request(), Map.of(),
+                new CompletableFuture<>());
+
+        orderService.writeOrders(List.of(first, modification, second));
+
+        assertEquals(10L, first.result().join().getId());
+        assertEquals(11L, second.result().join().getId());
+        assertEquals(12L, modification.result().join().getId());
+        assertEquals("cancelled", existing.getStatus());
+        verify(inventoryService).releaseReservationsForOrder(5L);
+        // 신규 주문 배치 1번 + 수정 1번
+        verify(orderTransactionManager, times(2)).getTransaction(any());
+    }
+
+    private static OrderWriteQueue.OrderWrite write(long userId) {
+        return new OrderWriteQueue.OrderWrite(null, userId, request(), Map.of(), new CompletableFuture<>());
+    }
+
+    private static OrderRequest request() {
+        OrderRequest request = new OrderRequest();
+        request.setDinnerTypeId(DINNER_ID);
+        request.setServingStyle("simple");
+        request.setDeliveryTime(LocalDateTime.now().plusDays(2).withHour(18).withMinute(0).withSecond(0).withNano(0).toString());
+        request.setDeliveryAddress("서울시 테스트구");
+        request.setItems(List.of(new OrderItemDto(MENU_ITEM_ID, 1)));
+        return request;
+    }
+}
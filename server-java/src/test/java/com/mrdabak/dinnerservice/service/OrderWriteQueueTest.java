@@ -0,0 +1,85 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.dto.OrderRequest;
+import com.mrdabak.dinnerservice.model.Order;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderWriteQueueTest {
+
+    private OrderWriteQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void requestsQueuedWhileWriterIsBusyAreWrittenAsOneBatch() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        queue = new OrderWriteQueue("order-writer-test", 4, batch -> {
+            batchSizes.add(batch.size());
+            firstBatchStarted.countDown();
+            await(releaseFirstBatch);
+            for (OrderWriteQueue.OrderWrite write : batch) {
+                Order order = new Order();
+                order.setUserId(write.userId());
+                write.result().complete(order);
+            }
+        });
+        queue.start();
+
+        CompletableFuture<Order> first = queue.submit(1L, new OrderRequest());
+        assertTrue(firstBatchStarted.await(5, TimeUnit.SECONDS));
+        List<CompletableFuture<Order>> queued = new ArrayList<>();
+        for (long userId = 2; userId <= 6; userId++) {
+            queued.add(queue.submit(userId, new OrderRequest()));
+        }
+        releaseFirstBatch.countDown();
+
+        assertEquals(1L, first.get(5, TimeUnit.SECONDS).getUserId());
+        for (int i = 0; i < queued.size(); i++) {
+            assertEquals(i + 2L, queued.get(i).get(5, TimeUnit.SECONDS).getUserId());
+        }
+        // 첫 배치가 처리되는 동안 쌓인 5건은 배치 크기(4)만큼 묶여서 처리됨
+        assertEquals(List.of(1, 4, 1), batchSizes);
+    }
+
+    @Test
+    void writerFailureCompletesPendingFuturesExceptionally() {
+        queue = new OrderWriteQueue("order-writer-test", 4, batch -> {
+            throw new IllegalStateException("boom");
+        });
+        queue.start();
+
+        CompletableFuture<Order> result = queue.submit(1L, new OrderRequest());
+
+        CompletionException error = assertThrows(CompletionException.class, result::join);
+        assertEquals("boom", error.getCause().getMessage());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
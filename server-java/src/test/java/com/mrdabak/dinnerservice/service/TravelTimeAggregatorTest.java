@@ -0,0 +1,96 @@
+package com.mrdabak.dinnerservice.service;
+
+import com.mrdabak.dinnerservice.model.DeliverySchedule;
+import com.mrdabak.dinnerservice.repository.schedule.DeliveryScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TravelTimeAggregatorTest {
+
+    // 2025-05-13은 화요일, 2025-05-10은 토요일
+    private static final LocalDateTime TUESDAY_EVENING = LocalDateTime.of(2025, 5, 13, 18, 30);
+    private static final LocalDateTime SATURDAY_EVENING = LocalDateTime.of(2025, 5, 10, 18, 30);
+
+    @Mock
+    private DeliveryScheduleRepository deliveryScheduleRepository;
+
+    private TravelTimeAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new TravelTimeAggregator(deliveryScheduleRepository, 0.5, 2, 28);
+        when(deliveryScheduleRepository.findByStatusAndCompletedAtAfterOrderByCompletedAtAsc(eq("COMPLETED"), any()))
+                .thenReturn(List.of(
+                        completed("서울시 강남구 테헤란로 1", TUESDAY_EVENING, 40, null),
+                        // 여러 곳 배달 경로의 경유지는 매장에서 바로 간 시간이 아님
+                        completed("서울시 강남구 테헤란로 2", TUESDAY_EVENING, 90, 3L)));
+    }
+
+    @Test
+    void averagesNeedEnoughSamplesBeforeTheyAreUsed() {
+        // DB에서 읽은 관측은 1건뿐이라 아직 비어 있음
+        assertTrue(aggregator.oneWayMinutes(DeliveryRegion.GANGNAM, TUESDAY_EVENING).isEmpty());
+
+        aggregator.recordObservation(DeliveryRegion.GANGNAM, TUESDAY_EVENING.plusDays(7), 60);
+        // 40 + 0.5 * (60 - 40)
+        assertEquals(OptionalInt.of(50), aggregator.oneWayMinutes(DeliveryRegion.GANGNAM, TUESDAY_EVENING));
+
+        aggregator.recordObservation(DeliveryRegion.GANGNAM, TUESDAY_EVENING, 30);
+        assertEquals(OptionalInt.of(40), aggregator.oneWayMinutes(DeliveryRegion.GANGNAM, TUESDAY_EVENING));
+
+        // 주말 같은 시각은 다른 칸
+        assertTrue(aggregator.oneWayMinutes(DeliveryRegion.GANGNAM, SATURDAY_EVENING).isEmpty());
+        verify(deliveryScheduleRepository, times(1))
+                .findByStatusAndCompletedAtAfterOrderByCompletedAtAsc(eq("COMPLETED"), any());
+    }
+
+    @Test
+    void implausibleObservationsAreIgnored() {
+        aggregator.oneWayMinutes(DeliveryRegion.GANGNAM, TUESDAY_EVENING);
+        aggregator.recordObservation(DeliveryRegion.GANGNAM, TUESDAY_EVENING, 2);
+        aggregator.recordObservation(DeliveryRegion.GANGNAM, TUESDAY_EVENING, 300);
+
+        assertTrue(aggregator.oneWayMinutes(DeliveryRegion.GANGNAM, TUESDAY_EVENING).isEmpty());
+    }
+
+    @Test
+    void estimatorPrefersLearnedAveragesOverTheSeedTable() {
+        aggregator.oneWayMinutes(DeliveryRegion.GANGNAM, TUESDAY_EVENING);
+        aggregator.recordObservation(DeliveryRegion.GANGNAM, TUESDAY_EVENING, 40);
+        TravelTimeEstimator estimator = new TravelTimeEstimator(List.of(aggregator,
+                (region, arrivalTime) -> OptionalInt.of(70)));
+
+        assertEquals(40, estimator.estimateOneWayMinutes("서울시 강남구 테헤란로 1", TUESDAY_EVENING));
+        // 관측이 없는 권역은 다음 모델 값
+        assertEquals(70, estimator.estimateOneWayMinutes("서울시 마포구 월드컵로 1", TUESDAY_EVENING));
+    }
+
+    private static DeliverySchedule completed(String address, LocalDateTime completedAt, int minutes, Long routeId) {
+        DeliverySchedule schedule = new DeliverySchedule();
+        schedule.setDeliveryAddress(address);
+        schedule.setStatus("COMPLETED");
+        schedule.setStartedAt(completedAt.minusMinutes(minutes));
+        schedule.setCompletedAt(completedAt);
+        schedule.setRouteId(routeId);
+        return schedule;
+    }
+}
@@ -0,0 +1,154 @@
+package com.mrdabak.dinnerservice.voice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 LLM 응답이 몰려도 메뉴/주문 API 지연이 늘지 않는지 확인하는 부하 테스트.
+ *
+ * <p>톰캣 스레드를 8개로 줄이고, 3초 걸리는 가짜 LLM 서버에 음성 주문 요청 24개를 동시에 보낸 상태에서
+ * 메뉴 조회와 주문 목록 조회의 p99 지연을 잽니다.</p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=8",
+        "voice.executor.max-concurrent=32",
+        "voice.session.persistence.enabled=false"
+})
+class VoiceTrafficIsolationIT {
+
+    private static final long LLM_DELAY_MILLIS = 3_000;
+    private static final int VOICE_REQUESTS = 24;
+    private static final int REST_REQUESTS = 40;
+    private static final HttpServer STUB_LLM = startStubLlm();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newCachedThreadPool())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void llmProperties(DynamicPropertyRegistry registry) {
+        registry.add("voice.llm.api-url",
+                () -> "http://127.0.0.1:" + STUB_LLM.getAddress().getPort() + "/v1/chat/completions");
+        registry.add("voice.llm.api-key", () -> "gsk-test");
+    }
+
+    @AfterAll
+    static void stopStubLlm() {
+        STUB_LLM.stop(0);
+    }
+
+    @Test
+    void slowVoiceTrafficDoesNotDelayMenuAndOrderRequests() throws Exception {
+        String token = registerCustomer();
+
+        List<CompletableFuture<HttpResponse<String>>> voiceCalls = new ArrayList<>();
+        for (int i = 0; i < VOICE_REQUESTS; i++) {
+            voiceCalls.add(http.sendAsync(request("/api/voice-orders/start", token)
+                    .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString()));
+        }
+        Thread.sleep(300);
+
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < REST_REQUESTS; i++) {
+            String path = i % 2 == 0 ? "/api/menu/dinners" : "/api/orders";
+            long start = System.nanoTime();
+            HttpResponse<String> response = http.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.ofString());
+            latencies.add((System.nanoTime() - start) / 1_000_000);
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+        boolean voiceStillRunning = voiceCalls.stream().filter(CompletableFuture::isDone).count() < VOICE_REQUESTS;
+
+        CompletableFuture.allOf(voiceCalls.toArray(CompletableFuture[]::new)).join();
+        for (CompletableFuture<HttpResponse<String>> call : voiceCalls) {
+            assertThat(call.join().statusCode()).isEqualTo(200);
+        }
+
+        Collections.sort(latencies);
+        long p99 = latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1);
+        System.out.printf("[VoiceTrafficIsolationIT] menu/order p50=%dms p99=%dms (LLM 지연 %dms, 음성 요청 %d개)%n",
+                latencies.get(latencies.size() / 2), p99, LLM_DELAY_MILLIS, VOICE_REQUESTS);
+        assertThat(voiceStillRunning).isTrue();
+        assertThat(p99).isLessThan(LLM_DELAY_MILLIS / 3);
+    }
+
+    private String registerCustomer() throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "email", UUID.randomUUID() + "@mrdabak.com",
+                "password", "secret1",
+                "name", "부하테스트",
+                "address", "서울",
+                "phone", "010-0000-0000"));
+        HttpResponse<String> response = http.send(request("/api/auth/register", null)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode json = objectMapper.readTree(response.body());
+        return json.path("token").asText();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                .timeout(Duration.ofSeconds(60));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static HttpServer startStubLlm() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            byte[] body = ("{\"choices\":[{\"message\":{\"content\":"
+                    + "\"assistant_message:\\n안녕하세요, 어떤 디너를 원하시나요?\"}}]}").getBytes(StandardCharsets.UTF_8);
+            server.createContext("/v1/chat/completions", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                try {
+                    Thread.sleep(LLM_DELAY_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
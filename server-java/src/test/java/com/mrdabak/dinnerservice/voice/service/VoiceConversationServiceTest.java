@@ -0,0 +1,89 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mrdabak.dinnerservice.model.VoiceOrderSessionRecord;
+import com.mrdabak.dinnerservice.repository.VoiceOrderSessionRecordRepository;
+import com.mrdabak.dinnerservice.voice.client.VoiceAssistantResponse;
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderSession;
+import com.mrdabak.dinnerservice.voice.util.DomainVocabularyNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class VoiceConversationServiceTest {
+
+    private static final String REPLY = "발렌타인 디너 2인분으로 준비하겠습니다.";
+
+    @Mock
+    private VoiceOrderSessionRecordRepository sessionRecordRepository;
+    @Mock
+    private VoiceOrderAssistantClient assistantClient;
+    @Mock
+    private VoiceOrderStateMerger stateMerger;
+    @Mock
+    private DomainVocabularyNormalizer normalizer;
+    @Mock
+    private VoiceMenuCatalogService menuCatalogService;
+    @Mock
+    private VoiceLocalIntentEngine localIntentEngine;
+
+    private VoiceOrderSessionService sessionService;
+    private VoiceConversationService conversationService;
+
+    @BeforeEach
+    void setUp() {
+        sessionService = new VoiceOrderSessionService(sessionRecordRepository, new ObjectMapper().findAndRegisterModules(),
+                45, 40, 100, true);
+        conversationService = new VoiceConversationService(sessionService, assistantClient, stateMerger, normalizer,
+                menuCatalogService, localIntentEngine);
+        when(normalizer.cleanupTranscript(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(localIntentEngine.interpret(any(), anyString())).thenReturn(Optional.empty());
+        when(menuCatalogService.buildPromptBlock()).thenReturn("");
+    }
+
+    @Test
+    void snapshotFlushedDuringAssistantCallStillRecordsTheReply() {
+        VoiceOrderSession session = sessionService.createSession(7L, "홍길동", "서울시", "010-0000-0000");
+        sessionService.flushSnapshots();
+
+        // LLM 응답을 기다리는 사이에 스냅샷 주기가 돌아 바뀌기 전 상태를 저장하고 표시를 지움
+        when(assistantClient.generateResponse(any(), any())).thenAnswer(invocation -> {
+            sessionService.flushSnapshots();
+            return new VoiceAssistantResponse(REPLY, null, REPLY);
+        });
+
+        conversationService.handleUtterance(session.getSessionId(), "발렌타인 디너 2인분", true);
+        sessionService.flushSnapshots();
+
+        List<VoiceOrderSessionRecord> saved = savedRecords();
+        String lastPayload = saved.get(saved.size() - 1).getPayload();
+        assertTrue(lastPayload.contains(REPLY), lastPayload);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<VoiceOrderSessionRecord> savedRecords() {
+        ArgumentCaptor<Iterable<VoiceOrderSessionRecord>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(sessionRecordRepository, atLeastOnce()).saveAll(captor.capture());
+        List<VoiceOrderSessionRecord> records = new ArrayList<>();
+        captor.getAllValues().forEach(batch -> batch.forEach(records::add));
+        return records;
+    }
+}
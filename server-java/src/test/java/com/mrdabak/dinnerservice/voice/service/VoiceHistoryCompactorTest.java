@@ -0,0 +1,66 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+import com.mrdabak.dinnerservice.voice.model.VoiceConversationMessage;
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderSession;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VoiceHistoryCompactorTest {
+
+    private final VoiceOrderSession session = new VoiceOrderSession("session-1", 1L, "고객", "서울시", "010-0000-0000");
+
+    @Test
+    void digestGrowsOnlyWithMessagesLeavingTheRecentWindow() {
+        VoiceHistoryCompactor compactor = new VoiceHistoryCompactor(4, 1_000);
+        add("숨겨진 안내 프롬프트", false);
+        for (int i = 1; i <= 5; i++) {
+            add("발화 " + i, true);
+        }
+
+        VoiceHistoryCompactor.CompactedHistory history = compactor.compact(session);
+        assertEquals(4, history.recentMessages().size());
+        assertEquals("- 고객: 발화 1", history.digest());
+
+        add("발화 6", true);
+        add("발화 7", true);
+        history = compactor.compact(session);
+        assertEquals("- 고객: 발화 1\n- 고객: 발화 2\n- 고객: 발화 3", history.digest());
+        assertEquals("발화 4", history.recentMessages().get(0).getContent());
+
+        // 새 메시지가 없으면 요약도 그대로
+        assertEquals(history.digest(), compactor.compact(session).digest());
+    }
+
+    @Test
+    void oldestDigestLinesAreDroppedBeyondMaxLength() {
+        VoiceHistoryCompactor compactor = new VoiceHistoryCompactor(1, 30);
+        add("첫 번째로 한 아주 긴 이야기입니다", true);
+        add("두 번째 발화", true);
+        add("세 번째 발화", true);
+
+        String digest = compactor.compact(session).digest();
+
+        assertTrue(digest.length() <= 30);
+        assertFalse(digest.contains("첫 번째"));
+        assertTrue(digest.endsWith("- 고객: 두 번째 발화"));
+    }
+
+    @Test
+    void shortConversationsHaveNoDigest() {
+        VoiceHistoryCompactor compactor = new VoiceHistoryCompactor(4, 1_000);
+        add("안녕하세요", true);
+
+        VoiceHistoryCompactor.CompactedHistory history = compactor.compact(session);
+
+        assertNull(history.digest());
+        assertEquals(1, history.recentMessages().size());
+    }
+
+    private void add(String content, boolean visible) {
+        session.addMessage(VoiceConversationMessage.of("user", content, visible), 40);
+    }
+}
@@ -0,0 +1,139 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mrdabak.dinnerservice.voice.client.VoiceAssistantResponse;
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderItem;
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderSession;
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderState;
+import com.mrdabak.dinnerservice.voice.util.DomainVocabularyNormalizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VoiceLocalIntentEngineTest {
+
+    private final DomainVocabularyNormalizer normalizer = new DomainVocabularyNormalizer();
+    private final VoiceMenuCatalogService menuCatalogService = mock(VoiceMenuCatalogService.class);
+    private final VoiceLocalIntentEngine engine = new VoiceLocalIntentEngine(
+            new VoiceOrderStateMerger(normalizer), menuCatalogService, normalizer, new ObjectMapper(), true);
+    private final VoiceOrderSession session = new VoiceOrderSession("session-1", 1L, "고객", "서울시", "010-0000-0000");
+
+    @BeforeEach
+    void setUp() {
+        when(menuCatalogService.allowedServingStyles("VALENTINE")).thenReturn(List.of("simple", "grand", "deluxe"));
+        when(menuCatalogService.allowedServingStyles("CHAMPAGNE_FEAST")).thenReturn(List.of("grand", "deluxe"));
+        when(menuCatalogService.servingStyleLabel("deluxe")).thenReturn("디럭스");
+        when(menuCatalogService.describeMenuItem(anyString())).thenAnswer(invocation ->
+                new VoiceMenuCatalogService.MenuItemPortion(1L, invocation.getArgument(0), "와인", 1));
+        VoiceOrderState state = new VoiceOrderState();
+        state.setDinnerType("VALENTINE");
+        session.setCurrentState(state);
+    }
+
+    @Test
+    void confirmationIsHandledOnlyAfterSummaryWasShown() {
+        fillCheckoutFields();
+        assertTrue(engine.interpret(session, "네 확정해 주세요").isEmpty());
+
+        session.getCurrentState().setReadyForConfirmation(true);
+        VoiceAssistantResponse response = engine.interpret(session, "네 확정해 주세요").orElseThrow();
+
+        assertEquals("알겠습니다. 주문을 확정하겠습니다.", response.assistantMessage());
+        assertEquals(Boolean.TRUE, response.orderState().getFinalConfirmation());
+    }
+
+    @Test
+    void servingStyleChangeAsksForNextMissingField() {
+        VoiceAssistantResponse response = engine.interpret(session, "디럭스 스타일로 바꿔 주세요.").orElseThrow();
+
+        assertEquals("deluxe", response.orderState().getServingStyle());
+        assertEquals("서빙 스타일을 디럭스로 변경했습니다. 배달 날짜와 시간을 알려주세요.", response.assistantMessage());
+        assertEquals(Boolean.FALSE, response.orderState().getReadyForConfirmation());
+    }
+
+    @Test
+    void servingStyleNotAllowedForDinnerFallsBackToLlm() {
+        session.getCurrentState().setDinnerType("CHAMPAGNE_FEAST");
+
+        assertTrue(engine.interpret(session, "심플로 해주세요").isEmpty());
+    }
+
+    @Test
+    void deliveryTimeUsesSpokenDateAndAssumesEveningHours() {
+        VoiceAssistantResponse response = engine.interpret(session, "내일 8시 반에 배달해 주세요").orElseThrow();
+
+        LocalDateTime expected = LocalDate.now().plusDays(1).atTime(20, 30);
+        assertEquals(expected, LocalDateTime.parse(response.orderState().getDeliveryDateTime()));
+        assertTrue(response.assistantMessage().startsWith("배달 시간을 내일 8시 반으로 설정했습니다."));
+    }
+
+    @Test
+    void timeWithoutAnyKnownDateFallsBackToLlm() {
+        assertTrue(engine.interpret(session, "8시에 배달해 주세요").isEmpty());
+
+        session.getCurrentState().setDeliveryDate(LocalDate.now().plusDays(2).toString());
+        Optional<VoiceAssistantResponse> response = engine.interpret(session, "오후 7시로 해주세요");
+        assertEquals(LocalDate.now().plusDays(2).atTime(19, 0).toString(),
+                response.orElseThrow().orderState().getDeliveryDateTime());
+    }
+
+    @Test
+    void quantityChangeDistinguishesSetFromAdd() {
+        VoiceAssistantResponse setResponse = engine.interpret(session, "와인 두 병으로 해 주세요").orElseThrow();
+        VoiceAssistantResponse addResponse = engine.interpret(session, "와인 한 병 더 추가해 주세요").orElseThrow();
+        VoiceOrderItem set = setResponse.orderState().getMenuAdjustments().get(0);
+        VoiceOrderItem add = addResponse.orderState().getMenuAdjustments().get(0);
+
+        assertEquals("와인을 2병으로 변경했습니다. 서빙 스타일은 심플, 그랜드, 디럭스 중 어떤 것으로 하시겠어요?",
+                setResponse.assistantMessage());
+        assertEquals("와인 1병을 추가했습니다. 서빙 스타일은 심플, 그랜드, 디럭스 중 어떤 것으로 하시겠어요?",
+                addResponse.assistantMessage());
+        assertEquals("wine", set.getKey());
+        assertEquals(2, set.getQuantity());
+        assertEquals("set", set.getAction());
+        assertEquals(1, add.getQuantity());
+        assertEquals("add", add.getAction());
+    }
+
+    @Test
+    void particlesFollowFinalConsonant() {
+        assertEquals("를", VoiceLocalIntentEngine.objectParticle("스테이크"));
+        assertEquals("을", VoiceLocalIntentEngine.objectParticle("와인"));
+        assertEquals("로", VoiceLocalIntentEngine.directionalParticle("2개"));
+        assertEquals("으로", VoiceLocalIntentEngine.directionalParticle("2병"));
+        assertEquals("으로", VoiceLocalIntentEngine.directionalParticle("3잔"));
+    }
+
+    @Test
+    void ambiguousUtterancesGoToLlmAndAreCountedInHitRate() {
+        assertTrue(engine.interpret(session, "디럭스로 하고 와인도 하나 더 주세요").isEmpty());
+        assertTrue(engine.interpret(session, "기념일이라 특별하게 준비해 주세요").isEmpty());
+        assertTrue(engine.interpret(session, "그랜드로 해줘").isPresent());
+
+        Map<String, Object> metrics = engine.metrics();
+        assertEquals(3L, metrics.get("utterances"));
+        assertEquals(1L, metrics.get("local_hits"));
+        assertEquals(2L, metrics.get("llm_fallbacks"));
+        assertEquals(1.0 / 3, (double) metrics.get("hit_rate"), 1e-9);
+    }
+
+    private void fillCheckoutFields() {
+        VoiceOrderState state = session.getCurrentState();
+        state.setServingStyle("grand");
+        state.setDeliveryDate(LocalDate.now().plusDays(1).toString());
+        state.setDeliveryTime("19:00");
+        state.setDeliveryAddress("서울시");
+        state.setContactPhone("010-0000-0000");
+    }
+}
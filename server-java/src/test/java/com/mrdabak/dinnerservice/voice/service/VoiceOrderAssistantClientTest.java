@@ -0,0 +1,145 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mrdabak.dinnerservice.voice.client.VoiceAssistantResponse;
+import com.mrdabak.dinnerservice.voice.model.VoiceConversationMessage;
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderSession;
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderState;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VoiceOrderAssistantClientTest {
+
+    private static final List<String> CHUNKS = List.of(
+            "assistant_", "message:\n", "발렌타인 디너로 ", "준비할게요. 배달 시간을 ", "알려주세요.\n\norder_st",
+            "ate_json:\n```json\n{\"dinnerType\": \"VALENTINE\", ", "\"servingStyle\": \"grand\"}\n```");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<String> requestBody = new AtomicReference<>();
+    private final VoicePromptMetrics promptMetrics = new VoicePromptMetrics();
+    private HttpServer server;
+    private VoiceOrderAssistantClient client;
+
+    @BeforeEach
+    void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            requestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (String chunk : CHUNKS) {
+                    String event = objectMapper.writeValueAsString(
+                            Map.of("choices", List.of(Map.of("delta", Map.of("content", chunk)))));
+                    out.write(("data: " + event + "\n\n").getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                }
+                out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.start();
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+        client = new VoiceOrderAssistantClient(new RestTemplate(), objectMapper, promptMetrics,
+                url, "gsk-test", "test-model", 4, 800);
+    }
+
+    @AfterEach
+    void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void streamsAssistantMessageAndParsesOrderStateAtEnd() throws IOException {
+        VoiceOrderSession session = new VoiceOrderSession("session-1", 1L, "고객", "서울시", "010-0000-0000");
+        session.setCurrentState(new VoiceOrderState());
+        List<String> deltas = new ArrayList<>();
+
+        VoiceAssistantResponse response = client.streamResponse(session, "메뉴", deltas::add);
+
+        assertTrue(objectMapper.readTree(requestBody.get()).path("stream").asBoolean());
+        assertTrue(deltas.size() > 1);
+        String streamed = String.join("", deltas);
+        assertEquals("발렌타인 디너로 준비할게요. 배달 시간을 알려주세요.", streamed.trim());
+        assertFalse(streamed.contains("order_state_json"));
+        assertFalse(streamed.contains("assistant_message"));
+        assertEquals("발렌타인 디너로 준비할게요. 배달 시간을 알려주세요.", response.assistantMessage());
+        assertEquals("VALENTINE", response.orderState().getDinnerType());
+        assertEquals("grand", response.orderState().getServingStyle());
+    }
+
+    @Test
+    void deltaConsumerFailureStopsStreamAndIsRethrownUnchanged() {
+        VoiceOrderSession session = new VoiceOrderSession("session-1", 1L, "고객", "서울시", "010-0000-0000");
+        session.setCurrentState(new VoiceOrderState());
+        UncheckedIOException disconnected = new UncheckedIOException(new IOException("Broken pipe"));
+        AtomicInteger deltaCalls = new AtomicInteger();
+
+        // SSE 클라이언트가 끊긴 상황: 스트리머가 disconnect로 처리할 수 있게 예외 타입이 그대로여야 함
+        UncheckedIOException thrown = assertThrows(UncheckedIOException.class,
+                () -> client.streamResponse(session, "메뉴", text -> {
+                    deltaCalls.incrementAndGet();
+                    throw disconnected;
+                }));
+
+        assertSame(disconnected, thrown);
+        assertEquals(1, deltaCalls.get());
+    }
+
+    @Test
+    void systemPromptPrefixIsReusedAndOnlyRecentMessagesAreSentVerbatim() throws Exception {
+        VoiceOrderSession first = new VoiceOrderSession("session-1", 1L, "김고객", "서울시", "010-0000-0000");
+        VoiceOrderSession second = new VoiceOrderSession("session-2", 2L, "이고객", "부산시", "010-1111-1111");
+        for (int i = 0; i < 10; i++) {
+            first.addMessage(VoiceConversationMessage.of(i % 2 == 0 ? "user" : "assistant", "메시지 " + i, true), 40);
+        }
+
+        List<Map<String, String>> firstMessages = client.buildMessages(first, "- 발렌타인 디너");
+        List<Map<String, String>> secondMessages = client.buildMessages(second, "- 발렌타인 디너");
+
+        String firstSystem = firstMessages.get(0).get("content");
+        String secondSystem = secondMessages.get(0).get("content");
+        int customerSection = firstSystem.indexOf("[고객 정보]");
+        assertTrue(customerSection > 0);
+        // 고객 정보 앞까지는 고객이 달라도 글자 하나 다르지 않아야 함
+        assertEquals(firstSystem.substring(0, customerSection), secondSystem.substring(0, customerSection));
+        assertTrue(firstSystem.contains("[이전 대화 요약]"));
+        assertTrue(firstSystem.contains("- 고객: 메시지 0"));
+        assertEquals(5, firstMessages.size());
+        assertEquals("메시지 6", firstMessages.get(1).get("content"));
+
+        Map<String, Object> metrics = promptMetrics.snapshot();
+        assertEquals(2L, metrics.get("turns"));
+        assertEquals(1L, metrics.get("prefix_cache_misses"));
+        assertEquals(1L, metrics.get("prefix_cache_hits"));
+    }
+
+    @Test
+    void filterHoldsBackTextThatMayStartAStopMarker() {
+        AssistantMessageStreamFilter filter = new AssistantMessageStreamFilter();
+
+        assertEquals("", filter.accept("assistant_mess"));
+        assertEquals("안녕하세요 ", filter.accept("age: 안녕하세요 ``"));
+        assertEquals("", filter.accept("`json {}"));
+        assertEquals("", filter.accept("더 이상 내보내지 않음"));
+    }
+}
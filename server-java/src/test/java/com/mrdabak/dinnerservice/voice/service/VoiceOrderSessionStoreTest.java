@@ -0,0 +1,65 @@
+package com.mrdabak.dinnerservice.voice.service;
+
+import com.mrdabak.dinnerservice.voice.model.VoiceOrderSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class VoiceOrderSessionStoreTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final List<String> removed = new ArrayList<>();
+
+    @Test
+    void sessionsExpireAfterTtlSinceLastAccess() {
+        VoiceOrderSessionStore store = new VoiceOrderSessionStore(1_000, 10, clock::get, removed::add);
+        store.put(session("a"));
+        store.put(session("b"));
+
+        clock.addAndGet(600);
+        assertNotNull(store.get("a"));
+
+        // b는 마지막 접근 후 1000ms가 지나 만료, a는 600ms 시점에 다시 접근되어 유지
+        clock.addAndGet(500);
+        assertNull(store.get("b"));
+        assertNotNull(store.get("a"));
+        assertEquals(List.of("b"), removed);
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void leastRecentlyUsedSessionIsEvictedAtCapacity() {
+        VoiceOrderSessionStore store = new VoiceOrderSessionStore(60_000, 2, clock::get, removed::add);
+        store.put(session("a"));
+        store.put(session("b"));
+        store.get("a");
+
+        store.put(session("c"));
+
+        assertEquals(List.of("b"), removed);
+        assertNull(store.get("b"));
+        assertNotNull(store.get("a"));
+        assertNotNull(store.get("c"));
+    }
+
+    @Test
+    void restoredSessionsOlderThanTtlAreSkipped() {
+        VoiceOrderSessionStore store = new VoiceOrderSessionStore(1_000, 10, clock::get, removed::add);
+        store.put(session("old"), clock.get() - 1_000);
+        store.put(session("recent"), clock.get() - 200);
+
+        assertNull(store.get("old"));
+        assertNotNull(store.get("recent"));
+        assertEquals(1, store.size());
+    }
+
+    private static VoiceOrderSession session(String id) {
+        return new VoiceOrderSession(id, 1L, "고객", "서울시", "010-0000-0000");
+    }
+}
@@ -0,0 +1,43 @@
+package com.mrdabak.dinnerservice.voice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DomainVocabularyNormalizerTest {
+
+    private final DomainVocabularyNormalizer normalizer = new DomainVocabularyNormalizer();
+
+    @Test
+    void cleanupReplacesLongestVariantInOnePass() {
+        assertEquals("그리고 바게트을 6개로, 샴페인 축제 디럭스로 해주세요",
+                normalizer.cleanupTranscript(" 그리고 바케트빵을 6개로, champagne feast 디럭스 스타일로 해주세요 "));
+        assertEquals("바게트 두 개, 바게트 하나", normalizer.cleanupTranscript("바게뜨 두 개, 바게트빵 하나"));
+        assertEquals("안녕하세요", normalizer.cleanupTranscript("안녕하세요"));
+    }
+
+    @Test
+    void earlierTermWinsWhenSeveralTermsAppear() {
+        // 용어 목록 순서가 우선순위: 빵(bread)이 바게트보다 앞
+        assertEquals(Optional.of("bread"), normalizer.normalizeMenuItemKey("바게트빵"));
+        assertEquals(Optional.of("CHAMPAGNE_FEAST"), normalizer.normalizeDinnerType("Champagne   Feast 디너"));
+        assertEquals(Optional.of("deluxe"), normalizer.normalizeServingStyle("네, 디럭스 스타일 좋아요"));
+        assertEquals(Optional.empty(), normalizer.normalizeServingStyle("없어요"));
+    }
+
+    @Test
+    void automatonReportsOverlappingKeywords() {
+        AhoCorasickAutomaton<String> automaton = AhoCorasickAutomaton.of(List.of(
+                Map.entry("he", "A"), Map.entry("she", "B"), Map.entry("his", "C"), Map.entry("hers", "D")));
+        List<String> found = new ArrayList<>();
+        automaton.scan("ushers", (start, end, index, value) -> found.add(value + start + "-" + end));
+
+        assertEquals(List.of("B1-4", "A2-4", "D2-6"), found);
+        assertEquals("uBrs", automaton.replaceAll("ushers"));
+    }
+}